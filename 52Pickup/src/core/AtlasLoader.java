@@ -0,0 +1,235 @@
+package core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class AtlasLoader
+{
+
+    /*
+    The class resolves images by name from the texture atlas built from the assets directory, so Actors
+    drawing different images from the same atlas page share one texture.
+
+    TextureAtlas:  Contains one or more images (pages) packed with many smaller images (regions), along
+    with the position and name of each region.
+
+    Loading each image with:
+
+    card.setTexture( new Texture(Gdx.files.internal("assets/cardClubsA.png")) );
+
+    decodes a file and creates a texture for every image, and drawing Actors with different textures
+    flushes the batch each time the texture changes.  With the atlas:
+
+    AtlasLoader.load();
+    card.setTextureRegion( AtlasLoader.getRegion("assets/cardClubsA.png") );
+
+    the images come from a single page (decoded once), so Actors drawn one after another go out in one
+    draw call.
+
+    The atlas gets built before compiling by the pack-atlas target in build.xml, which runs the
+    TexturePacker from gdx-tools over src/assets (settings in src/assets/pack.json) and writes
+    src/atlas/game.atlas along with its page images.  TexturePacker names each region after its file,
+    relative to the assets directory and without the suffix -- assets/cardClubsA.png becomes
+    cardClubsA.
+
+    When the atlas does not exist (gdx-tools missing from the build) or lacks a region, getRegion falls
+    back to loading the image file through TextureCache, so the game still works, just with one texture
+    per image.
+
+    Returned regions get shared, and should not get changed -- BaseActor.setTextureRegion copies them.
+
+    Methods include:
+
+    clear:  Disposes the atlas and hands back the textures loaded from individual image files.
+    getFileTextureCount:  Returns the number of images loaded from individual files (not found in the atlas).
+    getPageCount:  Returns the number of pages (textures) in the loaded atlas.
+    getRegion:  Returns the region for the passed image file, from the atlas when possible.
+    getRegionName:  Returns the name of the atlas region for the passed image file.
+    isLoaded:  Returns whether an atlas has been loaded.
+    load:  Loads the texture atlas from the passed file, when the file exists.
+    */
+
+    public static final String DEFAULT_ATLAS = "atlas/game.atlas"; // Atlas written by the pack-atlas target.
+    private static final String ASSETS_DIRECTORY = "assets/"; // Directory packed into the atlas.
+
+    private static TextureAtlas atlas; // Loaded texture atlas (null when none).
+    private static String atlasName; // Name of the file from which the atlas got loaded (null when none).
+    private static final ObjectMap<String, TextureRegion> fileRegions = new ObjectMap<>(); // Regions for
+      // images loaded from individual files, by file name.
+
+    private AtlasLoader()
+    {
+        // The constructor of the class stays private, since all members are static.
+    }
+
+    public static void clear()
+    {
+
+        // The function disposes the atlas and hands back the textures loaded from individual image files
+        // (such as when exiting the game).
+
+        if (atlas != null)
+        {
+            atlas.dispose();
+            atlas = null;
+            atlasName = null;
+        }
+
+        for (TextureRegion region : fileRegions.values())
+            TextureCache.release( region.getTexture() );
+
+        fileRegions.clear();
+
+    }
+
+    public static int getFileTextureCount()
+    {
+        // The function returns the number of images loaded from individual files (not found in the atlas).
+        return fileRegions.size;
+    }
+
+    public static int getPageCount()
+    {
+        // The function returns the number of pages (textures) in the loaded atlas, or 0 when none.
+        return atlas == null ? 0 : atlas.getTextures().size;
+    }
+
+    // fileName = Name of image file, with directory and suffix.  Example:  assets/cardClubsA.png
+    public static TextureRegion getRegion(String fileName)
+    {
+
+        /*
+        The function returns the region for the passed image file -- from the atlas when loaded and
+        containing the image, or a region covering the texture loaded from the file otherwise.  Later
+        calls for the same file return the same region.
+        */
+
+        TextureRegion region; // Region for the image file.
+
+        // If atlas loaded, then look for the region in it.
+        if (atlas != null)
+        {
+
+            region = atlas.findRegion( getRegionName(fileName) );
+
+            // If region found in the atlas, then return it.
+            if (region != null)
+                return region;
+
+        }
+
+        // Image not in the atlas.  Load the file (once), and return a region covering the texture.
+        region = fileRegions.get( fileName );
+
+        if (region == null)
+        {
+            region = new TextureRegion( TextureCache.obtain(fileName) );
+            fileRegions.put( fileName, region );
+        }
+
+        return region;
+
+    }
+
+    // fileName = Name of image file, with directory and suffix.  Example:  assets/cardClubsA.png
+    public static String getRegionName(String fileName)
+    {
+
+        // The function returns the name of the atlas region for the passed image file -- the path
+        // relative to the assets directory, without the suffix.  Example:  cardClubsA
+
+        int start; // Position of the first character of the name.
+        int end; // Position after the last character of the name.
+
+        start = fileName.startsWith( ASSETS_DIRECTORY ) ? ASSETS_DIRECTORY.length() : 0;
+        end = fileName.lastIndexOf( '.' );
+
+        // If no suffix, then use the rest of the file name.
+        if (end < start)
+            end = fileName.length();
+
+        return fileName.substring( start, end );
+
+    }
+
+    public static boolean isLoaded()
+    {
+        // The function returns whether an atlas has been loaded.
+        return atlas != null;
+    }
+
+    public static boolean load()
+    {
+        // The function loads the texture atlas written by the pack-atlas target, when the file exists.
+        return load( DEFAULT_ATLAS );
+    }
+
+    // atlasFileName = Name of atlas file, with directory and suffix.  Example:  atlas/game.atlas
+    public static boolean load(String atlasFileName)
+    {
+
+        /*
+        The function loads the texture atlas from the passed file, replacing (and disposing) any other
+        atlas loaded earlier.  Loading the same file again (such as when restarting a screen) keeps the
+        current atlas.  Returns whether the atlas got loaded.  Without an atlas, getRegion loads the image
+        files individually.
+        */
+
+        FileHandle file; // Atlas file.
+
+        // If atlas already loaded from the passed file, then exit.
+        if (atlas != null && atlasFileName.equals( atlasName ))
+            return true;
+
+        // Dispose atlas loaded earlier.
+        if (atlas != null)
+        {
+            atlas.dispose();
+            atlas = null;
+            atlasName = null;
+        }
+
+        file = Gdx.files.internal( atlasFileName );
+
+        // If atlas file does not exist, then exit.
+        if (!file.exists())
+            return false;
+
+        atlas = new TextureAtlas( file );
+        atlasName = atlasFileName;
+
+        return true;
+
+    }
+
+}
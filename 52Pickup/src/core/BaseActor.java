@@ -47,16 +47,19 @@ public class BaseActor extends Group
 
     // act:  Overrides the parent / super class act method.  Calls the act method of the
     //       Actor (parent / super) class.  Updates Actor position based on time.
+    // childrenChanged:  Reports a change in children to the hit index of the stage (if any).
     // clone:  Returns a BaseActor with the same properties as the current.
     // copy:  Copies properties from the passed to the current BaseActor.
     // destroy:  Removes the BaseActor from its Stage and parent list (as necessary).
-    // draw:  Sets the tinting color of and draws the Actor.
+    // draw:  Sets the tinting color of and draws the Actor (and its children, when present).
     // getBoundingPolygon:  Sets the position and rotation of the bounding polygon to that of the Actor.
     // getBoundingRectangle:  Sets the properties of the bounding rectangle related to the texture region.
     // getTintColor:  Gets the tint color of the Actor.
+    // invalidateHitIndex:  Flags the Actor for an update in the hit index of its stage (if any).
     // moveToOrigin:  Centers a small within a larger rectangle, using the borders of the current and target BaseActor objects.
     // overlaps:  Determines whether the bounding polygon for the passed Actor intersects (significantly)
     //            with that of the current.  Moves current Actor minimum amount to avoid intersection.
+    // positionChanged:  Reports a change in position to the hit index of the stage (if any).
     // setActorName:  Sets the Actor name to the passed value.
     // setAdditionalDefaults:  Performs additional operations for the constructor that would cause
     //                        overridable method call errors.
@@ -70,9 +73,11 @@ public class BaseActor extends Group
     //                        The polygon uses a rectangle with the dimensions of the texture region as
     //                        the bounding polygon shape.
     // setTexture:  Sets the properties of a texture.
+    // setTextureRegion:  Sets the properties of a texture region (such as one from a texture atlas).
     // setTintColor:  Sets the tint color of the Actor.
     // setActorName:  Sets the Actor name to the passed value.
     // setTintColorToDefault:  Sets the tint color of the Actor to the default.
+    // sizeChanged:  Reports a change in size to the hit index of the stage (if any).
     
     @SuppressWarnings({"FieldCanBeLocal"})
     private String actorName; // Name of actor.
@@ -214,6 +219,23 @@ public class BaseActor extends Group
         tintColor = getColor();
 
     }
+
+    // r = Texture region (stores a portion of an image, such as one in a texture atlas).
+    public void setTextureRegion(TextureRegion r)
+    {
+
+        // The function assigns the passed texture region to the Actor and sets its properties.  The Actor
+        // copies the coordinates of the passed region, so regions can get shared (such as by AtlasLoader).
+
+        // Set texture region properties.
+        setWidth( r.getRegionWidth() ); // Set the width of the Actor to that of the passed region.
+        setHeight( r.getRegionHeight() ); // Set the height of the Actor to that of the passed region.
+        region.setRegion( r ); // Set the texture and coordinates to those of the passed region.
+
+        // Set default color the Actor will be tinted when drawn.
+        tintColor = getColor();
+
+    }
     
     public void setRectangleBoundary()
     {
@@ -424,6 +446,41 @@ public class BaseActor extends Group
 
     }
     
+    @Override
+    protected void childrenChanged()
+    {
+        // The function reports a change in children to the hit index of the stage (if any), since a
+        // group with children can respond to touches outside its own borders.
+        invalidateHitIndex();
+    }
+    
+    private void invalidateHitIndex()
+    {
+        
+        // The function flags the Actor for an update in the hit index of its stage, when the stage
+        // uses one (HitIndexStage).
+        
+        // If stage uses a hit index, then flag Actor for update.
+        if (getStage() instanceof HitIndexStage)
+            ((HitIndexStage)getStage()).invalidate( this );
+        
+    }
+    
+    @Override
+    protected void positionChanged()
+    {
+        // The function reports a change in position (such as from dragging or moveTo actions) to the hit
+        // index of the stage (if any).
+        invalidateHitIndex();
+    }
+    
+    @Override
+    protected void sizeChanged()
+    {
+        // The function reports a change in size to the hit index of the stage (if any).
+        invalidateHitIndex();
+    }
+    
     // A Batch is used to draw 2D rectangles that reference a texture (region).
     // The class will batch the drawing commands and optimize them for processing by the GPU.
 
@@ -433,7 +490,15 @@ public class BaseActor extends Group
     public void draw(Batch batch, float parentAlpha)
     {
 
-        // The function sets the tinting color of and draws the Actor (when visible).
+        /*
+        The function sets the tinting color of and draws the Actor (when visible), followed by its
+        children (such as the fire attached to a spaceship).
+
+        Drawing a Group applies its transform to the batch and resets it afterwards, and each change to
+        the transform matrix flushes the batch -- an extra draw call for every Actor.  Actors without
+        children (most rocks, lasers, coins) skip the Group version and draw straight into the batch, so
+        sprites sharing a texture go out in one draw call.
+        */
 
         // System.out.println("\nActor:  " + actorName);
 
@@ -454,8 +519,10 @@ public class BaseActor extends Group
             batch.draw( region, getX(), getY(), getOriginX(), getOriginY(),
                     getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation() );
 
-        // Call the constructor of the parent class to redraw the group.
-        super.draw(batch, parentAlpha);
+        // If Actor has children, then call the draw method of the parent class to draw them (applying
+        // the transform of the group).
+        if ( hasChildren() )
+            super.draw(batch, parentAlpha);
 
     }
     
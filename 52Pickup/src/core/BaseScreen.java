@@ -6,6 +6,8 @@ import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.InputMultiplexer;
@@ -134,6 +136,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     Custom methods include:
 
     centerLabelUI:  Centers the label in the specified stage.
+    getDrawCalls:  Returns the number of draw calls made drawing the stages during the last frame.
     isPaused:  Returns the pause state of the game (true or false).
     setPaused:  Sets the pause state of the game to the passed value.
     togglePaused:  Reverses the pause state of the game (true to false, false to true).
@@ -151,8 +154,9 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     protected BaseGame game; // Screen object used for current window.
     // Game objects allow an application to easily have multiple screens.
 
-    protected Stage mainStage; // Stores a 2D scene graph containing the hierarchies of actors.
+    protected HitIndexStage mainStage; // Stores a 2D scene graph containing the hierarchies of actors.
     // Stage handles the viewport and distributes input events.  Contains the non-UI actors.
+    // Supports an optional index to speed up finding the actor under the pointer (setHitIndexEnabled).
     
     protected Stage uiStage; // Stores a 2D scene graph containing UI actors.  Includes win text / labels.
 
@@ -164,6 +168,11 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     protected int viewWidthMain; // Window width for the main stage.
     protected int viewWidthUI; // Window width for the ui stage.
 
+    public AllocationMonitor allocationMonitor; // Measures bytes allocated during each phase of render
+    // (act, update, draw).  Enable with allocationMonitor.setEnabled(true) or -Dallocation.monitor=true.
+
+    private int drawCalls; // Number of draw calls (batch flushes) made drawing the stages during the last frame.
+
     private boolean paused; // Whether game paused.
 
     // g = Screen object for current window.
@@ -187,6 +196,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         
         // Set defaults.
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
         
         // Set window size values, based on parameters.
         this.viewWidthMain = windowWidth;
@@ -199,7 +209,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Scale each stage and its contents to fit the current window size.
         // If aspect ratio of window does not match stage, fill in extra region with solid black.
-        mainStage = new Stage( new FitViewport(windowWidth, WindowHeight) );
+        mainStage = new HitIndexStage( new FitViewport(windowWidth, WindowHeight) );
         uiStage   = new Stage( new FitViewport(windowWidth, WindowHeight) );
 
         // Set up input multiplexer to receive all input data and pass the information along to
@@ -238,6 +248,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Set defaults.
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
 
         // Set window size values, based on parameters.
         this.viewWidthMain = mainWidth;
@@ -250,7 +261,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Scale each stage and its contents to fit the current window size.
         // If aspect ratio of window does not match stage, fill in extra region with solid black.
-        mainStage = new Stage( new FitViewport(mainWidth, mainHeight) );
+        mainStage = new HitIndexStage( new FitViewport(mainWidth, mainHeight) );
         uiStage   = new Stage( new FitViewport(uiWidth, uiHeight) );
 
         // An InputMultiplexer object is itself an InputProcessor that contains a list of other InputProcessors.
@@ -290,12 +301,17 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         1.  Adjusts Actor positions and other properties in the UI stage.
         2.  If game not paused, adjusts Actor positions and other properties in the non-UI stage and processes player input.
         3.  Draws the graphics.
+        4.  Measures the memory allocated during each of the steps (when the allocation monitor is enabled).
         */
 
+        // Start measuring the memory allocated during the frame.
+        allocationMonitor.beginFrame();
+
         // Call the Actor.act(float) method on each actor in the UI stage.
         // Typically called each frame.  The method also fires enter and exit events.
         // Updates the position of each Actor based on time.
         uiStage.act(dt);
+        allocationMonitor.mark( AllocationMonitor.ACT );
 
         // Only pause gameplay events, not UI events.
 
@@ -309,9 +325,11 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
             // Typically called each frame.  The method also fires enter and exit events.
             // Updates the position of each Actor based on time.
             mainStage.act(dt);
+            allocationMonitor.mark( AllocationMonitor.ACT );
 
             // Handle game logic -- allow processing based on player actions / input.
             update(dt);
+            allocationMonitor.mark( AllocationMonitor.UPDATE );
         }
 
         // Draw graphics.
@@ -329,12 +347,45 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Draw the main stage.
         mainStage.draw();
+        drawCalls = getRenderCalls( mainStage );
 
         // Reposition rendering location of the UI stage.
         Gdx.gl.glViewport(0,0, viewWidthUI, viewHeightUI);
 
         // Draw the UI stage.
         uiStage.draw();
+        drawCalls += getRenderCalls( uiStage );
+
+        // Finish measuring the memory allocated during the frame (drawing) and check the budget.
+        allocationMonitor.endFrame();
+
+    }
+
+    public int getDrawCalls()
+    {
+
+        /*
+        The function returns the number of draw calls made drawing the stages during the last frame --
+        one for each time the batch of a stage flushed its sprites to the GPU.  Changing the texture,
+        blending, shader, or transform matrix (such as drawing a Group with children) flushes the batch.
+        GLProfiler (com.badlogic.gdx.graphics.profiling) counts the same calls at the OpenGL level.
+        */
+
+        return drawCalls;
+
+    }
+
+    // stage = Stage drawn during the current frame.
+    private static int getRenderCalls(Stage stage)
+    {
+
+        // The function returns the number of draw calls made by the batch of the passed stage since
+        // its last call to begin (the last draw of the stage).  Returns 0 for batches other than
+        // SpriteBatch, which do not count their draw calls.
+
+        Batch batch = stage.getBatch(); // Batch used to draw the stage.
+
+        return batch instanceof SpriteBatch ? ((SpriteBatch)batch).renderCalls : 0;
 
     }
 
@@ -2,11 +2,12 @@ package pkg52pickup;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import core.AtlasLoader;
 import core.BaseActor;
 import core.BaseGame;
 import core.BaseScreen;
@@ -91,11 +92,12 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
         /*
         The function occurs during the startup / create phase and accomplishes the following:
         
-        // 1.  Sets defaults and initializes empty array lists.
+        // 1.  Sets defaults and initializes empty array lists.  Loads the texture atlas with the images.
         // 2.  Sets up background object.
         // 3.  Sets up pile objects and populates array.
         // 4.  Sets up card objects and populates array.
         // 5.  Sets up glow effect object.
+        // 6.  Enables the hit index for the main stage, so touches only check the cards near the pointer.
         */
         
         String fileName; // Name of image to assign to current card in loop.
@@ -103,14 +105,18 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
         String[] suitNames; // Array of card suit names.
         //Card card; // Reference to each card.
         Pile pile; // Reference to each card pile.
-        Texture glowTex; // Texture (image) to use for the glow effect.
-        Texture pileTex; // Texture (image) to use for the tiles.
+        TextureRegion glowTex; // Texture region (image in the atlas) to use for the glow effect.
+        TextureRegion pileTex; // Texture region (image in the atlas) to use for the tiles.
+        
+        // Load the texture atlas containing the images (card faces, card back, felt, and glow), so the
+        // cards all draw from one texture.  Falls back to the individual image files when not built.
+        AtlasLoader.load();
         
         // Create the background object.
         background = new BaseActor();
         
         // Set the properties for the background object and add to the scene graph.
-        background.setTexture( new Texture(Gdx.files.internal("assets/felt.jpg")) ); // Assign and set properties of texture.
+        background.setTextureRegion( AtlasLoader.getRegion("assets/felt.jpg") ); // Assign and set properties of texture.
         mainStage.addActor(background); // Add Actor to scene graph.
     
         /*
@@ -127,14 +133,14 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
         // pileList = new ArrayList<Pile>();
         pileList = new ArrayList<>();
         
-        // Load image used for each pile to buffer.
-        pileTex = new Texture(Gdx.files.internal("assets/cardBack.png"));
+        // Get image used for each pile from the atlas.
+        pileTex = AtlasLoader.getRegion("assets/cardBack.png");
         
         // Loop through piles.
         for (int n = 0; n < 4; n++)
             {
             pile = new Pile(); // Create pile.
-            pile.setTexture( pileTex ); // Assign and set properties of texture.
+            pile.setTextureRegion( pileTex ); // Assign and set properties of texture.
             pile.setWidth(120); // Set width of Actor.
             pile.setHeight(140); // Set height of Actor.
             pile.setOriginCenter(); // Set origin of actor to the center of associated image -- for rotation.
@@ -183,8 +189,8 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
                 // String fileName = "assets/card" + suitNames[s] + rankNames[r] + ".png";
                 fileName = "assets/card" + suitName + rankName + ".png";
                 
-                 // Load image to buffer, assign texture to Actor, and set properties.
-                card.setTexture( new Texture(Gdx.files.internal(fileName)) );
+                 // Get image from the atlas, assign texture region to Actor, and set properties.
+                card.setTextureRegion( AtlasLoader.getRegion(fileName) );
                 
                 card.setWidth(80); // Set width of card.
                 card.setHeight(100); // Set height of card.
@@ -421,8 +427,8 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
         glowEffect = new BaseActor();
         
         // Set the properties for the glow effect object and add to the scene graph.
-        glowTex = new Texture(Gdx.files.internal("assets/glowBlue.png")); // Load image to buffer.
-        glowEffect.setTexture( glowTex ); // Assign texture and set properties.
+        glowTex = AtlasLoader.getRegion("assets/glowBlue.png"); // Get image from the atlas.
+        glowEffect.setTextureRegion( glowTex ); // Assign texture region and set properties.
         glowEffect.setWidth( cardList.get(0).getWidth() * 1.5f ); // Set width of glow effect Actor. to 1.5x that of card.
         glowEffect.setHeight( cardList.get(0).getHeight() * 1.5f ); // Set height of glow effect Actor to 1.5x that of card.
         glowEffect.setOriginCenter(); // Set origin of actor to the center of associated image -- for rotation.
@@ -432,6 +438,9 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
         mainStage.addActor( glowEffect ); // Add actor to scene graph.
         hintTimer = 0; // Default timer related to showing glow effect to 0.
         
+        // Enable the hit index for the main stage, so touches only check the cards near the pointer.
+        mainStage.setHitIndexEnabled(true);
+        
     }
     
     // dt = Time span between the current and last frame in seconds.  Passed / populated automatically.
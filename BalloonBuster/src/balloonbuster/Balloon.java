@@ -5,7 +5,6 @@
  */
 package balloonbuster;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import core.*;
@@ -22,7 +21,7 @@ public class Balloon extends BaseActor { // Extends the BaseActor class.
     // Methods include:
     
     // act:  Updates the position of the Balloon Actor and related properties, including time.
-    // initBalloon:  Loads the balloon image and sets its horizontal position off-screen.
+    // initBalloon:  Applies the balloon image and sets its horizontal position off-screen.
     
     public float amplitude; // Change amount.
     public float initialY; // Initial Y position of balloon, before factoring in random adjustments.
@@ -31,7 +30,8 @@ public class Balloon extends BaseActor { // Extends the BaseActor class.
     public float time; // Time elapsed, in seconds.
     public int offsetX; // Initial X position of balloon.
     
-    public Balloon()
+    // balloonTex = Balloon image, shared by all balloons (held by the level screen).
+    public Balloon(Texture balloonTex)
     {
         
         // The constructor of the class:
@@ -43,7 +43,7 @@ public class Balloon extends BaseActor { // Extends the BaseActor class.
         // steadily increases, while the y coordinate is calculated according to the formula:  
         // y = A x sin(B * x) + C.
         
-        // 2.  Calls the function that loads the balloon image and sets its horizontal position.
+        // 2.  Calls the function that applies the balloon image and sets its horizontal position.
         
         // Set defaults.
         time = 0;
@@ -55,18 +55,19 @@ public class Balloon extends BaseActor { // Extends the BaseActor class.
         oscillation = MathUtils.random(0.5f, 2.0f) * 0.01f; // b
         initialY = MathUtils.random(0.5f, 2.0f) * 120; // c
         
-        // Calls the function that loads the balloon image and sets its horizontal position.
-        initBalloon();
+        // Calls the function that applies the balloon image and sets its horizontal position.
+        initBalloon( balloonTex );
         
     }
     
-    public final void initBalloon()
+    // balloonTex = Balloon image, shared by all balloons (held by the level screen).
+    public final void initBalloon(Texture balloonTex)
     {
         
-        // The function loads the balloon image and sets its horizontal position off-screen.
+        // The function applies the balloon image and sets its horizontal position off-screen.
         
-        // Load image (to memory) to use for balloon.
-        setTexture( new Texture( Gdx.files.internal("assets/red-balloon.png")) );
+        // Use the balloon image shared with the other balloons (loaded once by the level screen).
+        setTexture( balloonTex );
         
         // Set horizontal (initial spawn) position of balloon off-screen (defaults to -100).
         setX(offsetX);
@@ -13,10 +13,11 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
-import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
 import core.BaseActor;
 import core.BaseScreen;
+import core.NumberLabel;
+import core.TextureCache;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -47,6 +48,7 @@ public class BalloonLevel extends BaseScreen { // Extends the BaseScreen class.
     // Methods include:
     
     // create:  Configures and adds the Actors to the stage (except the balloons):  background and labels.
+    // dispose:  Releases the balloon image held for the lifetime of the level, then clears the stages.
     // touchDown:  The function gets called when user clicks the mouse.  Increments number of mouse clicks.
     // update:  Occurs during the update phase (render method) and contains code related to game logic.
     
@@ -63,9 +65,11 @@ public class BalloonLevel extends BaseScreen { // Extends the BaseScreen class.
     private int escaped; // Number of balloons that escaped -- left the window.
     private int clickCount; // Number of mouse clicks.
     private BaseActor background; // Creates a BaseActor object that will act as the background.
-    private Label poppedLabel; // LibGDX Label object that will display number of popped balloons.
-    private Label escapedLabel; // LibGDX Label object that will display number of escaped balloons.
-    private Label hitRatioLabel; // LibGDX Label object that will display radio of popped balloons to mouse clicks.
+    private NumberLabel poppedLabel; // NumberLabel object that will display number of popped balloons.
+    private NumberLabel escapedLabel; // NumberLabel object that will display number of escaped balloons.
+    private NumberLabel hitRatioLabel; // NumberLabel object that will display radio of popped balloons to mouse clicks.
+    private Texture balloonTex; // Balloon image shared by all balloons -- one texture cache reference, held
+      // for the lifetime of the level and released in dispose.
 
     // g = Screen object for game window (background, balloons, and labels).
     public BalloonLevel(Game g) {
@@ -114,6 +118,9 @@ public class BalloonLevel extends BaseScreen { // Extends the BaseScreen class.
         background.setTexture(new Texture(Gdx.files.internal("assets/sky.jpg")));
         background.setPosition(0, 0);
         mainStage.addActor(background);
+        
+        // Load the balloon image once for the level -- shared by all balloons and released in dispose.
+        balloonTex = TextureCache.obtain("assets/red-balloon.png");
 
         // Initialize BitmapFont (image based font) object.
         // Defaults to the size 15 Arial font file included in the LibGDX libraries.
@@ -124,25 +131,46 @@ public class BalloonLevel extends BaseScreen { // Extends the BaseScreen class.
 
         // Label Note:  Best practices include avoiding scaling -- use a high-resolution image, instead.
         // Set up Label object that will display number of popped balloons.
-        poppedLabel = new Label(initPoppedMsg, style); // Add text and style to Label.
+        poppedLabel = new NumberLabel("Popped: ", "", style); // Add text around value and style to Label.
+        poppedLabel.setText(initPoppedMsg); // Display initial text until the first update.
         poppedLabel.setFontScale(2); // Make font appear larger by using setFontScale method.
         poppedLabel.setPosition(20, 440); // Set coordinates of the Label.
         uiStage.addActor(poppedLabel); // Add popped balloons Label to the scene graph.
 
         // Set up Label object that will display number of escaped balloons.
-        escapedLabel = new Label(initEscapedMsg, style); // Add text and style to Label.
+        escapedLabel = new NumberLabel("Escaped: ", "", style); // Add text around value and style to Label.
+        escapedLabel.setText(initEscapedMsg); // Display initial text until the first update.
         escapedLabel.setFontScale(2); // Make font appear larger by using setFontScale method.
         escapedLabel.setPosition(220, 440); // Set coordinates of the Label.
         uiStage.addActor(escapedLabel); // Add escaped balloons Label to the scene graph.
 
         // Set up Label object that will display balloon hit ratio.
-        hitRatioLabel = new Label(initHitRatioMsg, style); // Add text and style to Label.
+        hitRatioLabel = new NumberLabel("Hit Ratio: ", "%", style); // Add text around value and style to Label.
+        hitRatioLabel.setText(initHitRatioMsg); // Display initial text until the first update.
         hitRatioLabel.setFontScale(2); // Make font appear larger by using setFontScale method.
         hitRatioLabel.setPosition(420, 440); // Set coordinates of the Label.
         uiStage.addActor(hitRatioLabel); // Add escaped balloons Label to the scene graph.
 
     }
 
+    @Override
+    public void dispose()
+    {
+
+        // The function releases the texture cache reference to the balloon image held for the lifetime of
+        // the level (once), then clears the stages and related objects (BaseScreen).
+
+        // If level still holds the balloon image, then release it.
+        if (balloonTex != null)
+        {
+            TextureCache.release( balloonTex );
+            balloonTex = null;
+        }
+
+        super.dispose();
+
+    }
+    
     // dt = Time span between the current and last frame in seconds.  Passed / populated automatically.
     @Override
     public void update(float dt) 
@@ -176,7 +204,7 @@ public class BalloonLevel extends BaseScreen { // Extends the BaseScreen class.
             spawnTimer -= spawnInterval;
 
             // Create a new Balloon Actor.
-            b = new Balloon();
+            b = new Balloon( balloonTex );
             
             // Add touchDown InputListener to Balloon Actor.
             b.addListener(
@@ -233,8 +261,9 @@ public class BalloonLevel extends BaseScreen { // Extends the BaseScreen class.
             }
 
         // Update user interface -- labels related to popped and escaped balloons.
-        poppedLabel.setText("Popped: " + popped);
-        escapedLabel.setText("Escaped: " + escaped);
+        // The labels only change their text when the values change.
+        poppedLabel.setValue(popped);
+        escapedLabel.setValue(escaped);
 
         // If number of clicks greater than zero, then...
         if (clickCount > 0) 
@@ -245,7 +274,7 @@ public class BalloonLevel extends BaseScreen { // Extends the BaseScreen class.
             percent = (int) (100.0 * popped / clickCount);
             
             // Update hit ratio label.
-            hitRatioLabel.setText("Hit Ratio: " + percent + "%");
+            hitRatioLabel.setValue(percent);
             }
         
     }
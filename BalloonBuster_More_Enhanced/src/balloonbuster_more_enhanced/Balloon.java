@@ -1,6 +1,5 @@
 package balloonbuster_more_enhanced;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import core.BaseActor;
@@ -14,7 +13,7 @@ public class Balloon extends BaseActor { // Extends the BaseActor class.
 
     // act:  Updates the position of the Balloon Actor and related properties, including time.
     //       If necessary, removes the balloon.
-    // initBalloon:  Loads the balloon image, sets its horizontal position off-screen, and tints and
+    // initBalloon:  Applies the balloon image, sets its horizontal position off-screen, and tints and
     // scales the graphic to a random color and size.
     // markForRemoval:  Gets called when removing a balloon and starts the countdown timer.
 
@@ -27,7 +26,8 @@ public class Balloon extends BaseActor { // Extends the BaseActor class.
     private float time; // Time elapsed, in seconds.
     private int offsetX; // Initial X position of balloon.
 
-    Balloon()
+    // balloonTex = Balloon image, shared by all balloons (held by the level screen).
+    Balloon(Texture balloonTex)
     {
 
         // The constructor of the class:
@@ -39,7 +39,7 @@ public class Balloon extends BaseActor { // Extends the BaseActor class.
         // steadily increases, while the y coordinate is calculated according to the formula:
         // y = A x sin(B * x) + C.
 
-        // 2.  Calls the function that loads the balloon image and sets its horizontal position.
+        // 2.  Calls the function that applies the balloon image and sets its horizontal position.
 
         // Set defaults.
         time = 0;
@@ -53,19 +53,20 @@ public class Balloon extends BaseActor { // Extends the BaseActor class.
         oscillation = MathUtils.random(0.5f, 2.0f) * 0.01f; // b
         initialY = MathUtils.random(0.5f, 2.0f) * 120; // c
 
-        // Calls the function that loads the balloon image and sets its horizontal position.
-        initBalloon();
+        // Calls the function that applies the balloon image and sets its horizontal position.
+        initBalloon( balloonTex );
 
     }
 
-    private final void initBalloon()
+    // balloonTex = Balloon image, shared by all balloons (held by the level screen).
+    private final void initBalloon(Texture balloonTex)
     {
 
-        // The function loads the balloon image, sets its horizontal position off-screen, and tints
+        // The function applies the balloon image, sets its horizontal position off-screen, and tints
         // and scales the graphic to a random color and size.
 
-        // Load image (to memory) to use for balloon.
-        setTexture( new Texture( Gdx.files.internal("assets/images/gray-balloon.png")) );
+        // Use the balloon image shared with the other balloons (loaded once by the level screen).
+        setTexture( balloonTex );
 
         // Set horizontal (initial spawn) position of balloon off-screen (defaults to -100).
         setX(offsetX);
@@ -11,11 +11,12 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
-import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
 import core.BaseActor;
 import core.BaseGame;
 import core.BaseScreenTable;
+import core.NumberLabel;
+import core.TextureCache;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -47,6 +48,7 @@ public class BalloonLevel extends BaseScreenTable { // Extends the BaseScreenTab
 
     // create:  Configures and adds the Actors to the stage (except the balloons):  background and labels.
     //          Loads the sounds.
+    // dispose:  Releases the balloon image held for the lifetime of the level, then clears the stages.
     // keyDown:  The function gets called when the user presses a key.  Pauses the game when pressing the
     //           P key.
     // touchDown:  The function gets called when user clicks the mouse.  Increments number of mouse clicks.
@@ -64,9 +66,11 @@ public class BalloonLevel extends BaseScreenTable { // Extends the BaseScreenTab
     private int popped; // Number of popped (clicked) balloons.
     private int escaped; // Number of balloons that escaped -- left the window.
     private int clickCount; // Number of mouse clicks.
-    private Label poppedLabel; // LibGDX Label object that will display number of popped balloons.
-    private Label escapedLabel; // LibGDX Label object that will display number of escaped balloons.
-    private Label hitRatioLabel; // LibGDX Label object that will display radio of popped balloons to mouse clicks.
+    private NumberLabel poppedLabel; // NumberLabel object that will display number of popped balloons.
+    private NumberLabel escapedLabel; // NumberLabel object that will display number of escaped balloons.
+    private NumberLabel hitRatioLabel; // NumberLabel object that will display radio of popped balloons to mouse clicks.
+    private Texture balloonTex; // Balloon image shared by all balloons -- one texture cache reference, held
+      // for the lifetime of the level and released in dispose.
     private Sound poppedSound; // Sound to play when user pops a balloon.
 
     // g = Screen object for game window (background, balloons, and labels).
@@ -116,6 +120,7 @@ public class BalloonLevel extends BaseScreenTable { // Extends the BaseScreenTab
 
         // 1.  Configures and adds the Actors (except the balloons) to the stage:  background and labels.
         // 2.  Loads the sounds.
+        // 3.  Enables the hit index for the main stage, so clicks only check the balloons near the pointer.
 
         BaseActor background; // BaseActor to use for the background.
         BitmapFont font; // BitmapFont object storing font used when display text.
@@ -129,6 +134,9 @@ public class BalloonLevel extends BaseScreenTable { // Extends the BaseScreenTab
         background.setPosition(0, 0);
         mainStage.addActor(background);
 
+        // Load the balloon image once for the level -- shared by all balloons and released in dispose.
+        balloonTex = TextureCache.obtain("assets/images/gray-balloon.png");
+
         // Initialize BitmapFont (image based font) object.
         // Defaults to the size 15 Arial font file included in the LibGDX libraries.
         font = new BitmapFont();
@@ -138,19 +146,22 @@ public class BalloonLevel extends BaseScreenTable { // Extends the BaseScreenTab
 
         // Label Note:  Best practices include avoiding scaling -- use a high-resolution image, instead.
         // Set up Label object that will display number of popped balloons.
-        poppedLabel = new Label(initPoppedMsg, style); // Add text and style to Label.
+        poppedLabel = new NumberLabel("Popped: ", "", style); // Add text around value and style to Label.
+        poppedLabel.setText(initPoppedMsg); // Display initial text until the first update.
         poppedLabel.setFontScale(2); // Make font appear larger by using setFontScale method.
         poppedLabel.setPosition(20, 440); // Set coordinates of the Label.
         uiStage.addActor(poppedLabel); // Add popped balloons Label to the scene graph.
 
         // Set up Label object that will display number of escaped balloons.
-        escapedLabel = new Label(initEscapedMsg, style); // Add text and style to Label.
+        escapedLabel = new NumberLabel("Escaped: ", "", style); // Add text around value and style to Label.
+        escapedLabel.setText(initEscapedMsg); // Display initial text until the first update.
         escapedLabel.setFontScale(2); // Make font appear larger by using setFontScale method.
         escapedLabel.setPosition(220, 440); // Set coordinates of the Label.
         uiStage.addActor(escapedLabel); // Add escaped balloons Label to the scene graph.
 
         // Set up Label object that will display balloon hit ratio.
-        hitRatioLabel = new Label(initHitRatioMsg, style); // Add text and style to Label.
+        hitRatioLabel = new NumberLabel("Hit Ratio: ", "%", style); // Add text around value and style to Label.
+        hitRatioLabel.setText(initHitRatioMsg); // Display initial text until the first update.
         hitRatioLabel.setFontScale(2); // Make font appear larger by using setFontScale method.
         hitRatioLabel.setPosition(420, 440); // Set coordinates of the Label.
         uiStage.addActor(hitRatioLabel); // Add escaped balloons Label to the scene graph.
@@ -158,6 +169,27 @@ public class BalloonLevel extends BaseScreenTable { // Extends the BaseScreenTab
         // Load sound to play when user pops a balloon.
         poppedSound = Gdx.audio.newSound(Gdx.files.internal("assets/audio/Pop16.wav"));
 
+        // Enable the hit index for the main stage, so clicks only check the balloons near the pointer.
+        mainStage.setHitIndexEnabled(true);
+
+    }
+
+    @Override
+    public void dispose()
+    {
+
+        // The function releases the texture cache reference to the balloon image held for the lifetime of
+        // the level (once), then clears the stages and related objects (BaseScreenTable).
+
+        // If level still holds the balloon image, then release it.
+        if (balloonTex != null)
+        {
+            TextureCache.release( balloonTex );
+            balloonTex = null;
+        }
+
+        super.dispose();
+
     }
 
     // dt = Time span between the current and last frame in seconds.  Passed / populated automatically.
@@ -193,7 +225,7 @@ public class BalloonLevel extends BaseScreenTable { // Extends the BaseScreenTab
             spawnTimer -= spawnInterval;
 
             // Create a new Balloon Actor.
-            b = new Balloon();
+            b = new Balloon( balloonTex );
 
             // Example of anonymous inner class.
             // Add touchDown InputListener to Balloon Actor.
@@ -264,8 +296,9 @@ public class BalloonLevel extends BaseScreenTable { // Extends the BaseScreenTab
         }
 
         // Update user interface -- labels related to popped and escaped balloons.
-        poppedLabel.setText("Popped: " + popped);
-        escapedLabel.setText("Escaped: " + escaped);
+        // The labels only change their text when the values change.
+        poppedLabel.setValue(popped);
+        escapedLabel.setValue(escaped);
 
         // If number of clicks greater than zero, then...
         if (clickCount > 0)
@@ -276,7 +309,7 @@ public class BalloonLevel extends BaseScreenTable { // Extends the BaseScreenTab
             percent = (int) (100.0 * popped / clickCount);
 
             // Update hit ratio label.
-            hitRatioLabel.setText("Hit Ratio: " + percent + "%");
+            hitRatioLabel.setValue(percent);
         }
 
     }
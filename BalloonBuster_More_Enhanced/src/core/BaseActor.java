@@ -21,6 +21,9 @@ public class BaseActor extends Actor { // Extends the Actor class from LibGDX.
     //
     // setTexture:  Sets the properties of a texture.
     // getTintColor:  Gets the tint color of the Actor.
+    // invalidateHitIndex:  Flags the Actor for an update in the hit index of its stage (if any).
+    // positionChanged:  Reports a change in position to the hit index of the stage (if any).
+    // sizeChanged:  Reports a change in size to the hit index of the stage (if any).
     // setTintColor:  Sets the tint color of the Actor.
     // setRandomTintColor:  Sets the tint color of the Actor to a random color.
 
@@ -118,6 +121,33 @@ public class BaseActor extends Actor { // Extends the Actor class from LibGDX.
 
     }
 
+    private void invalidateHitIndex()
+    {
+
+        // The function flags the Actor for an update in the hit index of its stage, when the stage
+        // uses one (HitIndexStage).
+
+        // If stage uses a hit index, then flag Actor for update.
+        if (getStage() instanceof HitIndexStage)
+            ((HitIndexStage)getStage()).invalidate( this );
+
+    }
+
+    @Override
+    protected void positionChanged()
+    {
+        // The function reports a change in position (such as from moveBy or actions) to the hit index
+        // of the stage (if any).
+        invalidateHitIndex();
+    }
+
+    @Override
+    protected void sizeChanged()
+    {
+        // The function reports a change in size to the hit index of the stage (if any).
+        invalidateHitIndex();
+    }
+
     // A Batch is used to draw 2D rectangles that reference a texture (region).
     // The class will batch the drawing commands and optimize them for processing by the GPU.
 
@@ -124,8 +124,9 @@ public abstract class BaseScreenTable implements Screen, InputProcessor
     public BaseGame game; // Screen object used for current window.
     // Game objects allow an application to easily have multiple screens.
 
-    public Stage mainStage; // Stores a 2D scene graph containing the hierarchies of actors.
+    public HitIndexStage mainStage; // Stores a 2D scene graph containing the hierarchies of actors.
     // Stage handles the viewport and distributes input events.  Contains the non-UI actors.
+    // Supports an optional index to speed up finding the actor under the pointer (setHitIndexEnabled).
 
     public Stage uiStage; // Stores a 2D scene graph containing UI actors.  Includes win text / labels.
 
@@ -137,6 +138,9 @@ public abstract class BaseScreenTable implements Screen, InputProcessor
     private int viewWidth; // Window width.
     private int viewHeight; // Window height.
 
+    public AllocationMonitor allocationMonitor; // Measures bytes allocated during each phase of render
+    // (act, update, draw).  Enable with allocationMonitor.setEnabled(true) or -Dallocation.monitor=true.
+
     private boolean paused; // Whether game paused.
 
     // g = Screen object for current window.
@@ -163,13 +167,14 @@ public abstract class BaseScreenTable implements Screen, InputProcessor
         this.viewWidth = windowWidth;
         this.viewHeight = windowHeight;
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
 
         // Store Screen object for current window.
         this.game = g;
 
         // Scale each stage and its contents to fit the current window size.
         // If aspect ratio of window does not match stage, fill in extra region with solid black.
-        mainStage = new Stage( new FitViewport(viewWidth, viewHeight) );
+        mainStage = new HitIndexStage( new FitViewport(viewWidth, viewHeight) );
         uiStage   = new Stage( new FitViewport(viewWidth, viewHeight) );
 
         // An InputMultiplexer object is itself an InputProcessor that contains a list of other InputProcessors.
@@ -216,12 +221,17 @@ public abstract class BaseScreenTable implements Screen, InputProcessor
         1.  Adjusts Actor positions and other properties in the UI stage.
         2.  If game not paused, adjusts Actor positions and other properties in the non-UI stage and processes player input.
         3.  Draws the graphics.
+        4.  Measures the memory allocated during each of the steps (when the allocation monitor is enabled).
         */
 
+        // Start measuring the memory allocated during the frame.
+        allocationMonitor.beginFrame();
+
         // Call the Actor.act(float) method on each actor in the UI stage.
         // Typically called each frame.  The method also fires enter and exit events.
         // Updates the position of each Actor based on time.
         uiStage.act(dt);
+        allocationMonitor.mark( AllocationMonitor.ACT );
 
         // Only pause gameplay events, not UI events.
 
@@ -235,9 +245,11 @@ public abstract class BaseScreenTable implements Screen, InputProcessor
             // Typically called each frame.  The method also fires enter and exit events.
             // Updates the position of each Actor based on time.
             mainStage.act(dt);
+            allocationMonitor.mark( AllocationMonitor.ACT );
 
             // Handle game logic -- allow processing based on player actions / input.
             update(dt);
+            allocationMonitor.mark( AllocationMonitor.UPDATE );
         }
 
         // Draw graphics.
@@ -252,6 +264,9 @@ public abstract class BaseScreenTable implements Screen, InputProcessor
         mainStage.draw();
         uiStage.draw();
 
+        // Finish measuring the memory allocated during the frame (drawing) and check the budget.
+        allocationMonitor.endFrame();
+
     }
 
     // Pause methods follow...
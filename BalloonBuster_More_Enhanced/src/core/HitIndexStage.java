@@ -0,0 +1,698 @@
+package core;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import java.util.Arrays;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class HitIndexStage extends Stage
+{
+
+    /*
+    The class extends the LibGDX Stage with an optional index that speeds up hit detection -- finding the
+    actor under the mouse / finger for touchDown, touchDragged, and mouse movement events.
+
+    Stage.hit checks every actor, from front to back, until one contains the point.  With the index
+    enabled (setHitIndexEnabled), the stage keeps the actors attached directly to it in a grid of cells
+    and only checks the actors covering the cell under the point, in the same front to back order.  The
+    actor found matches that of Stage.hit:  invisible actors get skipped, the touchable setting gets
+    respected, and the hit method of each actor makes the final decision.
+
+    Actors with children (groups) can hit points outside their own borders, so they get checked for
+    every point, rather than getting placed in cells.  Actors that override the hit method to respond
+    outside their own borders should get added to a child group rather than directly to the stage.
+
+    Keeping the index current:
+
+    1.  The index gets refreshed on the first hit check after each call to act, picking up new actors,
+        removed actors, and changes to position, size, scale, rotation, and origin.
+    2.  BaseActor reports changes to position and size right away (invalidate), so actors dragged or
+        moved between frames get found in the right place.
+    3.  Changes to the order of actors (toFront, setZIndex) get detected during the hit check.
+
+    Methods include:
+
+    act:  Calls the act method of the Stage and flags the index for refresh.
+    addActor:  Adds the passed actor to the stage and index.
+    getCellSize:  Returns the width and height of each cell in the index.
+    getLastTestCount:  Returns the number of actors checked by the last hit check.
+    hit:  Returns the deepest actor containing the passed point -- front to back, like Stage.hit.
+    invalidate:  Flags the passed actor for an update in the index, after a change to position or size.
+    isHitIndexEnabled:  Returns whether hit checks use the index.
+    setHitIndexEnabled:  Sets whether hit checks use the index.
+    */
+
+    // Default width and height of each cell in the index.
+    public static final float DEFAULT_CELL_SIZE = 64;
+
+    // Largest number of cells an actor may cover -- larger actors get checked for every point instead.
+    private static final int MAX_CELLS_PER_ACTOR = 1024;
+
+    // Distance added to each side of an actor when finding its cells, to allow for rounding.
+    private static final float CELL_PADDING = 1;
+
+    private final float cellSize; // Width and height of each cell.
+    private boolean enabled; // Whether hit checks use the index.
+    private boolean refreshNeeded; // Whether to refresh the index before the next hit check.
+
+    private final LongMap<Array<Actor>> cells; // Actors covering each cell, keyed by column and row.
+    private final ObjectIntMap<Actor> slots; // Location of each indexed actor in the following arrays.
+    private Actor[] actors; // Indexed actors -- those attached directly to the stage.
+    private int[] zIndices; // Location of each indexed actor among the children of the root.
+    private int[] minColumns; // First column covered by each indexed actor.
+    private int[] maxColumns; // Last column covered by each indexed actor.
+    private int[] minRows; // First row covered by each indexed actor.
+    private int[] maxRows; // Last row covered by each indexed actor.
+    private boolean[] inCells; // Whether each indexed actor is placed in cells (rather than always checked).
+    private boolean[] dirty; // Whether each indexed actor waits in the list of actors to update.
+    private int[] refreshStamps; // Refresh count when each indexed actor was last found in the root.
+    private int count; // Number of indexed actors.
+    private int refreshStamp; // Number of refreshes performed.
+
+    private final Array<Actor> alwaysChecked; // Indexed actors not placed in cells (groups with children).
+    private final Array<Actor> dirtyActors; // Indexed actors reported as changed since the last hit check.
+    private final IntArray candidates; // Slots of the actors to check during a hit check.
+    private final Vector2 point; // Point used in converting to the coordinates of an actor.
+    private int lastTestCount; // Number of actors checked by the last hit check.
+
+    // viewport = Viewport to use for the stage.
+    public HitIndexStage(Viewport viewport)
+    {
+        // The constructor of the class creates a stage with the default cell size.  The index starts
+        // disabled, so the stage behaves like a regular Stage until calling setHitIndexEnabled.
+        this( viewport, DEFAULT_CELL_SIZE );
+    }
+
+    // viewport = Viewport to use for the stage.
+    // cellSize = Width and height of each cell in the index -- roughly the size of a typical actor.
+    public HitIndexStage(Viewport viewport, float cellSize)
+    {
+
+        // The constructor of the class:
+
+        // 1.  Calls the constructor for the Stage (parent / super) class.
+        // 2.  Stores the cell size.
+        // 3.  Initializes the index (disabled).
+
+        super( viewport );
+
+        int capacity = 64; // Initial number of actors that can get indexed.
+
+        // Store cell size.
+        this.cellSize = cellSize;
+
+        // Initialize index.
+        enabled = false;
+        refreshNeeded = true;
+        cells = new LongMap<>();
+        slots = new ObjectIntMap<>();
+        actors = new Actor[capacity];
+        zIndices = new int[capacity];
+        minColumns = new int[capacity];
+        maxColumns = new int[capacity];
+        minRows = new int[capacity];
+        maxRows = new int[capacity];
+        inCells = new boolean[capacity];
+        dirty = new boolean[capacity];
+        refreshStamps = new int[capacity];
+        count = 0;
+        refreshStamp = 0;
+        alwaysChecked = new Array<>();
+        dirtyActors = new Array<>();
+        candidates = new IntArray();
+        point = new Vector2();
+        lastTestCount = 0;
+
+    }
+
+    // delta = Time in seconds since the last frame.
+    @Override
+    public void act(float delta)
+    {
+
+        // The function calls the act method of the Stage and flags the index for refresh, since actions
+        // may have changed any actor.
+
+        // Flag index for refresh (the Stage checks the actors under each pointer before acting).
+        refreshNeeded = true;
+
+        // Call the act method of the Stage.
+        super.act( delta );
+
+        // Flag index for refresh, to pick up changes from actions.
+        refreshNeeded = true;
+
+    }
+
+    // actor = Actor to add to the stage.
+    @Override
+    public void addActor(Actor actor)
+    {
+
+        // The function adds the passed actor to the stage and (when enabled) index.
+
+        int slot; // Location of actor in arrays.
+
+        // Add actor to the stage.
+        super.addActor( actor );
+
+        // If index enabled, then add actor to index, at the front.
+        if (enabled)
+        {
+            slot = track( actor );
+            zIndices[slot] = getRoot().getChildren().size - 1;
+            updateSlot( slot );
+        }
+
+    }
+
+    private void addToCells(int slot)
+    {
+
+        // The function adds the actor in the passed slot to each cell it covers.
+
+        Array<Actor> cell; // Actors covering current cell.
+        long key; // Key for current cell.
+
+        // Loop through columns and rows covered by actor.
+        for (int column = minColumns[slot]; column <= maxColumns[slot]; column++)
+        {
+            for (int row = minRows[slot]; row <= maxRows[slot]; row++)
+            {
+
+                // Get actors covering current cell, creating the list when needed.
+                key = key( column, row );
+                cell = cells.get( key );
+
+                if (cell == null)
+                {
+                    cell = new Array<>( false, 4 );
+                    cells.put( key, cell );
+                }
+
+                // Add actor to current cell.
+                cell.add( actors[slot] );
+
+            }
+        }
+
+    }
+
+    private void collectCandidates(float stageX, float stageY)
+    {
+
+        // The function fills the list of candidates with the slots of the actors covering the cell
+        // containing the passed point, plus the actors always checked.
+
+        Array<Actor> cell; // Actors covering the cell containing the point.
+
+        candidates.clear();
+
+        // Get actors covering the cell containing the point.
+        cell = cells.get( key(MathUtils.floor(stageX / cellSize), MathUtils.floor(stageY / cellSize)) );
+
+        // Add actors covering the cell.
+        if (cell != null)
+            for (int i = 0; i < cell.size; i++)
+                candidates.add( slots.get(cell.get(i), -1) );
+
+        // Add actors always checked.
+        for (int i = 0; i < alwaysChecked.size; i++)
+            candidates.add( slots.get(alwaysChecked.get(i), -1) );
+
+    }
+
+    private void ensureCapacity()
+    {
+
+        // The function doubles the size of the arrays when full.
+
+        int capacity; // New number of actors that can get indexed.
+
+        // If space remains, then exit.
+        if (count < actors.length)
+            return;
+
+        // Double the size of the arrays.
+        capacity = actors.length * 2;
+        actors = Arrays.copyOf( actors, capacity );
+        zIndices = Arrays.copyOf( zIndices, capacity );
+        minColumns = Arrays.copyOf( minColumns, capacity );
+        maxColumns = Arrays.copyOf( maxColumns, capacity );
+        minRows = Arrays.copyOf( minRows, capacity );
+        maxRows = Arrays.copyOf( maxRows, capacity );
+        inCells = Arrays.copyOf( inCells, capacity );
+        dirty = Arrays.copyOf( dirty, capacity );
+        refreshStamps = Arrays.copyOf( refreshStamps, capacity );
+
+    }
+
+    public float getCellSize()
+    {
+        // The function returns the width and height of each cell in the index.
+        return cellSize;
+    }
+
+    public int getLastTestCount()
+    {
+        // The function returns the number of actors checked by the last hit check (using the index).
+        return lastTestCount;
+    }
+
+    // stageX = X-coordinate of the point, in stage coordinates.
+    // stageY = Y-coordinate of the point, in stage coordinates.
+    // touchable = Whether to only consider actors that respond to touch.
+    @Override
+    public Actor hit(float stageX, float stageY, boolean touchable)
+    {
+
+        // The function returns the deepest actor containing the passed point, checking actors from front
+        // to back, or null when none found.  Matches Stage.hit, but only checks the actors near the point.
+
+        Group root = getRoot(); // Group containing the actors attached to the stage.
+        SnapshotArray<Actor> children; // Actors attached to the stage.
+        int slot; // Location of current candidate in arrays.
+        Actor result; // Actor found.
+
+        // If index disabled or root moved / resized (unusual), then use regular approach.
+        if (!enabled || root.getX() != 0 || root.getY() != 0 || root.getScaleX() != 1 ||
+            root.getScaleY() != 1 || root.getRotation() != 0 || root.getWidth() > 0)
+            return super.hit( stageX, stageY, touchable );
+
+        // If root does not respond to touch, then exit.
+        if (touchable && root.getTouchable() == Touchable.disabled)
+            return null;
+
+        // Bring index up to date.
+        if (refreshNeeded)
+            refresh();
+        else
+            updateDirty();
+
+        // Get candidates.
+        children = root.getChildren();
+        collectCandidates( stageX, stageY );
+
+        // If order of actors changed or candidate removed from stage, then refresh and try again.
+        for (int i = 0; i < candidates.size; i++)
+        {
+            slot = candidates.get(i);
+
+            if (zIndices[slot] >= children.size || children.get(zIndices[slot]) != actors[slot])
+            {
+                refresh();
+                collectCandidates( stageX, stageY );
+                break;
+            }
+        }
+
+        // Sort candidates from front to back.
+        sortCandidates();
+        lastTestCount = candidates.size;
+
+        // Loop through candidates, from front to back.
+        for (int i = 0; i < candidates.size; i++)
+        {
+
+            slot = candidates.get(i);
+
+            // Skip invisible actors.
+            if (!actors[slot].isVisible())
+                continue;
+
+            // Check whether point falls within actor (or one of its children).
+            actors[slot].parentToLocalCoordinates( point.set(stageX, stageY) );
+            result = actors[slot].hit( point.x, point.y, touchable );
+
+            // If point falls within actor, then return it.
+            if (result != null)
+                return result;
+
+        }
+
+        // No actor found.
+        return null;
+
+    }
+
+    // actor = Actor that changed.
+    void invalidate(Actor actor)
+    {
+
+        // The function flags the passed actor for an update in the index, after a change to position or
+        // size.  Gets called by BaseActor.  Actors not attached directly to the stage get
+        // ignored.
+
+        int slot; // Location of actor in arrays.
+
+        // If index disabled or full refresh pending, then exit.
+        if (!enabled || refreshNeeded)
+            return;
+
+        // Get location of actor in arrays.
+        slot = slots.get( actor, -1 );
+
+        // If actor indexed and not already flagged, then flag it.
+        if (slot >= 0 && !dirty[slot])
+        {
+            dirty[slot] = true;
+            dirtyActors.add( actor );
+        }
+
+    }
+
+    public boolean isHitIndexEnabled()
+    {
+        // The function returns whether hit checks use the index.
+        return enabled;
+    }
+
+    // column = Column of cell.
+    // row = Row of cell.
+    private static long key(int column, int row)
+    {
+        // The function returns the key for the passed cell -- column in the upper 32 bits, row in the lower.
+        return ((long)column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    private void refresh()
+    {
+
+        // The function brings the index up to date with the actors attached to the stage -- adding new
+        // actors, removing those no longer attached, and updating the order and cells of each.
+
+        SnapshotArray<Actor> children = getRoot().getChildren(); // Actors attached to the stage.
+        int slot; // Location of current actor in arrays.
+
+        refreshStamp++;
+
+        // Loop through actors attached to the stage.
+        for (int i = 0; i < children.size; i++)
+        {
+
+            // Get location of actor in arrays, adding it to the index when needed.
+            slot = slots.get( children.get(i), -1 );
+
+            if (slot < 0)
+                slot = track( children.get(i) );
+
+            // Store order and update cells.
+            zIndices[slot] = i;
+            refreshStamps[slot] = refreshStamp;
+            updateSlot( slot );
+
+        }
+
+        // Remove actors no longer attached to the stage (backwards, since removal moves the last actor).
+        for (int i = count - 1; i >= 0; i--)
+            if (refreshStamps[i] != refreshStamp)
+                untrack( i );
+
+        dirtyActors.clear();
+        refreshNeeded = false;
+
+    }
+
+    private void removeFromCells(int slot)
+    {
+
+        // The function removes the actor in the passed slot from each cell it covers.
+
+        Array<Actor> cell; // Actors covering current cell.
+
+        // Loop through columns and rows covered by actor.
+        for (int column = minColumns[slot]; column <= maxColumns[slot]; column++)
+        {
+            for (int row = minRows[slot]; row <= maxRows[slot]; row++)
+            {
+
+                // Remove actor from current cell.
+                cell = cells.get( key(column, row) );
+
+                if (cell != null)
+                    cell.removeValue( actors[slot], true );
+
+            }
+        }
+
+    }
+
+    // enabled = Whether hit checks use the index.
+    public void setHitIndexEnabled(boolean enabled)
+    {
+
+        // The function sets whether hit checks use the index.  The index gets built on the next hit check.
+
+        // If disabling index, then clear it.
+        if (!enabled)
+            for (int i = count - 1; i >= 0; i--)
+                untrack( i );
+
+        this.enabled = enabled;
+        refreshNeeded = true;
+
+    }
+
+    private void sortCandidates()
+    {
+
+        // The function sorts the candidates from front to back (highest z-index first), using an
+        // insertion sort, since the list stays short.
+
+        int slot; // Slot of candidate getting placed.
+        int j; // Location being compared.
+
+        for (int i = 1; i < candidates.size; i++)
+        {
+            slot = candidates.get(i);
+            j = i - 1;
+
+            while (j >= 0 && zIndices[candidates.get(j)] < zIndices[slot])
+            {
+                candidates.set( j + 1, candidates.get(j) );
+                j--;
+            }
+
+            candidates.set( j + 1, slot );
+        }
+
+    }
+
+    // actor = Actor to add to the index.
+    private int track(Actor actor)
+    {
+
+        // The function adds the passed actor to the index (without placing it in cells) and returns its slot.
+
+        int slot; // Location of actor in arrays.
+
+        // If actor already indexed, then return its slot.
+        slot = slots.get( actor, -1 );
+
+        if (slot >= 0)
+            return slot;
+
+        // Add actor to end of arrays.
+        ensureCapacity();
+        slot = count++;
+        actors[slot] = actor;
+        zIndices[slot] = Integer.MAX_VALUE;
+        inCells[slot] = false;
+        dirty[slot] = false;
+        refreshStamps[slot] = refreshStamp;
+        minColumns[slot] = 0;
+        maxColumns[slot] = -1;
+        minRows[slot] = 0;
+        maxRows[slot] = -1;
+        slots.put( actor, slot );
+
+        // Check actor for every point until placed in cells.
+        alwaysChecked.add( actor );
+
+        return slot;
+
+    }
+
+    // slot = Location of actor to remove from the arrays.
+    private void untrack(int slot)
+    {
+
+        // The function removes the actor in the passed slot from the index, moving the last actor into
+        // the slot.
+
+        int last = count - 1; // Location of last actor.
+
+        // Remove actor from cells or list of actors always checked.
+        if (inCells[slot])
+            removeFromCells( slot );
+        else
+            alwaysChecked.removeValue( actors[slot], true );
+
+        if (dirty[slot])
+            dirtyActors.removeValue( actors[slot], true );
+
+        slots.remove( actors[slot], -1 );
+
+        // Move last actor into slot.
+        if (slot != last)
+        {
+            actors[slot] = actors[last];
+            zIndices[slot] = zIndices[last];
+            minColumns[slot] = minColumns[last];
+            maxColumns[slot] = maxColumns[last];
+            minRows[slot] = minRows[last];
+            maxRows[slot] = maxRows[last];
+            inCells[slot] = inCells[last];
+            dirty[slot] = dirty[last];
+            refreshStamps[slot] = refreshStamps[last];
+            slots.put( actors[slot], slot );
+        }
+
+        actors[last] = null;
+        count--;
+
+    }
+
+    private void updateDirty()
+    {
+
+        // The function updates the cells of the actors reported as changed since the last hit check.
+
+        int slot; // Location of current actor in arrays.
+
+        for (int i = 0; i < dirtyActors.size; i++)
+        {
+            slot = slots.get( dirtyActors.get(i), -1 );
+
+            if (slot >= 0)
+                updateSlot( slot );
+        }
+
+        dirtyActors.clear();
+
+    }
+
+    // slot = Location of actor to update.
+    private void updateSlot(int slot)
+    {
+
+        // The function places the actor in the passed slot in the cells covered by its (rotated and
+        // scaled) borders, or in the list of actors always checked when it has children or covers too
+        // many cells.  Cells only get touched when the range covered changes.
+
+        Actor actor = actors[slot]; // Actor to update.
+        float cos; // Cosine of the rotation.
+        float sin; // Sine of the rotation.
+        float minX, maxX, minY, maxY; // Rectangle enclosing the actor.
+        float localX, localY; // Corner, relative to the origin and scaled.
+        float px, py; // Corner, in stage coordinates.
+        int minColumn, maxColumn, minRow, maxRow; // Range of cells covered.
+        boolean placeInCells; // Whether to place the actor in cells.
+
+        dirty[slot] = false;
+
+        // Find rectangle enclosing the actor.
+        if (actor.getRotation() == 0 && actor.getScaleX() == 1 && actor.getScaleY() == 1)
+        {
+            // Neither rotated nor scaled.
+            minX = Math.min( actor.getX(), actor.getX() + actor.getWidth() );
+            maxX = Math.max( actor.getX(), actor.getX() + actor.getWidth() );
+            minY = Math.min( actor.getY(), actor.getY() + actor.getHeight() );
+            maxY = Math.max( actor.getY(), actor.getY() + actor.getHeight() );
+        }
+        else
+        {
+            // Rotated or scaled.  Transform each corner about the origin.
+            cos = MathUtils.cosDeg( actor.getRotation() );
+            sin = MathUtils.sinDeg( actor.getRotation() );
+            minX = Float.MAX_VALUE;
+            maxX = -Float.MAX_VALUE;
+            minY = Float.MAX_VALUE;
+            maxY = -Float.MAX_VALUE;
+
+            for (int corner = 0; corner < 4; corner++)
+            {
+                localX = ((corner == 1 || corner == 2 ? actor.getWidth() : 0) - actor.getOriginX()) * actor.getScaleX();
+                localY = ((corner >= 2 ? actor.getHeight() : 0) - actor.getOriginY()) * actor.getScaleY();
+                px = actor.getX() + actor.getOriginX() + localX * cos - localY * sin;
+                py = actor.getY() + actor.getOriginY() + localX * sin + localY * cos;
+                minX = Math.min( minX, px );
+                maxX = Math.max( maxX, px );
+                minY = Math.min( minY, py );
+                maxY = Math.max( maxY, py );
+            }
+        }
+
+        // Find range of cells covered.
+        minColumn = MathUtils.floor( (minX - CELL_PADDING) / cellSize );
+        maxColumn = MathUtils.floor( (maxX + CELL_PADDING) / cellSize );
+        minRow = MathUtils.floor( (minY - CELL_PADDING) / cellSize );
+        maxRow = MathUtils.floor( (maxY + CELL_PADDING) / cellSize );
+
+        // Groups with children and very large actors get checked for every point.
+        placeInCells = !(actor instanceof Group && ((Group)actor).hasChildren()) &&
+            (long)(maxColumn - minColumn + 1) * (maxRow - minRow + 1) <= MAX_CELLS_PER_ACTOR;
+
+        // If nothing changed, then exit.
+        if (placeInCells == inCells[slot] && (!placeInCells || (minColumn == minColumns[slot] &&
+            maxColumn == maxColumns[slot] && minRow == minRows[slot] && maxRow == maxRows[slot])))
+            return;
+
+        // Remove actor from its current location.
+        if (inCells[slot])
+            removeFromCells( slot );
+        else
+            alwaysChecked.removeValue( actor, true );
+
+        // Store range of cells covered.
+        minColumns[slot] = minColumn;
+        maxColumns[slot] = maxColumn;
+        minRows[slot] = minRow;
+        maxRows[slot] = maxRow;
+        inCells[slot] = placeInCells;
+
+        // Add actor to its new location.
+        if (placeInCells)
+            addToCells( slot );
+        else
+            alwaysChecked.add( actor );
+
+    }
+
+}
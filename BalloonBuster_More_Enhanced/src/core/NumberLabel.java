@@ -0,0 +1,210 @@
+package core;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class NumberLabel extends Label
+{
+
+    /*
+    The class displays a whole number between fixed text (such as Score: 1200 or Hit Ratio: 75%), for
+    heads-up display counters that get updated every frame.
+
+    Updating a Label with:
+
+    timeLabel.setText( "Time: " + (int)timeElapsed );
+
+    builds a new String each frame, and each change lays out the glyphs again and invalidates the layout
+    of the parent (such as the uiTable).  With a NumberLabel:
+
+    timeLabel = new NumberLabel( "Time: ", "", game.skin, "uiLabelStyle_Small" );
+    ...
+    timeLabel.setValue( (int)timeElapsed );
+
+    the digits get written straight into the StringBuilder used by the Label, and only when the value
+    differs from the one displayed -- so frames where the counter stays the same cost a comparison.
+
+    The digits form a fixed-width run between the prefix and suffix.  When a new value uses the same
+    number of characters as the old one, only the glyphs of the Label get laid out again, and the size
+    and position assigned by the parent stay the same.  The parent gets invalidated only when the number
+    of characters changes.  Setting a minimum number of digits (padded, such as with zeros) keeps the
+    run the same width as the value grows.
+
+    Calling setText still works (such as for Hit Ratio: --- before the first click), with the next
+    setValue replacing the text.
+
+    Methods include:
+
+    getLayoutCount:  Returns the number of times setValue changed the displayed text.
+    getValue:  Returns the displayed value.
+    hasValue:  Returns whether the Label displays a value (rather than text passed to setText).
+    setMinDigits:  Sets the minimum number of digits to display, along with the character to pad with.
+    setText:  Sets the text of the Label, clearing the displayed value.
+    setValue:  Displays the passed value between the prefix and suffix, when it differs from the current one.
+    */
+
+    private final String prefix; // Text displayed before the value.
+    private final String suffix; // Text displayed after the value.
+    private int value; // Displayed value.
+    private boolean hasValue; // Whether the Label displays a value (rather than text passed to setText).
+    private int minDigits; // Minimum number of digits to display.
+    private char padChar; // Character used to pad the value to the minimum number of digits.
+    private long layoutCount; // Number of times setValue changed the displayed text.
+
+    // prefix = Text displayed before the value.  Example:  Score:
+    // suffix = Text displayed after the value.  Example:  %
+    // style = Style (font and color) to apply to the Label.
+    public NumberLabel(String prefix, String suffix, LabelStyle style)
+    {
+
+        // The constructor of the class stores the text displayed around the value and applies the
+        // passed style.  The Label displays the prefix and suffix until the first call to setValue.
+
+        super( prefix + suffix, style );
+
+        this.prefix = prefix;
+        this.suffix = suffix;
+        minDigits = 1;
+        padChar = '0';
+
+    }
+
+    // prefix = Text displayed before the value.  Example:  Score:
+    // suffix = Text displayed after the value.  Example:  %
+    // skin = Skin containing the style.
+    // styleName = Name of the LabelStyle in the skin.  Example:  uiLabelStyle_Small
+    public NumberLabel(String prefix, String suffix, Skin skin, String styleName)
+    {
+
+        // The constructor of the class stores the text displayed around the value and applies the
+        // passed style from the skin.  The Label displays the prefix and suffix until the first call to
+        // setValue.
+
+        super( prefix + suffix, skin, styleName );
+
+        this.prefix = prefix;
+        this.suffix = suffix;
+        minDigits = 1;
+        padChar = '0';
+
+    }
+
+    public long getLayoutCount()
+    {
+        // The function returns the number of times setValue changed the displayed text.
+        return layoutCount;
+    }
+
+    public int getValue()
+    {
+        // The function returns the displayed value (meaningful only when hasValue returns true).
+        return value;
+    }
+
+    public boolean hasValue()
+    {
+        // The function returns whether the Label displays a value (rather than text passed to setText).
+        return hasValue;
+    }
+
+    // minDigits = Minimum number of digits to display.
+    // padChar = Character used to pad the value to the minimum number of digits.  Example:  0
+    public void setMinDigits(int minDigits, char padChar)
+    {
+
+        // The function sets the minimum number of digits to display, along with the character placed
+        // before shorter values.  Redisplays the current value with the new settings.
+
+        this.minDigits = Math.max( minDigits, 1 );
+        this.padChar = padChar;
+
+        // If Label displays a value, then redisplay it with the new settings.
+        if (hasValue)
+        {
+            hasValue = false;
+            setValue( value );
+        }
+
+    }
+
+    // newText = Text to display.
+    @Override
+    public void setText(CharSequence newText)
+    {
+
+        // The function sets the text of the Label (like the Label version), clearing the displayed
+        // value, so the next call to setValue always updates the text.
+
+        hasValue = false;
+        super.setText( newText );
+
+    }
+
+    // value = Value to display.
+    public void setValue(int value)
+    {
+
+        /*
+        The function displays the passed value between the prefix and suffix.  Values matching the one
+        displayed get ignored.  Otherwise, the digits get written into the text of the Label in place.
+        When the text keeps the same number of characters, only the glyphs of the Label get laid out
+        again.  Otherwise, the parent gets invalidated as well, so it can adjust to the new size.
+        */
+
+        StringBuilder text; // Text of the Label.
+        int oldLength; // Number of characters in the text before the update.
+
+        // If value already displayed, then exit.
+        if (hasValue && value == this.value)
+            return;
+
+        this.value = value;
+        hasValue = true;
+        layoutCount++;
+
+        // Rebuild the text in place -- prefix, digits (padded to the minimum), and suffix.
+        text = getText();
+        oldLength = text.length;
+        text.setLength( 0 );
+        text.append( prefix );
+        text.append( value, minDigits, padChar );
+        text.append( suffix );
+
+        // If number of characters unchanged, then lay out only the glyphs of the Label.
+        // Otherwise, invalidate the parent as well.
+        if (text.length == oldLength)
+            invalidate();
+        else
+            invalidateHierarchy();
+
+    }
+
+}
@@ -5,7 +5,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
-import java.util.HashMap;
+import java.util.Arrays;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -46,10 +46,12 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
     e.g. for running or jumping.  Each region of an Animation is called a key frame,
     multiple key frames make up the animation.
 
-    A HashMap data structure will get used to store animations associated with actors.
-    String objects will get used as keys, and Animation objects will be the associated
-    values.  For example, in a top-view adventure game, the main character might have
-    four animations named north, south, east, and west.
+    An array will get used to store animations associated with actors.  Each animation
+    name gets a small number (handle) from AnimationRegistry, and the animation gets
+    stored at that position in the array.  For example, in a top-view adventure game, the
+    main character might have four animations named north, south, east, and west.  Games
+    can look up the handles once when loading and switch animations by handle, which
+    avoids comparing strings each frame.  The methods taking names still work as well.
 
     Methods include:
 
@@ -58,19 +60,20 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
     cloneActor:  Returns an AnimatedActor with the same properties as the current.
     draw:  Updates and draws the image for the active animation using a key frame based on the
            elapsed time.
-    getAnimationName:  Returns the key for the active Animation object in the hash map.
+    getAnimationHandle:  Returns the handle (AnimationRegistry) of the active Animation object.
+    getAnimationName:  Returns the name of the active Animation object.
     pauseAnimation:  Pauses the animation.
     removeAfterSinglePass:  Sets up an action to remove the animation from the screen after a single display.
       Computes duration.
     removeAfterSinglePassAuto:  Sets up an action to remove the animation from the screen after a single
       display.  Uses pre-computed duration.
-    setActiveAnimation:  Sets the active Animation (key and object) using the passed key.
+    setActiveAnimation:  Sets the active Animation (handle and object) using the passed handle or name.
     setAnimationFrame:  Sets the specified frame of the animation to display.
     setFrameCount:  Stores the number of frames in the animation.
     setFrameDuration:  Stores the duration between frames in the animation (in seconds).
     setFrameTiming:  Stores the frame timing information (count, duration, time for a full pass).
     startAnimation:  Starts the animation (from a paused state).
-    storeAnimation:  Adds an Animation object to the hash map using the specified key.
+    storeAnimation:  Adds an Animation object to the array using the specified handle or name.
     */
 
     // Declare regular variables.
@@ -82,24 +85,26 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
     
     // Declare objects.
     private Animation activeAnim; // Current (active) Animation object.
-    private String activeName; // Name / key value for current (active) Animation object.
+    private int activeHandle; // Handle (AnimationRegistry) of current (active) Animation object.
     @SuppressWarnings("FieldMayBeFinal")
-    private HashMap<String,Animation> animationStorage; // HashMap data structure storing Animation
-    // objects and associated keys.
+    private Animation[] animationStorage; // Array storing Animation objects, indexed by handle (null
+    // where no animation stored).
+
+    private static final Animation[] NO_ANIMATIONS = new Animation[0]; // Empty array, shared until the
+    // first animation gets stored.
     
     public AnimatedActor()
     {
 
         // The constructor of the class calls the constructor of the parent (BaseActor)
-        // and initializes the elapsed time, current (active) Animation object and related key,
-        // and the Animation object hash map.
+        // and initializes the elapsed time, current (active) Animation object and related handle,
+        // and the Animation object array.
 
         super(); // Call the constructor for the BaseActor (parent / super) class.
         elapsedTime = 0; // Initialized elapsed time to 0.
         activeAnim = null; // Initialize current (active) Animation object.
-        activeName = null; // Initialize key representing the current (active) Animation to no selection.
-        // animationStorage = new HashMap<String,Animation>(); // Create hash map to contain Animation objects.
-        animationStorage = new HashMap<>(); // Create hash map to contain Animation objects.
+        activeHandle = AnimationRegistry.NONE; // Initialize handle of the current (active) Animation to no selection.
+        animationStorage = NO_ANIMATIONS; // Start with an empty array of Animation objects.
         pauseAnim = false; // Default animation to NOT paused.
 
     }
@@ -156,8 +161,8 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
 
         // Properties include:
         // 1.  Information about the base Actor.
-        // 2.  HashMap data structure storing Animation objects and keys.
-        // 3.  Name / key value for current (active) Animation object.
+        // 2.  Array storing Animation objects.
+        // 3.  Handle for current (active) Animation object.
         // 4.  Current (active) Animation object.
 
         // Copy properties related to the associated BaseActor.
@@ -166,17 +171,17 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
         // Set elapsed time to 0.
         this.elapsedTime = 0;
 
-        // Copy reference for HashMap data structure storing Animation objects and keys.
+        // Copy reference for array storing Animation objects.
         this.animationStorage = original.animationStorage; // sharing a reference
 
-        // Copy name / key value for current (active) Animation object.
-        this.activeName = original.activeName;
+        // Copy handle for current (active) Animation object.
+        this.activeHandle = original.activeHandle;
 
         // Copy frame count.
         this.frameCount = original.frameCount;
         
         // Copy current (active) animation object.
-        this.activeAnim = this.animationStorage.get( this.activeName );
+        this.activeAnim = getStoredAnimation( this.activeHandle );
 
     }
     
@@ -198,10 +203,23 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
 
     }
     
+    public int getAnimationHandle()
+    {
+        // The function returns the handle (AnimationRegistry) of the active Animation object (NONE when none).
+        return activeHandle;
+    }
+
     public String getAnimationName()
     {
-        // The function returns the key for the active Animation object in the hash map.
-        return activeName;
+        // The function returns the name of the active Animation object (null when none).
+        return AnimationRegistry.getName( activeHandle );
+    }
+
+    // handle = Handle (AnimationRegistry) of the Animation object to return.
+    private Animation getStoredAnimation(int handle)
+    {
+        // The function returns the Animation object stored with the passed handle (null when none).
+        return handle >= 0 && handle < animationStorage.length ? animationStorage[handle] : null;
     }
     
     public void pauseAnimation()
@@ -243,34 +261,36 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
         
     }
     
-    // name = Key for the Animation object to set as active in the hash map.
-    public void setActiveAnimation(String name)
+    // handle = Handle (AnimationRegistry) of the Animation object to set as active.
+    public boolean setActiveAnimation(int handle)
     {
 
-        // The method sets the active Animation (key and object) using the passed key.
+        // The method sets the active Animation (handle and object) using the passed handle.
         // The method also resets the elapsed time and updates the width and height of
-        // the related Actor to that of the Animation.
+        // the related Actor to that of the Animation.  Returns whether an Animation object is stored with
+        // the passed handle -- without a message otherwise, since the method may run each frame.
 
         Texture tex; // Texture containing first animation frame of active Animation -- after setting
-        // using key.
+        // using handle.
+        Animation anim = getStoredAnimation( handle ); // Animation object stored with the passed handle.
 
-        // If hash map contains passed key, then...
-        if ( animationStorage.containsKey(name) )
+        // If array contains an Animation object for the passed handle, then...
+        if ( anim != null )
 
         {
-            // Hash map contains passed key.
+            // Array contains an Animation object for the passed handle.
 
             // If animation already playing, then...
-            if ( name.equals(activeName) )
+            if ( handle == activeHandle )
                 // Animation already playing.
                 // Exit function.
-                return;
+                return true;
             
-            // Set the active Animation key using the passed value.
-            activeName = name;
+            // Set the active Animation handle using the passed value.
+            activeHandle = handle;
 
-            // Set the active Animation Object using the passed key.
-            activeAnim = animationStorage.get(name);
+            // Set the active Animation Object.
+            activeAnim = anim;
 
             // Reset elapsed time related to animation.
             elapsedTime = 0;
@@ -289,19 +309,37 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
                 setWidth( tex.getWidth() );
                 setHeight( tex.getHeight() );
                 }
+
+            return true;
             
         }
 
         else
 
         {
-            // Hash map does NOT contain passed key.
+            // Array does NOT contain an Animation object for the passed handle.
 
-            // Display that no animation exists in the hash map with the passed name.
-            System.out.println("No animation: " + name);
+            // Leave active Animation as is.
+            return false;
         }
 
     }
+
+    // name = Name of the Animation object to set as active.
+    public void setActiveAnimation(String name)
+    {
+
+        // The method sets the active Animation using the passed name, looking up its handle
+        // (AnimationRegistry).  When switching often (such as each frame), look up the handle
+        // once and pass it instead.
+
+        int handle = AnimationRegistry.find( name ); // Handle for the passed name.
+
+        // If name never used for an animation, or no animation stored with it, then display message.
+        if (handle == AnimationRegistry.NONE || !setActiveAnimation( handle ))
+            System.out.println("No animation: " + name);
+
+    }
     
     // n = Animation frame to display.
     public void setAnimationFrame(int n)
@@ -342,24 +380,40 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
         pauseAnim = false;
     }
     
-    // name = Name to assign to the Animation object.
-    // anim = Animation object to add to the hash map.
-    public void storeAnimation(String name, Animation anim)
+    // handle = Handle (AnimationRegistry) to assign to the Animation object.
+    // anim = Animation object to add to the array.
+    public void storeAnimation(int handle, Animation anim)
     {
 
-        // The method stores the passed Animation object in the hash map.
-        // The method uses the passed key when adding the object to the hash map.
+        // The method stores the passed Animation object in the array, at the position of the passed handle.
         // If no active animation exists, the method sets the passed one as active.
 
-        // Add the passed Animation object to the hash map using the provided key.
-        animationStorage.put(name, anim);
+        // If array too small for the handle, then grow it (just enough to fit the handle).
+        if (handle >= animationStorage.length)
+            animationStorage = Arrays.copyOf( animationStorage, handle + 1 );
+
+        // Add the passed Animation object to the array.
+        animationStorage[handle] = anim;
 
-        // If no Animation object key set as current, then...
-        if (activeName == null)
+        // If no Animation object set as current, then...
+        if (activeHandle == AnimationRegistry.NONE)
 
-            // No animation object key set as current.
+            // No animation object set as current.
             // Set the passed Animation object as current.
-            setActiveAnimation(name);
+            setActiveAnimation(handle);
+
+    }
+
+    // name = Name to assign to the Animation object.
+    // anim = Animation object to add to the array.
+    public void storeAnimation(String name, Animation anim)
+    {
+
+        // The method stores the passed Animation object in the array, using the handle for the passed
+        // name (AnimationRegistry).
+        // If no active animation exists, the method sets the passed one as active.
+
+        storeAnimation( AnimationRegistry.register(name), anim );
 
     }
 
@@ -369,8 +423,8 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
     {
 
         // The method builds an Animation object using the passed Texture and adds the results to
-        // the hash map.
-        // The method uses the passed key when adding the object to the hash map.
+        // the array.
+        // The method uses the handle for the passed name when adding the object to the array.
         // If no active animation exists, the method sets the passed one as active.
 
         Animation anim; // Animation object created using passed Texture.
@@ -390,16 +444,9 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
         //anim = new Animation<>(1.0f, frames); // Method for IntelliJ.
         anim = new Animation(1.0f, frames); // Method for NetBeans.
         
-        // Stored Animation object in hash map using passed key value.
+        // Store Animation object in array using passed name (also sets it as current when none set).
         storeAnimation(name, anim);
 
-        // If no Animation object key set as current, then...
-        if (activeName == null)
-
-            // No animation object key set as current.
-            // Set the passed Animation object as current.
-            setActiveAnimation(name);
-
     }
 
 }
\ No newline at end of file
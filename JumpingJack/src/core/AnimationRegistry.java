@@ -0,0 +1,118 @@
+package core;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class AnimationRegistry
+{
+
+    /*
+    The class assigns each animation name (walk, stand, jump, left, ...) a small number -- a handle --
+    the same for every AnimatedActor in the game.  The handles start at 0 and go up by one for each new
+    name, so AnimatedActor stores its animations in an array indexed by handle.
+
+    Looking up an animation by name requires hashing and comparing strings each time.  Resolving the
+    name once when loading and keeping the handle:
+
+    walkAnim = AnimationRegistry.register( "walk" );
+    ...
+    player.setActiveAnimation( walkAnim );
+
+    switches animations with an array access instead.  The AnimatedActor methods taking a name still
+    work, resolving the name with each call.
+
+    The registry covers the whole game rather than a single screen or Actor type.  A handle stays valid
+    for as long as an Actor holding it lives, and Actors get cloned, pooled, and spawned from archetypes
+    that outlive the screen creating them, so clearing or swapping the names per screen would leave
+    those Actors pointing at the wrong animations.  Actor types also share names (walk, stand, ...), and
+    one handle per name lets a screen resolve a name once for all its Actors.  The cost stays small:
+    each game registers a handful of names, and each AnimatedActor sizes its array to the largest handle
+    it stores, not to the number of registered names.
+
+    Methods include:
+
+    find:  Returns the handle for the passed name, or NONE when the name has not been registered.
+    getName:  Returns the name for the passed handle.
+    getSize:  Returns the number of registered names (one more than the largest handle).
+    register:  Returns the handle for the passed name, assigning the next one when not registered yet.
+    */
+
+    public static final int NONE = -1; // Handle meaning no animation.
+
+    private static final ObjectIntMap<String> handles = new ObjectIntMap<>(); // Handles, by name.
+    private static final Array<String> names = new Array<>(); // Names, by handle.
+
+    private AnimationRegistry()
+    {
+        // The constructor of the class stays private, since all members are static.
+    }
+
+    // name = Animation name (such as walk).
+    public static int find(String name)
+    {
+        // The function returns the handle for the passed name, or NONE when the name has not been registered.
+        return handles.get( name, NONE );
+    }
+
+    // handle = Animation handle.
+    public static String getName(int handle)
+    {
+        // The function returns the name for the passed handle, or null for NONE (and unknown handles).
+        return handle < 0 || handle >= names.size ? null : names.get( handle );
+    }
+
+    public static int getSize()
+    {
+        // The function returns the number of registered names (one more than the largest handle).
+        return names.size;
+    }
+
+    // name = Animation name (such as walk).
+    public static int register(String name)
+    {
+
+        // The function returns the handle for the passed name, assigning the next one when the name has
+        // not been registered yet.
+
+        int handle = handles.get( name, NONE ); // Handle for the name.
+
+        // If name not registered yet, then assign the next handle.
+        if (handle == NONE)
+        {
+            handle = names.size;
+            names.add( name );
+            handles.put( name, handle );
+        }
+
+        return handle;
+
+    }
+
+}
@@ -61,6 +61,7 @@ public class Box2DActor extends AnimatedActor // Extends the AnimatedActor class
     getVelocity:  Returns the velocity of the body.
     initializePhysics:  Initializes the Body, based on the BodyDef, and the Fixture (automatically added to 
       the Body).  The function also stores additional data related to the body and fixture.
+    setCategory:  Sets the contact category and mask bits of the fixture (see ContactDispatcher).
     setDynamic:  Sets the body as dynamic -- for bodies affected by forces and collisions / which move.
     setFixedRotation:  Sets the body to not rotate.
     setMaxSpeed:  Sets the maximum speed overall for bodies.
@@ -130,6 +131,9 @@ public class Box2DActor extends AnimatedActor // Extends the AnimatedActor class
     back up to the original height from which the object initially fell.
     */
     
+    // Category bits of fixtures not assigned a category -- the Box2D default.  Solid objects use the default.
+    public static final short CATEGORY_DEFAULT = 0x0001;
+    
     // Declare objects.
     protected Body body; // Physics entity within world.  Properties set using BodyDef object.
     protected BodyDef bodyDef;
@@ -261,6 +265,22 @@ public class Box2DActor extends AnimatedActor // Extends the AnimatedActor class
         fixtureDef.restitution = restitution;
     }
     
+    // categoryBits = Category bit of the fixture -- one bit per actor type and fixture role.
+    // maskBits = Category bits of the fixtures with which the fixture may come into contact.
+    public void setCategory(short categoryBits, short maskBits)
+    {
+        
+        // The function sets the contact category and mask bits of the fixture.  Box2D only creates contacts
+        // between fixtures whose masks include the category of the other.  ContactDispatcher routes the
+        // contacts using the categories.
+        // Call before initializePhysics.
+        
+        // Set filter properties of fixture.
+        fixtureDef.filter.categoryBits = categoryBits;
+        fixtureDef.filter.maskBits = maskBits;
+        
+    }
+    
     // --------------------------------------------------------------------------------------------------
     
     // dt = Time in seconds since the last frame.  Also called delta.
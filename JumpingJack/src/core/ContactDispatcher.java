@@ -0,0 +1,208 @@
+package core;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Manifold;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class ContactDispatcher implements ContactListener
+{
+
+    /*
+    The class routes Box2D contacts to handlers based on the filter category bits of the two fixtures,
+    replacing class checks (getClass) and fixture name comparisons (strings) in the contact listener.
+
+    Each kind of fixture gets its own category bit -- one bit per actor type and fixture role, such as the
+    main fixture of the player, the bottom sensor of the player, coins, and solid objects.  Handlers get
+    registered for pairs of categories, filling a table indexed by the two category bits.  When a contact
+    begins or ends, the dispatcher reads the category of each fixture, looks up the handler in the table,
+    and calls it with the actors in the registered order.  Contacts without a handler get ignored.
+
+    Usage:
+
+    dispatcher = new ContactDispatcher();
+    dispatcher.onBegin( CATEGORY_COIN, CATEGORY_PLAYER, (coin, player, contact) -> removeList.add(coin) );
+    world.setContactListener( dispatcher );
+
+    Categories must use a single bit each (Box2D supports 16).  Box2DActor.setCategory sets the category and
+    mask of the main fixture -- the mask also prevents Box2D from creating contacts between categories
+    that never interact.
+
+    Methods include:
+
+    beginContact:  Called when a pair of fixtures first come into contact with each other.  Routes to handler.
+    endContact:  Called when a pair of fixtures cease being in contact with each other.  Routes to handler.
+    onBegin:  Registers a handler for contacts beginning between the passed categories.
+    onEnd:  Registers a handler for contacts ending between the passed categories.
+    postSolve:  Provides the means to find out what impulses were caused by the collision response.
+    preSolve:  Provides a chance to alter the contact before processing.
+    */
+
+    private static final int CATEGORY_COUNT = 16; // Number of category bits supported by Box2D.
+
+    // Handler tables, indexed by (category bit of fixture A x CATEGORY_COUNT + category bit of fixture B).
+    private final ContactHandler[] beginHandlers; // Handlers for contacts beginning.
+    private final ContactHandler[] endHandlers; // Handlers for contacts ending.
+    private final boolean[] beginSwapped; // Whether to pass fixture B first (registered in reverse order).
+    private final boolean[] endSwapped; // Whether to pass fixture B first (registered in reverse order).
+
+    public ContactDispatcher()
+    {
+
+        // The constructor of the class creates the (empty) handler tables.
+
+        beginHandlers = new ContactHandler[CATEGORY_COUNT * CATEGORY_COUNT];
+        endHandlers = new ContactHandler[CATEGORY_COUNT * CATEGORY_COUNT];
+        beginSwapped = new boolean[CATEGORY_COUNT * CATEGORY_COUNT];
+        endSwapped = new boolean[CATEGORY_COUNT * CATEGORY_COUNT];
+
+    }
+
+    // contact = Contact object containing information about the collision.  Relates to two objects.
+    @Override
+    public void beginContact(Contact contact)
+    {
+        // The function gets called when a pair of fixtures first come into contact with each other.
+        // Routes the contact to the handler registered for the categories of the fixtures.
+        dispatch(contact, beginHandlers, beginSwapped);
+    }
+
+    // category = Category bits of a fixture.
+    private static int categoryIndex(short category)
+    {
+        // The function returns the index (0 to 15) of the lowest category bit set.
+        return Integer.numberOfTrailingZeros(category & 0xFFFF) & (CATEGORY_COUNT - 1);
+    }
+
+    // contact = Contact object containing information about the collision.  Relates to two objects.
+    // handlers = Handler table to use.
+    // swapped = Swap table to use.
+    private void dispatch(Contact contact, ContactHandler[] handlers, boolean[] swapped)
+    {
+
+        // The function looks up the handler for the categories of the two fixtures involved in the contact
+        // and calls it, passing the actors in the registered order.  Contacts without a handler get ignored.
+
+        Fixture fixtureA; // First fixture involved in contact.
+        Fixture fixtureB; // Second fixture involved in contact.
+        ContactHandler handler; // Handler for the categories of the fixtures.
+        int index; // Index of the handler within the table.
+
+        // Store fixtures involved in the contact.
+        fixtureA = contact.getFixtureA();
+        fixtureB = contact.getFixtureB();
+
+        // Look up handler for the categories of the fixtures.
+        index = categoryIndex( fixtureA.getFilterData().categoryBits ) * CATEGORY_COUNT +
+          categoryIndex( fixtureB.getFilterData().categoryBits );
+        handler = handlers[index];
+
+        // If no handler registered, then...
+        if (handler == null)
+            // No handler registered.  Ignore contact.
+            return;
+
+        // Call handler, passing the actors in the registered order.
+        if (swapped[index])
+            handler.handle( (Box2DActor)fixtureB.getBody().getUserData(),
+              (Box2DActor)fixtureA.getBody().getUserData(), contact );
+        else
+            handler.handle( (Box2DActor)fixtureA.getBody().getUserData(),
+              (Box2DActor)fixtureB.getBody().getUserData(), contact );
+
+    }
+
+    // contact = Contact object containing information about the collision.  Relates to two objects.
+    @Override
+    public void endContact(Contact contact)
+    {
+        // The function gets called when a pair of fixtures cease being in contact with each other.
+        // Routes the contact to the handler registered for the categories of the fixtures.
+        dispatch(contact, endHandlers, endSwapped);
+    }
+
+    // categoryA = Category bit of the first fixture.  The actor owning the fixture gets passed first.
+    // categoryB = Category bit of the second fixture.  The actor owning the fixture gets passed second.
+    // handler = Handler to call when the fixtures begin contact.
+    public void onBegin(short categoryA, short categoryB, ContactHandler handler)
+    {
+        // The function registers a handler for contacts beginning between the passed categories.
+        register(categoryA, categoryB, handler, beginHandlers, beginSwapped);
+    }
+
+    // categoryA = Category bit of the first fixture.  The actor owning the fixture gets passed first.
+    // categoryB = Category bit of the second fixture.  The actor owning the fixture gets passed second.
+    // handler = Handler to call when the fixtures end contact.
+    public void onEnd(short categoryA, short categoryB, ContactHandler handler)
+    {
+        // The function registers a handler for contacts ending between the passed categories.
+        register(categoryA, categoryB, handler, endHandlers, endSwapped);
+    }
+
+    // categoryA = Category bit of the first fixture.
+    // categoryB = Category bit of the second fixture.
+    // handler = Handler to store.
+    // handlers = Handler table to fill.
+    // swapped = Swap table to fill.
+    private void register(short categoryA, short categoryB, ContactHandler handler,
+      ContactHandler[] handlers, boolean[] swapped)
+    {
+
+        // The function stores the handler in the table for both orders of the categories, since Box2D
+        // may list either fixture first.  The reverse order gets flagged, so the actors get swapped back.
+
+        int indexA; // Index of the first category bit.
+        int indexB; // Index of the second category bit.
+
+        indexA = categoryIndex(categoryA);
+        indexB = categoryIndex(categoryB);
+
+        // Store handler for the reverse order (fixture B first), flagged for swapping.
+        handlers[indexB * CATEGORY_COUNT + indexA] = handler;
+        swapped[indexB * CATEGORY_COUNT + indexA] = true;
+
+        // Store handler for the registered order.  Done last, so the same category for both overrides.
+        handlers[indexA * CATEGORY_COUNT + indexB] = handler;
+        swapped[indexA * CATEGORY_COUNT + indexB] = false;
+
+    }
+
+    // contact = Contact object containing information about the collision.  Relates to two objects.
+    // impulse = Impulses caused by the collision response.
+    @Override
+    public void postSolve(Contact contact, ContactImpulse impulse) { }
+
+    // contact = Contact object containing information about the collision.  Relates to two objects.
+    // oldManifold = Manifold of the contact before the update.
+    @Override
+    public void preSolve(Contact contact, Manifold oldManifold) { }
+
+}
@@ -35,6 +35,9 @@ public class Coin extends Box2DActor // Extends the Box2DActor class.
     initializePhysics:  Initializes Box2D properties for the Coin.
     */
     
+    // Category bit of the Coin fixture.
+    public static final short CATEGORY = 0x0004;
+    
     public Coin()
     {
         // Invoke constructor of parent class -- Box2DActor -- initializing Box2D related variables for Coin.
@@ -51,6 +54,7 @@ public class Coin extends Box2DActor // Extends the Box2DActor class.
         setShapeCircle(); // Set the Coin as a circle.
         fixtureDef.isSensor = true; // Set the Coin as a Sensor (to collect contact details, but not 
         // generate a collision).
+        setCategory( CATEGORY, Player.CATEGORY_MAIN ); // Only contact the main fixture of the Player.
         
         // Initializes the Body of the Coin, based on the BodyDef, and the Fixture (automatically added to 
         // the Body).  The function also stores additional data related to the body and fixture.
@@ -7,15 +7,13 @@ import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.physics.box2d.ContactListener;
-import com.badlogic.gdx.physics.box2d.Contact;
-import com.badlogic.gdx.physics.box2d.Manifold;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import java.util.ArrayList;
 import core.BaseActor;
+import core.AnimationRegistry;
 import core.BaseGame;
 import core.BaseScreen;
 import core.Box2DActor;
+import core.ContactDispatcher;
 import core.GameUtils;
 
 /*
@@ -56,11 +54,15 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
     
     // Declare object variables.
     private Player player; // Player object holding related properties.
+    private ContactDispatcher contactDispatcher; // Routes contacts to handlers based on fixture categories.
     private ArrayList<Box2DActor> removeList; // List of actors to remove.
     private World world; // Highest level class in Box2D system.  World containing Box2DActor objects.
     
     // Declare regular variables.
     private int coins = 0;
+    private int jumpHandle; // Handle (AnimationRegistry) of the jumping animation of the player.
+    private int standHandle; // Handle (AnimationRegistry) of the standing animation of the player.
+    private int walkHandle; // Handle (AnimationRegistry) of the walking animation of the player.
     
     // Game world dimensions.
     private final int mapWidth; // Total map width, in pixels.
@@ -252,6 +254,11 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         jumpTex.setFilter(TextureFilter.Linear, TextureFilter.Linear); // Set filter type -- controlling how 
           // pixel colors are interpolated when image is rotated or stretched.
         player.storeAnimation( "jump", jumpTex ); // Store animation in actor (for jumping).
+        
+        // Look up the animation handles once, so switching animations compares numbers, not strings.
+        walkHandle = AnimationRegistry.find( "walk" );
+        standHandle = AnimationRegistry.find( "stand" );
+        jumpHandle = AnimationRegistry.find( "jump" );
         player.setPosition( 164, 300 ); // Set position of player.
         player.setSize( 60, 90 ); // Set size of player.
         mainStage.addActor(player); // Add (player) actor to scene graph.
@@ -289,111 +296,33 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         endContact method.
         */
         
-        world.setContactListener(
-            new ContactListener()
+        // Route contacts through a dispatch table keyed by fixture category bits, rather than checking the
+        // class and fixture name of each object on every contact.
+        contactDispatcher = new ContactDispatcher();
+        
+        // When coin and main fixture of player begin contact, add coin to removal list.
+        contactDispatcher.onBegin( Coin.CATEGORY, Player.CATEGORY_MAIN, (coin, p, contact) ->
             {
-                
-            // contact = Contact object containing information about the collision.  Relates to two objects.
-            @Override
-            public void beginContact(Contact contact)
+            // System.out.println("Player in contact with coin.");
+            removeList.add( coin ); // Add coin to removal list.
+            });
+        
+        // When bottom of player begins contact with solid object, player stands on ground.
+        contactDispatcher.onBegin( Player.CATEGORY_BOTTOM, Box2DActor.CATEGORY_DEFAULT, (p, solid, contact) ->
             {
-                
-                // Called when a pair of fixtures first come into contact with each other.
-                
-                Coin c; // Reference to coin object involved in contact.
-                Object objC; // User data associated with coin object.
-                Object objP; // User data associated with player object.
-                Player p; // Reference to player object involved in contact.
-                
-                // If contact involved coin, store user data associated with coin.  Otherwise, store null.
-                objC = GameUtils.getContactObject(contact, Coin.class);
-                
-                // If coin object NOT set to null, then...
-                if (objC != null)
-                    {
-                    // Coin object NOT set to null.
-                    // Indicates contact between coin and ?.
-                        
-                    // System.out.println("? in contact with coin.");
-                        
-                    // If contact involved player, store user data associated with player.
-                    // Otherwise, store null.
-                    objP = GameUtils.getContactObject(contact, Player.class, "main");
-                    
-                    // If player object NOT set to null, then...
-                    if (objP != null)
-                        {
-                        // Player object NOT set to null.
-                        // Indicates contact between coin and player.
-                            
-                        // System.out.println("Player in contact with coin.");
-                            
-                        c = (Coin)objC; // Get reference to coin involved in contact.
-                        removeList.add( c ); // Add coin to removal list.
-                        }
-                    
-                    // Exit function.
-                    return; // Avoid possible jumps.
-                    }
-
-                // If contact involved bottom of player, store user data associated with Player.
-                // Otherwise, store null.
-                objP = GameUtils.getContactObject(contact, Player.class, "bottom");
-                
-                // If player object NOT set to null, then...
-                if ( objP != null )
-                    {
-                    // Player object NOT set to null.
-                    // Indicates contact between player and ground.
-                    p = (Player)objP; // Get reference to player.
-                    p.adjustGroundCount( 1 ); // Add one to ground contact.
-                    p.setActiveAnimation( "stand" ); // Set "stand" as active animation for player.
-                    }
-                
-            }
-            
-            // contact = Contact object containing information about the collision.  Relates to two objects.
-            @Override
-            public void endContact(Contact contact)
+            ((Player)p).adjustGroundCount( 1 ); // Add one to ground contact.
+            p.setActiveAnimation( standHandle ); // Set "stand" as active animation for player.
+            });
+        
+        // When bottom of player ends contact with solid object, player leaves ground.
+        contactDispatcher.onEnd( Player.CATEGORY_BOTTOM, Box2DActor.CATEGORY_DEFAULT, (p, solid, contact) ->
             {
-                
-                // Called when a pair of fixtures cease being in contact with each other.
-                
-                Object objC; // User data associated with coin object.
-                Object objP; // User data associated with player object.
-                Player p; // Reference to player object involved in contact.
-                
-                // If contact involved coin, store user data associated with coin.  Otherwise, store null.
-                objC = GameUtils.getContactObject(contact, Coin.class);
-                
-                // If coin object NOT set to null, then...
-                if (objC != null)
-                    // Coin object NOT set to null.
-                    // Indicates coin leaving contact with ?.
-                    // Exit function.
-                    return;
-                
-                // If contact involved player, store user data associated with player.  Otherwise, store null.
-                objP = GameUtils.getContactObject(contact, Player.class, "bottom");
-                
-                // If player object NOT set to null, then...
-                if ( objP != null )
-                    {
-                    // Player object NOT set to null.
-                    // Indicates player leaving contact with ground.
-                    p = (Player)objP; // Get reference to player.
-                    p.adjustGroundCount( -1 ); // Subtract one from ground contact.
-                    }
-                
-            }
-            
-            @Override
-            public void preSolve(Contact contact, Manifold oldManifold) { }
-            
-            @Override
-            public void postSolve(Contact contact, ContactImpulse impulse) { }
+            ((Player)p).adjustGroundCount( -1 ); // Subtract one from ground contact.
             });
         
+        // Set dispatcher as ContactListener for world.
+        world.setContactListener( contactDispatcher );
+        
     }
     
     @Override
@@ -459,16 +388,16 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         }
 
         // If player speed greater than 0.1 and standing, then...
-        if ( player.getSpeed() > 0.1 && player.getAnimationName().equals("stand") )
+        if ( player.getSpeed() > 0.1 && player.getAnimationHandle() == standHandle )
             // Player speed greater than 0.1 and standing.
             // Set active animation to walk.
-            player.setActiveAnimation("walk");
+            player.setActiveAnimation( walkHandle );
         
         // If player speed less than 0.1 and walking, then...
-        if ( player.getSpeed() < 0.1 && player.getAnimationName().equals("walk") )
+        if ( player.getSpeed() < 0.1 && player.getAnimationHandle() == walkHandle )
             // Player speed less than 0.1 and walking.
             // Set active animation to stand.
-            player.setActiveAnimation("stand");
+            player.setActiveAnimation( standHandle );
         
     }
     
@@ -512,7 +441,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // User pressed the space key and player is on the ground.
             jumpVec = new Vector2( 0, 3 ); // Establish vector associated with jumping movement.
             player.applyImpulse( jumpVec ); // Applies impulse to player to cause a jump.
-            player.setActiveAnimation("jump"); // Set active animation of player to jump.
+            player.setActiveAnimation( jumpHandle ); // Set active animation of player to jump.
         }
         
         // If the user pressed the Escape key, then...
@@ -56,6 +56,10 @@ public class Player extends Box2DActor // Extends the Box2DActor class.
       detect ground contact.
     */
     
+    // Category bits of the Player fixtures.
+    public static final short CATEGORY_MAIN = 0x0002; // Main fixture (body of the Player).
+    public static final short CATEGORY_BOTTOM = 0x0008; // Sensor fixture at the bottom of the Player.
+    
     public int groundCount; // Number of solid objects detected beneath player.
     
     public Player()
@@ -105,6 +109,9 @@ public class Player extends Box2DActor // Extends the Box2DActor class.
         float x; // X-coordinate of sensor box.
         float y; // Y-coordinate of sensor box.
         
+        // Set main fixture to contact solid objects and coins.
+        setCategory( CATEGORY_MAIN, (short)(CATEGORY_DEFAULT | Coin.CATEGORY) );
+        
         // Initialize Box2D properties -- BodyDef, Body, and Fixture -- related to Player.
         super.initializePhysics(world);
         
@@ -114,6 +121,10 @@ public class Player extends Box2DActor // Extends the Box2DActor class.
         // Specify as a sensor -- will collect contact details, but not generate collisions.
         bottomSensor.isSensor = true;
         
+        // Set sensor to only contact solid objects.
+        bottomSensor.filter.categoryBits = CATEGORY_BOTTOM;
+        bottomSensor.filter.maskBits = CATEGORY_DEFAULT;
+        
         // Set sensor as a PolygonShape, allowing for a box / rectangle.
         sensorShape = new PolygonShape();
         
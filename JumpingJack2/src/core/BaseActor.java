@@ -51,13 +51,17 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     cloneActor:  Returns a BaseActor with the same properties as the current.
     copy:  Copies properties from the passed to the current BaseActor.
     destroy:  Removes the BaseActor from its Stage and parent list (as necessary).
-    draw:  Sets the tinting color of and draws the Actor.
+    draw:  Sets the tinting color of and draws the Actor (and its children, when present), unless culled.
     getBoundingPolygon:  Sets the position and rotation of the bounding polygon to that of the Actor.
     getBoundingRectangle:  Sets the properties of the bounding rectangle related to the texture region.
     getTintColor:  Gets the tint color of the Actor.
+    getViewBounds:  Returns the cached axis-aligned rectangle enclosing the drawn (transformed) image.
+    isActSkipped:  Returns whether the act method should skip its updates (culled and not acting while culled).
+    isCulled:  Returns whether the Actor lay outside the camera view when last checked by BaseScreen.
     moveToOrigin:  Centers a small within a larger rectangle, using the borders of the current and target BaseActor objects.
     overlaps:  Determines whether the bounding polygon for the passed Actor intersects (significantly)
                with that of the current.  Moves current Actor minimum amount to avoid intersection.
+    setActWhileCulled:  Sets whether the Actor keeps acting while outside the camera view.
     setActorName:  Sets the Actor name to the passed value.
     setAdditionalDetails:  Performs additional operations for the constructor that would cause
                            overridable method call errors.
@@ -91,6 +95,24 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     private Color tintColor; // Color to tint the Actor.
     private final ColorWorks colorEngine; // Contains color related functionality.
 
+    // View culling...
+    // BaseScreen compares the rectangle enclosing the drawn image against the camera view each frame and
+    // flags Actors outside it as culled, which skips their drawing (and, when requested, their acting).
+    // The rectangle only gets recalculated when the position, size, rotation, scale, or origin changes.
+    boolean culled; // Whether the Actor lay outside the camera view when last checked (set by BaseScreen).
+    private boolean actWhileCulled; // Whether the Actor keeps acting while outside the camera view.
+    private boolean viewCached; // Whether the cached rectangle enclosing the drawn image is valid.
+    private float viewX; // X-coordinate of the Actor when last calculating the view rectangle.
+    private float viewY; // Y-coordinate of the Actor when last calculating the view rectangle.
+    private float viewWidth; // Width of the Actor when last calculating the view rectangle.
+    private float viewHeight; // Height of the Actor when last calculating the view rectangle.
+    private float viewRotation; // Rotation of the Actor when last calculating the view rectangle.
+    private float viewScaleX; // Horizontal scale of the Actor when last calculating the view rectangle.
+    private float viewScaleY; // Vertical scale of the Actor when last calculating the view rectangle.
+    private float viewOriginX; // X-coordinate of the origin when last calculating the view rectangle.
+    private float viewOriginY; // Y-coordinate of the origin when last calculating the view rectangle.
+    private Rectangle viewBounds; // Cached rectangle enclosing the drawn image (created when first needed).
+
     public BaseActor()
     {
 
@@ -113,6 +135,9 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         boundingRectangle = new Rectangle(); // Create a 2D rectangle to reflect position and borders of image.
         //noinspection MoveFieldAssignmentToInitializer
         parentList = null; // Initialize an empty list of references to ArrayList containing Actor.
+        culled = false; // Initialize as inside the camera view, acting whether or not culled.
+        actWhileCulled = true;
+        viewCached = false;
 
         // Initialize color engine object.
         colorEngine = new ColorWorks();
@@ -313,6 +338,119 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
 
     }
 
+    public Rectangle getViewBounds()
+    {
+
+        /*
+        The function returns the axis-aligned rectangle enclosing the image of the Actor as drawn --
+        taking into account its position, size, rotation, scale, and origin.  The rectangle only gets
+        recalculated when at least one of those changed since the last query.  Used by BaseScreen to
+        check whether the Actor lies within the camera view.
+        */
+
+        float cos; // Cosine of the rotation angle.
+        float sin; // Sine of the rotation angle.
+        float x1, y1, x2, y2; // Corners of the scaled image, relative to the origin.
+        float ax, ay, bx, by; // Rotated offsets of the image edges.
+        float minX, minY, maxX, maxY; // Borders of the rectangle enclosing the drawn image.
+
+        // If rectangle cached and Actor unchanged since last query, then return cached rectangle.
+        if ( viewCached &&
+             viewX == getX() && viewY == getY() && viewWidth == getWidth() && viewHeight == getHeight() &&
+             viewRotation == getRotation() && viewScaleX == getScaleX() && viewScaleY == getScaleY() &&
+             viewOriginX == getOriginX() && viewOriginY == getOriginY() )
+            return viewBounds;
+
+        // Store transform properties of the Actor.
+        viewX = getX();
+        viewY = getY();
+        viewWidth = getWidth();
+        viewHeight = getHeight();
+        viewRotation = getRotation();
+        viewScaleX = getScaleX();
+        viewScaleY = getScaleY();
+        viewOriginX = getOriginX();
+        viewOriginY = getOriginY();
+
+        // Calculate corners of the scaled image, relative to the origin.
+        x1 = -viewOriginX * viewScaleX;
+        y1 = -viewOriginY * viewScaleY;
+        x2 = (viewWidth - viewOriginX) * viewScaleX;
+        y2 = (viewHeight - viewOriginY) * viewScaleY;
+
+        // If Actor rotated, then...
+        if (viewRotation != 0)
+        {
+
+            // Actor rotated.  Rotate the corners around the origin and enclose the results.
+            cos = MathUtils.cosDeg( viewRotation );
+            sin = MathUtils.sinDeg( viewRotation );
+
+            ax = cos * x1;
+            ay = sin * x1;
+            bx = cos * x2;
+            by = sin * x2;
+
+            minX = Math.min( ax, bx ) - Math.max( sin * y1, sin * y2 );
+            maxX = Math.max( ax, bx ) - Math.min( sin * y1, sin * y2 );
+            minY = Math.min( ay, by ) + Math.min( cos * y1, cos * y2 );
+            maxY = Math.max( ay, by ) + Math.max( cos * y1, cos * y2 );
+
+        }
+
+        else
+        {
+            // Actor NOT rotated.  Use the corners as they are.
+            minX = Math.min( x1, x2 );
+            maxX = Math.max( x1, x2 );
+            minY = Math.min( y1, y2 );
+            maxY = Math.max( y1, y2 );
+        }
+
+        // Create the rectangle when first needed.
+        if (viewBounds == null)
+            viewBounds = new Rectangle();
+
+        // Store the rectangle, moving it from the origin to the position of the Actor.
+        viewBounds.set( viewX + viewOriginX + minX, viewY + viewOriginY + minY, maxX - minX, maxY - minY );
+
+        // Flag rectangle as cached.
+        viewCached = true;
+
+        // Return the rectangle enclosing the drawn image.
+        return viewBounds;
+
+    }
+
+    public boolean isCulled()
+    {
+        // The function returns whether the Actor lay outside the camera view when last checked by
+        // BaseScreen (false when view culling is off).
+        return culled;
+    }
+
+    public boolean isActSkipped()
+    {
+        // The function returns whether the act method should skip its updates -- when the Actor lies
+        // outside the camera view and does not act while culled.  Subclasses overriding act check it first.
+        return culled && !actWhileCulled;
+    }
+
+    // b = Whether the Actor keeps acting while outside the camera view.
+    public void setActWhileCulled(boolean b)
+    {
+
+        /*
+        The function sets whether the Actor keeps acting (running actions, animating, moving) while
+        outside the camera view.  Defaults to true.  Actors with nothing to do off-screen (such as coins
+        waiting for pickup) can turn it off to save the work.  Actors that stop acting also stop moving,
+        so they only resume once something else (such as the camera) brings them back into view.
+        */
+
+        actWhileCulled = b;
+
+    }
+
     public Rectangle getBoundingRectangle()
     {
 
@@ -417,7 +555,12 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     {
 
         // The function calls the act method of the Actor, which performs
-        // a time based positional update.
+        // a time based positional update.  Skipped while outside the camera view, when the Actor does
+        // not act while culled.
+
+        // If Actor outside the camera view and does not act while culled, then exit.
+        if ( isActSkipped() )
+            return;
 
         // Calls the act method of the Actor (parent / super) class.
         // Updates the actor based on time.
@@ -434,7 +577,21 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     public void draw(Batch batch, float parentAlpha)
     {
 
-        // The function sets the tinting color of and draws the Actor (when visible).
+        /*
+        The function sets the tinting color of and draws the Actor (when visible), followed by its
+        children (such as the fire attached to a spaceship).
+
+        Drawing a Group applies its transform to the batch and resets it afterwards, and each change to
+        the transform matrix flushes the batch -- an extra draw call for every Actor.  Actors without
+        children (most rocks, lasers, coins) skip the Group version and draw straight into the batch, so
+        sprites sharing a texture go out in one draw call.
+
+        Actors flagged as culled by BaseScreen (outside the camera view) get skipped entirely.
+        */
+
+        // If Actor outside the camera view, then exit.
+        if (culled)
+            return;
 
         // System.out.println("\nActor:  " + actorName);
 
@@ -455,8 +612,10 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             batch.draw( region, getX(), getY(), getOriginX(), getOriginY(),
                     getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation() );
 
-        // Call the constructor of the parent class to redraw the group.
-        super.draw(batch, parentAlpha);
+        // If Actor has children, then call the draw method of the parent class to draw them (applying
+        // the transform of the group).
+        if ( hasChildren() )
+            super.draw(batch, parentAlpha);
 
     }
 
@@ -550,6 +709,9 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // Copy visibility flag from passed to current Actor.
         this.setVisible( original.isVisible() );
 
+        // Copy whether to act while outside the camera view from passed to current Actor.
+        this.actWhileCulled = original.actWhileCulled;
+
         // Copy tinting color from passed to current Actor.
         //this.tintColor = new Color();
         //this.tintColor.r = original.getColor().r;
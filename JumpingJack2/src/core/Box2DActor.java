@@ -280,6 +280,11 @@ public class Box2DActor extends AnimatedActor // Extends the AnimatedActor class
         Vector2 center; // World position of center of mass.
         Vector2 v; // Current velocity of body, as a vector.
         
+        // If Actor outside the camera view and does not act while culled, then exit.  The body keeps
+        // moving in the World regardless, so only static bodies (such as coins) should stop acting.
+        if ( isActSkipped() )
+            return;
+
         // Call the act method of the AnimatedActor, which performs a time based positional update.
         super.act(dt);
         
@@ -308,6 +308,10 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
 
         float decelerateAmount; // Amount by which to decelerate.
 
+        // If Actor outside the camera view and does not act while culled, then exit.
+        if ( isActSkipped() )
+            return;
+
         // Call the act method of the Actor, which performs a time based positional update.
         super.act(dt);
 
@@ -33,11 +33,13 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
 
 // Core and custom code imports...
+import core.AnimationRegistry;
 import core.BaseGame;
 import core.BaseScreen;
 import core.Box2DActor;
 import core.GameUtils;
 import core.ParticleActor;
+import core.ParticlePool;
 import routines.ArrayRoutines;
 
 /*
@@ -95,11 +97,15 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
     private World world; // Highest level class in Box2D system.  World containing Box2DActor objects.
     private ArrayList<Box2DActor> removeList; // List of actors to remove.
     private ParticleActor baseSparkle; // ParticleActor that will act as the (base) sparkle effect for coin.
+    private ParticlePool particlePool; // Pool of sparkle effects, reused instead of copying the base sparkle.
     TiledMap tiledMap; // Map, in Tiled format.
     OrthographicCamera tiledCamera; // Camera to use with Tiled map.
     TiledMapRenderer tiledMapRenderer; // Renderer to use with Tiled map.
     
     // Declare regular variables...
+    private int jumpHandle; // Handle (AnimationRegistry) of the jumping animation of the player.
+    private int standHandle; // Handle (AnimationRegistry) of the standing animation of the player.
+    private int walkHandle; // Handle (AnimationRegistry) of the walking animation of the player.
     private final int[] backgroundLayer = new int[1]; // Indices of the tilemap layers to be rendered before the main stage.  Contains background.
     private final int[] tileLayer = new int[1]; // Indices of the tilemap layers to be rendered after the main stage.  Contains tiles / objects on background.
     
@@ -218,6 +224,11 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         jumpTex.setFilter( TextureFilter.Linear, TextureFilter.Linear ); // Set filter type -- controlling how 
           // pixel colors are interpolated when image is rotated or stretched.
         player.storeAnimation( "jump", jumpTex ); // Store animation in actor (for jumping).
+        
+        // Look up the animation handles once, so switching animations compares numbers, not strings.
+        walkHandle = AnimationRegistry.find( "walk" );
+        standHandle = AnimationRegistry.find( "stand" );
+        jumpHandle = AnimationRegistry.find( "jump" );
         player.setSize( 60, 90 ); // Set size of player.
         mainStage.addActor( player ); // Add (player) actor to scene graph.
         
@@ -229,10 +240,13 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         coinTex.setFilter( TextureFilter.Linear, TextureFilter.Linear ); // Set filter type -- controlling how 
           // pixel colors are interpolated when image is rotated or stretched.
         baseCoin.storeAnimation( "default", coinTex ); // Store animation in Actor.
+        baseCoin.setActWhileCulled( false ); // Skip updates while off-screen (coins do not move).
         
         // Set up the (base) sparkle object.
         baseSparkle = new ParticleActor(); // Create a new ParticleActor for the (base) sparkle object.
         baseSparkle.load( "assets/sparkler.pfx", "assets/" ); // Load assets related to particle effect.
+        particlePool = new ParticlePool(); // Create pool for sparkle effects.
+        particlePool.prewarm( baseSparkle, 4 ); // Fill pool with enough effects for several coins at once.
         
         // Set up tile map, renderer, and camera.
         tiledMap = new TmxMapLoader().load( "assets/platform-map.tmx" ); // Load the TiledMap.
@@ -473,16 +487,16 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         }
 
         // If player speed greater than 0.1 and standing, then...
-        if ( player.getSpeed() > 0.1 && player.getAnimationName().equals("stand") )
+        if ( player.getSpeed() > 0.1 && player.getAnimationHandle() == standHandle )
             // Player speed greater than 0.1 and standing.
             // Set active animation to walk.
-            player.setActiveAnimation("walk");
+            player.setActiveAnimation( walkHandle );
         
         // If player speed less than 0.1 and walking, then...
-        if ( player.getSpeed() < 0.1 && player.getAnimationName().equals("walk") )
+        if ( player.getSpeed() < 0.1 && player.getAnimationHandle() == walkHandle )
             // Player speed less than 0.1 and walking.
             // Set active animation to stand.
-            player.setActiveAnimation("stand");
+            player.setActiveAnimation( standHandle );
         
     }
     
@@ -555,7 +569,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
                             
                         c = (Coin)objC; // Get reference to coin involved in contact.
                         removeList.add( c ); // Add coin to removal list.
-                        sparkle = baseSparkle.clone(); // Copy the sparkle object.
+                        sparkle = particlePool.obtain( baseSparkle ); // Copy the sparkle object (reused from pool when available).
                         sparkle.setPosition( // Set the position of the sparkle object to center of coin.
                           c.getX() + c.getOriginX(), c.getY() + c.getOriginY() );
                         sparkle.start(); // Start the particle effect.
@@ -577,7 +591,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
                     // Indicates contact between player and ground.
                     p = (Player)objP; // Get reference to player.
                     p.adjustGroundCount( 1 ); // Add one to ground contact.
-                    p.setActiveAnimation( "stand" ); // Set "stand" as active animation for player.
+                    p.setActiveAnimation( standHandle ); // Set "stand" as active animation for player.
                     }
                 
             }
@@ -667,7 +681,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // User pressed the space key and player is on the ground.
             jumpVec = new Vector2( 0, 3 ); // Establish vector associated with jumping movement.
             player.applyImpulse( jumpVec ); // Applies impulse to player to cause a jump.
-            player.setActiveAnimation("jump"); // Set active animation of player to jump.
+            player.setActiveAnimation( jumpHandle ); // Set active animation of player to jump.
         }
         
         // If the user pressed the Escape key, then...
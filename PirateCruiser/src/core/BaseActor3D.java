@@ -1,6 +1,7 @@
 package core;
 
 import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.math.Frustum;
 import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.Material;
@@ -11,8 +12,6 @@ import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.math.Polygon;
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.Intersector.MinimumTranslationVector;
 import routines.ArrayRoutines;
 
 /*
@@ -60,18 +59,40 @@ public class BaseActor3D
     each BaseActor3D object.  The objects will be combined into a Matrix4 and stored in the ModelInstance when 
     needed.
     
+    Rebuilding the Matrix4 takes a fair amount of math, so it only happens in act for actors whose position,
+    rotation, or scale changed since the last frame (flagged by transformDirty).  The matrix of the model
+    instance gets updated in place, and the movement and rotation methods use shared scratch objects rather
+    than creating new vectors and quaternions, so moving an actor creates no garbage.
+    
+    For frustum culling, the bounding sphere of the model instance (enclosing its bounding box) gets
+    calculated once, in local coordinates, when first needed.  Each time the transformation matrix changes,
+    the center gets moved by the matrix and the radius multiplied by the largest scale factor, so checking
+    whether the actor lies within the view of the camera takes a single sphere test.
+    
+    Actors flagged as static (setStatic) get merged with the other static actors of their stage into a few
+    large meshes (see StaticBatch), rather than drawn one by one.  Moving or recoloring a static actor works,
+    but rebuilds the merged meshes.
+    
     Methods include:
 
-    act:  Updates the transformation data of the model instance.
+    act:  Updates the transformation data of the model instance (when changed).
     addPosition:  Adds the passed vector or combination of coordinates (x, y, z) to the current position.
-    calculateTransform:  Combines the position, rotation, and scale data into a Matrix4 object.
+    calculateTransform:  Combines the position, rotation, and scale data into a (new or passed) Matrix4 object.
     clone:  Returns a BaseActor3D with the same properties as the current.
     copy:  Copies properties from the passed to the current BaseActor3D.
     draw:  Renders the model instance using the supplied ModelBatch and Environment.
     getBoundingPolygon:  Returns a bounding polygon with properties (position and rotation) based on
       those of the Actor.
+    getModelInstance:  Returns the model instance (used by StaticBatch).
     getPosition:  Returns the position of the 3D actor -- as a vector.
     getTurnAngle:  Returns the angle in radians of the rotation around the Y axis.
+    hasBoundingPolygon:  Returns whether the bounding polygon has been set.
+    invalidateTransform:  Flags the transformation data for recalculation during the next act.
+    isInFrustum:  Returns whether the bounding sphere of the model instance lies (at least partly) within
+      the passed frustum.
+    isStatic:  Returns whether the 3D actor has been flagged as static (not moving).
+    moved:  Flags the transformation data for recalculation and updates the position of the 3D actor
+      within the spatial grid of its stage (if any).
     moveForward:  Moves the 3D actor forward by the specified amount.
     moveRight:  Moves the 3D actor right by the specified amount.
     moveUp:  Moves the 3D actor up by the specified amount.
@@ -85,8 +106,10 @@ public class BaseActor3D
       the 3D actor.
     setRectangleBase:  Sets the bounding polygon to a rectangular shape based on properties of the
       BoundingBox (smallest box that contains the entire model).
+    setStatic:  Sets whether the 3D actor is static (not moving), allowing its stage to merge it with others.
     setTurnAngle:  Sets the angle in radians of the rotation around the Y axis.
     turn:  Adjusts the angle in radians of the rotation around the Y axis by the passed value.
+    updateTransform:  Recalculates the matrix of the model instance (when the transformation data changed).
     */
     
     // Declare object variables.
@@ -96,6 +119,36 @@ public class BaseActor3D
     private final Vector3 position; // Position, stored as a vector (x, y, and z components).
     private final Quaternion rotation; // Rotation of the model instance.
     private final Vector3 scale; // Scale, stored as a vector (x, y, and z components).
+    boolean transformDirty; // Whether the position, rotation, or scale changed since the transformation
+      // matrix of the model instance was last calculated.
+    
+    // Scratch objects shared by the movement and rotation methods, which avoids creating new objects.
+    private static final Vector3 moveVector = new Vector3(); // Direction (and distance) of movement.
+    private static final Quaternion turnQuaternion = new Quaternion(); // Rotation to apply.
+    Stage3D stage; // Stage to which the BaseActor3D has been added (set by Stage3D).
+    private boolean staticActor; // Whether the BaseActor3D has been flagged as static (not moving).
+    boolean batched; // Whether the BaseActor3D gets drawn through the static batch of its stage (set by StaticBatch).
+    
+    // Bounding sphere data (used for frustum culling).
+    private boolean sphereCalculated; // Whether the local bounding sphere of the model instance has been calculated.
+    private final Vector3 localCenter; // Center of the bounding sphere, relative to the model instance.
+    private float localRadius; // Radius of the bounding sphere, before scaling.  Negative when the model has no size.
+    private boolean sphereDirty; // Whether the transformation matrix changed since the world sphere was last placed.
+    private final Vector3 sphereCenter; // Center of the bounding sphere, in world coordinates.
+    private float sphereRadius; // Radius of the bounding sphere, in world coordinates.
+    private static final BoundingBox sphereBox = new BoundingBox(); // Scratch box used to calculate local spheres.
+    
+    // Spatial grid data (set by SpatialGridXZ).
+    boolean gridIndexed; // Whether the BaseActor3D has been added to the spatial grid.
+    int gridMinColumn; // First column of cells covered.
+    int gridMaxColumn; // Last column of cells covered.
+    int gridMinRow; // First row of cells covered.
+    int gridMaxRow; // Last row of cells covered.
+    float gridMinX; // Smallest x-coordinate of the rectangle enclosing the bounding polygon.
+    float gridMaxX; // Largest x-coordinate of the rectangle enclosing the bounding polygon.
+    float gridMinZ; // Smallest z-coordinate of the rectangle enclosing the bounding polygon.
+    float gridMaxZ; // Largest z-coordinate of the rectangle enclosing the bounding polygon.
+    int gridStamp; // Stamp of the last spatial grid query reporting the BaseActor3D.
     
     public BaseActor3D()
     {
@@ -110,14 +163,27 @@ public class BaseActor3D
         rotation  = new Quaternion();
         scale     = new Vector3( 1, 1, 1 );
         boundingPolygon = null;
+        stage = null;
+        staticActor = false;
+        batched = false;
+        transformDirty = true;
+        gridIndexed = false;
+        sphereCalculated = false;
+        localCenter = new Vector3();
+        sphereDirty = true;
+        sphereCenter = new Vector3();
         
     }
 
     // dt = Time in seconds since the last frame.  Also called delta.
     public void act(float dt)
     {
-        // The function updates the transformation data of the model instance.
-        modelData.transform.set( calculateTransform() );   
+        
+        // The function updates the transformation data of the model instance, when the position, rotation,
+        // or scale changed since the last update.  The existing matrix gets updated in place.
+        
+        updateTransform();
+        
     }
     
     // v = Vector to add to current position.
@@ -125,6 +191,7 @@ public class BaseActor3D
     {
         // The function adds the passed vector to the current position.
         position.add( v );  
+        moved();
     }
     
     // x = X-coordinate to add to current position.
@@ -133,18 +200,27 @@ public class BaseActor3D
     public void addPosition(float x, float y, float z)
     {
         // The function add the passed combination of coordinate parameters (x, y, and z)
-        // to the current position.
-        addPosition( new Vector3(x, y, z) );  
+        // to the current position, without creating a temporary vector.
+        position.add( x, y, z );  
+        moved();
     }
     
     public Matrix4 calculateTransform()
     {
-        // The method combines the position, rotation, and scale data into a Matrix4 object.
+        // The method combines the position, rotation, and scale data into a new Matrix4 object.
         
         // Return a Matrix4 object based on the position, rotation, and scale of the model instance.
         return new Matrix4( position, rotation, scale );
     }
     
+    // transform = Matrix4 object in which to store the results.
+    public Matrix4 calculateTransform(Matrix4 transform)
+    {
+        // The method combines the position, rotation, and scale data into the passed Matrix4 object,
+        // without creating a new one.  Returns the passed object.
+        return transform.set( position, rotation, scale );
+    }
+    
     @SuppressWarnings({"MethodDoesntCallSuperMethod", "CloneDoesntCallSuperClone", "CloneDeclaresCloneNotSupported"})
     @Override
     public BaseActor3D clone()
@@ -181,12 +257,23 @@ public class BaseActor3D
         this.rotation.set( orig.rotation );
         this.scale.set( orig.scale );
         
+        // Copy static flag from passed to current BaseActor3D.
+        this.staticActor = orig.staticActor;
+        
+        // Share the local bounding sphere of the passed BaseActor3D, since the model instances match.
+        this.sphereCalculated = orig.sphereCalculated;
+        this.localCenter.set( orig.localCenter );
+        this.localRadius = orig.localRadius;
+        this.sphereDirty = true;
+        
         // If bounding polygon exists in passed BaseActor3D, then...
         if (orig.boundingPolygon != null)
             // Bounding polygon exists in passed BaseActor3D.
             // Create bounding polygon in current with vertices in bounding polygon of passed BaseActor3D.
             this.boundingPolygon = new Polygon( orig.boundingPolygon.getVertices() );
         
+        moved();
+        
     }
     
     // batch = Used to render three-dimensional objects.
@@ -214,9 +301,22 @@ public class BaseActor3D
         
     }
     
+    ModelInstance getModelInstance()
+    {
+        // The function returns the model instance (used by StaticBatch).
+        return modelData;
+    }
+    
+    public boolean hasBoundingPolygon()
+    {
+        // The function returns whether the bounding polygon has been set (setEllipseBase or setRectangleBase).
+        return boundingPolygon != null;
+    }
+    
     public Vector3 getPosition()
     {
-        // The function returns the position of the 3D actor -- as a vector.
+        // The function returns the position of the 3D actor -- as a vector.  After changing the vector
+        // directly, call invalidateTransform (or updateSpatial of the stage) so the change gets applied.
         return position;
     }
     
@@ -224,6 +324,75 @@ public class BaseActor3D
     {   
         // The function returns the angle in radians of the rotation around the Y axis.
         return rotation.getAngleAround( 0, -1, 0 );
+    }    
+    public boolean isStatic()
+    {
+        // The function returns whether the 3D actor has been flagged as static (not moving).
+        return staticActor;
+    }
+    
+    // frustum = Frustum (view volume) of the camera.
+    public boolean isInFrustum(Frustum frustum)
+    {
+        
+        /*
+        The function returns whether the bounding sphere of the model instance lies (at least partly)
+        within the passed frustum.  The local sphere gets calculated from the bounding box of the model
+        instance the first time, and the world sphere only gets moved after the transformation matrix
+        changed.  Actors whose model has no size always count as within the frustum.
+        */
+        
+        float maxScale; // Largest scale factor of the actor (absolute value).
+        
+        // If local bounding sphere not calculated yet, then...
+        if (!sphereCalculated)
+        {
+            
+            // Local bounding sphere not calculated yet.
+            // Use the sphere enclosing the bounding box (smallest box that contains the entire model).
+            modelData.calculateBoundingBox( sphereBox );
+            
+            if (sphereBox.isValid())
+            {
+                // Store the center, and half the length of the diagonal as the radius (using the world
+                // center to hold the dimensions, since it gets placed below).
+                sphereBox.getCenter( localCenter );
+                localRadius = sphereBox.getDimensions( sphereCenter ).len() / 2;
+            }
+            else
+                localRadius = -1;
+            
+            sphereCalculated = true;
+            sphereDirty = true;
+            
+        }
+        
+        // If model has no size, then always draw it.
+        if (localRadius < 0)
+            return true;
+        
+        // If transformation matrix changed since the world sphere was last placed, then...
+        if (sphereDirty)
+        {
+            
+            // Move the center by the transformation matrix and scale the radius by the largest factor.
+            sphereCenter.set( localCenter ).mul( modelData.transform );
+            maxScale = Math.max( Math.abs(scale.x), Math.max(Math.abs(scale.y), Math.abs(scale.z)) );
+            sphereRadius = localRadius * maxScale;
+            sphereDirty = false;
+            
+        }
+        
+        // Return whether the world sphere lies (at least partly) within the frustum.
+        return frustum.sphereInFrustum( sphereCenter, sphereRadius );
+        
+    }
+    
+    public void invalidateTransform()
+    {
+        // The function flags the transformation data for recalculation during the next act.  Call after
+        // changing the vector returned by getPosition directly.
+        transformDirty = true;
     }
     
     /*
@@ -240,25 +409,40 @@ public class BaseActor3D
     distance, and add the result to the current position.
     */
     
+    private void moved()
+    {
+        
+        // The function flags the transformation data for recalculation and updates the position of the 3D 
+        // actor within the spatial grid of its stage, after changes to position, rotation, or bounding 
+        // polygon.  Actors not added to a stage skip the spatial grid.
+        
+        transformDirty = true;
+        
+        // If actor added to a stage, then update spatial grid.
+        if (stage != null)
+            stage.updateSpatial(this);
+        
+    }
+    
     // dist = Distance by which to move forward.
     public void moveForward(float dist)
     {
         // The function moves the 3D actor forward by the specified amount.
-        addPosition( rotation.transform( new Vector3(0, 0, -1) ).scl( dist ) );  
+        addPosition( rotation.transform( moveVector.set(0, 0, -1) ).scl( dist ) );  
     }
     
     // dist = Distance by which to move right.
     public void moveRight(float dist)
     {
         // The function moves the 3D actor right by the specified amount.
-        addPosition( rotation.transform( new Vector3(1, 0, 0) ).scl( dist ) );  
+        addPosition( rotation.transform( moveVector.set(1, 0, 0) ).scl( dist ) );  
     }
     
     // dist = Distance by which to move up.
     public void moveUp(float dist)
     {
         // The function moves the 3D actor up by the specified amount.
-        addPosition( rotation.transform( new Vector3(0, 1, 0) ).scl( dist ) );  
+        addPosition( rotation.transform( moveVector.set(0, 1, 0) ).scl( dist ) );  
     }
     
     // other = Other Actor to check for collision detection.
@@ -269,6 +453,24 @@ public class BaseActor3D
         // The function determines whether the bounding polygon for the passed Actor intersects 
         // (significantly) with that of the current.  Moves current Actor minimum amount to avoid 
         // intersection.  The function returns whether a significant overlap occurs.
+        // Uses the scratch CollisionResult of the current thread, so no objects get created.
+        
+        // Return whether a significant overlap occurs.
+        return overlaps( other, resolve, CollisionResult.getScratch() );
+        
+    }
+    
+    // other = Other Actor to check for collision detection.
+    // resolve = Whether to move the other Actor along the minimum translation vector to prevent overlap.
+    // result = Object in which to store the penetration depth and normal (when polygons intersect).
+    //   The normal uses the x and z axes as its x and y components.
+    public boolean overlaps(BaseActor3D other, boolean resolve, CollisionResult result)
+    {
+        
+        // The function determines whether the bounding polygon for the passed Actor intersects 
+        // (significantly) with that of the current.  Moves current Actor minimum amount to avoid 
+        // intersection.  Stores the penetration depth and normal in the passed result, without 
+        // creating any objects.  The function returns whether a significant overlap occurs.
         
         // Declare constants.
         final float significant = 0.5f; // Minimum significant penetration depth -- length of the minimum
@@ -279,8 +481,6 @@ public class BaseActor3D
         boolean polyOverlap; // Whether Actors overlap.
         
         // Declare object variables.
-        MinimumTranslationVector mtv; // Minimum magnitude vector required to push the
-        // polygon defined by verts1 out of the collision with the polygon defined by verts2.
         Polygon poly1; // Reference to bounding polygon for current Actor.
         Polygon poly2; // Reference to bounding polygon for passed Actor.
         
@@ -290,9 +490,12 @@ public class BaseActor3D
 
         // If polygons are NOT intersecting, then...
         if ( !poly1.getBoundingRectangle().overlaps(poly2.getBoundingRectangle()) )
+        {
             // Polygons are NOT intersecting.
-            // Exit function.
+            // Reset result and exit function.
+            result.clear();
             return false;
+        }
         
         // Polygons are intersecting.
         
@@ -307,13 +510,10 @@ public class BaseActor3D
         defined by verts2.
         */
         
-        // Instantiate a minimum transaction vector object.
-        mtv = new MinimumTranslationVector();
-        
         // Obtain a minimum translation vector indicating the minimum magnitude vector
         // required to push the current Actor (polygon) out of the collision with the
-        // other.
-        polyOverlap = Intersector.overlapConvexPolygons(poly1, poly2, mtv);
+        // other.  Stored in the passed result.
+        polyOverlap = CollisionResult.overlapPolygons(poly1, poly2, result);
         
         // If polygons intersect and resolve parameter flagged, then...
         if (polyOverlap && resolve)
@@ -322,7 +522,7 @@ public class BaseActor3D
 
             // Moves current Actor (adds X and Y to current position) based on minimum
             // translation vector --
-            this.addPosition( mtv.normal.x * mtv.depth, 0,  mtv.normal.y * mtv.depth );
+            this.addPosition( result.normal.x * result.depth, 0,  result.normal.y * result.depth );
         }
         
         // Compare penetration depth to minimum significant value.
@@ -332,7 +532,7 @@ public class BaseActor3D
 
         // If polygon intersection more than minimum significant value, then return polygons as
         // intersecting.  Otherwise, return polygons as not intersecting.
-        return (polyOverlap && (mtv.depth > significant));
+        return (polyOverlap && (result.depth > significant));
     }
     
     // c = Color to which to change the material of the model instance.
@@ -345,6 +545,10 @@ public class BaseActor3D
         // Set color of each material.
         for (Material m : modelData.materials)
             m.set( ColorAttribute.createDiffuse(c) ); 
+        
+        // If drawn through the static batch, then rebuild the merged meshes with the new color.
+        if (batched)
+            stage.getStaticBatch().invalidate();
     }
     
     // m = Model instance to copy to class-level variable.
@@ -352,6 +556,12 @@ public class BaseActor3D
     {
         // The function sets the model instance to the passed object.
         modelData = m;
+        transformDirty = true;
+        sphereCalculated = false;
+        
+        // If drawn through the static batch, then rebuild the merged meshes with the new model.
+        if (batched)
+            stage.getStaticBatch().invalidate();
     }
 
     // v = Vector to use in setting position of the 3D actor.
@@ -359,6 +569,7 @@ public class BaseActor3D
     {  
         // The function uses a vector parameter to set the position of the 3D actor.
         position.set(v);  
+        moved();
     }
     
     // x = X-coordinate to use in setting position of 3D actor.
@@ -369,6 +580,23 @@ public class BaseActor3D
         // The function uses a combination of x, y, and z coordinates sent as three parameters to set
         // the position of the 3D actor.
         position.set( x, y, z );  
+        moved();
+    }
+    
+    // b = Whether the 3D actor is static (not moving).
+    public void setStatic(boolean b)
+    {
+        
+        // The function sets whether the 3D actor is static (not moving).  The stage of a static actor merges
+        // it with the other static actors sharing its model and material, so they render in a few draw calls.
+        // Best suited to scenery (rocks, crates, ...), since moving a static actor rebuilds the merged meshes.
+        
+        staticActor = b;
+        
+        // If actor added to a stage, then add it to (or remove it from) the static batch.
+        if (stage != null)
+            stage.updateStatic(this);
+        
     }
     
     /*
@@ -420,6 +648,7 @@ public class BaseActor3D
         
         // Set the origin point to which all of the local vertices of the polygon are relative.
         boundingPolygon.setOrigin( 0, 0 );
+        moved();
     
     }
     
@@ -464,6 +693,7 @@ public class BaseActor3D
         
         // Set the origin point to which all of the local vertices of the polygon are relative.
         boundingPolygon.setOrigin( 0, 0 );
+        moved();
         
     }
     
@@ -478,14 +708,33 @@ public class BaseActor3D
     public void setTurnAngle(float degrees)
     {
         // The function sets the angle in radians of the rotation around the Y axis.
-        rotation.set( new Quaternion(Vector3.Y, degrees) );  
+        rotation.set( Vector3.Y, degrees );  
+        moved();
+    }
+    
+    void updateTransform()
+    {
+        
+        // The function recalculates the matrix of the model instance in place, when the position, rotation,
+        // or scale changed since the last update.  Called by act (and by StaticBatch before merging).
+        
+        // If transformation data changed, then...
+        if (transformDirty)
+        {
+            // Transformation data changed.  Recalculate matrix of model instance.
+            calculateTransform( modelData.transform );
+            transformDirty = false;
+            sphereDirty = true;
+        }
+        
     }
     
     // degrees = Number of radians to rotate.
     public void turn(float degrees)
     {
         // The function adjusts the angle in radians of the rotation around the Y axis by the passed value.
-        rotation.mul( new Quaternion(Vector3.Y, -degrees) );  
+        rotation.mul( turnQuaternion.set(Vector3.Y, -degrees) );  
+        moved();
     }
     
 }
@@ -0,0 +1,454 @@
+package core;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import java.util.ArrayList;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class SpatialGridXZ 
+{
+    
+    /* 
+    The class stores BaseActor3D objects in a grid of square cells on the XZ plane (the ground), so
+    collision and proximity queries only look at the actors in nearby cells rather than all actors.
+    
+    Each actor gets stored in every cell touched by the rectangle enclosing its bounding polygon.  Actors
+    without a bounding polygon (such as the floor and sky) do not take part in collisions and get skipped.
+    Cells get created as needed and kept in a hash map (keyed by column and row), so the grid has no fixed
+    size -- suitable for large, open maps.
+    
+    Updating an actor only touches the grid when the range of cells it covers changes.  Queries use a
+    stamp, stored in each actor, to report actors spanning several cells only once.  Queries take time
+    based on the number of actors in the cells visited (O(k)), rather than the total number of actors.
+    
+    Methods include:
+    
+    findNearest:  Returns the actor with the position nearest the passed point, within a maximum distance.
+    getCellSize:  Returns the width (and depth) of each cell.
+    getCount:  Returns the number of actors in the grid.
+    queryOverlaps:  Fills the passed list with the actors whose enclosing rectangles overlap that of the passed actor.
+    queryRadius:  Fills the passed list with the actors positioned within the passed distance of a point.
+    queryRectangle:  Fills the passed list with the actors whose enclosing rectangles overlap the passed area.
+    remove:  Removes the passed actor from the grid.
+    update:  Adds the passed actor to the grid, or moves it to the cells matching its current bounds.
+    */
+    
+    // Declare object variables.
+    private final LongMap<Array<BaseActor3D>> cells; // Actors in each cell, keyed by column and row.
+    private BaseActor3D nearest; // Nearest actor found so far during findNearest.
+    
+    // Declare regular variables.
+    private final float cellSize; // Width (and depth) of each cell.
+    private int count; // Number of actors in the grid.
+    private int stamp; // Current query stamp -- used to report each actor once per query.
+    private int minColumn; // Lowest column used so far.
+    private int maxColumn; // Highest column used so far.
+    private int minRow; // Lowest row used so far.
+    private int maxRow; // Highest row used so far.
+    private float nearestDist2; // Squared distance to the nearest actor found so far during findNearest.
+    
+    // cellSize = Width (and depth) of each cell.  Works best at roughly the size of the typical actor.
+    public SpatialGridXZ(float cellSize)
+    {
+        
+        // The constructor of the class stores the cell size and creates the (empty) map of cells.
+        
+        this.cellSize = cellSize;
+        cells = new LongMap<>();
+        count = 0;
+        stamp = 0;
+        minColumn = Integer.MAX_VALUE;
+        maxColumn = Integer.MIN_VALUE;
+        minRow = Integer.MAX_VALUE;
+        maxRow = Integer.MIN_VALUE;
+        
+    }
+    
+    // v = Coordinate (x or z) for which to find the column or row.
+    private int cellOf(float v)
+    {
+        // The function returns the column (for x) or row (for z) containing the passed coordinate.
+        return MathUtils.floor( v / cellSize );
+    }
+    
+    // column = Column of the cell.
+    // row = Row of the cell.
+    private static long key(int column, int row)
+    {
+        // The function combines the column and row into a single key for the map of cells.
+        return ((long)column << 32) | (row & 0xFFFFFFFFL);
+    }
+    
+    // x = X-coordinate of the point.
+    // z = Z-coordinate of the point.
+    // maxDistance = Maximum distance from the point to search.
+    // exclude = Actor to skip (such as the one searching), or null.
+    public BaseActor3D findNearest(float x, float z, float maxDistance, BaseActor3D exclude)
+    {
+        
+        /*
+        The function returns the actor with the position nearest the passed point, within the passed
+        maximum distance.  Returns null when no actor lies within the distance.
+        
+        The search visits rings of cells around the cell containing the point, moving outward.  Any actor
+        in a ring further out must lie at least (ring x cell size) away, so the search stops once the
+        nearest actor found lies closer than that -- or the rings pass the maximum distance or the cells
+        used so far.
+        */
+        
+        int centerColumn; // Column containing the point.
+        int centerRow; // Row containing the point.
+        int maxRing; // Last ring to visit.
+        
+        // If grid empty, then...
+        if (count == 0)
+            // Grid empty.
+            return null;
+        
+        // Set defaults.
+        nearest = null;
+        nearestDist2 = maxDistance * maxDistance;
+        centerColumn = cellOf(x);
+        centerRow = cellOf(z);
+        
+        // Visit no further than the maximum distance or the cells used so far.
+        maxRing = Math.min( (int)Math.ceil( maxDistance / cellSize ),
+          Math.max( Math.max( centerColumn - minColumn, maxColumn - centerColumn ),
+            Math.max( centerRow - minRow, maxRow - centerRow ) ) );
+        
+        // Loop through rings of cells, moving outward.
+        for (int ring = 0; ring <= maxRing; ring++)
+        {
+            
+            // If nearest actor so far closer than any actor in the current ring, then stop.
+            if ( nearest != null && nearestDist2 <= ((ring - 1) * cellSize) * ((ring - 1) * cellSize) )
+                break;
+            
+            // Visit cells along the top and bottom edges of the ring.
+            for (int column = centerColumn - ring; column <= centerColumn + ring; column++)
+            {
+                nearestInCell( column, centerRow - ring, x, z, exclude );
+                if (ring > 0)
+                    nearestInCell( column, centerRow + ring, x, z, exclude );
+            }
+            
+            // Visit cells along the left and right edges of the ring (corners already visited).
+            for (int row = centerRow - ring + 1; row <= centerRow + ring - 1; row++)
+            {
+                nearestInCell( centerColumn - ring, row, x, z, exclude );
+                nearestInCell( centerColumn + ring, row, x, z, exclude );
+            }
+            
+        }
+        
+        // Return nearest actor.
+        return nearest;
+        
+    }
+    
+    // column = Column of the cell.
+    // row = Row of the cell.
+    // x = X-coordinate of the point.
+    // z = Z-coordinate of the point.
+    // exclude = Actor to skip, or null.
+    private void nearestInCell(int column, int row, float x, float z, BaseActor3D exclude)
+    {
+        
+        // The function checks the actors in the passed cell against the nearest actor found so far
+        // (findNearest), replacing it when closer.
+        
+        Array<BaseActor3D> cell; // Actors in the cell.
+        BaseActor3D ba; // Current actor.
+        float dx; // Horizontal distance (x) from point to current actor.
+        float dz; // Depth distance (z) from point to current actor.
+        float dist2; // Squared distance from point to current actor.
+        
+        cell = cells.get( key(column, row) );
+        if (cell == null)
+            return;
+        
+        // Loop through actors in the cell.
+        for (int i = 0; i < cell.size; i++)
+        {
+            ba = cell.get(i);
+            if (ba == exclude)
+                continue;
+            dx = ba.getPosition().x - x;
+            dz = ba.getPosition().z - z;
+            dist2 = dx * dx + dz * dz;
+            if (dist2 <= nearestDist2)
+            {
+                nearest = ba;
+                nearestDist2 = dist2;
+            }
+        }
+        
+    }
+    
+    public float getCellSize()
+    {
+        // The function returns the width (and depth) of each cell.
+        return cellSize;
+    }
+    
+    public int getCount()
+    {
+        // The function returns the number of actors in the grid.
+        return count;
+    }
+    
+    // actor = Actor whose enclosing rectangle to use for the query.
+    // results = List to fill with the actors found, excluding the passed actor.  Cleared first.
+    public ArrayList<BaseActor3D> queryOverlaps(BaseActor3D actor, ArrayList<BaseActor3D> results)
+    {
+        
+        // The function fills the passed list with the actors whose enclosing rectangles (on the XZ plane)
+        // overlap that of the passed actor -- candidates for BaseActor3D.overlaps.  The function returns
+        // the passed list.
+        
+        Rectangle r; // Rectangle enclosing the bounding polygon of the passed actor.
+        
+        // If actor has no bounding polygon, then...
+        if ( !actor.hasBoundingPolygon() )
+        {
+            // Actor has no bounding polygon.  Nothing can overlap.
+            results.clear();
+            return results;
+        }
+        
+        // Query area enclosing the actor.
+        r = actor.getBoundingPolygon().getBoundingRectangle();
+        return queryRectangle( r.x, r.y, r.x + r.width, r.y + r.height, actor, results );
+        
+    }
+    
+    // x = X-coordinate of the center of the search.
+    // z = Z-coordinate of the center of the search.
+    // radius = Distance from the center to search.
+    // results = List to fill with the actors found.  Cleared first.
+    public ArrayList<BaseActor3D> queryRadius(float x, float z, float radius, ArrayList<BaseActor3D> results)
+    {
+        
+        // The function fills the passed list with the actors positioned within the passed distance of
+        // the point (x, z).  The function returns the passed list.
+        
+        float dx; // Horizontal distance (x) from center to current actor.
+        float dz; // Depth distance (z) from center to current actor.
+        Array<BaseActor3D> cell; // Actors in the current cell.
+        BaseActor3D ba; // Current actor.
+        
+        // Clear results and start a new query.
+        results.clear();
+        stamp++;
+        
+        // Loop through cells touched by the square enclosing the circle.
+        for (int column = cellOf(x - radius); column <= cellOf(x + radius); column++)
+        {
+            for (int row = cellOf(z - radius); row <= cellOf(z + radius); row++)
+            {
+                
+                cell = cells.get( key(column, row) );
+                if (cell == null)
+                    continue;
+                
+                // Loop through actors in the cell, adding those within the distance (once each).
+                for (int i = 0; i < cell.size; i++)
+                {
+                    ba = cell.get(i);
+                    if (ba.gridStamp == stamp)
+                        continue;
+                    ba.gridStamp = stamp;
+                    dx = ba.getPosition().x - x;
+                    dz = ba.getPosition().z - z;
+                    if (dx * dx + dz * dz <= radius * radius)
+                        results.add(ba);
+                }
+                
+            }
+        }
+        
+        // Return list of actors found.
+        return results;
+        
+    }
+    
+    // minX = Smallest x-coordinate of the area.
+    // minZ = Smallest z-coordinate of the area.
+    // maxX = Largest x-coordinate of the area.
+    // maxZ = Largest z-coordinate of the area.
+    // exclude = Actor to skip (such as the one searching), or null.
+    // results = List to fill with the actors found.  Cleared first.
+    public ArrayList<BaseActor3D> queryRectangle(float minX, float minZ, float maxX, float maxZ,
+      BaseActor3D exclude, ArrayList<BaseActor3D> results)
+    {
+        
+        // The function fills the passed list with the actors whose enclosing rectangles (on the XZ plane)
+        // overlap the passed area.  The function returns the passed list.
+        
+        Array<BaseActor3D> cell; // Actors in the current cell.
+        BaseActor3D ba; // Current actor.
+        
+        // Clear results and start a new query.
+        results.clear();
+        stamp++;
+        
+        // Loop through cells touched by the area.
+        for (int column = cellOf(minX); column <= cellOf(maxX); column++)
+        {
+            for (int row = cellOf(minZ); row <= cellOf(maxZ); row++)
+            {
+                
+                cell = cells.get( key(column, row) );
+                if (cell == null)
+                    continue;
+                
+                // Loop through actors in the cell, adding those overlapping the area (once each).
+                for (int i = 0; i < cell.size; i++)
+                {
+                    ba = cell.get(i);
+                    if (ba == exclude || ba.gridStamp == stamp)
+                        continue;
+                    ba.gridStamp = stamp;
+                    if ( ba.gridMinX <= maxX && ba.gridMaxX >= minX && ba.gridMinZ <= maxZ && ba.gridMaxZ >= minZ )
+                        results.add(ba);
+                }
+                
+            }
+        }
+        
+        // Return list of actors found.
+        return results;
+        
+    }
+    
+    // actor = Actor to remove from the grid.
+    public void remove(BaseActor3D actor)
+    {
+        
+        // The function removes the passed actor from the grid.  Actors not in the grid get ignored.
+        
+        // If actor not in the grid, then...
+        if ( !actor.gridIndexed )
+            // Actor not in the grid.  Ignore.
+            return;
+        
+        // Remove actor from the cells it covers.
+        for (int column = actor.gridMinColumn; column <= actor.gridMaxColumn; column++)
+            for (int row = actor.gridMinRow; row <= actor.gridMaxRow; row++)
+                cells.get( key(column, row) ).removeValue( actor, true );
+        
+        // Flag actor as not in the grid.
+        actor.gridIndexed = false;
+        count--;
+        
+    }
+    
+    // actor = Actor to add or move.
+    public void update(BaseActor3D actor)
+    {
+        
+        /*
+        The function adds the passed actor to the grid, or moves it to the cells matching its current
+        bounds.  Actors without a bounding polygon get removed (or skipped).  When the range of cells stays
+        the same, only the stored bounds get updated.
+        */
+        
+        Rectangle r; // Rectangle enclosing the bounding polygon of the actor.
+        int newMinColumn; // First column covered by the actor.
+        int newMaxColumn; // Last column covered by the actor.
+        int newMinRow; // First row covered by the actor.
+        int newMaxRow; // Last row covered by the actor.
+        Array<BaseActor3D> cell; // Actors in the current cell.
+        long cellKey; // Key of the current cell.
+        
+        // If actor has no bounding polygon, then...
+        if ( !actor.hasBoundingPolygon() )
+        {
+            // Actor has no bounding polygon.  Remove from grid (if present).
+            remove(actor);
+            return;
+        }
+        
+        // Store rectangle enclosing the bounding polygon (x and y of the rectangle hold x and z).
+        r = actor.getBoundingPolygon().getBoundingRectangle();
+        actor.gridMinX = r.x;
+        actor.gridMinZ = r.y;
+        actor.gridMaxX = r.x + r.width;
+        actor.gridMaxZ = r.y + r.height;
+        
+        // Find range of cells covered.
+        newMinColumn = cellOf(actor.gridMinX);
+        newMaxColumn = cellOf(actor.gridMaxX);
+        newMinRow = cellOf(actor.gridMinZ);
+        newMaxRow = cellOf(actor.gridMaxZ);
+        
+        // If actor in grid and range of cells unchanged, then...
+        if ( actor.gridIndexed && newMinColumn == actor.gridMinColumn && newMaxColumn == actor.gridMaxColumn &&
+          newMinRow == actor.gridMinRow && newMaxRow == actor.gridMaxRow )
+            // Range of cells unchanged.  Nothing else to do.
+            return;
+        
+        // Remove actor from the cells previously covered.
+        remove(actor);
+        
+        // Add actor to the cells now covered, creating cells as needed.
+        for (int column = newMinColumn; column <= newMaxColumn; column++)
+        {
+            for (int row = newMinRow; row <= newMaxRow; row++)
+            {
+                cellKey = key(column, row);
+                cell = cells.get(cellKey);
+                if (cell == null)
+                {
+                    cell = new Array<>(false, 4);
+                    cells.put(cellKey, cell);
+                }
+                cell.add(actor);
+            }
+        }
+        
+        // Store range of cells covered and flag actor as in the grid.
+        actor.gridMinColumn = newMinColumn;
+        actor.gridMaxColumn = newMaxColumn;
+        actor.gridMinRow = newMinRow;
+        actor.gridMaxRow = newMaxRow;
+        actor.gridIndexed = true;
+        count++;
+        
+        // Expand range of cells used so far (limits the nearest search).
+        minColumn = Math.min(minColumn, newMinColumn);
+        maxColumn = Math.max(maxColumn, newMaxColumn);
+        minRow = Math.min(minRow, newMinRow);
+        maxRow = Math.max(maxRow, newMaxRow);
+        
+    }
+    
+}
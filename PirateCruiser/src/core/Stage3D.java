@@ -49,25 +49,65 @@ public class Stage3D
     Methods include:
 
     act:  Updates the camera and the transformation data (model instances) of the stage.
-    addActor:  Adds the passed BaseActor3D to the ArrayList.
-    draw:  Renders each object in the ArrayList.
+    addActor:  Adds the passed BaseActor3D to the ArrayList and spatial grid (and static batch, when static).
+    dispose:  Releases the ModelBatch and the merged meshes of the static batch.
+    draw:  Renders each object in the ArrayList within the view of the camera, followed by the static batch.
+    findNearest:  Returns the BaseActor3D positioned nearest the passed point (XZ plane), within a maximum distance.
+    getCulledCount:  Returns the number of BaseActor3D objects skipped (outside the camera view) during the last draw.
+    getDrawnCount:  Returns the number of BaseActor3D objects rendered during the last draw.
+    getSpatialGrid:  Returns the spatial grid holding the BaseActor3D objects with bounding polygons.
+    getStaticBatch:  Returns the static batch holding the merged meshes of the static BaseActor3D objects.
+    getTransformUpdateCount:  Returns the number of BaseActor3D objects whose transformation data changed
+      during the last act.
+    isFrustumCulling:  Returns whether draw skips BaseActor3D objects outside the view of the camera.
     moveCamera:  Moves the camera using the specified parameter(s) -- either a vector  or its x, y, 
       and z components.
     moveCameraForward:  Moves the camera forward the passed distance.
     moveCameraRight:  Moves the camera to the right the passed distance.
     moveCameraUp:  Moves the camera up the passed distance.
-    removeActor:  Removes the passed BaseActor3D from the ArrayList.
+    queryOverlaps:  Fills the passed list with the BaseActor3D objects that may overlap the passed one.
+    queryRadius:  Fills the passed list with the BaseActor3D objects positioned within a distance of a point.
+    removeActor:  Removes the passed BaseActor3D from the ArrayList and spatial grid (and static batch).
+    setFrustumCulling:  Sets whether draw skips BaseActor3D objects outside the view of the camera.
     setCameraDirection:  Sets the camera direction using the specified parameter(s).
     setCameraPosition:  Sets the camera position using the specified parameter(s).
     tiltCamera:  Tilts the camera up or down by the passed angle, to look higher or lower.
     turnCamera:  Rotates around the y-axis by the passed angle.
+    updateSpatial:  Updates the cells of the spatial grid covered by the passed BaseActor3D.
+    updateStatic:  Adds the passed BaseActor3D to (or removes it from) the static batch, based on its static flag.
+    
+    Collision and proximity queries use a spatial grid on the XZ plane (SpatialGridXZ), so they only look
+    at nearby actors.  Actors get added to the grid automatically by addActor and moved within the grid
+    automatically when calling the position and rotation methods of BaseActor3D.  When changing the vector
+    returned by BaseActor3D.getPosition directly, call updateSpatial afterward (which also flags the
+    transformation data of the actor for recalculation).
+    
+    The draw method only submits actors whose bounding sphere (see BaseActor3D.isInFrustum) lies at least
+    partly within the frustum of the camera -- the volume the camera can see.  Actors behind the camera or
+    beyond its sides cost one sphere test, rather than the work of ModelBatch and the GPU.
+    
+    Actors flagged as static (BaseActor3D.setStatic) get drawn through a StaticBatch instead, which merges
+    those sharing a material into a few large meshes by region, skipping the regions outside the frustum.
+    
+    The act and draw methods loop through the actors by index, rather than with forEach and a lambda
+    expression, since a lambda using local variables (such as dt) creates a new object with each call.
     */
     
+    // Width (and depth) of each cell in the spatial grid -- roughly the size of a typical actor.
+    private static final float SPATIAL_CELL_SIZE = 4;
+    
     // Declare object variables.
     private final Environment environment; // Contains the uniform values specific for a location.
     private final PerspectiveCamera camera; // A Camera with perspective projection.
     private final ModelBatch modelBatch; // Used to render three-dimensional objects.
     private final ArrayList<BaseActor3D> actorList; // Set of BaseActor3D objects.
+    private int transformUpdateCount; // Number of BaseActor3D objects whose transformation data changed
+      // during the last act.
+    private final SpatialGridXZ spatialGrid; // BaseActor3D objects with bounding polygons, by location on XZ plane.
+    private boolean frustumCulling; // Whether draw skips BaseActor3D objects outside the view of the camera.
+    private int drawnCount; // Number of BaseActor3D objects rendered during the last draw.
+    private int culledCount; // Number of BaseActor3D objects skipped (outside the camera view) during the last draw.
+    private final StaticBatch staticBatch; // Merged meshes of the static BaseActor3D objects.
     
     public Stage3D()
     {
@@ -78,7 +118,7 @@ public class Stage3D
         1.  Initializes and configures the Environment.
         2.  Initializes and configures the PerspectiveCamera.
         3.  Initializes the ModelBatch object, to allow for rendering.
-        4.  Initializes the ArrayList of BaseActor3D objects.
+        4.  Initializes the ArrayList of BaseActor3D objects and the spatial grid.
         */
         
         DirectionalLight dLight; // Instance of a DirectionalLight to add to the Environment.
@@ -141,6 +181,15 @@ public class Stage3D
         // actorList = new ArrayList<BaseActor3D>();
         actorList = new ArrayList<>();
         
+        // Initialize the spatial grid.
+        spatialGrid = new SpatialGridXZ( SPATIAL_CELL_SIZE );
+        
+        // Skip actors outside the view of the camera.
+        frustumCulling = true;
+        
+        // Initialize the static batch.
+        staticBatch = new StaticBatch();
+        
     }
 
     // dt = Time span between the current and last frame in seconds.  Passed / populated automatically.
@@ -150,19 +199,27 @@ public class Stage3D
         // The function updates the camera and the transformation data of all model instances related to
         // the ArrayList.
         
+        BaseActor3D ba; // Current BaseActor3D in loop.
+        
         // Update the camera.
         camera.update();
         
         // Update the transformation data of the model instances corresponding to each BaseActor3D in 
-        // the ArrayList.
-        
-        /*
-        for (BaseActor3D ba : actorList)
-        ba.act(dt);
-         */
-        actorList.forEach((ba) -> {
+        // the ArrayList.  Only actors with changed position, rotation, or scale recalculate their matrix.
+        transformUpdateCount = 0;
+        
+        for (int i = 0; i < actorList.size(); i++)
+        {
+            
+            ba = actorList.get(i);
+            
+            // If transformation data changed, then count actor.
+            if (ba.transformDirty)
+                transformUpdateCount++;
+            
             ba.act(dt);
-        });
+            
+        }
         
     }
 
@@ -170,36 +227,125 @@ public class Stage3D
     public void addActor(BaseActor3D ba)
     {
         
-        // The function adds the passed BaseActor3D to the ArrayList.
+        // The function adds the passed BaseActor3D to the ArrayList and spatial grid.
         
         // Add passed BaseActor3D to the ArrayList.
         actorList.add( ba );
         
+        // Add passed BaseActor3D to the spatial grid (skipped when no bounding polygon).
+        ba.stage = this;
+        spatialGrid.update( ba );
+        
+        // If actor static, then add it to the static batch.
+        if (ba.isStatic())
+            staticBatch.add( ba );
+        
+    }
+    
+    public void dispose()
+    {
+        
+        // The function releases the ModelBatch and the merged meshes of the static batch.
+        
+        modelBatch.dispose();
+        staticBatch.dispose();
+        
     }
     
     public void draw()
     {
         
-        // The function renders each object in the ArrayList.
+        // The function renders each object in the ArrayList whose bounding sphere lies (at least partly)
+        // within the view of the camera -- or every object, when frustum culling is off.  Static objects
+        // get rendered through the static batch afterward.
+        
+        BaseActor3D ba; // Current BaseActor3D in loop.
+        
+        drawnCount = 0;
+        culledCount = 0;
         
         // Start rendering using the perspective camera.
         modelBatch.begin(camera);
         
-        // Render each object in the ArrayList.
-        
-        /*
-        for (BaseActor3D ba : actorList)
-        ba.draw(modelBatch, environment);
-         */
-        actorList.forEach((ba) -> {
-            ba.draw(modelBatch, environment);
-        });
+        // Render each object in the ArrayList within the view of the camera.
+        for (int i = 0; i < actorList.size(); i++)
+        {
+            
+            ba = actorList.get(i);
+            
+            // If actor drawn through the static batch, then skip it.
+            if (ba.batched)
+                continue;
+            
+            // If frustum culling on and actor outside the view of the camera, then skip it.
+            if ( frustumCulling && !ba.isInFrustum(camera.frustum) )
+            {
+                culledCount++;
+                continue;
+            }
+            
+            ba.draw( modelBatch, environment );
+            drawnCount++;
+            
+        }
+        
+        // Render the merged meshes of the static actors (rebuilding them first, when the static set changed).
+        staticBatch.render( modelBatch, environment, frustumCulling ? camera.frustum : null );
         
         // Call end method to cause any renderables provided by render() methods to be rendered.
         modelBatch.end();
         
     }
 
+    // x = X-coordinate of the point.
+    // z = Z-coordinate of the point.
+    // maxDistance = Maximum distance from the point to search.
+    // exclude = BaseActor3D to skip (such as the one searching), or null.
+    public BaseActor3D findNearest(float x, float z, float maxDistance, BaseActor3D exclude)
+    {
+        // The function returns the BaseActor3D (with a bounding polygon) positioned nearest the passed point
+        // on the XZ plane, within the passed maximum distance.  Returns null when none found.
+        return spatialGrid.findNearest( x, z, maxDistance, exclude );
+    }
+    
+    public int getCulledCount()
+    {
+        // The function returns the number of BaseActor3D objects skipped (outside the camera view) during
+        // the last draw.
+        return culledCount;
+    }
+    
+    public int getDrawnCount()
+    {
+        // The function returns the number of BaseActor3D objects rendered during the last draw.
+        return drawnCount;
+    }
+    
+    public SpatialGridXZ getSpatialGrid()
+    {
+        // The function returns the spatial grid holding the BaseActor3D objects with bounding polygons.
+        return spatialGrid;
+    }
+    
+    public StaticBatch getStaticBatch()
+    {
+        // The function returns the static batch holding the merged meshes of the static BaseActor3D objects.
+        return staticBatch;
+    }
+    
+    public int getTransformUpdateCount()
+    {
+        // The function returns the number of BaseActor3D objects whose transformation data changed (and
+        // got recalculated) during the last act.
+        return transformUpdateCount;
+    }
+    
+    public boolean isFrustumCulling()
+    {
+        // The function returns whether draw skips BaseActor3D objects outside the view of the camera.
+        return frustumCulling;
+    }
+    
     /*
     A Camera object stores two internal Vector3 objects:
     
@@ -303,15 +449,56 @@ public class Stage3D
         
     }
     
+    // ba = BaseActor3D whose enclosing rectangle to use for the query.
+    // results = List to fill with the BaseActor3D objects found, excluding the passed one.  Cleared first.
+    public ArrayList<BaseActor3D> queryOverlaps(BaseActor3D ba, ArrayList<BaseActor3D> results)
+    {
+        
+        // The function fills the passed list with the BaseActor3D objects whose bounding polygons may
+        // overlap that of the passed one (enclosing rectangles overlap) -- candidates for 
+        // BaseActor3D.overlaps.  The function returns the passed list.
+        
+        return spatialGrid.queryOverlaps( ba, results );
+        
+    }
+    
+    // x = X-coordinate of the center of the search.
+    // z = Z-coordinate of the center of the search.
+    // radius = Distance from the center to search.
+    // results = List to fill with the BaseActor3D objects found.  Cleared first.
+    public ArrayList<BaseActor3D> queryRadius(float x, float z, float radius, ArrayList<BaseActor3D> results)
+    {
+        
+        // The function fills the passed list with the BaseActor3D objects (with bounding polygons) 
+        // positioned within the passed distance of the point (x, z) on the XZ plane.  The function returns
+        // the passed list.
+        
+        return spatialGrid.queryRadius( x, z, radius, results );
+        
+    }
+    
     // ba = BaseActor3D to remove from the ArrayList.
     public void removeActor(BaseActor3D ba)
     {
         
-        // The function removes the passed BaseActor3D from the ArrayList.
+        // The function removes the passed BaseActor3D from the ArrayList and spatial grid.
         
         // Remove passed BaseActor3D from the ArrayList.
         actorList.remove( ba );  
         
+        // Remove passed BaseActor3D from the spatial grid and static batch.
+        spatialGrid.remove( ba );
+        staticBatch.remove( ba );
+        ba.stage = null;
+        
+    }
+    
+    // b = Whether draw skips BaseActor3D objects outside the view of the camera.
+    public void setFrustumCulling(boolean b)
+    {
+        // The function sets whether draw skips BaseActor3D objects outside the view of the camera (default
+        // true).  Turning culling off renders every actor, such as when comparing frame times.
+        frustumCulling = b;
     }
     
     // x = X-coordinate in vector specifying desired camera direction.
@@ -392,5 +579,44 @@ public class Stage3D
         // Rotate around the y-axis by the passed angle.
         camera.rotate( Vector3.Y, -angle );  
     }
+    
+    // ba = BaseActor3D to update.
+    public void updateSpatial(BaseActor3D ba)
+    {
+        
+        // The function updates the cells of the spatial grid covered by the passed BaseActor3D, based on
+        // its current position, rotation, and bounding polygon.  Gets called automatically when using the
+        // position and rotation methods of BaseActor3D.
+        
+        // If BaseActor3D belongs to the current stage, then update spatial grid.
+        if (ba.stage == this)
+            spatialGrid.update( ba );
+        
+        // Flag transformation data of BaseActor3D for recalculation.
+        ba.invalidateTransform();
+        
+        // If BaseActor3D drawn through the static batch, then rebuild the merged meshes at its new position.
+        if (ba.batched)
+            staticBatch.invalidate();
+        
+    }
+    
+    // ba = BaseActor3D whose static flag changed.
+    void updateStatic(BaseActor3D ba)
+    {
+        
+        // The function adds the passed BaseActor3D to (or removes it from) the static batch, based on its
+        // static flag.  Gets called automatically by BaseActor3D.setStatic.
+        
+        // If BaseActor3D does not belong to the current stage, then exit.
+        if (ba.stage != this)
+            return;
+        
+        if (ba.isStatic())
+            staticBatch.add( ba );
+        else
+            staticBatch.remove( ba );
+        
+    }
 
 }
\ No newline at end of file
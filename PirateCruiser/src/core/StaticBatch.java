@@ -0,0 +1,541 @@
+package core;
+
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.RenderableProvider;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.graphics.g3d.utils.MeshBuilder;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Pool;
+import java.util.ArrayList;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class StaticBatch implements RenderableProvider, Disposable
+{
+
+    /*
+    The class merges the models of non-moving BaseActor3D objects (rocks, crates, ...) into a few large
+    meshes, so drawing thousands of them takes a few draw calls instead of one per model.
+
+    Rendering each ModelInstance separately makes ModelBatch create a Renderable, bind the mesh, and issue a
+    draw call for every part of every instance -- even when all the instances share one model and
+    material.  The class copies the vertices of the static actors, already moved by their transformation
+    matrices, into one mesh for each combination of material, vertex layout, and region of the XZ plane.
+    The regions keep each merged mesh close together, so frustum culling can still skip the meshes
+    outside the view of the camera.
+
+    Stage3D adds actors flagged with BaseActor3D.setStatic to its static batch automatically, and renders the
+    batch after the other actors.  Changing the static set (adding, removing, moving, or recoloring a static
+    actor) flags the batch for rebuilding, which happens once during the next draw.  Rebuilding copies every
+    static vertex again, so actors that move often should not be static.  The merged meshes also hold their
+    own copy of every static vertex, so memory use grows with the number of static actors.
+
+    Only models whose parts use indexed meshes without bones can be merged.  Other actors flagged as static
+    get drawn on their own, as usual.
+
+    (Newer LibGDX versions provide ModelCache for the same purpose.  The version used here predates it.)
+
+    Methods include:
+
+    add:  Adds the passed BaseActor3D to the static set (when its model can be merged).
+    canBatch:  Returns whether the model of the passed BaseActor3D can be merged.
+    dispose:  Releases the merged meshes.
+    getActorCount:  Returns the number of BaseActor3D objects in the static set.
+    getChunkCount:  Returns the number of merged meshes.
+    getCulledChunkCount:  Returns the number of merged meshes skipped (outside the camera view) during the last render.
+    getDrawnChunkCount:  Returns the number of merged meshes rendered during the last render.
+    getRebuildCount:  Returns the number of times the merged meshes have been rebuilt.
+    getRenderables:  Adds a Renderable for each merged mesh within the frustum (called by ModelBatch).
+    invalidate:  Flags the merged meshes for rebuilding during the next render.
+    isDirty:  Returns whether the merged meshes wait for rebuilding.
+    remove:  Removes the passed BaseActor3D from the static set.
+    render:  Rebuilds the merged meshes (when flagged), then renders those within the frustum.
+    */
+
+    // Default width (and depth) of the regions of the XZ plane covered by each merged mesh.
+    public static final float DEFAULT_CHUNK_SIZE = 32;
+
+    // Maximum number of vertices in each merged mesh -- the most that short indices can address.
+    private static final int MAX_VERTICES = Short.MAX_VALUE;
+
+    private final float chunkSize; // Width (and depth) of the regions of the XZ plane covered by each merged mesh.
+    private final ArrayList<BaseActor3D> actors; // BaseActor3D objects in the static set.
+    private final Array<Chunk> chunks; // Merged meshes.
+    private final MeshBuilder builder; // Builds the merged meshes.
+    private boolean dirty; // Whether the merged meshes wait for rebuilding.
+    private Frustum frustum; // Frustum used to skip merged meshes during the current render (or null).
+    private int rebuildCount; // Number of times the merged meshes have been rebuilt.
+    private int drawnChunkCount; // Number of merged meshes rendered during the last render.
+    private int culledChunkCount; // Number of merged meshes skipped (outside the camera view) during the last render.
+
+    public StaticBatch()
+    {
+        // The constructor of the class creates a static batch using the default region size.
+        this( DEFAULT_CHUNK_SIZE );
+    }
+
+    // chunkSize = Width (and depth) of the regions of the XZ plane covered by each merged mesh.
+    public StaticBatch(float chunkSize)
+    {
+
+        // The constructor of the class stores the region size and creates the (empty) static set.
+
+        this.chunkSize = chunkSize;
+        actors = new ArrayList<>();
+        chunks = new Array<>();
+        builder = new MeshBuilder();
+        dirty = false;
+        rebuildCount = 0;
+
+    }
+
+    // ba = BaseActor3D to add to the static set.
+    public void add(BaseActor3D ba)
+    {
+
+        // The function adds the passed BaseActor3D to the static set, flagging the merged meshes for
+        // rebuilding.  Actors already in the set, and actors whose model cannot be merged, get ignored.
+
+        // If actor already in the set or model cannot be merged, then exit.
+        if (ba.batched || !canBatch(ba))
+            return;
+
+        actors.add( ba );
+        ba.batched = true;
+        dirty = true;
+
+    }
+
+    // ba = BaseActor3D to check.
+    public static boolean canBatch(BaseActor3D ba)
+    {
+
+        // The function returns whether the model of the passed BaseActor3D can be merged -- when every
+        // enabled part uses an indexed mesh without bones.
+
+        ModelInstance instance = ba.getModelInstance(); // Model instance of the actor.
+
+        return instance != null && canBatch( instance.nodes );
+
+    }
+
+    // nodes = Nodes to check (along with their children).
+    private static boolean canBatch(Iterable<Node> nodes)
+    {
+
+        // The function returns whether every enabled part of the passed nodes (and their children) uses an
+        // indexed mesh without bones.
+
+        for (Node node : nodes)
+        {
+
+            for (NodePart part : node.parts)
+                if ( part.enabled && (part.bones != null || part.meshPart.mesh.getNumIndices() == 0) )
+                    return false;
+
+            if ( node.hasChildren() && !canBatch(node.getChildren()) )
+                return false;
+
+        }
+
+        return true;
+
+    }
+
+    @Override
+    public void dispose()
+    {
+        // The function releases the merged meshes.  The static set stays, so the next render rebuilds them.
+        disposeChunks();
+        dirty = !actors.isEmpty();
+    }
+
+    public int getActorCount()
+    {
+        // The function returns the number of BaseActor3D objects in the static set.
+        return actors.size();
+    }
+
+    public int getChunkCount()
+    {
+        // The function returns the number of merged meshes.
+        return chunks.size;
+    }
+
+    public int getCulledChunkCount()
+    {
+        // The function returns the number of merged meshes skipped (outside the camera view) during the
+        // last render.
+        return culledChunkCount;
+    }
+
+    public int getDrawnChunkCount()
+    {
+        // The function returns the number of merged meshes rendered during the last render -- one draw
+        // call each.
+        return drawnChunkCount;
+    }
+
+    public int getRebuildCount()
+    {
+        // The function returns the number of times the merged meshes have been rebuilt.
+        return rebuildCount;
+    }
+
+    // renderables = List to which to add the Renderable objects.
+    // pool = Pool from which to obtain the Renderable objects.
+    @Override
+    public void getRenderables(Array<Renderable> renderables, Pool<Renderable> pool)
+    {
+
+        // The function adds a Renderable for each merged mesh within the frustum (all merged meshes when
+        // no frustum set).  Called by ModelBatch during render.
+
+        Chunk chunk; // Current merged mesh (in loop).
+        Renderable renderable; // Renderable for the current merged mesh.
+
+        for (int i = 0; i < chunks.size; i++)
+        {
+
+            chunk = chunks.get(i);
+
+            // If frustum set and merged mesh outside it, then skip it.
+            if ( frustum != null && !frustum.boundsInFrustum(chunk.bounds) )
+            {
+                culledChunkCount++;
+                continue;
+            }
+
+            // The vertices already include the transformations of the actors, so use the identity matrix.
+            renderable = pool.obtain();
+            renderable.worldTransform.idt();
+            renderable.mesh = chunk.mesh;
+            renderable.meshPartOffset = 0;
+            renderable.meshPartSize = chunk.indexCount;
+            renderable.primitiveType = chunk.primitiveType;
+            renderable.material = chunk.material;
+            renderable.bones = null;
+            renderable.shader = null;
+            renderable.userData = null;
+            renderables.add( renderable );
+
+            drawnChunkCount++;
+
+        }
+
+    }
+
+    public void invalidate()
+    {
+        // The function flags the merged meshes for rebuilding during the next render.
+        dirty = true;
+    }
+
+    public boolean isDirty()
+    {
+        // The function returns whether the merged meshes wait for rebuilding.
+        return dirty;
+    }
+
+    // ba = BaseActor3D to remove from the static set.
+    public void remove(BaseActor3D ba)
+    {
+
+        // The function removes the passed BaseActor3D from the static set, flagging the merged meshes for
+        // rebuilding.  Actors not in the set get ignored.
+
+        // If actor not in the set, then exit.
+        if (!ba.batched)
+            return;
+
+        actors.remove( ba );
+        ba.batched = false;
+        dirty = true;
+
+    }
+
+    // batch = Used to render three-dimensional objects.  Must be between begin and end.
+    // env = Contains the uniform values specific for a location.
+    // frustum = Frustum (view volume) of the camera, or null to render all merged meshes.
+    public void render(ModelBatch batch, Environment env, Frustum frustum)
+    {
+
+        // The function rebuilds the merged meshes (when flagged), then renders those within the passed
+        // frustum.
+
+        // If static set changed, then rebuild the merged meshes.
+        if (dirty)
+            rebuild();
+
+        drawnChunkCount = 0;
+        culledChunkCount = 0;
+
+        // If no merged meshes, then exit.
+        if (chunks.size == 0)
+            return;
+
+        // Render the merged meshes within the frustum (see getRenderables).
+        this.frustum = frustum;
+        batch.render( this, env );
+        this.frustum = null;
+
+    }
+
+    // group = Parts sharing a material, vertex layout, and region.
+    private void addChunk(PartGroup group)
+    {
+
+        // The function finishes the mesh being built for the passed group and stores it as a merged mesh.
+
+        Chunk chunk = new Chunk(); // Merged mesh to store.
+
+        chunk.material = group.material;
+        chunk.primitiveType = group.primitiveType;
+        chunk.indexCount = builder.getNumIndices();
+        chunk.mesh = builder.end();
+        chunk.bounds = chunk.mesh.calculateBoundingBox();
+
+        chunks.add( chunk );
+
+    }
+
+    // nodes = Nodes whose parts to add (along with their children).
+    // transform = Transformation matrix of the model instance.
+    // column = Column of the region of the XZ plane containing the actor.
+    // row = Row of the region of the XZ plane containing the actor.
+    // groups = List of groups to which to add the parts.
+    private void addNodes(Iterable<Node> nodes, Matrix4 transform, int column, int row,
+      ArrayList<PartGroup> groups)
+    {
+
+        // The function adds each enabled part of the passed nodes (and their children) to the group with
+        // the same material, vertex layout, and region -- creating the group when needed.
+
+        PartGroup group; // Group to which to add the current part.
+        VertexAttributes attributes; // Vertex layout of the current part.
+
+        for (Node node : nodes)
+        {
+
+            for (NodePart part : node.parts)
+            {
+
+                // If part disabled, then skip it.
+                if (!part.enabled)
+                    continue;
+
+                attributes = part.meshPart.mesh.getVertexAttributes();
+                group = null;
+
+                // Look for group with the same material, vertex layout, and region.
+                for (int i = 0; i < groups.size() && group == null; i++)
+                    if ( groups.get(i).matches(part.material, attributes, part.meshPart.primitiveType, column, row) )
+                        group = groups.get(i);
+
+                // If no group found, then create one.
+                if (group == null)
+                {
+                    group = new PartGroup( part.material, attributes, part.meshPart.primitiveType, column, row );
+                    groups.add( group );
+                }
+
+                // Add part, along with its combined (instance and node) transformation matrix.
+                group.parts.add( part );
+                group.transforms.add( new Matrix4(transform).mul(node.globalTransform) );
+
+            }
+
+            if (node.hasChildren())
+                addNodes( node.getChildren(), transform, column, row, groups );
+
+        }
+
+    }
+
+    private void disposeChunks()
+    {
+
+        // The function releases the merged meshes.
+
+        for (int i = 0; i < chunks.size; i++)
+            chunks.get(i).mesh.dispose();
+
+        chunks.clear();
+
+    }
+
+    private void rebuild()
+    {
+
+        /*
+        The function rebuilds the merged meshes from the static set:
+
+        1.  Brings the transformation matrix of each actor up to date.
+        2.  Groups the parts of the models by material, vertex layout, and region of the XZ plane.
+        3.  Copies the vertices of each group, moved by their transformation matrices, into one mesh --
+            starting another when the mesh reaches the vertex limit.
+        */
+
+        ArrayList<PartGroup> groups = new ArrayList<>(); // Parts sharing a material, vertex layout, and region.
+        BaseActor3D ba; // Current actor (in loop).
+        PartGroup group; // Current group (in loop).
+        NodePart part; // Current part (in loop).
+        int vertexLimit; // Most vertices the current part can add to the mesh being built.
+        boolean building; // Whether a mesh is being built.
+
+        disposeChunks();
+
+        // Group the parts of the models in the static set.
+        for (int i = 0; i < actors.size(); i++)
+        {
+            ba = actors.get(i);
+            ba.updateTransform();
+            addNodes( ba.getModelInstance().nodes, ba.getModelInstance().transform,
+              MathUtils.floor( ba.getPosition().x / chunkSize ), MathUtils.floor( ba.getPosition().z / chunkSize ),
+              groups );
+        }
+
+        // Build the merged meshes for each group.
+        for (int i = 0; i < groups.size(); i++)
+        {
+
+            group = groups.get(i);
+            building = false;
+
+            for (int j = 0; j < group.parts.size(); j++)
+            {
+
+                part = group.parts.get(j);
+
+                // The part adds at most one vertex for each index (or each vertex of its mesh, when fewer).
+                vertexLimit = Math.min( part.meshPart.mesh.getNumVertices(), part.meshPart.numVertices );
+
+                // If mesh being built would pass the vertex limit, then finish it.
+                if ( building && builder.getNumVertices() + vertexLimit > MAX_VERTICES )
+                {
+                    addChunk( group );
+                    building = false;
+                }
+
+                // If no mesh being built, then start one.
+                if (!building)
+                {
+                    builder.begin( group.attributes, group.primitiveType );
+                    building = true;
+                }
+
+                // Copy the vertices of the part, moved by its transformation matrix.
+                builder.setVertexTransform( group.transforms.get(j) );
+                builder.addMesh( part.meshPart );
+
+            }
+
+            // If mesh being built, then finish it.
+            if (building)
+                addChunk( group );
+
+        }
+
+        // Turn off the vertex transformation for later users of the builder.
+        builder.setVertexTransform( null );
+
+        dirty = false;
+        rebuildCount++;
+
+    }
+
+    private static class Chunk
+    {
+
+        // The class stores a merged mesh, along with its material, primitive type, and bounds.
+
+        Mesh mesh; // Merged mesh.
+        Material material; // Material shared by the parts in the mesh.
+        int primitiveType; // Primitive type (such as GL_TRIANGLES) of the mesh.
+        int indexCount; // Number of indices in the mesh.
+        BoundingBox bounds; // Smallest box containing the mesh (used for frustum culling).
+
+    }
+
+    private static class PartGroup
+    {
+
+        // The class stores the parts sharing a material, vertex layout, and region (used while rebuilding).
+
+        final Material material; // Material shared by the parts.
+        final VertexAttributes attributes; // Vertex layout shared by the parts.
+        final int primitiveType; // Primitive type shared by the parts.
+        final int column; // Column of the region of the XZ plane containing the actors.
+        final int row; // Row of the region of the XZ plane containing the actors.
+        final ArrayList<NodePart> parts; // Parts in the group.
+        final ArrayList<Matrix4> transforms; // Combined transformation matrix of each part.
+
+        // material = Material shared by the parts.
+        // attributes = Vertex layout shared by the parts.
+        // primitiveType = Primitive type shared by the parts.
+        // column = Column of the region of the XZ plane containing the actors.
+        // row = Row of the region of the XZ plane containing the actors.
+        PartGroup(Material material, VertexAttributes attributes, int primitiveType, int column, int row)
+        {
+            this.material = material;
+            this.attributes = attributes;
+            this.primitiveType = primitiveType;
+            this.column = column;
+            this.row = row;
+            parts = new ArrayList<>();
+            transforms = new ArrayList<>();
+        }
+
+        // material = Material of a part.
+        // attributes = Vertex layout of a part.
+        // primitiveType = Primitive type of a part.
+        // column = Column of the region of the XZ plane containing the actor.
+        // row = Row of the region of the XZ plane containing the actor.
+        boolean matches(Material material, VertexAttributes attributes, int primitiveType, int column, int row)
+        {
+            // The function returns whether a part with the passed properties belongs to the group.  Materials
+            // match when their ids and attributes (colors, textures, ...) match.
+            return this.column == column && this.row == row && this.primitiveType == primitiveType &&
+              this.attributes.equals( attributes ) && this.material.equals( material );
+        }
+
+    }
+
+}
@@ -59,6 +59,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
     // Declare object variables.
     BaseActor3D player; // BaseActor3D object that will act as the player.
     ArrayList<BaseActor3D> rockList; // Dynamic array for rock Actors.
+    ArrayList<BaseActor3D> nearbyList; // Actors near the player, reused each frame.
 
     // g = Screen object for game window (player / ship, rocks, floor / water, and sky, ...).
     public GameScreen(BaseGame g)
@@ -192,6 +193,9 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         // rockList = new ArrayList<BaseActor3D>();
         rockList = new ArrayList<>();
         
+        // Initialize list of actors near the player (filled each frame by the spatial grid).
+        nearbyList = new ArrayList<>();
+        
         // Load the model for the base rock.
         rockModel = loader.loadModel( Gdx.files.internal("assets/rock.obj") );
         
@@ -206,6 +210,9 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         
         // Set bounding polygon for the base rock to that of an ellipse.
         baseRock.setEllipseBase();
+        
+        // Flag the base rock (and its copies) as static, so the rocks get merged into a few draw calls.
+        baseRock.setStatic(true);
 
         // Copy properties of initial (template) to first rock.
         rock1 = baseRock.clone();
@@ -280,16 +287,19 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
 
         // 1.  Check for collisions between the player and the rocks.
         
-        // Loop through rocks.
-        // Check whether player / ship intersects each rock in loop.
-        // If so, move player / ship minimum distance to not collide with rock.
+        // Get actors whose enclosing rectangles overlap that of the player (from the spatial grid),
+        // rather than checking every rock.
+        // Loop through nearby actors.
+        // Check whether player / ship intersects each actor in loop.
+        // If so, move player / ship minimum distance to not collide with actor.
         /*
         for ( BaseActor3D rock : rockList )
         player.overlaps(rock, true);
          */
-        rockList.forEach((rock) -> {
-            player.overlaps( rock, true );
-        });
+        mainStage3D.queryOverlaps( player, nearbyList );
+        
+        for ( int i = 0; i < nearbyList.size(); i++ )
+            player.overlaps( nearbyList.get(i), true );
 
         // 2.  Process continuous user input (allow the ship to move forward and and backward and 
         // turn left and right).
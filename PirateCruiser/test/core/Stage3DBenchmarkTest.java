@@ -0,0 +1,186 @@
+package core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class Stage3DBenchmarkTest
+{
+
+    /*
+    The class benchmarks Stage3D.act with ACTOR_COUNT BaseActor3D objects -- a tenth of them moving and
+    turning each frame -- and checks that only the moved actors rebuild their transformation matrix, that
+    the rebuilt matrices match a fresh calculation, and that the frames allocate nothing once warmed up.
+
+    No window gets opened.  Gdx.graphics and Gdx.gl get stand-ins answering with defaults (Stage3D reads
+    the screen size, and the ModelBatch it creates asks for the number of texture units), and the actors
+    share an empty Model, so nothing gets sent to a GPU.  The native library gets loaded for the Matrix4 operations.
+
+    The allocation check works on the total over all frames (under one byte per frame), since the
+    virtual machine itself occasionally allocates a few bytes on the thread (compiling code).  A matrix
+    created per actor adds up to far more.
+    */
+
+    private static final int ACTOR_COUNT = 10000; // Number of actors on the stage.
+    private static final float FRAME_TIME = 1 / 60f; // Time in seconds between frames.
+    private static final int MEASURED_FRAMES = 500; // Frames measured.
+    private static final int MOVING_COUNT = ACTOR_COUNT / 10; // Actors moved and turned each frame.
+    private static final int WARMUP_FRAMES = 1000; // Frames run before measuring.
+
+    private Stage3D stage; // Stage under test.
+    private BaseActor3D[] actors; // Actors on the stage.
+    private Model model; // Empty model shared by the actors.
+
+    @BeforeClass
+    public static void setUpGdx()
+    {
+
+        // The function loads the native library and sets up stand-ins for the graphics and GL interfaces.
+
+        GdxNativesLoader.load();
+
+        Gdx.graphics = (Graphics)Proxy.newProxyInstance( Graphics.class.getClassLoader(),
+            new Class<?>[] { Graphics.class }, (proxy, method, args) -> defaultValue( method.getReturnType() ) );
+
+        Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance( GL20.class.getClassLoader(),
+            new Class<?>[] { GL20.class }, (proxy, method, args) ->
+            {
+                // Report a reasonable limit (such as the number of texture units) when asked.
+                if (method.getName().equals( "glGetIntegerv" ))
+                    ((IntBuffer)args[1]).put( 0, 16 );
+                return defaultValue( method.getReturnType() );
+            } );
+
+    }
+
+    // type = Return type of the method called on a stand-in.
+    private static Object defaultValue(Class<?> type)
+    {
+        // The function returns the value a stand-in answers for the passed return type.
+        if (type == int.class)
+            return 100;
+        if (type == float.class)
+            return 1f;
+        if (type == long.class)
+            return 0L;
+        if (type == boolean.class)
+            return false;
+        return null;
+    }
+
+    @Before
+    public void setUp()
+    {
+
+        // The function creates the stage and fills it with actors laid out on a 100 x 100 grid.
+
+        BaseActor3D actor; // Actor to add to the stage.
+
+        stage = new Stage3D();
+        model = new Model();
+        actors = new BaseActor3D[ACTOR_COUNT];
+
+        for (int i = 0; i < ACTOR_COUNT; i++)
+        {
+            actor = new BaseActor3D();
+            actor.setModelInstance( new ModelInstance( model ) );
+            actor.setPosition( i % 100, 0, i / 100 );
+            stage.addActor( actor );
+            actors[i] = actor;
+        }
+
+        // Build the initial matrices.
+        stage.act( FRAME_TIME );
+
+    }
+
+    @Test
+    public void idleActorsSkipTransformUpdates()
+    {
+
+        stage.act( FRAME_TIME );
+
+        assertEquals( 0, stage.getTransformUpdateCount() );
+
+    }
+
+    @Test
+    public void movingActorsRebuildOnlyTheirTransforms()
+    {
+
+        /*
+        Benchmark -- moves and turns MOVING_COUNT different actors each frame (a different set each frame)
+        and runs the act method of the stage.  Each frame must rebuild exactly the matrices of the moved
+        actors, and the measured frames must allocate nothing.  Uses AllocationMonitor (allocation check
+        skipped where unsupported).
+        */
+
+        AllocationMonitor monitor = new AllocationMonitor(); // Measures bytes allocated per frame.
+        Matrix4 expected = new Matrix4(); // Matrix calculated from scratch for comparison.
+        long totalBytes = 0; // Bytes allocated over the measured frames.
+        int frame; // Current frame.
+
+        // Warm up -- let the virtual machine compile the loop.
+        for (frame = 0; frame < WARMUP_FRAMES; frame++)
+        {
+            runFrame( frame );
+            assertEquals( MOVING_COUNT, stage.getTransformUpdateCount() );
+        }
+
+        monitor.setEnabled( true );
+
+        // Measure the frames.
+        for (; frame < WARMUP_FRAMES + MEASURED_FRAMES; frame++)
+        {
+            monitor.beginFrame();
+            runFrame( frame );
+            monitor.endFrame();
+            totalBytes += monitor.getLastBytes( AllocationMonitor.TOTAL );
+        }
+
+        // Last frame rebuilt the moved actors only, and their matrices match a fresh calculation.
+        assertEquals( MOVING_COUNT, stage.getTransformUpdateCount() );
+
+        for (BaseActor3D actor : actors)
+            assertArrayEquals( actor.calculateTransform( expected ).val,
+                actor.getModelInstance().transform.val, 1e-5f );
+
+        // Frames allocated nothing (when the virtual machine reports allocations).
+        if (AllocationMonitor.isSupported())
+            assertTrue( monitor.getReport(), totalBytes < MEASURED_FRAMES );
+
+    }
+
+    // frame = Number of the frame, which selects the actors to move.
+    private void runFrame(int frame)
+    {
+
+        // The function moves and turns MOVING_COUNT different actors and then runs the act method of the stage.
+        // Stepping by 7 (no common factor with ACTOR_COUNT) visits MOVING_COUNT different actors.
+
+        BaseActor3D actor; // Actor to move.
+
+        for (int i = 0; i < MOVING_COUNT; i++)
+        {
+            actor = actors[(i * 7 + frame * 131) % ACTOR_COUNT];
+            actor.moveForward( 0.01f );
+            actor.turn( 0.5f );
+        }
+
+        stage.act( FRAME_TIME );
+
+    }
+
+}
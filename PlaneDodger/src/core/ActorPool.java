@@ -0,0 +1,247 @@
+package core;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class ActorPool
+{
+
+    /*
+    The class keeps actors that left the stage, grouped by the template (base) actor they came from, so
+    later spawns can reuse them instead of cloning the template again.
+
+    Games often spawn copies of a template actor many times (lasers, explosions, stars, powerups) with:
+
+    laser = baseLaser.clone();
+
+    Each clone creates a new actor, texture region, polygon, color engine, and vectors, which all become
+    garbage once the actor gets destroyed.  With a pool:
+
+    laser = actorPool.obtain( baseLaser );
+
+    The pool returns an actor set up like a new clone of the template -- a previously freed actor (reset
+    to match the template) when one exists, or a new clone otherwise.
+
+    Actors obtained from the pool return to it automatically when leaving the stage, including through
+    BaseActor.destroy and Actions.removeActor.  Calling free works as well.  A freed actor gets removed
+    from its stage and parent list, and must not get used again until handed out by obtain.
+
+    An actor freed during a removal phase of its bag (ActorBag.begin / end) stays linked to the bag until
+    the phase ends.  The pool holds such an actor back until the bag lets go of it at end, so a spawn in
+    the same frame cannot hand the actor out (and add it to another bag) while the first bag still
+    holds it.
+
+    Each template keeps at most a set number of free actors (maxFreePerTemplate).  Actors freed beyond
+    the limit get discarded (left to the garbage collector).
+
+    Methods include:
+
+    clear:  Discards all free actors.
+    free:  Returns an actor to the pool (removing it from its stage and parent list).
+    getCreatedCount:  Returns the number of actors created by cloning a template.
+    getFreeCount:  Returns the number of free actors waiting for reuse for the passed template.
+    getObtainedCount:  Returns the number of actors handed out by obtain.
+    getReusedCount:  Returns the number of actors handed out by obtain that came from the free actors.
+    obtain:  Returns an actor set up like a new clone of the passed template.
+    */
+
+    // Default number of free actors kept for each template.
+    public static final int DEFAULT_MAX_FREE_PER_TEMPLATE = 256;
+
+    private final ObjectMap<BaseActor, Array<BaseActor>> freeActors; // Free actors, by template.
+    private final int maxFreePerTemplate; // Maximum number of free actors kept for each template.
+    private long createdCount; // Number of actors created by cloning a template.
+    private long obtainedCount; // Number of actors handed out by obtain.
+    private long reusedCount; // Number of actors handed out by obtain that came from the free actors.
+
+    public ActorPool()
+    {
+        // The constructor of the class creates a pool with the default maximum number of free actors
+        // kept for each template.
+        this( DEFAULT_MAX_FREE_PER_TEMPLATE );
+    }
+
+    // maxFreePerTemplate = Maximum number of free actors kept for each template.
+    public ActorPool(int maxFreePerTemplate)
+    {
+
+        // The constructor of the class stores the maximum number of free actors kept for each template
+        // and creates the storage for the free actors.
+
+        this.maxFreePerTemplate = maxFreePerTemplate;
+        freeActors = new ObjectMap<>();
+        createdCount = 0;
+        obtainedCount = 0;
+        reusedCount = 0;
+
+    }
+
+    public void clear()
+    {
+
+        // The function discards all free actors (such as when leaving a screen).
+
+        for (Array<BaseActor> list : freeActors.values())
+        {
+            for (int i = 0; i < list.size; i++)
+                list.get(i).pool = null;
+
+            list.clear();
+        }
+
+    }
+
+    // actor = Actor to return to the pool.
+    public void free(BaseActor actor)
+    {
+
+        /*
+        The function returns the passed actor to the pool, removing it from its stage and parent list.
+        Actors not obtained from the current pool, or already free, get ignored.  Actors waiting for
+        removal from a bag (during a removal phase) become available for reuse once the bag removes them,
+        at ActorBag.end.
+        */
+
+        // If actor not obtained from the current pool or already free, then exit.
+        if (actor.pool != this || actor.inPool)
+            return;
+
+        // Flag actor as free, then remove it from its stage, parent list, and bag.
+        actor.inPool = true;
+        actor.detach();
+
+        // If actor still linked to a bag (removal deferred by a removal phase), then leave storing it to the
+        // end of the phase (ActorBag.end calls store).
+        if (actor.bag != null)
+            return;
+
+        store( actor );
+
+    }
+
+    // actor = Free actor, no longer linked to a bag.
+    void store(BaseActor actor)
+    {
+
+        // The function stores the passed free actor for reuse by obtain, or discards it when the template
+        // already has the maximum number of free actors.
+
+        Array<BaseActor> list; // Free actors for the template of the passed actor.
+
+        // Get free actors for the template of the passed actor, creating the list when needed.
+        list = freeActors.get( actor.poolTemplate );
+
+        if (list == null)
+        {
+            list = new Array<>( false, 16 );
+            freeActors.put( actor.poolTemplate, list );
+        }
+
+        // If room remains for the template, then keep the actor.  Otherwise, discard it.
+        if (list.size < maxFreePerTemplate)
+            list.add( actor );
+        else
+            actor.pool = null;
+
+    }
+
+    public long getCreatedCount()
+    {
+        // The function returns the number of actors created by cloning a template.
+        return createdCount;
+    }
+
+    // template = Template (base) actor.
+    public int getFreeCount(BaseActor template)
+    {
+
+        // The function returns the number of free actors waiting for reuse for the passed template.
+
+        Array<BaseActor> list = freeActors.get( template ); // Free actors for the template.
+
+        return list == null ? 0 : list.size;
+
+    }
+
+    public long getObtainedCount()
+    {
+        // The function returns the number of actors handed out by obtain.
+        return obtainedCount;
+    }
+
+    public long getReusedCount()
+    {
+        // The function returns the number of actors handed out by obtain that came from the free actors.
+        return reusedCount;
+    }
+
+    // template = Template (base) actor to copy.  Its class must override clone (as the core classes do).
+    @SuppressWarnings("unchecked")
+    public <T extends BaseActor> T obtain(T template)
+    {
+
+        /*
+        The function returns an actor set up like a new clone of the passed template -- a free actor
+        reset to match the template when one exists, or a new clone otherwise.  The actor still needs
+        adding to a stage (and parent list) like any clone.
+        */
+
+        Array<BaseActor> list = freeActors.get( template ); // Free actors for the template.
+        BaseActor actor; // Actor to return.
+
+        obtainedCount++;
+
+        // If free actor exists for the template, then...
+        if (list != null && list.size > 0)
+        {
+            // Free actor exists for the template.  Reset it to match the template.
+            actor = list.pop();
+            actor.reuse( template );
+            reusedCount++;
+        }
+
+        else
+        {
+            // No free actor for the template.  Clone the template.
+            actor = template.clone();
+            createdCount++;
+        }
+
+        // Link actor to the pool and template.
+        actor.pool = this;
+        actor.poolTemplate = template;
+        actor.inPool = false;
+
+        // Return the actor.
+        return (T) actor;
+
+    }
+
+}
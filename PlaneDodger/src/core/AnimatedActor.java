@@ -64,6 +64,8 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
       Computes duration.
     removeAfterSinglePassAuto:  Sets up an action to remove the animation from the screen after a single
       display.  Uses pre-computed duration.
+    resetForReuse:  Resets the properties a new AnimatedActor starts with, before reuse by an actor pool.
+    reuse:  Resets the AnimatedActor to match a new clone of the passed template (actor pool).
     setActiveAnimation:  Sets the active Animation (key and object) using the passed key.
     setAnimationFrame:  Sets the specified frame of the animation to display.
     setFrameCount:  Stores the number of frames in the animation.
@@ -402,4 +404,37 @@ public class AnimatedActor extends BaseActor { // Extends the BaseActor class.
 
     }
 
+    @Override
+    void resetForReuse()
+    {
+
+        // The function resets the properties a new AnimatedActor starts with, but copy leaves alone,
+        // before reuse by an actor pool.
+
+        // Reset properties of the associated BaseActor.
+        super.resetForReuse();
+
+        // Reset pause state and frame timing.
+        pauseAnim = false;
+        frameDuration = 0;
+        framePassRate = 0;
+
+    }
+
+    // template = Template (base) actor to match.
+    @Override
+    void reuse(BaseActor template)
+    {
+
+        // The function resets the AnimatedActor to match a new clone of the passed template.  Called by
+        // ActorPool when handing out a free actor.
+
+        // Reset the properties a new AnimatedActor starts with.
+        resetForReuse();
+
+        // Copy properties of the template.
+        copy( (AnimatedActor)template );
+
+    }
+
 }
\ No newline at end of file
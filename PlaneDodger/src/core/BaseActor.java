@@ -1,6 +1,7 @@
 package core;
 
 import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -50,14 +51,23 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
           Actor (parent / super) class.  Updates Actor position based on time.
     cloneActor:  Returns a BaseActor with the same properties as the current.
     copy:  Copies properties from the passed to the current BaseActor.
-    destroy:  Removes the BaseActor from its Stage and parent list (as necessary).
-    draw:  Sets the tinting color of and draws the Actor.
-    getBoundingPolygon:  Sets the position and rotation of the bounding polygon to that of the Actor.
+    destroy:  Removes the BaseActor from its Stage, parent list, bag, and collision world (as necessary).
+    detach:  Removes the BaseActor from its Stage, parent list, bag, and collision world, when returning to an actor pool.
+    draw:  Sets the tinting color of and draws the Actor (and its children, when present).
+    getBoundingPolygon:  Sets the position, rotation, scale, and origin of the bounding polygon to those of the Actor (when changed).
     getBoundingRectangle:  Sets the properties of the bounding rectangle related to the texture region.
+    getPolygonBounds:  Returns the cached axis-aligned rectangle enclosing the transformed bounding polygon.
+    getPolygonCacheHits:  Returns the number of bounding polygon queries served from the cache.
+    getPolygonCacheMisses:  Returns the number of bounding polygon queries requiring a new transform.
     getTintColor:  Gets the tint color of the Actor.
+    invalidatePolygonCache:  Forces the bounding polygon transform to get recalculated on the next query.
     moveToOrigin:  Centers a small within a larger rectangle, using the borders of the current and target BaseActor objects.
     overlaps:  Determines whether the bounding polygon for the passed Actor intersects (significantly)
                with that of the current.  Moves current Actor minimum amount to avoid intersection.
+    remove:  Removes the BaseActor from its parent.  Actors from an ActorPool return to the pool.
+    resetForReuse:  Resets the properties a new Actor starts with, before reuse by an actor pool.
+    resetPolygonCacheCounters:  Resets the bounding polygon cache hit and miss counters.
+    reuse:  Resets the BaseActor to match a new clone of the passed template (actor pool).
     setActorName:  Sets the Actor name to the passed value.
     setAdditionalDetails:  Performs additional operations for the constructor that would cause
                            overridable method call errors.
@@ -79,6 +89,17 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     private String actorName; // Name of actor.
 
     private ArrayList<? extends BaseActor> parentList; // Stores a reference to an ArrayList to which the Actor has been added.
+    ActorBag<?> bag; // Bag to which the Actor has been added (set by ActorBag).
+    int bagIndex; // Slot of the Actor within its bag (set by ActorBag).
+    boolean bagRemovalPending; // Whether the Actor waits for removal from its bag at the end of a removal phase.
+
+    // Actor pool data (set by ActorPool).
+    ActorPool pool; // Pool from which the Actor came (null when created directly).
+    BaseActor poolTemplate; // Template (base) actor the pool copied to set up the Actor.
+    boolean inPool; // Whether the Actor waits in the pool for reuse.
+
+    CollisionWorld collisionWorld; // Collision world to which the Actor has been added (set by CollisionWorld).
+    int collisionIndex; // Slot of the Actor within its collision world (set by CollisionWorld).
     TextureRegion region; // Stores image (similar to a buffer from Direct-X).  Includes more
     // functionality than a Texture.  Supports storage of multiple images or animation frames.
     // Stores coordinates (u, v), that determine which rectangular subarea of the Texture to use.
@@ -89,6 +110,21 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     // bottom left and its extents in x (width) and y (height).  The object will contain the X and Y
     // coordinates and height and width of the texture region.
     private Color tintColor; // Color to tint the Actor.
+
+    // Bounding polygon transform cache...
+    // The transformed vertices and enclosing rectangle of the bounding polygon only get recalculated when
+    // the position, rotation, scale, or origin of the Actor changes since the last query.
+    private boolean polygonCached; // Whether the cached transform of the bounding polygon is valid.
+    private float cachedX; // X-coordinate of the Actor when last transforming the bounding polygon.
+    private float cachedY; // Y-coordinate of the Actor when last transforming the bounding polygon.
+    private float cachedRotation; // Rotation of the Actor when last transforming the bounding polygon.
+    private float cachedScaleX; // Horizontal scale of the Actor when last transforming the bounding polygon.
+    private float cachedScaleY; // Vertical scale of the Actor when last transforming the bounding polygon.
+    private float cachedOriginX; // X-coordinate of the origin when last transforming the bounding polygon.
+    private float cachedOriginY; // Y-coordinate of the origin when last transforming the bounding polygon.
+    private final Rectangle polygonBounds; // Cached rectangle enclosing the transformed bounding polygon.
+    private static long polygonCacheHits; // Number of bounding polygon queries served from the cache (all Actors).
+    private static long polygonCacheMisses; // Number of bounding polygon queries requiring a new transform (all Actors).
     private final ColorWorks colorEngine; // Contains color related functionality.
 
     public BaseActor()
@@ -111,8 +147,18 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         region = new TextureRegion(); // Create a TextureRegion object.
         boundingPolygon = null; // Initialize an empty bounding polygon.
         boundingRectangle = new Rectangle(); // Create a 2D rectangle to reflect position and borders of image.
+        polygonBounds = new Rectangle(); // Create a 2D rectangle to cache the borders of the transformed polygon.
+        polygonCached = false; // Flag bounding polygon transform as not cached.
         //noinspection MoveFieldAssignmentToInitializer
         parentList = null; // Initialize an empty list of references to ArrayList containing Actor.
+        bag = null; // Initialize as not belonging to a bag.
+        bagIndex = -1;
+        bagRemovalPending = false;
+        pool = null; // Flag Actor as not from an actor pool.
+        poolTemplate = null;
+        inPool = false;
+        collisionWorld = null; // Initialize as not belonging to a collision world.
+        collisionIndex = -1;
 
         // Initialize color engine object.
         colorEngine = new ColorWorks();
@@ -142,7 +188,7 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     public void destroy()
     {
 
-        // The function removes the BaseActor from its Stage and parent list (as necessary).
+        // The function removes the BaseActor from its Stage, parent list, bag, and collision world (as necessary).
 
         // Remove Actor from Stage.
         remove();
@@ -153,6 +199,101 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             // Remove current BaseActor from parent list.
             parentList.remove(this);
 
+        // If bag exists, then...
+        if (bag != null)
+            // Bag exists.
+            // Remove current BaseActor from bag (deferred during a removal phase).
+            bag.remove(this);
+
+        // If collision world exists, then...
+        if (collisionWorld != null)
+            // Collision world exists.
+            // Remove current BaseActor from collision world.
+            collisionWorld.unregister(this);
+
+    }
+
+    void detach()
+    {
+
+        // The function removes the BaseActor from its Stage, parent list, bag, and collision world, when returning
+        // to an actor pool.  The reference to the parent list gets cleared, since the next use may differ.
+
+        // If Actor in a Stage / Group, then remove it (directly, to avoid returning to the pool again).
+        if (getParent() != null)
+            getParent().removeActor(this);
+
+        // If parent list exists, then remove current BaseActor from it and clear the reference.
+        if (parentList != null)
+        {
+            parentList.remove(this);
+            parentList = null;
+        }
+
+        // If bag exists, then remove current BaseActor from it.
+        if (bag != null)
+            bag.remove(this);
+
+        // If collision world exists, then remove current BaseActor from it.
+        if (collisionWorld != null)
+            collisionWorld.unregister(this);
+
+    }
+
+    @Override
+    public boolean remove()
+    {
+
+        // The function removes the BaseActor from its parent (Stage / Group).  Actors obtained from an
+        // ActorPool return to the pool, which covers both destroy and Actions.removeActor.
+        // The function returns whether the BaseActor had a parent.
+
+        boolean removed; // Whether the BaseActor had a parent.
+
+        // Remove Actor from its parent.
+        removed = super.remove();
+
+        // If Actor came from an actor pool, then return it to the pool.
+        if (pool != null)
+            pool.free(this);
+
+        return removed;
+
+    }
+
+    void resetForReuse()
+    {
+
+        // The function resets the properties a new Actor starts with, but copy leaves alone -- actions,
+        // listeners, children, rotation, scale, color, touchable status, and name.  Called before an
+        // actor pool reuses the Actor.
+
+        // Remove actions, listeners, and children.
+        clear();
+
+        // Reset rotation, scale, color, touchable status, and name.
+        setRotation( 0 );
+        setScale( 1 );
+        getColor().set( Color.WHITE );
+        setTouchable( Touchable.enabled );
+        setName( null );
+
+    }
+
+    // template = Template (base) actor to match.
+    void reuse(BaseActor template)
+    {
+
+        // The function resets the BaseActor to match a new clone of the passed template.  Called by
+        // ActorPool when handing out a free actor.  Subclasses with their own copy method override the
+        // function.
+
+        // Reset the properties a new Actor starts with.
+        resetForReuse();
+
+        // Copy properties of the template.
+        copy( template );
+
     }
 
     public void setOriginCenter()
@@ -241,6 +382,9 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // Set the position of the top left corner of the polygon to that of the texture region.
         boundingPolygon.setOrigin( getOriginX(), getOriginY() );
 
+        // Flag bounding polygon transform as not cached.
+        polygonCached = false;
+
     }
 
     public void setEllipseBoundary()
@@ -293,26 +437,111 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // Set the position of the top left corner of the polygon to that of the texture region.
         boundingPolygon.setOrigin( getOriginX(), getOriginY() );
 
+        // Flag bounding polygon transform as not cached.
+        polygonCached = false;
+
     }
 
     public Polygon getBoundingPolygon()
     {
 
-        // The function sets the position and rotation of the bounding polygon to that of the Actor.
+        // The function sets the position, rotation, scale, and origin of the bounding polygon to those of the
+        // Actor -- only when at least one changed since the last query.  Otherwise, the transformed vertices
+        // and enclosing rectangle from the last query get reused.
         // The function returns the bounding polygon.
 
-        // Set the position (x and y coordinates of the bottom left corner) of the bounding polygon to
-        // that of the Actor.
-        boundingPolygon.setPosition( getX(), getY() );
+        // If transform of bounding polygon cached and Actor unchanged since last query, then...
+        if ( polygonCached &&
+             cachedX == getX() && cachedY == getY() && cachedRotation == getRotation() &&
+             cachedScaleX == getScaleX() && cachedScaleY == getScaleY() &&
+             cachedOriginX == getOriginX() && cachedOriginY == getOriginY() )
+
+        {
+            // Transform of bounding polygon cached and Actor unchanged since last query.
+            // Count cache hit.
+            polygonCacheHits++;
+        }
+
+        else
+
+        {
+
+            // Transform of bounding polygon NOT cached or Actor changed since last query.
+            // Count cache miss.
+            polygonCacheMisses++;
+
+            // Store transform properties of the Actor.
+            cachedX = getX();
+            cachedY = getY();
+            cachedRotation = getRotation();
+            cachedScaleX = getScaleX();
+            cachedScaleY = getScaleY();
+            cachedOriginX = getOriginX();
+            cachedOriginY = getOriginY();
 
-        // Set rotation of the bounding polygon to that of the Actor.
-        boundingPolygon.setRotation( getRotation() );
+            // Set the position (x and y coordinates of the bottom left corner) of the bounding polygon to
+            // that of the Actor.
+            boundingPolygon.setPosition( cachedX, cachedY );
+
+            // Set rotation, scale, and origin of the bounding polygon to those of the Actor.
+            boundingPolygon.setRotation( cachedRotation );
+            boundingPolygon.setScale( cachedScaleX, cachedScaleY );
+            boundingPolygon.setOrigin( cachedOriginX, cachedOriginY );
+
+            // Calculate and store the rectangle enclosing the transformed bounding polygon.
+            // The polygon keeps its transformed vertices until the next change.
+            polygonBounds.set( boundingPolygon.getBoundingRectangle() );
+
+            // Flag bounding polygon transform as cached.
+            polygonCached = true;
+
+        }
 
         // Return the bounding polygon.
         return boundingPolygon;
 
     }
 
+    public Rectangle getPolygonBounds()
+    {
+
+        // The function returns the rectangle enclosing the transformed bounding polygon.
+        // Updates the cached transform first, when the Actor changed since the last query.
+
+        // Update the cached transform of the bounding polygon, as necessary.
+        getBoundingPolygon();
+
+        // Return the cached rectangle enclosing the transformed bounding polygon.
+        return polygonBounds;
+
+    }
+
+    public void invalidatePolygonCache()
+    {
+        // The function forces the transform of the bounding polygon to get recalculated on the next query.
+        // Only needed when modifying the vertices of the bounding polygon directly.
+        polygonCached = false;
+    }
+
+    public static long getPolygonCacheHits()
+    {
+        // The function returns the number of bounding polygon queries served from the cache (all Actors).
+        return polygonCacheHits;
+    }
+
+    public static long getPolygonCacheMisses()
+    {
+        // The function returns the number of bounding polygon queries requiring a new transform (all Actors).
+        return polygonCacheMisses;
+    }
+
+    public static void resetPolygonCacheCounters()
+    {
+        // The function resets the bounding polygon cache hit and miss counters.
+        polygonCacheHits = 0;
+        polygonCacheMisses = 0;
+    }
+
     public Rectangle getBoundingRectangle()
     {
 
@@ -354,8 +583,8 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         poly1 = this.getBoundingPolygon();
         poly2 = other.getBoundingPolygon();
 
-        // If polygons are intersecting, then...
-        if (poly1.getBoundingRectangle().overlaps(poly2.getBoundingRectangle()))
+        // If rectangles enclosing the polygons (cached during the calls above) are intersecting, then...
+        if (this.polygonBounds.overlaps(other.polygonBounds))
 
         {
             /*
@@ -434,7 +663,15 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     public void draw(Batch batch, float parentAlpha)
     {
 
-        // The function sets the tinting color of and draws the Actor (when visible).
+        /*
+        The function sets the tinting color of and draws the Actor (when visible), followed by its
+        children (such as the fire attached to a spaceship).
+
+        Drawing a Group applies its transform to the batch and resets it afterwards, and each change to
+        the transform matrix flushes the batch -- an extra draw call for every Actor.  Actors without
+        children (most rocks, lasers, coins) skip the Group version and draw straight into the batch, so
+        sprites sharing a texture go out in one draw call.
+        */
 
         // System.out.println("\nActor:  " + actorName);
 
@@ -455,8 +692,10 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             batch.draw( region, getX(), getY(), getOriginX(), getOriginY(),
                     getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation() );
 
-        // Call the constructor of the parent class to redraw the group.
-        super.draw(batch, parentAlpha);
+        // If Actor has children, then call the draw method of the parent class to draw them (applying
+        // the transform of the group).
+        if ( hasChildren() )
+            super.draw(batch, parentAlpha);
 
     }
 
@@ -522,18 +761,34 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             // Image texture (buffer) exists in passed Actor.
 
             // Copy image texture (buffer) from passed to current Actor.
-            this.region = new TextureRegion( original.region );
+            this.region.setRegion( original.region );
 
         // If bounding polygon exists in passed Actor, then...
         if (original.boundingPolygon != null)
         {
             // Bounding polygon exists in passed Actor.
 
-            // Create bounding polygon in current with vertices in bounding polygon of passed Actor.
-            this.boundingPolygon = new Polygon( original.boundingPolygon.getVertices() );
+            // If current Actor has no bounding polygon, then...
+            if (this.boundingPolygon == null)
+                // Current Actor has no bounding polygon.
+                // Create bounding polygon in current with vertices in bounding polygon of passed Actor.
+                this.boundingPolygon = new Polygon( original.boundingPolygon.getVertices() );
+
+            else
+            {
+                // Current Actor has a bounding polygon (reused from an actor pool).
+                // Reuse the polygon with the vertices in bounding polygon of passed Actor.
+                this.boundingPolygon.setVertices( original.boundingPolygon.getVertices() );
+                this.boundingPolygon.setPosition( 0, 0 );
+                this.boundingPolygon.setRotation( 0 );
+                this.boundingPolygon.setScale( 1, 1 );
+            }
 
             // Set origin of bounding polygon to that of passed Actor.
             this.boundingPolygon.setOrigin( original.getOriginX(), original.getOriginY() );
+
+            // Flag bounding polygon transform as not cached.
+            this.polygonCached = false;
         }
 
         // Set position of current to that of passed Actor (based on bottom left corner).
@@ -5,6 +5,8 @@ import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.InputMultiplexer;
@@ -136,6 +138,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     Custom methods include:
 
     centerLabelUI:  Centers the label in the specified stage.
+    getDrawCalls:  Returns the number of draw calls made drawing the stages during the last frame.
     isPaused:  Returns the pause state of the game (true or false).
     setPaused:  Sets the pause state of the game to the passed value.
     togglePaused:  Reverses the pause state of the game (true to false, false to true).
@@ -158,6 +161,12 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
     public Stage uiStage; // Stores a 2D scene graph containing UI actors.  Includes win text / labels.
 
+    public CollisionWorld collisionWorld; // Actors in the main stage taking part in collision checks, by layer.
+    // Replaces hand-written loops over lists of actors with one call per pair of layers (collectPairs).
+
+    public ActorPool actorPool; // Free copies of template actors (lasers, explosions, ...), for reuse by spawns.
+    // Replaces template.clone() with actorPool.obtain(template) for actors spawned and removed repeatedly.
+
     // A Table consists of Cell objects, laid out in rows and columns, each Cell containing an Actor.
     Table uiTable; // Table containing main menu elements.
 
@@ -166,6 +175,11 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     private int viewWidthMain; // Window width for the main stage.
     private int viewWidthUI; // Window width for the ui stage.
 
+    public AllocationMonitor allocationMonitor; // Measures bytes allocated during each phase of render
+    // (act, update, draw).  Enable with allocationMonitor.setEnabled(true) or -Dallocation.monitor=true.
+
+    private int drawCalls; // Number of draw calls (batch flushes) made drawing the stages during the last frame.
+
     private boolean paused; // Whether game paused.
 
     // g = Screen object for current window.
@@ -189,6 +203,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Set defaults.
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
 
         // Set window size values, based on parameters.
         this.viewWidthMain = windowWidth;
@@ -204,6 +219,12 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         mainStage = new Stage( new FitViewport(windowWidth, WindowHeight) );
         uiStage   = new Stage( new FitViewport(windowWidth, WindowHeight) );
 
+        // Create collision world for the actors in the main stage.
+        collisionWorld = new CollisionWorld();
+
+        // Create pool for actors spawned from templates in the main stage.
+        actorPool = new ActorPool();
+
         // An InputMultiplexer object is itself an InputProcessor that contains a list of other InputProcessors.
 
         // Set up input multiplexer to receive all input data and pass the information along to
@@ -240,6 +261,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Set defaults.
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
 
         // Set window size values, based on parameters.
         this.viewWidthMain = mainWidth;
@@ -255,6 +277,12 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         mainStage = new Stage( new FitViewport(mainWidth, mainHeight) );
         uiStage   = new Stage( new FitViewport(uiWidth, uiHeight) );
 
+        // Create collision world for the actors in the main stage.
+        collisionWorld = new CollisionWorld();
+
+        // Create pool for actors spawned from templates in the main stage.
+        actorPool = new ActorPool();
+
         // An InputMultiplexer object is itself an InputProcessor that contains a list of other InputProcessors.
 
         // Set up input multiplexer to receive all input data and pass the information along to
@@ -293,12 +321,17 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         2.  If game not paused, adjusts Actor positions and other properties in the main stage and 
             processes player input.
         3.  Draws the graphics.
+        4.  Measures the memory allocated during each of the steps (when the allocation monitor is enabled).
         */
 
+        // Start measuring the memory allocated during the frame.
+        allocationMonitor.beginFrame();
+
         // Call the Actor.act(float) method on each actor in the UI stage.
         // Typically called each frame.  The method also fires enter and exit events.
         // Updates the position of each Actor based on time.
         uiStage.act(dt);
+        allocationMonitor.mark( AllocationMonitor.ACT );
 
         // Only pause gameplay events, not UI events.
 
@@ -312,9 +345,11 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
             // Typically called each frame.  The method also fires enter and exit events.
             // Updates the position of each Actor based on time.
             mainStage.act(dt);
+            allocationMonitor.mark( AllocationMonitor.ACT );
 
             // Handle game logic -- allow processing based on player actions / input.
             update(dt);
+            allocationMonitor.mark( AllocationMonitor.UPDATE );
         }
 
         // Draw graphics.
@@ -332,12 +367,45 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Draw the main stage.
         mainStage.draw();
+        drawCalls = getRenderCalls( mainStage );
 
         // Reposition rendering location of the UI stage.
         Gdx.gl.glViewport(0,0, viewWidthUI, viewHeightUI);
 
         // Draw the UI stage.
         uiStage.draw();
+        drawCalls += getRenderCalls( uiStage );
+
+        // Finish measuring the memory allocated during the frame (drawing) and check the budget.
+        allocationMonitor.endFrame();
+
+    }
+
+    public int getDrawCalls()
+    {
+
+        /*
+        The function returns the number of draw calls made drawing the stages during the last frame --
+        one for each time the batch of a stage flushed its sprites to the GPU.  Changing the texture,
+        blending, shader, or transform matrix (such as drawing a Group with children) flushes the batch.
+        GLProfiler (com.badlogic.gdx.graphics.profiling) counts the same calls at the OpenGL level.
+        */
+
+        return drawCalls;
+
+    }
+
+    // stage = Stage drawn during the current frame.
+    private static int getRenderCalls(Stage stage)
+    {
+
+        // The function returns the number of draw calls made by the batch of the passed stage since
+        // its last call to begin (the last draw of the stage).  Returns 0 for batches other than
+        // SpriteBatch, which do not count their draw calls.
+
+        Batch batch = stage.getBatch(); // Batch used to draw the stage.
+
+        return batch instanceof SpriteBatch ? ((SpriteBatch)batch).renderCalls : 0;
 
     }
 
@@ -0,0 +1,136 @@
+package core;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class CollisionPairs
+{
+
+    /*
+    The class stores the pairs of overlapping actors found by CollisionWorld.collectPairs.
+
+    The buffer gets reused from frame to frame -- clearing only resets the count, and the arrays only
+    grow (doubling) when a frame finds more pairs than any earlier frame.  Reading the pairs creates no
+    objects, unlike building an ArrayList of pairs each frame.
+
+    Loop through the pairs with:
+
+    for (int i = 0; i < pairs.size(); i++)
+        handle( pairs.getFirst(i), pairs.getSecond(i) );
+
+    The first actor of each pair belongs to the first layer passed to collectPairs and the second to the
+    second layer.
+
+    Methods include:
+
+    add:  Adds a pair to the buffer, growing the arrays as necessary.
+    clear:  Empties the buffer, keeping the arrays for reuse.
+    getFirst:  Returns the first actor of the pair at the passed index.
+    getSecond:  Returns the second actor of the pair at the passed index.
+    size:  Returns the number of pairs in the buffer.
+    */
+
+    private BaseActor[] first; // First actor of each pair.
+    private BaseActor[] second; // Second actor of each pair.
+    private int count; // Number of pairs in the buffer.
+
+    public CollisionPairs()
+    {
+
+        // The constructor of the class creates the arrays with room for a few pairs.
+
+        first = new BaseActor[16];
+        second = new BaseActor[16];
+        count = 0;
+
+    }
+
+    // a = First actor of the pair.
+    // b = Second actor of the pair.
+    void add(BaseActor a, BaseActor b)
+    {
+
+        // The function adds a pair to the buffer, growing (doubling) the arrays when full.
+
+        BaseActor[] grown; // Larger array to which to copy the existing pairs.
+
+        // If arrays full, then...
+        if (count == first.length)
+        {
+            // Arrays full.  Double the size of the arrays.
+            grown = new BaseActor[count * 2];
+            System.arraycopy(first, 0, grown, 0, count);
+            first = grown;
+            grown = new BaseActor[count * 2];
+            System.arraycopy(second, 0, grown, 0, count);
+            second = grown;
+        }
+
+        // Add pair.
+        first[count] = a;
+        second[count] = b;
+        count++;
+
+    }
+
+    public void clear()
+    {
+
+        // The function empties the buffer, keeping the arrays for reuse.
+        // The references get cleared, so the buffer does not keep destroyed actors in memory.
+
+        for (int i = 0; i < count; i++)
+        {
+            first[i] = null;
+            second[i] = null;
+        }
+
+        count = 0;
+
+    }
+
+    // index = Index of the pair (0 to size - 1).
+    public BaseActor getFirst(int index)
+    {
+        // The function returns the first actor of the pair at the passed index.
+        return first[index];
+    }
+
+    // index = Index of the pair (0 to size - 1).
+    public BaseActor getSecond(int index)
+    {
+        // The function returns the second actor of the pair at the passed index.
+        return second[index];
+    }
+
+    public int size()
+    {
+        // The function returns the number of pairs in the buffer.
+        return count;
+    }
+
+}
@@ -0,0 +1,483 @@
+package core;
+
+import com.badlogic.gdx.math.Rectangle;
+import java.util.Arrays;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class CollisionWorld
+{
+
+    /*
+    The class stores the actors taking part in collision checks for a screen, along with the layer each
+    belongs to and the layers each collides with (mask), and finds the overlapping pairs in one pass.
+
+    Layers and masks use one bit per layer, such as:
+
+    public static final int LAYER_PLAYER = 1;
+    public static final int LAYER_STAR = 2;
+    public static final int LAYER_ENEMY = 4;
+
+    collisionWorld.register( star, LAYER_STAR, LAYER_PLAYER );
+
+    A pair only counts when each actor includes the layer of the other in its mask.  Each frame, the game
+    calls collectPairs once for each combination of layers of interest (such as player vs stars), then
+    loops through the pair buffer -- replacing a hand-written loop over an ArrayList for each combination.
+
+    Pairs get found with a sort and sweep along the x-axis.  The world keeps the actors sorted by the left
+    edge of their bounding polygons from one call to the next, so when actors move at similar speeds (such
+    as enemies scrolling left in a side-scroller), an insertion sort only makes a few swaps to restore the
+    order.  A single pass through the sorted actors then keeps a list of those whose right edge has not
+    been passed yet -- only actors whose x-ranges overlap ever get tested against each other.  The cost
+    grows with the number of actors plus the number of close pairs, rather than the product of the
+    sizes of the layers.
+
+    Destroying an actor (BaseActor.destroy) removes it from the world.  Actors no longer in a stage (such
+    as those removed by an action) get skipped.
+
+    The world keeps the number of overlap tests and time spent per layer, so the cost of collision checks
+    can get measured (getTestCount, getTestTime), plus the number of swaps made by the last sort
+    (getLastSwapCount).  Nothing gets created during collectPairs once the
+    buffers reach the needed size.
+
+    Methods include:
+
+    collectPairs:  Fills the passed buffer with the overlapping pairs between two layers.
+    getCount:  Returns the number of registered actors.
+    compactSorted:  Removes actors no longer in the world from the sorted list.
+    getLastSwapCount:  Returns the number of swaps made while sorting during the last call to collectPairs.
+    getLastTestCount:  Returns the number of overlap tests performed by the last call to collectPairs.
+    getTestCount:  Returns the number of overlap tests performed involving the passed layer.
+    getTestTime:  Returns the time (in nanoseconds) spent on overlap tests involving the passed layer.
+    register:  Adds an actor to the world with the passed layer and mask (or updates them).
+    resetStats:  Resets the overlap test counts and times.
+    sortByLeftEdge:  Refreshes the x-range of each actor and restores the sorted order (insertion sort).
+    unregister:  Removes an actor from the world.
+    */
+
+    private BaseActor[] actors; // Registered actors.
+    private int[] layers; // Layer bits for each registered actor.
+    private int[] masks; // Bits for the layers with which each registered actor collides.
+    private int count; // Number of registered actors.
+    private BaseActor[] sorted; // Actors sorted by the left edge of their bounding polygons.  May include
+    // removed actors until the next call to collectPairs.
+    private float[] sortedMinX; // Left edge of the bounding polygon for each actor in the sorted list.
+    private float[] sortedMaxX; // Right edge of the bounding polygon for each actor in the sorted list.
+    private int sortedCount; // Number of actors in the sorted list.
+    private int removedCount; // Number of actors removed from the world but still in the sorted list.
+    private int[] active; // Locations (in the sorted list) of actors whose x-ranges the sweep has not passed.
+    private int lastSwapCount; // Number of swaps made while sorting during the last call to collectPairs.
+    private int lastTestCount; // Number of overlap tests performed by the last call to collectPairs.
+    private final long[] testCounts; // Number of overlap tests performed involving each layer (by bit).
+    private final long[] testTimes; // Time (in nanoseconds) spent on overlap tests involving each layer (by bit).
+
+    public CollisionWorld()
+    {
+
+        // The constructor of the class creates the arrays with room for a few actors.
+
+        actors = new BaseActor[32];
+        layers = new int[32];
+        masks = new int[32];
+        sorted = new BaseActor[32];
+        sortedMinX = new float[32];
+        sortedMaxX = new float[32];
+        active = new int[32];
+        count = 0;
+        sortedCount = 0;
+        removedCount = 0;
+        lastSwapCount = 0;
+        lastTestCount = 0;
+        testCounts = new long[32];
+        testTimes = new long[32];
+
+    }
+
+    // layerA = Bits for the first layer.  The first actor of each pair comes from the layer.
+    // layerB = Bits for the second layer.  The second actor of each pair comes from the layer.
+    // pairs = Buffer to fill with the overlapping pairs.  Cleared first.
+    public int collectPairs(int layerA, int layerB, CollisionPairs pairs)
+    {
+
+        /*
+        The function fills the passed buffer with the pairs of actors from the two layers that overlap
+        (BaseActor.overlaps, without resolving), where each actor includes the layer of the other in its mask.
+        The function returns the number of pairs found.
+
+        The function first restores the order of the actors by left edge, then sweeps through them from
+        left to right.  Each actor in either layer gets tested only against the actors still in the list of
+        active actors (those whose right edge lies beyond its left edge).  An actor belonging to both layers
+        never gets paired with itself, and two such actors only get paired once.
+        */
+
+        BaseActor actor; // Actor reached by the sweep.
+        BaseActor other; // Active actor whose x-range overlaps that of the actor reached by the sweep.
+        int a; // Slot of the actor from the first layer in the current pair.
+        int b; // Slot of the actor from the second layer in the current pair.
+        int slot; // Slot of the actor reached by the sweep.
+        int otherSlot; // Slot of the active actor.
+        int activeCount; // Number of active actors.
+        int tests; // Number of overlap tests performed.
+        long start; // Time at which the tests started, in nanoseconds.
+        long elapsed; // Time spent on the tests, in nanoseconds.
+        int bits; // Remaining layer bits to which to add the stats.
+
+        // Clear pair buffer.
+        pairs.clear();
+
+        // Set defaults.
+        start = System.nanoTime();
+        activeCount = 0;
+        tests = 0;
+
+        // Restore the order of the actors by left edge.
+        sortByLeftEdge();
+
+        // Sweep through the actors from left to right.
+        for (int i = 0; i < sortedCount; i++)
+        {
+
+            actor = sorted[i];
+            slot = actor.collisionIndex;
+
+            // Skip actors not in a stage or in neither layer.
+            if (actor.getStage() == null || (layers[slot] & (layerA | layerB)) == 0)
+                continue;
+
+            // Loop through the active actors.
+            for (int j = 0; j < activeCount; j++)
+            {
+
+                // If the sweep passed the right edge of the active actor, then remove it from the list
+                // (moving the last active actor into its place) and check the new occupant.
+                if (sortedMaxX[active[j]] <= sortedMinX[i])
+                {
+                    active[j--] = active[--activeCount];
+                    continue;
+                }
+
+                other = sorted[active[j]];
+                otherSlot = other.collisionIndex;
+
+                // Arrange the pair so the first actor comes from the first layer and the second from the
+                // second layer.  When either arrangement works, place the actor in the lower slot first.
+                if ((layers[slot] & layerA) != 0 && (layers[otherSlot] & layerB) != 0 &&
+                    ((layers[otherSlot] & layerA) == 0 || (layers[slot] & layerB) == 0 || slot < otherSlot))
+                {
+                    a = slot;
+                    b = otherSlot;
+                }
+                else if ((layers[otherSlot] & layerA) != 0 && (layers[slot] & layerB) != 0)
+                {
+                    a = otherSlot;
+                    b = slot;
+                }
+                else
+                    // Both actors in the same layer (only), so no pair.
+                    continue;
+
+                // If masks do not accept each other, then skip the pair.
+                if ((masks[a] & layers[b]) == 0 || (masks[b] & layers[a]) == 0)
+                    continue;
+
+                // Test pair and add to buffer when overlapping.
+                tests++;
+                if (actors[a].overlaps(actors[b], false))
+                    pairs.add(actors[a], actors[b]);
+
+            }
+
+            // Add actor to the list of active actors.
+            active[activeCount++] = i;
+
+        }
+
+        // Store stats for each layer involved.
+        elapsed = System.nanoTime() - start;
+        lastTestCount = tests;
+        bits = layerA | layerB;
+        while (bits != 0)
+        {
+            testCounts[Integer.numberOfTrailingZeros(bits)] += tests;
+            testTimes[Integer.numberOfTrailingZeros(bits)] += elapsed;
+            bits &= bits - 1;
+        }
+
+        // Return number of pairs found.
+        return pairs.size();
+
+    }
+
+    private void compactSorted()
+    {
+
+        // The function removes actors no longer in the world (unregistered since the last call) from the
+        // sorted list, keeping the order of the rest.
+
+        int kept = 0; // Number of actors kept.
+
+        // If no actors removed, then exit.
+        if (removedCount == 0)
+            return;
+
+        // Loop through sorted list, shifting the actors still in the world toward the front.
+        for (int i = 0; i < sortedCount; i++)
+        {
+            if (sorted[i].collisionWorld == this)
+            {
+                sortedMinX[kept] = sortedMinX[i];
+                sortedMaxX[kept] = sortedMaxX[i];
+                sorted[kept++] = sorted[i];
+            }
+        }
+
+        // Clear the slots no longer used.
+        for (int i = kept; i < sortedCount; i++)
+            sorted[i] = null;
+
+        sortedCount = kept;
+        removedCount = 0;
+
+    }
+
+    public int getCount()
+    {
+        // The function returns the number of registered actors.
+        return count;
+    }
+
+    public int getLastSwapCount()
+    {
+        // The function returns the number of swaps made while sorting during the last call to collectPairs.
+        // Low counts indicate that the actors kept nearly the same order from the previous call.
+        return lastSwapCount;
+    }
+
+    public int getLastTestCount()
+    {
+        // The function returns the number of overlap tests performed by the last call to collectPairs.
+        return lastTestCount;
+    }
+
+    // layer = Bit for the layer.
+    public long getTestCount(int layer)
+    {
+        // The function returns the number of overlap tests performed involving the passed layer, since
+        // the last reset.
+        return testCounts[Integer.numberOfTrailingZeros(layer) & 31];
+    }
+
+    // layer = Bit for the layer.
+    public long getTestTime(int layer)
+    {
+        // The function returns the time (in nanoseconds) spent on overlap tests involving the passed layer,
+        // since the last reset.
+        return testTimes[Integer.numberOfTrailingZeros(layer) & 31];
+    }
+
+    // actor = Actor to add to the world.
+    // layer = Bits for the layer (or layers) to which the actor belongs.
+    // mask = Bits for the layers with which the actor collides.
+    public void register(BaseActor actor, int layer, int mask)
+    {
+
+        /*
+        The function adds the passed actor to the world with the passed layer and mask.  Registering an
+        actor already in the world updates its layer and mask.  Registering an actor belonging to another
+        world moves it to the current.
+        */
+
+        int grownSize; // Size of the arrays after growing.
+
+        // If actor already in the current world, then...
+        if (actor.collisionWorld == this)
+        {
+            // Actor already in the current world.  Update layer and mask.
+            layers[actor.collisionIndex] = layer;
+            masks[actor.collisionIndex] = mask;
+            return;
+        }
+
+        // If actor in another world, then remove it from that world.
+        if (actor.collisionWorld != null)
+            actor.collisionWorld.unregister(actor);
+
+        // Remove actors no longer in the world from the sorted list, so the actor never appears twice.
+        compactSorted();
+
+        // If arrays full, then...
+        if (count == actors.length)
+        {
+            // Arrays full.  Double the size of the arrays.
+            grownSize = count * 2;
+            actors = Arrays.copyOf(actors, grownSize);
+            layers = Arrays.copyOf(layers, grownSize);
+            masks = Arrays.copyOf(masks, grownSize);
+        }
+
+        // If sorted list full, then double its size.
+        if (sortedCount == sorted.length)
+        {
+            grownSize = sortedCount * 2;
+            sorted = Arrays.copyOf(sorted, grownSize);
+            sortedMinX = Arrays.copyOf(sortedMinX, grownSize);
+            sortedMaxX = Arrays.copyOf(sortedMaxX, grownSize);
+            active = new int[grownSize];
+        }
+
+        // Add actor to the end of the sorted list.  The next sort moves it into place.
+        sorted[sortedCount++] = actor;
+
+        // Add actor.
+        actors[count] = actor;
+        layers[count] = layer;
+        masks[count] = mask;
+        actor.collisionWorld = this;
+        actor.collisionIndex = count;
+        count++;
+
+    }
+
+    public void resetStats()
+    {
+
+        // The function resets the overlap test counts and times.
+
+        for (int i = 0; i < testCounts.length; i++)
+        {
+            testCounts[i] = 0;
+            testTimes[i] = 0;
+        }
+
+        lastSwapCount = 0;
+        lastTestCount = 0;
+
+    }
+
+    private void sortByLeftEdge()
+    {
+
+        /*
+        The function removes actors no longer in the world, refreshes the x-range (left and right edges
+        of the rectangle enclosing the bounding polygon) of each actor, and restores the order by left edge
+        using an insertion sort.
+
+        Actors keep their order from the previous call, so an insertion sort only moves the actors that
+        passed a neighbor since then -- close to one pass when actors move together.
+        */
+
+        BaseActor actor; // Actor getting moved into place.
+        Rectangle bounds; // Rectangle enclosing the bounding polygon of the current actor.
+        float minX; // Left edge of the actor getting moved into place.
+        float maxX; // Right edge of the actor getting moved into place.
+        int j; // Location being compared.
+        int swaps = 0; // Number of swaps made.
+
+        // Remove actors no longer in the world.
+        compactSorted();
+
+        // Refresh the x-range of each actor.
+        for (int i = 0; i < sortedCount; i++)
+        {
+            bounds = sorted[i].getPolygonBounds();
+            sortedMinX[i] = bounds.x;
+            sortedMaxX[i] = bounds.x + bounds.width;
+        }
+
+        // Restore order by left edge (insertion sort).
+        for (int i = 1; i < sortedCount; i++)
+        {
+
+            // If already in order, then move to the next actor.
+            if (sortedMinX[i - 1] <= sortedMinX[i])
+                continue;
+
+            actor = sorted[i];
+            minX = sortedMinX[i];
+            maxX = sortedMaxX[i];
+            j = i - 1;
+
+            // Shift actors with larger left edges to the right.
+            while (j >= 0 && sortedMinX[j] > minX)
+            {
+                sorted[j + 1] = sorted[j];
+                sortedMinX[j + 1] = sortedMinX[j];
+                sortedMaxX[j + 1] = sortedMaxX[j];
+                j--;
+                swaps++;
+            }
+
+            // Place actor.
+            sorted[j + 1] = actor;
+            sortedMinX[j + 1] = minX;
+            sortedMaxX[j + 1] = maxX;
+
+        }
+
+        lastSwapCount = swaps;
+
+    }
+
+    // actor = Actor to remove from the world.
+    public void unregister(BaseActor actor)
+    {
+
+        /*
+        The function removes the passed actor from the world.  Actors not in the world get ignored.
+        The last actor moves into the slot of the one removed, so removal takes the same time regardless of
+        the number of actors.
+        */
+
+        int index; // Slot of the actor to remove.
+        int last; // Slot of the last actor.
+
+        // If actor not in the current world, then...
+        if (actor.collisionWorld != this)
+            // Actor not in the current world.  Ignore.
+            return;
+
+        // Move last actor into the slot of the one removed.
+        index = actor.collisionIndex;
+        last = count - 1;
+        actors[index] = actors[last];
+        layers[index] = layers[last];
+        masks[index] = masks[last];
+        actors[index].collisionIndex = index;
+
+        // Clear last slot.
+        actors[last] = null;
+        count--;
+
+        // Flag actor as not in a world.  The actor leaves the sorted list on the next call to collectPairs.
+        actor.collisionWorld = null;
+        actor.collisionIndex = -1;
+        removedCount++;
+
+    }
+
+}
@@ -66,6 +66,7 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
     // clone:  Returns a PhysicsActor with the same properties as the current.
     // getMotionAngle:  Returns the angle related to the velocity (speed) vector.
     // getSpeed:  Returns the velocity (speed).
+    // reuse:  Resets the PhysicsActor to match a new clone of the passed template (actor pool).
     // setAccelerationAS:  Sets the acceleration vector using the passed angle and speed.
     // setAccelerationXY:  Sets the acceleration vector using the passed x and y values.
     // setAutoAngle:  Sets flag indicating whether to rotate image to match velocity (speed) to passed value.
@@ -380,8 +381,8 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
         super.copy(original);
 
         // Copy velocity, acceleration, maximum speed, deceleration, and auto angle flag.
-        this.velocity     = new Vector2(original.velocity);
-        this.acceleration = new Vector2(original.acceleration);
+        this.velocity.set(original.velocity);
+        this.acceleration.set(original.acceleration);
         this.maxSpeed     = original.maxSpeed;
         this.deceleration = original.deceleration;
         this.autoAngle    = original.autoAngle;
@@ -408,4 +409,20 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
 
     }
 
+    // template = Template (base) actor to match.
+    @Override
+    void reuse(BaseActor template)
+    {
+
+        // The function resets the PhysicsActor to match a new clone of the passed template.  Called by
+        // ActorPool when handing out a free actor.
+
+        // Reset the properties a new PhysicsActor starts with.
+        resetForReuse();
+
+        // Copy properties of the template.
+        copy( (PhysicsActor)template );
+
+    }
+
 }
\ No newline at end of file
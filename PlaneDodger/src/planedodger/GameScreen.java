@@ -9,7 +9,6 @@ import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.math.MathUtils;
 import core.*;
-import java.util.ArrayList;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -45,6 +44,11 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
     update:  Occurs during the update phase (render method) and contains code related to game logic.
     */
     
+    // Collision layers (one bit per layer) for the collision world.
+    private static final int LAYER_PLAYER = 1; // Layer for the player (green plane).
+    private static final int LAYER_STAR = 2; // Layer for the yellow stars.
+    private static final int LAYER_ENEMY = 4; // Layer for the enemies (red planes).
+    
     // Declare regular variables.
     private float enemySpeed; // Speed of enemy.
     private float enemyTimer; // Amount of time (seconds) since addition of last enemy.
@@ -59,11 +63,11 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
     private AnimatedActor baseSparkle; // AnimatedActor object that will act as the base sparkle (over the yellow 
       // star).  Displayed when player intersects a yellow star.
     private PhysicsActor baseStar; // PhysicsActor object that will act as the base yellow star (cloned).
-    private ArrayList<PhysicsActor> enemyList; // PhysicsActor array that will act as the enemies (red planes).
+    private ActorBag<PhysicsActor> enemyList; // PhysicsActor bag that will act as the enemies (red planes).
     private PhysicsActor[] ground; // PhysicsActor array that will act as the ground objects.
     private PhysicsActor player; // PhysicsActor object that will act as the player (green plane).
-    private ArrayList<BaseActor> removeList; // List of actors to remove.
-    private ArrayList<PhysicsActor> starList; // PhysicsActor array that will act as the yellow stars.
+    private CollisionPairs pairList; // Overlapping pairs found by the collision world -- reused each frame.
+    private ActorBag<PhysicsActor> starList; // PhysicsActor bag that will act as the yellow stars.
     
     // Game world dimensions.
     private final int mapWidth; // Total map width, in pixels.
@@ -121,15 +125,10 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         enemyTimer = 0; // Default time since addition of last enemy as 0, since none added yet.
         enemySpeed = -250; // Default horizontal acceleration (heading to the left) for enemy.
         
-        // Initialize empty array lists.
-        removeList = new ArrayList<>(); // Initialize array to hold actors to remove.
-        starList = new ArrayList<>(); // Initialize array to hold yellow stars.
-        enemyList = new ArrayList<>(); // Initialize array to hold enemies.
-        
-        // Alternative code:
-        // removeList = new ArrayList<BaseActor>();
-        // starList = new ArrayList<PhysicsActor>();
-        // enemyList = new ArrayList<PhysicsActor>();
+        // Initialize empty bags.
+        starList = new ActorBag<>(); // Initialize bag to hold yellow stars.
+        enemyList = new ActorBag<>(); // Initialize bag to hold enemies.
+        pairList = new CollisionPairs(); // Initialize buffer to hold overlapping pairs.
         
         // Set up the background objects -- includes the ground.
         
@@ -193,6 +192,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         player.setEllipseBoundary(); // Sets the properties of the bounding polygon related to the texture 
           // region, using an ellipse.
         mainStage.addActor( player ); // Add actor to scene graph.
+        collisionWorld.register( player, LAYER_PLAYER, LAYER_STAR | LAYER_ENEMY ); // Collide with stars and enemies.
         
         // Set up the base star object.
         
@@ -266,11 +266,11 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         2.  If at or past star timer target, adds new yellow star.
         3.  If at or past enemy timer target, adds new enemy.
         4.  Performs collision detection -- stars, enemies, and ground.
-        5.  Clears actors in removal list.
+        5.  Ends the removal phase of the star and enemy bags, removing the actors destroyed during step 4.
         */
         
         // Declare regular variables.
-        int i; // Counter used to loop through background and ground objects.
+        int i; // Counter used to loop through background objects, ground objects, and overlapping pairs.
         
         // Declare objects.
         PhysicsActor bg; // Used to loop through background objects.  Current object in loop.
@@ -279,6 +279,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         PhysicsActor gr; // Used to loop through ground objects.  Current object in loop.
         AnimatedActor sparkle; // New sparkle object to create when player hits a star.
         PhysicsActor star; // New star object to create.
+        BaseActor starHit; // Yellow star overlapped by player.
         
         // Set up background objects to provide infinite scrolling effect.
         // The left edge of image 2 is adjacent to the right edge of image 1, and they both move to the 
@@ -332,11 +333,11 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // One or more seconds passed since addition of last yellow star.
             
             starTimer = 0; // Reset star timer.
-            star = baseStar.clone(); // Create copy of base star object.
+            star = actorPool.obtain(baseStar); // Get copy of base star object (reused from actor pool when available).
             star.setPosition( 900, MathUtils.random(100, 500) ); // Randomly position star.
-            starList.add( star ); // Add star to active list.
-            star.setParentList( starList ); // Set reference of (star) actor to ArrayList.
+            starList.add( star ); // Add star to active bag (BaseActor.destroy removes it).
             mainStage.addActor( star ); // Add (star) actor to scene graph.
+            collisionWorld.register( star, LAYER_STAR, LAYER_PLAYER ); // Collide with player.
         }
         
         // Add enemies at regular interval.
@@ -356,16 +357,16 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
                 // Reduce by 15.
                 enemySpeed -= 15;
             
-            enemy = baseEnemy.clone(); // Create copy of base enemy object.
+            enemy = actorPool.obtain(baseEnemy); // Get copy of base enemy object (reused from actor pool when available).
             enemy.setPosition( 900, MathUtils.random(100, 500) ); // Randomly position enemy.
             enemy.setVelocityXY(enemySpeed, 0); // Set acceleration of actor to move to the left.
             enemy.setRotation( 10 ); // Set rotation of enemy.
             enemy.addAction( Actions.forever(Actions.sequence( Actions.rotateBy(-20, 1), 
               Actions.rotateBy(20, 1) ) )); // Add action to enemy to constantly rotate.
             
-            enemyList.add( enemy );// Add enemy to active list.
-            enemy.setParentList( enemyList ); // Set reference of (enemy) actor to ArrayList.
+            enemyList.add( enemy );// Add enemy to active bag (BaseActor.destroy removes it).
             mainStage.addActor( enemy ); // Add (enemy) actor to scene graph.
+            collisionWorld.register( enemy, LAYER_ENEMY, LAYER_PLAYER ); // Collide with player.
             
         }
         
@@ -403,8 +404,10 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             }
         }
         
-        // Clear objects from removal list.
-        removeList.clear();
+        // Start removal phase for stars and enemies -- destroyed actors stay in their bags until the end
+        // of the collision checks, so loops can destroy actors directly.
+        starList.begin();
+        enemyList.begin();
         
         // Loop through active yellow stars.
         for (PhysicsActor star2 : starList )
@@ -413,29 +416,33 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // If yellow star past left edge of screen, then...
             if ( star2.getX() + star2.getWidth() < 0 )
                 // Yellow star past left edge of screen.
-                // Add star to removal list.
-                removeList.add(star2);
-                
-            // If player overlaps yellow star (more than MSV), then...
-            // The false DOES NOT automatically reposition the player to avoid overlap.
-            if ( player.overlaps(star2, false) )
-            {
-                
-                // Player overlaps yellow star (more than MSV).
-                removeList.add(star2); // Add star to removal list.
-                sparkle = baseSparkle.clone(); // Create copy of base sparkle object.
-                sparkle.moveToOrigin(star2); // Center sparkle within player object.
-                
-                // Add action to remove sparkle from screen in 0.64 seconds.
-                //sparkle.addAction( Actions.sequence( Actions.delay(0.64f), Actions.removeActor() ) );
-                sparkle.removeAfterSinglePass( sparkle );
-                
-                mainStage.addActor(sparkle); // Add (sparkle) actor to scene graph.
-                
-            } // End ... If player overlaps star.
+                // Remove star from screen.
+                star2.destroy();
             
         } // End ... Loop through stars.
         
+        // Collect pairs where player overlaps yellow star (more than MSV).
+        // Overlap checks DO NOT automatically reposition the player to avoid overlap.
+        collisionWorld.collectPairs( LAYER_PLAYER, LAYER_STAR, pairList );
+        
+        // Loop through yellow stars overlapped by player.
+        for (i = 0; i < pairList.size(); i++)
+        {
+            
+            // Player overlaps yellow star (more than MSV).
+            starHit = pairList.getSecond(i); // Get reference to star overlapped.
+            starHit.destroy(); // Remove star from screen.
+            sparkle = actorPool.obtain(baseSparkle); // Get copy of base sparkle object (reused from actor pool when available).
+            sparkle.moveToOrigin(starHit); // Center sparkle within player object.
+            
+            // Add action to remove sparkle from screen in 0.64 seconds.
+            //sparkle.addAction( Actions.sequence( Actions.delay(0.64f), Actions.removeActor() ) );
+            sparkle.removeAfterSinglePass( sparkle );
+            
+            mainStage.addActor(sparkle); // Add (sparkle) actor to scene graph.
+            
+        } // End ... Loop through yellow stars overlapped by player.
+        
         // Loop through active enemies.
         for (PhysicsActor enemy2 : enemyList )
         {
@@ -443,39 +450,34 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // If enemy past left edge of screen, then...
             if ( enemy2.getX() + enemy2.getWidth() < 0)
                 // Enemy past left edge of screen.
-                // Add enemy to removal list.
-                removeList.add(enemy2);
-                
-            // If player overlaps enemy (more than MSV), then...
-            // The false DOES NOT automatically reposition the player to avoid overlap.
-            if ( player.overlaps(enemy2, false) )
-            {
-                
-                // Player overlaps enemy (more than MSV).
-                
-                explosion = baseExplosion.clone(); // Create copy of base explosion object.
-                explosion.moveToOrigin(player); // Center explosion within player object.
-                
-                // Add action to remove explosion from screen in 1.08 seconds.
-                //explosion.addAction( Actions.sequence( Actions.delay(1.08f), Actions.removeActor() ) );
-                explosion.removeAfterSinglePass( explosion );
-                
-                mainStage.addActor(explosion); // Add (explosion) actor to scene graph. 
-                removeList.add(player); // Add player to removal list.                
-                gameOver = true; // Flag game as over.
-                
-            } // End ... If player overlaps enemy.
+                // Remove enemy from screen.
+                enemy2.destroy();
             
         } // End ... Loop through active enemies.
         
-        // Destroy actors in removal list -- clear them from the stage.
-        
-        // Loop through actors in removal list.
-        for (BaseActor ba : removeList)
+        // If player overlaps any enemy (more than MSV), then...
+        // Overlap checks DO NOT automatically reposition the player to avoid overlap.
+        if ( collisionWorld.collectPairs( LAYER_PLAYER, LAYER_ENEMY, pairList ) > 0 )
         {
-            // Remove actor from the stage.
-            ba.destroy();
-        }
+            
+            // Player overlaps enemy (more than MSV).
+            
+            explosion = actorPool.obtain(baseExplosion); // Get copy of base explosion object (reused from actor pool when available).
+            explosion.moveToOrigin(player); // Center explosion within player object.
+            
+            // Add action to remove explosion from screen in 1.08 seconds.
+            //explosion.addAction( Actions.sequence( Actions.delay(1.08f), Actions.removeActor() ) );
+            explosion.removeAfterSinglePass( explosion );
+            
+            mainStage.addActor(explosion); // Add (explosion) actor to scene graph. 
+            player.destroy(); // Remove player from screen.
+            gameOver = true; // Flag game as over.
+            
+        } // End ... If player overlaps enemy.
+        
+        // End removal phase -- remove destroyed stars and enemies from their bags.
+        starList.end();
+        enemyList.end();
         
     }
 
@@ -0,0 +1,478 @@
+package core;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import java.lang.reflect.Proxy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ActorPoolTest
+{
+
+    /*
+    The class tests the ActorPool together with ActorBag, using the spawn templates of the game -- the
+    star, enemy, and sparkle, set up and spawned as in the game screen (enemies rocking back and forth,
+    sparkles removing themselves after a single pass).  In particular, actors destroyed during a removal
+    phase of their bag (begin / end) must not get handed out again until the bag lets go of them, and
+    reused enemies and sparkles must come back like new ones.
+
+    No window gets opened.  Gdx.gl and Gdx.app get stand-ins answering with defaults, so the templates can
+    use textures created from small pixmaps (only the native library gets loaded).  The actors get added to
+    a Group rather than a Stage.
+    */
+
+    private static final float ENEMY_SPEED = -250; // Horizontal speed of the enemies spawned.
+    private static final float FRAME_TIME = 1 / 60f; // Time in seconds between frames.
+    private static final int SPAWNS_PER_FRAME = 25; // Stars and enemies (each) spawned and destroyed each stress frame.
+    private static final int STRESS_FRAMES = 5000; // Frames measured by the stress benchmark.
+    private static final int WARMUP_FRAMES = 5000; // Frames run before measuring.
+
+    private Texture starTex; // Texture for the star.
+    private Texture sparkleTex; // Texture for the sparkle frames.
+    private Texture enemyTex; // Texture for the enemy frames.
+    private PhysicsActor baseStar; // Template (base) star copied by the pool.
+    private PhysicsActor baseEnemy; // Template (base) enemy copied by the pool.
+    private AnimatedActor baseSparkle; // Template (base) sparkle copied by the pool.
+    private ActorPool pool; // Pool under test.
+    private Group parent; // Parent (in place of a Stage) of the actors spawned.
+    private ActorBag<PhysicsActor> firstBag; // Bag holding the actors spawned first.
+    private ActorBag<PhysicsActor> secondBag; // Bag holding the actors spawned during the removal phase.
+
+    @BeforeClass
+    public static void setUpGdx()
+    {
+
+        // The function loads the native library and sets up stand-ins for the GL and application interfaces,
+        // so the templates can use textures created from small pixmaps.
+
+        GdxNativesLoader.load();
+
+        Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance( GL20.class.getClassLoader(),
+            new Class<?>[] { GL20.class }, (proxy, method, args) -> defaultValue( method.getReturnType() ) );
+
+        Gdx.app = (Application)Proxy.newProxyInstance( Application.class.getClassLoader(),
+            new Class<?>[] { Application.class }, (proxy, method, args) ->
+            {
+                if (method.getName().equals( "getType" ))
+                    return Application.ApplicationType.Desktop;
+                if (method.getName().equals( "equals" ))
+                    return proxy == args[0];
+                if (method.getName().equals( "hashCode" ))
+                    return 1;
+                return defaultValue( method.getReturnType() );
+            } );
+
+    }
+
+    // type = Return type of the method called on a stand-in.
+    private static Object defaultValue(Class<?> type)
+    {
+        // The function returns the value a stand-in answers for the passed return type.
+        if (type == int.class)
+            return 1;
+        if (type == float.class)
+            return 1f;
+        if (type == long.class)
+            return 0L;
+        if (type == boolean.class)
+            return false;
+        return null;
+    }
+
+    // tex = Texture to show in each frame.
+    // frameCount = Number of frames in the animation.
+    // frameDuration = Duration (in seconds) of each frame.
+    // playMode = How the animation plays its frames.
+    private static Animation createAnimation(Texture tex, int frameCount, float frameDuration, PlayMode playMode)
+    {
+
+        // The function returns an animation showing the passed texture in each frame -- in place of the
+        // images loaded by the game screen.
+
+        Array<TextureRegion> frames = new Array<>(); // Frames of the animation.
+
+        for (int i = 0; i < frameCount; i++)
+            frames.add( new TextureRegion( tex ) );
+
+        return new Animation( frameDuration, frames, playMode );
+
+    }
+
+    @Before
+    public void setUp()
+    {
+
+        // The function creates the base star, enemy, and sparkle (set up as in the game screen), pool, parent,
+        // and bags used by each test.
+
+        starTex = new Texture( new Pixmap( 32, 32, Pixmap.Format.RGBA8888 ) );
+        sparkleTex = new Texture( new Pixmap( 64, 64, Pixmap.Format.RGBA8888 ) );
+        enemyTex = new Texture( new Pixmap( 88, 73, Pixmap.Format.RGBA8888 ) );
+
+        baseStar = new PhysicsActor();
+        baseStar.storeAnimation( "default", starTex );
+        baseStar.setVelocityXY( -200, 0 );
+        baseStar.setOriginCenter();
+        baseStar.setEllipseBoundary();
+
+        baseSparkle = new AnimatedActor();
+        baseSparkle.storeAnimation( "default", createAnimation( sparkleTex, 64, 0.01f, PlayMode.NORMAL ) );
+        baseSparkle.setWidth( 64 );
+        baseSparkle.setHeight( 64 );
+        baseSparkle.setOriginCenter();
+        baseSparkle.setFrameTiming( 64, 0.01f );
+
+        baseEnemy = new PhysicsActor();
+        baseEnemy.storeAnimation( "default", createAnimation( enemyTex, 3, 0.1f, PlayMode.LOOP_PINGPONG ) );
+        baseEnemy.setWidth( baseEnemy.getWidth() * 1.25f );
+        baseEnemy.setHeight( baseEnemy.getHeight() * 1.25f );
+        baseEnemy.setOriginCenter();
+        baseEnemy.setEllipseBoundary();
+
+        pool = new ActorPool();
+        parent = new Group();
+        firstBag = new ActorBag<>();
+        secondBag = new ActorBag<>();
+
+    }
+
+    @After
+    public void tearDown()
+    {
+        // The function releases the textures.
+        starTex.dispose();
+        sparkleTex.dispose();
+        enemyTex.dispose();
+    }
+
+    // bag = Bag to which to add the star.
+    // y = Vertical position of the star.
+    private PhysicsActor spawnStar(ActorBag<PhysicsActor> bag, float y)
+    {
+
+        // The function spawns a star as the game screen does each second -- obtains it from the pool,
+        // positions it at the right edge, and adds it to the parent and passed bag.
+
+        PhysicsActor star = pool.obtain( baseStar ); // Star spawned.
+
+        star.setPosition( 900, y );
+        bag.add( star );
+        parent.addActor( star );
+
+        return star;
+
+    }
+
+    // bag = Bag to which to add the enemy.
+    // y = Vertical position of the enemy.
+    private PhysicsActor spawnEnemy(ActorBag<PhysicsActor> bag, float y)
+    {
+
+        // The function spawns an enemy as the game screen does every three seconds -- obtains it from the
+        // pool, positions it at the right edge, sets its speed and rotation, rocks it back and forth, and adds
+        // it to the parent and passed bag.
+
+        PhysicsActor enemy = pool.obtain( baseEnemy ); // Enemy spawned.
+
+        enemy.setPosition( 900, y );
+        enemy.setVelocityXY( ENEMY_SPEED, 0 );
+        enemy.setRotation( 10 );
+        enemy.addAction( Actions.forever( Actions.sequence( Actions.rotateBy( -20, 1 ),
+          Actions.rotateBy( 20, 1 ) ) ) );
+        bag.add( enemy );
+        parent.addActor( enemy );
+
+        return enemy;
+
+    }
+
+    // starHit = Star over which to show the sparkle.
+    private AnimatedActor spawnSparkle(PhysicsActor starHit)
+    {
+
+        // The function spawns a sparkle as the game screen does when the player hits a star -- obtains it
+        // from the pool, centers it over the star, and removes it after a single pass of its animation.
+
+        AnimatedActor sparkle = pool.obtain( baseSparkle ); // Sparkle spawned.
+
+        sparkle.moveToOrigin( starHit );
+        sparkle.removeAfterSinglePass( sparkle );
+        parent.addActor( sparkle );
+
+        return sparkle;
+
+    }
+
+    @Test
+    public void spawnAndDestroyStressKeepsHeapFlat()
+    {
+
+        /*
+        Stress benchmark -- spawns and destroys SPAWNS_PER_FRAME stars and enemies each frame for
+        STRESS_FRAMES frames, destroying through a removal phase like the game loops do, with a sparkle
+        shown over each star destroyed.  After the warmup frames, the pool must hand out only reused actors
+        (no new clones), and the frames must allocate nothing -- including the enemy and sparkle actions,
+        which return to their pools when the actors get reused -- so the heap stays flat however long the
+        game runs.  Uses AllocationMonitor (skipped where unsupported).
+
+        The allocation check works on the total over all frames (under one byte per frame), since the
+        virtual machine itself occasionally allocates a few bytes on the thread (compiling code).  Any
+        garbage created per spawn adds up to far more.
+        */
+
+        AllocationMonitor monitor = new AllocationMonitor(); // Measures bytes allocated per frame.
+        long createdAfterWarmup; // Actors cloned by the pool once warmed up.
+        long totalBytes; // Bytes allocated over the measured frames.
+
+        monitor.setEnabled( true );
+
+        // Warm up -- fill the pool and let the virtual machine compile the loop, measuring as well (so the
+        // measured loop gets compiled too), and then discard the results.
+        measureStressFrames( monitor, WARMUP_FRAMES );
+        monitor.reset();
+
+        createdAfterWarmup = pool.getCreatedCount();
+
+        // Measure the frames.
+        totalBytes = measureStressFrames( monitor, STRESS_FRAMES );
+
+        // Pool stopped cloning -- every star, enemy, and sparkle since the warmup got reused.
+        assertEquals( createdAfterWarmup, pool.getCreatedCount() );
+        assertEquals( (long)(WARMUP_FRAMES + STRESS_FRAMES) * SPAWNS_PER_FRAME * 3, pool.getObtainedCount() );
+
+        // Frames allocated nothing (when the virtual machine reports allocations).
+        if (AllocationMonitor.isSupported())
+            assertTrue( monitor.getReport(), totalBytes < STRESS_FRAMES );
+
+    }
+
+    // monitor = Measures bytes allocated per frame.
+    // frameCount = Number of frames to run.
+    private long measureStressFrames(AllocationMonitor monitor, int frameCount)
+    {
+
+        // The function runs the passed number of stress frames, measuring each, and returns the total bytes
+        // allocated.
+
+        long totalBytes = 0; // Bytes allocated over the frames.
+
+        for (int frame = 0; frame < frameCount; frame++)
+        {
+            monitor.beginFrame();
+            runStressFrame();
+            monitor.endFrame();
+            totalBytes += monitor.getLastBytes( AllocationMonitor.TOTAL );
+        }
+
+        return totalBytes;
+
+    }
+
+    private void runStressFrame()
+    {
+
+        // The function spawns SPAWNS_PER_FRAME stars and enemies, moves them (sparkles from earlier frames
+        // remove themselves), and then destroys all of them during a removal phase, showing a sparkle over
+        // each star.
+
+        PhysicsActor actor; // Star or enemy to destroy.
+
+        for (int i = 0; i < SPAWNS_PER_FRAME; i++)
+        {
+            spawnStar( firstBag, 100 + 16 * i );
+            spawnEnemy( firstBag, 100 + 16 * i );
+        }
+
+        parent.act( FRAME_TIME );
+
+        firstBag.begin();
+
+        for (int i = 0; i < firstBag.size(); i++)
+        {
+            actor = firstBag.get( i );
+
+            if (actor.poolTemplate == baseStar)
+                spawnSparkle( actor );
+
+            actor.destroy();
+        }
+
+        firstBag.end();
+
+    }
+
+    @Test
+    public void reusedEnemyComesBackLikeNewOne()
+    {
+
+        /*
+        An enemy gets destroyed part way through rocking back and forth.  Spawned again from the pool, the
+        same enemy must come back at the starting rotation, with only the new rocking action, at the speed
+        and size of the template.
+        */
+
+        PhysicsActor enemy = spawnEnemy( firstBag, 300 ); // Enemy destroyed while rocking.
+
+        // Rock the enemy for half a second, then destroy it.
+        for (int frame = 0; frame < 30; frame++)
+            parent.act( FRAME_TIME );
+
+        assertTrue( enemy.getRotation() < 10 );
+        enemy.destroy();
+
+        // Spawn again -- same enemy, reset to match the template.
+        assertSame( enemy, spawnEnemy( firstBag, 200 ) );
+        assertEquals( 10, enemy.getRotation(), 0 );
+        assertEquals( 1, enemy.getActions().size );
+        assertEquals( -ENEMY_SPEED, enemy.getSpeed(), 1e-3f );
+        assertEquals( baseEnemy.getWidth(), enemy.getWidth(), 0 );
+        assertEquals( baseEnemy.getHeight(), enemy.getHeight(), 0 );
+        assertEquals( "default", enemy.getAnimationName() );
+
+    }
+
+    @Test
+    public void reusedSparkleRemovesItselfAfterSinglePass()
+    {
+
+        /*
+        A sparkle removes itself after a single pass of its animation (64 frames of 0.01 seconds), which
+        returns it to the pool.  Shown again, the same sparkle must keep the timing of the template and
+        remove itself after a single pass again.
+        */
+
+        PhysicsActor star = spawnStar( firstBag, 300 ); // Star over which to show the sparkles.
+        AnimatedActor sparkle = spawnSparkle( star ); // Sparkle shown first.
+
+        for (int pass = 0; pass < 2; pass++)
+        {
+
+            // Sparkle stays up for 0.6 seconds...
+            for (int frame = 0; frame < 36; frame++)
+                parent.act( FRAME_TIME );
+
+            assertTrue( sparkle.hasParent() );
+            assertEquals( 0, pool.getFreeCount( baseSparkle ) );
+
+            // ...and leaves, returning to the pool, by 0.7 seconds.
+            for (int frame = 0; frame < 6; frame++)
+                parent.act( FRAME_TIME );
+
+            assertFalse( sparkle.hasParent() );
+            assertEquals( 1, pool.getFreeCount( baseSparkle ) );
+
+            // Show again -- same sparkle.
+            if (pass == 0)
+                assertSame( sparkle, spawnSparkle( star ) );
+
+        }
+
+    }
+
+    @Test
+    public void freeOutsideRemovalPhaseReturnsActorAtOnce()
+    {
+
+        PhysicsActor star = spawnStar( firstBag, 300 ); // Star to destroy.
+
+        star.destroy();
+
+        assertEquals( 0, firstBag.size() );
+        assertEquals( 1, pool.getFreeCount( baseStar ) );
+
+        // Pool keeps the templates apart -- an enemy does not get the free star.
+        assertNotSame( star, spawnEnemy( firstBag, 300 ) );
+        assertEquals( 1, pool.getFreeCount( baseStar ) );
+        assertSame( star, pool.obtain( baseStar ) );
+
+    }
+
+    @Test
+    public void freeDuringRemovalPhaseWaitsForEnd()
+    {
+
+        /*
+        Mirrors the star loop of the game screen -- a star gets destroyed inside the removal phase of its
+        bag, and a star spawned in the same frame goes into another bag.  The destroyed star must not come
+        back from obtain before the first bag ends its phase.
+        */
+
+        PhysicsActor destroyed = spawnStar( firstBag, 300 ); // Star destroyed during the removal phase.
+        PhysicsActor spawned; // Star spawned during the removal phase.
+
+        firstBag.begin();
+
+        destroyed.destroy();
+
+        // Star left the parent, but stays in the bag (flagged) and out of the free actors.
+        assertFalse( parent.getChildren().contains( destroyed, true ) );
+        assertTrue( firstBag.isRemovalPending( destroyed ) );
+        assertEquals( 0, pool.getFreeCount( baseStar ) );
+
+        // Spawn during the phase -- gets a new star, and adding it to another bag works.
+        spawned = spawnStar( secondBag, 300 );
+        assertNotSame( destroyed, spawned );
+
+        firstBag.end();
+
+        // Star left the bag and returned to the pool.
+        assertEquals( 0, firstBag.size() );
+        assertEquals( 1, pool.getFreeCount( baseStar ) );
+
+        // Next spawn reuses the star, which can join the second bag.
+        assertSame( destroyed, spawnStar( secondBag, 300 ) );
+        assertEquals( 2, secondBag.size() );
+
+    }
+
+    @Test
+    public void destroyTwiceDuringRemovalPhaseReturnsActorOnce()
+    {
+
+        PhysicsActor enemy = spawnEnemy( firstBag, 300 ); // Enemy destroyed twice.
+
+        firstBag.begin();
+        enemy.destroy();
+        enemy.destroy();
+        firstBag.end();
+
+        assertEquals( 1, pool.getFreeCount( baseEnemy ) );
+
+    }
+
+    @Test
+    public void clearDuringRemovalPhaseReturnsFreedActors()
+    {
+
+        PhysicsActor star = spawnStar( firstBag, 300 ); // Star destroyed before the bag gets cleared.
+
+        spawnEnemy( firstBag, 300 );
+
+        firstBag.begin();
+        star.destroy();
+        firstBag.clear();
+        firstBag.end();
+
+        assertEquals( 1, pool.getFreeCount( baseStar ) );
+        assertSame( star, pool.obtain( baseStar ) );
+
+    }
+
+}
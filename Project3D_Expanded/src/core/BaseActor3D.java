@@ -60,17 +60,24 @@ public class BaseActor3D
     each BaseActor3D object.  The objects will be combined into a Matrix4 and stored in the ModelInstance when 
     needed.
     
+    Rebuilding the Matrix4 takes a fair amount of math, so it only happens in act for actors whose position,
+    rotation, or scale changed since the last frame (flagged by transformDirty).  The matrix of the model
+    instance gets updated in place, and the movement and rotation methods use shared scratch objects rather
+    than creating new vectors and quaternions, so moving an actor creates no garbage.
+    
     Methods include:
 
-    act:  Updates the transformation data of the model instance.
+    act:  Updates the transformation data of the model instance (when changed).
     addPosition:  Adds the passed vector or combination of coordinates (x, y, z) to the current position.
-    calculateTransform:  Combines the position, rotation, and scale data into a Matrix4 object.
+    calculateTransform:  Combines the position, rotation, and scale data into a (new or passed) Matrix4 object.
     clone:  Returns a BaseActor3D with the same properties as the current.
     copy:  Copies properties from the passed to the current BaseActor3D.
     draw:  Renders the model instance using the supplied ModelBatch and Environment.
     getBoundingPolygon:
     getPosition:  Returns the position of the 3D actor -- as a vector.
     getTurnAngle:  Returns the angle in radians of the rotation around the Y axis.
+    invalidateTransform:  Flags the transformation data for recalculation during the next act.
+    moved:  Flags the transformation data for recalculation.
     moveForward:  Moves the 3D actor forward by the specified amount.
     moveRight:  Moves the 3D actor right by the specified amount.
     moveUp:  Moves the 3D actor up by the specified amount.
@@ -92,6 +99,12 @@ public class BaseActor3D
     private final Vector3 position; // Position, stored as a vector (x, y, and z components).
     private final Quaternion rotation; // Rotation of the model instance.
     private final Vector3 scale; // Scale, stored as a vector (x, y, and z components).
+    boolean transformDirty; // Whether the position, rotation, or scale changed since the transformation
+      // matrix of the model instance was last calculated.
+    
+    // Scratch objects shared by the movement and rotation methods, which avoids creating new objects.
+    private static final Vector3 moveVector = new Vector3(); // Direction (and distance) of movement.
+    private static final Quaternion turnQuaternion = new Quaternion(); // Rotation to apply.
     
     public BaseActor3D()
     {
@@ -106,14 +119,25 @@ public class BaseActor3D
         rotation  = new Quaternion();
         scale     = new Vector3( 1, 1, 1 );
         boundingPolygon = null;
+        transformDirty = true;
         
     }
 
     // dt = Time in seconds since the last frame.  Also called delta.
     public void act(float dt)
     {
-        // The function updates the transformation data of the model instance.
-        modelData.transform.set( calculateTransform() );   
+        
+        // The function updates the transformation data of the model instance, when the position, rotation,
+        // or scale changed since the last update.  The existing matrix gets updated in place.
+        
+        // If transformation data changed, then...
+        if (transformDirty)
+        {
+            // Transformation data changed.  Recalculate matrix of model instance.
+            calculateTransform( modelData.transform );
+            transformDirty = false;
+        }
+        
     }
     
     // v = Vector to add to current position.
@@ -121,6 +145,7 @@ public class BaseActor3D
     {
         // The function adds the passed vector to the current position.
         position.add( v );  
+        moved();
     }
     
     // x = X-coordinate to add to current position.
@@ -129,18 +154,27 @@ public class BaseActor3D
     public void addPosition(float x, float y, float z)
     {
         // The function add the passed combination of coordinate parameters (x, y, and z)
-        // to the current position.
-        addPosition( new Vector3(x, y, z) );  
+        // to the current position, without creating a temporary vector.
+        position.add( x, y, z );  
+        moved();
     }
     
     public Matrix4 calculateTransform()
     {
-        // The method combines the position, rotation, and scale data into a Matrix4 object.
+        // The method combines the position, rotation, and scale data into a new Matrix4 object.
         
         // Return a Matrix4 object based on the position, rotation, and scale of the model instance.
         return new Matrix4( position, rotation, scale );
     }
     
+    // transform = Matrix4 object in which to store the results.
+    public Matrix4 calculateTransform(Matrix4 transform)
+    {
+        // The method combines the position, rotation, and scale data into the passed Matrix4 object,
+        // without creating a new one.  Returns the passed object.
+        return transform.set( position, rotation, scale );
+    }
+    
     @SuppressWarnings({"MethodDoesntCallSuperMethod", "CloneDoesntCallSuperClone", "CloneDeclaresCloneNotSupported"})
     @Override
     public BaseActor3D clone()
@@ -183,6 +217,8 @@ public class BaseActor3D
             // Create bounding polygon in current with vertices in bounding polygon of passed BaseActor3D.
             this.boundingPolygon = new Polygon( orig.boundingPolygon.getVertices() );
         
+        moved();
+        
     }
     
     // batch = Used to render three-dimensional objects.
@@ -202,7 +238,8 @@ public class BaseActor3D
     
     public Vector3 getPosition()
     {
-        // The function returns the position of the 3D actor -- as a vector.
+        // The function returns the position of the 3D actor -- as a vector.  After changing the vector
+        // directly, call invalidateTransform so the change gets applied.
         return position;
     }
     
@@ -210,6 +247,12 @@ public class BaseActor3D
     {   
         // The function returns the angle in radians of the rotation around the Y axis.
         return rotation.getAngleAround( 0, -1, 0 );
+    }    
+    public void invalidateTransform()
+    {
+        // The function flags the transformation data for recalculation during the next act.  Call after
+        // changing the vector returned by getPosition directly.
+        transformDirty = true;
     }
     
     /*
@@ -226,25 +269,32 @@ public class BaseActor3D
     distance, and add the result to the current position.
     */
     
+    private void moved()
+    {
+        // The function flags the transformation data for recalculation, after changes to position or 
+        // rotation.
+        transformDirty = true;
+    }
+    
     // dist = Distance by which to move forward.
     public void moveForward(float dist)
     {
         // The function moves the 3D actor forward by the specified amount.
-        addPosition( rotation.transform( new Vector3(0, 0, -1) ).scl( dist ) );  
+        addPosition( rotation.transform( moveVector.set(0, 0, -1) ).scl( dist ) );  
     }
     
     // dist = Distance by which to move right.
     public void moveRight(float dist)
     {
         // The function moves the 3D actor right by the specified amount.
-        addPosition( rotation.transform( new Vector3(1, 0, 0) ).scl( dist ) );  
+        addPosition( rotation.transform( moveVector.set(1, 0, 0) ).scl( dist ) );  
     }
     
     // dist = Distance by which to move up.
     public void moveUp(float dist)
     {
         // The function moves the 3D actor up by the specified amount.
-        addPosition( rotation.transform( new Vector3(0, 1, 0) ).scl( dist ) );  
+        addPosition( rotation.transform( moveVector.set(0, 1, 0) ).scl( dist ) );  
     }
     
     // other =
@@ -296,6 +346,7 @@ public class BaseActor3D
     {
         // The function sets the model instance to the passed object.
         modelData = m;
+        transformDirty = true;
     }
 
     // v = Vector to use in setting position of the 3D actor.
@@ -303,6 +354,7 @@ public class BaseActor3D
     {  
         // The function uses a vector parameter to set the position of the 3D actor.
         position.set(v);  
+        moved();
     }
     
     // x = X-coordinate to use in setting position of 3D actor.
@@ -313,6 +365,7 @@ public class BaseActor3D
         // The function uses a combination of x, y, and z coordinates sent as three parameters to set
         // the position of the 3D actor.
         position.set( x, y, z );  
+        moved();
     }
     
     public void setEllipseBase()
@@ -382,14 +435,16 @@ public class BaseActor3D
     public void setTurnAngle(float degrees)
     {
         // The function sets the angle in radians of the rotation around the Y axis.
-        rotation.set( new Quaternion(Vector3.Y, degrees) );  
+        rotation.set( Vector3.Y, degrees );  
+        moved();
     }
     
     // degrees = Number of radians to rotate.
     public void turn(float degrees)
     {
         // The function adjusts the angle in radians of the rotation around the Y axis by the passed value.
-        rotation.mul( new Quaternion(Vector3.Y, -degrees) );  
+        rotation.mul( turnQuaternion.set(Vector3.Y, -degrees) );  
+        moved();
     }
     
 }
@@ -164,6 +164,9 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     private int viewHeightUI; // Window height for the ui stage.
     private int viewWidthUI; // Window width for the ui stage.
 
+    public AllocationMonitor allocationMonitor; // Measures bytes allocated during each phase of render
+    // (act, update, draw).  Enable with allocationMonitor.setEnabled(true) or -Dallocation.monitor=true.
+
     private boolean paused; // Whether game paused.
 
     // g = Screen object for current window.
@@ -188,6 +191,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Set defaults.
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
 
         // Set window size values, based on parameters.
         this.viewWidthUI = windowWidth;
@@ -240,6 +244,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Set defaults.
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
 
         // Set window size values, based on parameters.
         this.viewWidthUI = uiWidth;
@@ -293,12 +298,17 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         2.  If game not paused, adjusts Actor positions and other properties in the main stage and 
         processes player input.
         3.  Draws the graphics.
+        4.  Measures the memory allocated during each of the steps (when the allocation monitor is enabled).
         */
 
+        // Start measuring the memory allocated during the frame.
+        allocationMonitor.beginFrame();
+
         // Call the Actor.act(float) method on each actor in the UI stage.
         // Typically called each frame.  The method also fires enter and exit events.
         // Updates the position of each Actor based on time.
         uiStage.act(dt);
+        allocationMonitor.mark( AllocationMonitor.ACT );
 
         // Only pause gameplay events, not UI events.
 
@@ -310,11 +320,13 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
             // Handle game logic -- allow processing based on player actions / input.
             update(dt);
+            allocationMonitor.mark( AllocationMonitor.UPDATE );
             
             // Call the Actor.act(float) method on each actor in the non-UI stage.
             // Typically called each frame.  The method also fires enter and exit events.
             // Updates the position of each Actor based on time.
             mainStage3D.act(dt);
+            allocationMonitor.mark( AllocationMonitor.ACT );
             
         }
 
@@ -341,6 +353,9 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         // Draw the UI stage.
         uiStage.draw();
 
+        // Finish measuring the memory allocated during the frame (drawing) and check the budget.
+        allocationMonitor.endFrame();
+
     }
 
     // Pause methods follow...
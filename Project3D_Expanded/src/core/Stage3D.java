@@ -51,6 +51,8 @@ public class Stage3D
     act:  Updates the camera and the transformation data (model instances) of the stage.
     addActor:  Adds the passed BaseActor3D to the ArrayList.
     draw:  Renders each object in the ArrayList.
+    getTransformUpdateCount:  Returns the number of BaseActor3D objects whose transformation data changed
+      during the last act.
     moveCamera:  Moves the camera using the specified parameter(s) -- either a vector  or its x, y, 
       and z components.
     moveCameraForward:  Moves the camera forward the passed distance.
@@ -61,6 +63,9 @@ public class Stage3D
     setCameraPosition:  Sets the camera position using the specified parameter(s).
     tiltCamera:  Tilts the camera up or down by the passed angle, to look higher or lower.
     turnCamera:  Rotates around the y-axis by the passed angle.
+    
+    The act and draw methods loop through the actors by index, rather than with forEach and a lambda
+    expression, since a lambda using local variables (such as dt) creates a new object with each call.
     */
     
     // Declare object variables.
@@ -68,6 +73,8 @@ public class Stage3D
     private final PerspectiveCamera camera; // A Camera with perspective projection.
     private final ModelBatch modelBatch; // Used to render three-dimensional objects.
     private final ArrayList<BaseActor3D> actorList; // Set of BaseActor3D objects.
+    private int transformUpdateCount; // Number of BaseActor3D objects whose transformation data changed
+      // during the last act.
     
     public Stage3D()
     {
@@ -150,19 +157,27 @@ public class Stage3D
         // The function updates the camera and the transformation data of all model instances related to
         // the ArrayList.
         
+        BaseActor3D ba; // Current BaseActor3D in loop.
+        
         // Update the camera.
         camera.update();
         
         // Update the transformation data of the model instances corresponding to each BaseActor3D in 
-        // the ArrayList.
-        
-        /*
-        for (BaseActor3D ba : actorList)
-        ba.act(dt);
-         */
-        actorList.forEach((ba) -> {
+        // the ArrayList.  Only actors with changed position, rotation, or scale recalculate their matrix.
+        transformUpdateCount = 0;
+        
+        for (int i = 0; i < actorList.size(); i++)
+        {
+            
+            ba = actorList.get(i);
+            
+            // If transformation data changed, then count actor.
+            if (ba.transformDirty)
+                transformUpdateCount++;
+            
             ba.act(dt);
-        });
+            
+        }
         
     }
 
@@ -186,14 +201,8 @@ public class Stage3D
         modelBatch.begin(camera);
         
         // Render each object in the ArrayList.
-        
-        /*
-        for (BaseActor3D ba : actorList)
-        ba.draw(modelBatch, environment);
-         */
-        actorList.forEach((ba) -> {
-            ba.draw(modelBatch, environment);
-        });
+        for (int i = 0; i < actorList.size(); i++)
+            actorList.get(i).draw( modelBatch, environment );
         
         // Call end method to cause any renderables provided by render() methods to be rendered.
         modelBatch.end();
@@ -220,6 +229,13 @@ public class Stage3D
     the y axis.
     */
     
+    public int getTransformUpdateCount()
+    {
+        // The function returns the number of BaseActor3D objects whose transformation data changed (and
+        // got recalculated) during the last act.
+        return transformUpdateCount;
+    }
+    
     // x = X-component of vector by which to move camera.
     // y = Y-component of vector by which to move camera.
     // z = Z-component of vector by which to move camera.
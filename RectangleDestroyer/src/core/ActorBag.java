@@ -0,0 +1,350 @@
+package core;
+
+import com.badlogic.gdx.utils.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class ActorBag<T extends BaseActor> extends AbstractList<T>
+{
+
+    /*
+    The class stores an unordered collection (bag) of BaseActor objects, for lists of active actors like
+    lasers, rocks, stars, and coins.  Each actor stores its own index within the bag, so removal takes
+    constant time -- the last actor moves into the freed slot (swap-remove).  With an ArrayList, removal
+    (such as through BaseActor.destroy) searches the list and shifts every later element, so removing
+    many actors in one frame takes quadratic time.
+
+    Adding an actor to a bag links the actor to the bag.  BaseActor.destroy then removes the actor from
+    the bag, replacing the parent list (setParentList) used with an ArrayList.  An actor belongs to one
+    bag at a time.
+
+    Removal phase:
+
+    Removing actors while looping through the bag would move actors into slots the loop already passed.
+    Instead, wrap loops that may remove actors with begin and end:
+
+    laserList.begin();
+    for ( PhysicsActor laser : laserList )
+        if ( ... )
+            laser.destroy(); // Stays in bag (flagged) until end.
+    laserList.end(); // Removes flagged actors.
+
+    Between begin and end, removals get deferred -- the actors stay in place (flagged as pending removal)
+    and leave the bag during end.  As a result, loops can destroy actors directly, without collecting them
+    in a separate removal list first.  Adding a flagged actor to the bag again before end cancels its
+    removal.  Calls to begin and end may nest -- removals happen at the outermost end.  Actors from an
+    ActorPool freed during the phase return to the pool once they leave the bag, at end.
+
+    The bag extends AbstractList, so it works with for-each loops and code accepting a List.  The order of
+    the actors changes as actors get removed.
+
+    Methods include:
+
+    add:  Adds an actor to the end of the bag and links the actor to the bag.
+    begin:  Starts a removal phase -- deferring removals until the matching end call.
+    clear:  Removes all actors from the bag.
+    contains:  Returns whether the passed actor belongs to the bag (constant time).
+    end:  Ends a removal phase -- removing actors flagged during the phase (at the outermost end).
+    get:  Returns the actor at the passed index.
+    indexOf:  Returns the index of the passed actor within the bag (constant time).
+    isRemovalPending:  Returns whether the passed actor waits for removal at the end of the current phase.
+    remove:  Removes an actor (or the actor at an index) from the bag -- deferred during a removal phase.
+    size:  Returns the number of actors in the bag.
+    */
+
+    private BaseActor[] items; // Actors in the bag.  Slots at and past size hold null.
+    private int size; // Number of actors in the bag.
+    private int phaseDepth; // Number of begin calls without a matching end call.
+    private final Array<BaseActor> pendingRemovals; // Actors flagged for removal during the current phase.
+
+    public ActorBag()
+    {
+        // The constructor of the class creates an empty bag with room for 16 actors.
+        this( 16 );
+    }
+
+    // capacity = Number of actors the bag can hold before growing.
+    public ActorBag(int capacity)
+    {
+
+        // The constructor of the class creates an empty bag with room for the passed number of actors.
+
+        items = new BaseActor[Math.max( capacity, 1 )];
+        size = 0;
+        phaseDepth = 0;
+        pendingRemovals = new Array<>( false, 16 );
+
+    }
+
+    // actor = Actor to add.
+    @Override
+    public boolean add(T actor)
+    {
+
+        /*
+        The function adds the passed actor to the end of the bag and links the actor to the bag.
+        Adding an actor flagged for removal from the current bag cancels the removal instead.
+        Actors still linked to another bag get removed from it first -- which must happen outside a
+        removal phase of the other bag.
+        The function returns whether the bag changed.
+        */
+
+        // If actor already in current bag, then...
+        if (actor.bag == this)
+        {
+            // Actor already in current bag.  Cancel any pending removal.
+            actor.bagRemovalPending = false;
+            return false;
+        }
+
+        // If actor in another bag, then remove it from that bag.
+        if (actor.bag != null)
+            actor.bag.remove( actor );
+
+        // If actor still in another bag (removal deferred by a removal phase), then throw an exception.
+        if (actor.bag != null)
+            throw new IllegalStateException( "Actor waits for removal from another bag." );
+
+        // If bag full, then double its capacity.
+        if (size == items.length)
+            items = Arrays.copyOf( items, size * 2 );
+
+        // Store actor in next slot and link it to the bag.
+        items[size] = actor;
+        actor.bag = this;
+        actor.bagIndex = size;
+        actor.bagRemovalPending = false;
+        size++;
+        modCount++;
+
+        return true;
+
+    }
+
+    public void begin()
+    {
+        // The function starts a removal phase -- deferring removals until the matching end call.
+        phaseDepth++;
+    }
+
+    @Override
+    public void clear()
+    {
+
+        // The function removes all actors from the bag (including any flagged for removal).
+
+        // Loop through actors, unlinking each from the bag.
+        for (int i = 0; i < size; i++)
+        {
+            items[i].bag = null;
+            items[i].bagIndex = -1;
+            items[i].bagRemovalPending = false;
+            storeIfFreed( items[i] );
+            items[i] = null;
+        }
+
+        size = 0;
+        pendingRemovals.clear();
+        modCount++;
+
+    }
+
+    // o = Object to find.
+    @Override
+    public boolean contains(Object o)
+    {
+        // The function returns whether the passed actor belongs to the bag (constant time).
+        return o instanceof BaseActor && ((BaseActor)o).bag == this;
+    }
+
+    public void end()
+    {
+
+        // The function ends a removal phase.  At the outermost end, removes the actors flagged for removal
+        // during the phase.
+
+        BaseActor actor; // Current actor flagged for removal.
+
+        // If end called without begin, then exit.
+        if (phaseDepth == 0)
+            return;
+
+        phaseDepth--;
+
+        // If phase still open (nested begin), then exit.
+        if (phaseDepth > 0)
+            return;
+
+        // Loop through actors flagged for removal.
+        for (int i = 0; i < pendingRemovals.size; i++)
+        {
+            actor = pendingRemovals.get( i );
+
+            // If actor still in current bag and removal not cancelled, then remove it -- returning it to
+            // its actor pool when freed during the phase.
+            if (actor.bag == this && actor.bagRemovalPending)
+            {
+                removeIndex( actor.bagIndex );
+                storeIfFreed( actor );
+            }
+        }
+
+        pendingRemovals.clear();
+
+    }
+
+    // index = Index of actor to return.
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index)
+    {
+
+        // The function returns the actor at the passed index.
+
+        // If index outside the bag, then throw an exception (like ArrayList).
+        if (index >= size)
+            throw new IndexOutOfBoundsException( "index: " + index + ", size: " + size );
+
+        return (T)items[index];
+
+    }
+
+    // o = Object to find.
+    @Override
+    public int indexOf(Object o)
+    {
+        // The function returns the index of the passed actor within the bag (constant time), or -1 when
+        // the actor does not belong to the bag.
+        return contains( o ) ? ((BaseActor)o).bagIndex : -1;
+    }
+
+    // actor = Actor to check.
+    public boolean isRemovalPending(BaseActor actor)
+    {
+        // The function returns whether the passed actor waits for removal at the end of the current phase.
+        return actor.bag == this && actor.bagRemovalPending;
+    }
+
+    // o = Actor to remove.
+    @Override
+    public boolean remove(Object o)
+    {
+
+        /*
+        The function removes the passed actor from the bag in constant time.  During a removal phase
+        (between begin and end), flags the actor instead, leaving the bag unchanged until end.
+        The function returns whether the actor belonged to the bag.
+        */
+
+        BaseActor actor; // Actor to remove.
+
+        // If object not in current bag, then exit.
+        if (!contains( o ))
+            return false;
+
+        actor = (BaseActor)o;
+
+        // If in removal phase, then...
+        if (phaseDepth > 0)
+        {
+            // In removal phase.  Flag actor for removal at end of phase (once).
+            if (!actor.bagRemovalPending)
+            {
+                actor.bagRemovalPending = true;
+                pendingRemovals.add( actor );
+            }
+        }
+
+        else
+            // Not in removal phase.  Remove actor now.
+            removeIndex( actor.bagIndex );
+
+        return true;
+
+    }
+
+    // index = Index of actor to remove.
+    @Override
+    public T remove(int index)
+    {
+
+        // The function removes the actor at the passed index (see remove(Object)).
+        // The function returns the actor.
+
+        T actor = get( index ); // Actor to remove.
+
+        remove( (Object)actor );
+
+        return actor;
+
+    }
+
+    // index = Index of actor to remove.
+    private void removeIndex(int index)
+    {
+
+        // The function removes the actor at the passed index by moving the last actor into its slot.
+
+        BaseActor actor = items[index]; // Actor to remove.
+
+        // Move last actor into slot of removed actor.
+        size--;
+        items[index] = items[size];
+        items[index].bagIndex = index;
+        items[size] = null;
+
+        // Unlink removed actor from the bag.
+        actor.bag = null;
+        actor.bagIndex = -1;
+        actor.bagRemovalPending = false;
+        modCount++;
+
+    }
+
+    // actor = Actor just unlinked from the bag.
+    private static void storeIfFreed(BaseActor actor)
+    {
+
+        // The function hands the passed actor to its actor pool for reuse when the actor got freed while
+        // waiting for removal from the bag (see ActorPool.free).
+
+        if (actor.inPool && actor.pool != null)
+            actor.pool.store( actor );
+
+    }
+
+    @Override
+    public int size()
+    {
+        // The function returns the number of actors in the bag.
+        return size;
+    }
+
+}
@@ -1,6 +1,7 @@
 package core;
 
 import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -8,7 +9,6 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Intersector;
 import java.util.ArrayList;
 
 /*
@@ -49,14 +49,19 @@ public class BaseActor extends Group
     //       Actor (parent / super) class.  Updates Actor position based on time.
     // clone:  Returns a BaseActor with the same properties as the current.
     // copy:  Copies properties from the passed to the current BaseActor.
-    // destroy:  Removes the BaseActor from its Stage and parent list (as necessary).
-    // draw:  Sets the tinting color of and draws the Actor.
+    // destroy:  Removes the BaseActor from its Stage parent list, and bag (as necessary).
+    // detach:  Removes the BaseActor from its Stage, parent list, and bag, when returning to an actor pool.
+    // draw:  Sets the tinting color of and draws the Actor (and its children, when present).
     // getBoundingPolygon:  Sets the position and rotation of the bounding polygon to that of the Actor.
     // getBoundingRectangle:  Sets the properties of the bounding rectangle related to the texture region.
     // getTintColor:  Gets the tint color of the Actor.
     // moveToOrigin:  Centers a small within a larger rectangle, using the borders of the current and target BaseActor objects.
     // overlaps:  Determines whether the bounding polygon for the passed Actor intersects (significantly)
     //            with that of the current.  Moves current Actor minimum amount to avoid intersection.
+    // remove:  Removes the BaseActor from its parent.  Actors from an ActorPool return to the pool.
+    // removeFromParentList:  Removes the BaseActor from its parent list and bag (as necessary).
+    // resetForReuse:  Resets the properties a new Actor starts with, before reuse by an actor pool.
+    // reuse:  Resets the BaseActor to match a new clone of the passed template (actor pool).
     // setActorName:  Sets the Actor name to the passed value.
     // setAdditionalDefaults:  Performs additional operations for the constructor that would cause
     //                        overridable method call errors.
@@ -79,6 +84,15 @@ public class BaseActor extends Group
     public boolean copyUsingTintColor; // Whether to copy using tint color.
     
     public ArrayList<? extends BaseActor> parentList; // Stores a reference to an ArrayList to which the Actor has been added.
+    ActorBag<?> bag; // Bag to which the Actor has been added (set by ActorBag).
+    int bagIndex; // Slot of the Actor within its bag (set by ActorBag).
+    boolean bagRemovalPending; // Whether the Actor waits for removal from its bag at the end of a removal phase.
+
+    // Actor pool data (set by ActorPool).
+    ActorPool pool; // Pool from which the Actor came (null when created directly).
+    BaseActor poolTemplate; // Template (base) actor the pool copied to set up the Actor.
+    boolean inPool; // Whether the Actor waits in the pool for reuse.
+
     public TextureRegion region; // Stores image (similar to a buffer from Direct-X).  Includes more
     // functionality than a Texture.  Supports storage of multiple images or animation frames.
     // Stores coordinates (u, v), that determine which rectangular subarea of the Texture to use.
@@ -113,6 +127,12 @@ public class BaseActor extends Group
         boundingRectangle = new Rectangle(); // Create a 2D rectangle to reflect position and borders of image.
         //noinspection MoveFieldAssignmentToInitializer
         parentList = null; // Initialize an empty list of references to ArrayList containing Actor.
+        bag = null; // Initialize as not belonging to a bag.
+        bagIndex = -1;
+        bagRemovalPending = false;
+        pool = null; // Flag Actor as not from an actor pool.
+        poolTemplate = null;
+        inPool = false;
 
         // Initialize color engine object.
         colorEngine = new ColorWorks();
@@ -142,17 +162,114 @@ public class BaseActor extends Group
     public void destroy()
     {
 
-        // The function removes the BaseActor from its Stage and parent list (as necessary).
+        // The function removes the BaseActor from its Stage, parent list, and bag (as necessary).
 
         // Remove Actor from Stage.
         remove();
 
+        // Remove current BaseActor from parent list and bag.
+        removeFromParentList();
+
+    }
+
+    void detach()
+    {
+
+        // The function removes the BaseActor from its Stage, parent list, and bag, when returning
+        // to an actor pool.  The reference to the parent list gets cleared, since the next use may differ.
+
+        // If Actor in a Stage / Group, then remove it (directly, to avoid returning to the pool again).
+        if (getParent() != null)
+            getParent().removeActor(this);
+
+        // If parent list exists, then remove current BaseActor from it and clear the reference.
+        if (parentList != null)
+        {
+            parentList.remove(this);
+            parentList = null;
+        }
+
+        // If bag exists, then remove current BaseActor from it.
+        if (bag != null)
+            bag.remove(this);
+
+    }
+
+    @Override
+    public boolean remove()
+    {
+
+        // The function removes the BaseActor from its parent (Stage / Group).  Actors obtained from an
+        // ActorPool return to the pool, which covers both destroy and Actions.removeActor.
+        // The function returns whether the BaseActor had a parent.
+
+        boolean removed; // Whether the BaseActor had a parent.
+
+        // Remove Actor from its parent.
+        removed = super.remove();
+
+        // If Actor came from an actor pool, then return it to the pool.
+        if (pool != null)
+            pool.free(this);
+
+        return removed;
+
+    }
+
+    protected void removeFromParentList()
+    {
+
+        // The function removes the BaseActor from its parent list and bag (as necessary), leaving the Stage
+        // alone.  Subclasses overriding destroy (for example, to fade out before leaving the Stage) call the
+        // function.
+
         // If parent list exists, then...
         if (parentList != null)
             // Parent list exists.
             // Remove current BaseActor from parent list.
             parentList.remove(this);
 
+        // If bag exists, then...
+        if (bag != null)
+            // Bag exists.
+            // Remove current BaseActor from bag (deferred during a removal phase).
+            bag.remove(this);
+
+    }
+
+    void resetForReuse()
+    {
+
+        // The function resets the properties a new Actor starts with, but copy leaves alone -- actions,
+        // listeners, children, rotation, scale, color, touchable status, and name.  Called before an
+        // actor pool reuses the Actor.
+
+        // Remove actions, listeners, and children.
+        clear();
+
+        // Reset rotation, scale, color, touchable status, and name.
+        setRotation( 0 );
+        setScale( 1 );
+        getColor().set( Color.WHITE );
+        setTouchable( Touchable.enabled );
+        setName( null );
+
+    }
+
+    // template = Template (base) actor to match.
+    void reuse(BaseActor template)
+    {
+
+        // The function resets the BaseActor to match a new clone of the passed template.  Called by
+        // ActorPool when handing out a free actor.  Subclasses with their own copy method override the
+        // function.
+
+        // Reset the properties a new Actor starts with.
+        resetForReuse();
+
+        // Copy properties of the template.
+        copy( template );
+
     }
     
     public void setOriginCenter()
@@ -336,13 +453,29 @@ public class BaseActor extends Group
         // The function determines whether the bounding polygon for the passed Actor intersects (significantly)
         // with that of the current.  Moves current Actor minimum amount to avoid intersection.
         // The function returns whether a significant overlap occurs.
+        // Uses the scratch CollisionResult of the current thread, so no objects get created.
+
+        // Return whether a significant overlap occurs.
+        return overlaps( other, resolve, CollisionResult.getScratch() );
+
+    }
+
+    // other = Other Actor to check for collision detection.
+    // resolve = Whether to move the other Actor along the minimum translation vector to prevent overlap.
+    // result = Object in which to store the penetration depth and normal (when polygons intersect).
+    public boolean overlaps(BaseActor other, boolean resolve, CollisionResult result)
+    {
+
+        // The function determines whether the bounding polygon for the passed Actor intersects (significantly)
+        // with that of the current.  Moves current Actor minimum amount to avoid intersection.
+        // Stores the penetration depth and normal in the passed result, without creating any objects.
+        // The function returns whether a significant overlap occurs.
 
         boolean polyOverlap; // Whether Actors overlap.
         final float significant; // Minimum significant penetration depth -- length of the minimum translation
         // vector (MTV), which is the smallest vector along which an intersecting shape can get moved to
         // be separate from the other shape.
 
-        Intersector.MinimumTranslationVector mtv;
         Polygon poly1; // Reference to bounding polygon for current Actor.
         Polygon poly2; // Reference to bounding polygon for passed Actor.
 
@@ -366,15 +499,12 @@ public class BaseActor extends Group
             Minimum Translation Vector indicates the minimum magnitude vector required
             to push the polygon defined by verts1 out of the collision with the polygon
             defined by verts2.
-            Instantiate a minimum transaction vector object.
             */
 
-            mtv = new Intersector.MinimumTranslationVector();
-
             // Obtain a minimum translation vector indicating the minimum magnitude vector
             // required to push the current Actor (polygon) out of the collision with the
-            // other.
-            polyOverlap = Intersector.overlapConvexPolygons(poly1, poly2, mtv);
+            // other.  Stored in the passed result.
+            polyOverlap = CollisionResult.overlapPolygons(poly1, poly2, result);
 
             // If polygons intersect and resolve parameter flagged, then...
             if (polyOverlap && resolve)
@@ -385,7 +515,7 @@ public class BaseActor extends Group
                 // Moves current Actor (adds X and Y to current position) based on minimum
                 // translation vector -- to resolve and avoid intersection with the minimum
                 // necessary movement.
-                this.moveBy( mtv.normal.x * mtv.depth, mtv.normal.y * mtv.depth );
+                this.moveBy( result.normal.x * result.depth, result.normal.y * result.depth );
             }
 
             // Compare penetration depth to minimum significant value.
@@ -395,13 +525,14 @@ public class BaseActor extends Group
 
             // If polygon intersection more than minimum significant value, then return polygons as
             // intersecting.  Otherwise, return polygons as not intersecting.
-            polyOverlap = (polyOverlap && (mtv.depth > significant));
+            polyOverlap = (polyOverlap && (result.depth > significant));
         }
 
         else
 
         {
             // Polygons are not intersecting.
+            result.clear();
             polyOverlap = false;
         }
 
@@ -433,7 +564,15 @@ public class BaseActor extends Group
     public void draw(Batch batch, float parentAlpha)
     {
 
-        // The function sets the tinting color of and draws the Actor (when visible).
+        /*
+        The function sets the tinting color of and draws the Actor (when visible), followed by its
+        children (such as the fire attached to a spaceship).
+
+        Drawing a Group applies its transform to the batch and resets it afterwards, and each change to
+        the transform matrix flushes the batch -- an extra draw call for every Actor.  Actors without
+        children (most rocks, lasers, coins) skip the Group version and draw straight into the batch, so
+        sprites sharing a texture go out in one draw call.
+        */
 
         // System.out.println("\nActor:  " + actorName);
 
@@ -454,8 +593,10 @@ public class BaseActor extends Group
             batch.draw( region, getX(), getY(), getOriginX(), getOriginY(),
                     getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation() );
 
-        // Call the constructor of the parent class to redraw the group.
-        super.draw(batch, parentAlpha);
+        // If Actor has children, then call the draw method of the parent class to draw them (applying
+        // the transform of the group).
+        if ( hasChildren() )
+            super.draw(batch, parentAlpha);
 
     }
     
@@ -521,15 +662,28 @@ public class BaseActor extends Group
             // Image texture (buffer) exists in passed Actor.
 
             // Copy image texture (buffer) from passed to current Actor.
-            this.region = new TextureRegion( original.region );
+            this.region.setRegion( original.region );
 
         // If bounding polygon exists in passed Actor, then...
         if (original.boundingPolygon != null)
         {
             // Bounding polygon exists in passed Actor.
 
-            // Create bounding polygon in current with vertices in bounding polygon of passed Actor.
-            this.boundingPolygon = new Polygon( original.boundingPolygon.getVertices() );
+            // If current Actor has no bounding polygon, then...
+            if (this.boundingPolygon == null)
+                // Current Actor has no bounding polygon.
+                // Create bounding polygon in current with vertices in bounding polygon of passed Actor.
+                this.boundingPolygon = new Polygon( original.boundingPolygon.getVertices() );
+
+            else
+            {
+                // Current Actor has a bounding polygon (reused from an actor pool).
+                // Reuse the polygon with the vertices in bounding polygon of passed Actor.
+                this.boundingPolygon.setVertices( original.boundingPolygon.getVertices() );
+                this.boundingPolygon.setPosition( 0, 0 );
+                this.boundingPolygon.setRotation( 0 );
+                this.boundingPolygon.setScale( 1, 1 );
+            }
 
             // Set origin of bounding polygon to that of passed Actor.
             this.boundingPolygon.setOrigin( original.getOriginX(), original.getOriginY() );
@@ -0,0 +1,397 @@
+package core;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Intersector.MinimumTranslationVector;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Vector2;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+@SuppressWarnings("unused")
+public class CollisionResult
+{
+
+    /*
+    The class stores the result of a collision test -- whether the shapes overlap, the penetration depth,
+    and the normal along which to push the first shape out of the second -- and provides the collision
+    tests that fill it in.
+
+    The tests never create objects.  The caller either supplies a CollisionResult kept for reuse (such as
+    a class-level variable) or uses the per-thread scratch object returned by getScratch.  Either way, the
+    same object gets overwritten by each test, so copy out depth and normal before running the next test
+    when needed.
+
+    Note:  The normal and depth follow the convention of Intersector.MinimumTranslationVector.  Moving the
+    first shape by normal x depth resolves the overlap.
+
+    Methods include:
+
+    clear:  Resets the result to indicate no overlap.
+    getScratch:  Returns the scratch CollisionResult belonging to the current thread.
+    overlapCircleRectangle:  Tests a circle against an axis-aligned rectangle and stores the result.
+    overlapPolygons:  Tests two convex polygons against each other and stores the result.
+    sweepCircleRectangle:  Tests a moving circle against an axis-aligned rectangle and stores the time of impact.
+    */
+
+    public boolean overlap; // Whether the shapes overlap.
+    public float depth; // Penetration depth -- length of the minimum translation vector.
+    public final Vector2 normal; // Unit vector along which to push the first shape out of the second.
+    public float time; // Time of impact for sweep tests, as a fraction (0 to 1) of the movement.
+    private final MinimumTranslationVector mtv; // Minimum translation vector reused with Intersector.
+
+    // Scratch object for each thread -- supports callers without a CollisionResult of their own.
+    private static final ThreadLocal<CollisionResult> scratch = new ThreadLocal<CollisionResult>()
+    {
+        @Override
+        protected CollisionResult initialValue()
+        {
+            // The function creates the scratch CollisionResult for a thread.
+            return new CollisionResult();
+        }
+    };
+
+    public CollisionResult()
+    {
+
+        // The constructor of the class creates the normal vector and minimum translation vector,
+        // and resets the result to indicate no overlap.
+
+        normal = new Vector2();
+        mtv = new MinimumTranslationVector();
+        clear();
+
+    }
+
+    public static CollisionResult getScratch()
+    {
+        // The function returns the scratch CollisionResult belonging to the current thread.
+        // The object gets overwritten by any later test using the scratch object.
+        return scratch.get();
+    }
+
+    public void clear()
+    {
+        // The function resets the result to indicate no overlap.
+        overlap = false;
+        depth = 0;
+        time = 0;
+        normal.set(0, 0);
+    }
+
+    // poly1 = First convex polygon (counter-clockwise wound) -- the polygon to push out of the collision.
+    // poly2 = Second convex polygon (counter-clockwise wound).
+    // result = Object in which to store the result.
+    public static boolean overlapPolygons(Polygon poly1, Polygon poly2, CollisionResult result)
+    {
+
+        // The function tests two convex polygons against each other (using the separating axis test in
+        // Intersector) and stores whether they overlap, along with the penetration depth and normal.
+        // The function returns whether the polygons overlap.
+
+        // Reset result.
+        result.clear();
+
+        // If polygons overlap, then...
+        if (Intersector.overlapConvexPolygons(poly1, poly2, result.mtv))
+        {
+            // Polygons overlap.
+            // Store penetration depth and normal.
+            result.overlap = true;
+            result.depth = result.mtv.depth;
+            result.normal.set(result.mtv.normal);
+        }
+
+        // Return whether polygons overlap.
+        return result.overlap;
+
+    }
+
+    // cx = X-coordinate of the center of the circle.
+    // cy = Y-coordinate of the center of the circle.
+    // radius = Radius of the circle.
+    // rx = X-coordinate of the bottom left corner of the rectangle.
+    // ry = Y-coordinate of the bottom left corner of the rectangle.
+    // rw = Width of the rectangle.
+    // rh = Height of the rectangle.
+    // result = Object in which to store the result.
+    public static boolean overlapCircleRectangle(float cx, float cy, float radius,
+                                                 float rx, float ry, float rw, float rh,
+                                                 CollisionResult result)
+    {
+
+        // The function tests a circle against an axis-aligned rectangle and stores whether they overlap,
+        // along with the penetration depth and normal (pointing from the rectangle toward the circle).
+        // Overlap matches Intersector.overlaps(Circle, Rectangle) -- circles touching the rectangle only
+        // at the edge do not count.
+        // The function returns whether the shapes overlap.
+
+        float closestX; // X-coordinate of the point in the rectangle closest to the center of the circle.
+        float closestY; // Y-coordinate of the point in the rectangle closest to the center of the circle.
+        float distance; // Distance from the center of the circle to the closest point or nearest edge.
+        float dx; // Horizontal offset from the closest point to the center of the circle.
+        float dy; // Vertical offset from the closest point to the center of the circle.
+        float distLeft; // Distance from the center of the circle to the left edge (center inside rectangle).
+        float distRight; // Distance from the center of the circle to the right edge (center inside rectangle).
+        float distBottom; // Distance from the center of the circle to the bottom edge (center inside rectangle).
+        float distTop; // Distance from the center of the circle to the top edge (center inside rectangle).
+
+        // Reset result.
+        result.clear();
+
+        // Find the point in the rectangle closest to the center of the circle.
+        closestX = MathUtils.clamp(cx, rx, rx + rw);
+        closestY = MathUtils.clamp(cy, ry, ry + rh);
+
+        // Store offset from closest point to the center of the circle.
+        dx = cx - closestX;
+        dy = cy - closestY;
+
+        // If circle does NOT reach the rectangle, then...
+        if (dx * dx + dy * dy >= radius * radius)
+            // Circle does NOT reach the rectangle.
+            return false;
+
+        // Circle overlaps rectangle.
+        result.overlap = true;
+
+        // If center of circle outside the rectangle, then...
+        if (dx != 0 || dy != 0)
+        {
+            // Center of circle outside the rectangle.
+            // Push circle away from the closest point.
+            distance = (float)Math.sqrt(dx * dx + dy * dy);
+            result.normal.set(dx / distance, dy / distance);
+            result.depth = radius - distance;
+        }
+
+        else
+        {
+
+            // Center of circle inside the rectangle.
+            // Push circle out through the nearest edge.
+            distLeft = cx - rx;
+            distRight = rx + rw - cx;
+            distBottom = cy - ry;
+            distTop = ry + rh - cy;
+
+            // Start with the left edge.
+            distance = distLeft;
+            result.normal.set(-1, 0);
+
+            // If right edge nearer, then...
+            if (distRight < distance)
+            {
+                distance = distRight;
+                result.normal.set(1, 0);
+            }
+
+            // If bottom edge nearer, then...
+            if (distBottom < distance)
+            {
+                distance = distBottom;
+                result.normal.set(0, -1);
+            }
+
+            // If top edge nearer, then...
+            if (distTop < distance)
+            {
+                distance = distTop;
+                result.normal.set(0, 1);
+            }
+
+            // Store depth -- distance to move the center past the edge plus the radius.
+            result.depth = radius + distance;
+
+        }
+
+        // Return that the shapes overlap.
+        return true;
+
+    }
+
+    // cx = X-coordinate of the center of the circle at the start of the movement.
+    // cy = Y-coordinate of the center of the circle at the start of the movement.
+    // radius = Radius of the circle.
+    // dx = Horizontal movement of the circle.
+    // dy = Vertical movement of the circle.
+    // rx = X-coordinate of the bottom left corner of the rectangle.
+    // ry = Y-coordinate of the bottom left corner of the rectangle.
+    // rw = Width of the rectangle.
+    // rh = Height of the rectangle.
+    // result = Object in which to store the result.
+    public static boolean sweepCircleRectangle(float cx, float cy, float radius, float dx, float dy,
+                                               float rx, float ry, float rw, float rh,
+                                               CollisionResult result)
+    {
+
+        /*
+        The function tests a circle moving in a straight line against an axis-aligned rectangle (continuous
+        collision detection), so fast circles cannot pass through thin rectangles between frames.
+        The function stores the time of impact (fraction of the movement) and the normal of the surface hit
+        (pointing from the rectangle toward the circle).
+
+        The test treats the circle center as a ray against the rectangle grown by the radius -- a rounded
+        rectangle.  The ray first gets tested against the grown (square cornered) box using the slab method.
+        When the entry point lands in one of the corner squares, the ray gets tested against the circle of the
+        given radius around the matching corner instead.
+
+        A circle already overlapping the rectangle at the start only counts when moving toward the rectangle
+        (time of impact 0).  The function returns whether the circle hits the rectangle during the movement.
+        */
+
+        float a; // Squared length of movement (quadratic coefficient for corner test).
+        float b; // Linear coefficient for corner test.
+        float c; // Constant coefficient for corner test.
+        float cornerX; // X-coordinate of the corner nearest the entry point (NaN when between corners).
+        float cornerY; // Y-coordinate of the corner nearest the entry point (NaN when between corners).
+        float disc; // Discriminant for corner test.
+        float hitX; // X-coordinate of the circle center at the entry point.
+        float hitY; // Y-coordinate of the circle center at the entry point.
+        float normalX; // Horizontal component of the normal for the face entered.
+        float normalY; // Vertical component of the normal for the face entered.
+        float t1; // Time of entry for the current slab.
+        float t2; // Time of exit for the current slab.
+        float tEnter; // Latest time of entry across the slabs.
+        float tExit; // Earliest time of exit across the slabs.
+        float swap; // Temporary used when swapping times.
+
+        // If circle already overlaps rectangle, then...
+        if (overlapCircleRectangle(cx, cy, radius, rx, ry, rw, rh, result))
+        {
+
+            // Circle already overlaps rectangle.
+            // If circle moving toward the rectangle, then report an immediate hit.  Otherwise, no hit.
+            if (dx * result.normal.x + dy * result.normal.y < 0)
+            {
+                result.time = 0;
+                return true;
+            }
+
+            result.clear();
+            return false;
+
+        }
+
+        // Set defaults.
+        tEnter = -Float.MAX_VALUE;
+        tExit = 1;
+        normalX = 0;
+        normalY = 0;
+
+        // Horizontal slab of the grown rectangle.
+        if (dx == 0)
+        {
+            // No horizontal movement -- center must already lie within the slab.
+            if (cx < rx - radius || cx > rx + rw + radius)
+                return false;
+        }
+        else
+        {
+            t1 = (rx - radius - cx) / dx;
+            t2 = (rx + rw + radius - cx) / dx;
+            if (t1 > t2) { swap = t1; t1 = t2; t2 = swap; }
+            if (t1 > tEnter) { tEnter = t1; normalX = dx > 0 ? -1 : 1; normalY = 0; }
+            tExit = Math.min(tExit, t2);
+        }
+
+        // Vertical slab of the grown rectangle.
+        if (dy == 0)
+        {
+            // No vertical movement -- center must already lie within the slab.
+            if (cy < ry - radius || cy > ry + rh + radius)
+                return false;
+        }
+        else
+        {
+            t1 = (ry - radius - cy) / dy;
+            t2 = (ry + rh + radius - cy) / dy;
+            if (t1 > t2) { swap = t1; t1 = t2; t2 = swap; }
+            if (t1 > tEnter) { tEnter = t1; normalX = 0; normalY = dy > 0 ? -1 : 1; }
+            tExit = Math.min(tExit, t2);
+        }
+
+        // If the ray misses the grown rectangle or enters after the movement ends, then...
+        if (tEnter > tExit || tEnter > 1 || tExit < 0)
+            // No hit.
+            return false;
+
+        // Store entry point (center already inside the grown rectangle when entry time negative --
+        // only possible within a corner square, since the circle does not overlap the rectangle).
+        tEnter = Math.max(tEnter, 0);
+        hitX = cx + dx * tEnter;
+        hitY = cy + dy * tEnter;
+
+        // Determine whether the entry point lies within a corner square.
+        cornerX = hitX < rx ? rx : (hitX > rx + rw ? rx + rw : Float.NaN);
+        cornerY = hitY < ry ? ry : (hitY > ry + rh ? ry + rh : Float.NaN);
+
+        // If entry point lies within a corner square, then...
+        if (!Float.isNaN(cornerX) && !Float.isNaN(cornerY))
+        {
+
+            // Entry point lies within a corner square.
+            // Intersect the ray with the circle around the corner:  |start + t x move - corner| = radius.
+            a = dx * dx + dy * dy;
+            b = 2 * ((cx - cornerX) * dx + (cy - cornerY) * dy);
+            c = (cx - cornerX) * (cx - cornerX) + (cy - cornerY) * (cy - cornerY) - radius * radius;
+            disc = b * b - 4 * a * c;
+
+            // If ray misses the corner circle (or no movement), then...
+            if (a == 0 || disc < 0)
+                // No hit.
+                return false;
+
+            // Store earliest time of impact with the corner circle.
+            tEnter = (-b - (float)Math.sqrt(disc)) / (2 * a);
+
+            // If impact occurs outside the movement, then...
+            if (tEnter < 0 || tEnter > 1)
+                // No hit.
+                return false;
+
+            // Store normal pointing from the corner toward the circle center at impact.
+            hitX = cx + dx * tEnter;
+            hitY = cy + dy * tEnter;
+            normalX = (hitX - cornerX) / radius;
+            normalY = (hitY - cornerY) / radius;
+
+        }
+
+        // Store result.
+        result.overlap = true;
+        result.depth = 0;
+        result.time = tEnter;
+        result.normal.set(normalX, normalY).nor();
+
+        // Return that the circle hits the rectangle.
+        return true;
+
+    }
+
+}
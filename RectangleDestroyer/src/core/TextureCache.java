@@ -0,0 +1,344 @@
+package core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class TextureCache
+{
+
+    /*
+    The class shares textures loaded from the same file, so each image gets decoded and uploaded to the
+    GPU only once, no matter how many actors and animations use it.
+
+    Texture:  Contains entire image loaded into GPU.
+    TextureRegion:  Contains portion (or all) of image.  Drawing usually occurs using TextureRegion objects.
+
+    Loading an image with:
+
+    tex = new Texture( Gdx.files.internal("assets/coin.png") );
+
+    decodes the file and uploads a new copy of the image every time.  With the cache:
+
+    tex = TextureCache.obtain( "assets/coin.png" );
+
+    the first call loads the texture, and later calls with the same file and settings (mipmaps, filters)
+    return the same texture.  Each call to obtain counts as a reference, and each reference should get
+    handed back with release when its user no longer needs the texture.  The texture gets disposed when
+    its last reference gets released.
+
+    Since users share the texture, they should not dispose it or change its filter or wrap settings.
+
+    The cache also keeps the regions made by splitting a cached texture into equal sized tiles, so
+    animations built from the same sprite sheet share their frames.
+
+    Methods include:
+
+    clear:  Disposes all cached textures, regardless of their reference counts.
+    getReferenceCount:  Returns the number of references held on the passed texture.
+    getResidentBytes:  Returns the estimated GPU memory used by the cached textures, in bytes.
+    getTextureCount:  Returns the number of textures in the cache.
+    obtain:  Returns the texture for the passed file and settings, loading it when not cached.
+    release:  Hands back a reference to a texture (or the textures used by an animation).
+    split:  Divides a texture into tiles of the passed size, reusing the regions from earlier calls.
+    */
+
+    private static final ObjectMap<String, CachedTexture> byKey = new ObjectMap<>(); // Cached textures,
+      // by file name and settings.
+    private static final ObjectMap<Texture, CachedTexture> byTexture = new ObjectMap<>(); // Cached
+      // textures, by texture.
+
+    private TextureCache()
+    {
+        // The constructor of the class stays private, since all members are static.
+    }
+
+    public static void clear()
+    {
+
+        // The function disposes all cached textures, regardless of their reference counts (such as when
+        // exiting the game).
+
+        for (CachedTexture cached : byTexture.values())
+            cached.texture.dispose();
+
+        byKey.clear();
+        byTexture.clear();
+
+    }
+
+    // texture = Texture to check.
+    public static int getReferenceCount(Texture texture)
+    {
+
+        // The function returns the number of references held on the passed texture.  Returns 0 for
+        // textures not in the cache.
+
+        CachedTexture cached = byTexture.get( texture ); // Cache entry for the texture.
+
+        return cached == null ? 0 : cached.refCount;
+
+    }
+
+    public static long getResidentBytes()
+    {
+
+        /*
+        The function returns the estimated GPU memory used by the cached textures, in bytes.  The
+        estimate multiplies the width, height, and bytes per pixel of each texture, adding a third for
+        textures with mipmaps (each level being a quarter of the one before).
+        */
+
+        long bytes = 0; // Estimated GPU memory used by the cached textures.
+        long textureBytes; // Estimated GPU memory used by the current texture.
+
+        for (CachedTexture cached : byTexture.values())
+        {
+
+            textureBytes = (long)cached.texture.getWidth() * cached.texture.getHeight() *
+              bytesPerPixel( cached.texture.getTextureData().getFormat() );
+
+            if (cached.useMipMaps)
+                textureBytes += textureBytes / 3;
+
+            bytes += textureBytes;
+
+        }
+
+        return bytes;
+
+    }
+
+    public static int getTextureCount()
+    {
+        // The function returns the number of textures in the cache.
+        return byTexture.size;
+    }
+
+    // fileName = Name of image file, with directory and suffix.  Example:  assets/coin.png
+    public static Texture obtain(String fileName)
+    {
+
+        // The function returns the texture for the passed file, loading it when not cached.  Uses the
+        // same settings as new Texture(file) -- no mipmaps and nearest filtering.
+
+        return obtain( fileName, false, TextureFilter.Nearest, TextureFilter.Nearest );
+
+    }
+
+    // fileName = Name of image file, with directory and suffix.  Example:  assets/coin.png
+    // useMipMaps = Whether to generate mipmaps for the texture.
+    // minFilter = Filter used when the texture gets drawn smaller than its size.
+    // magFilter = Filter used when the texture gets drawn larger than its size.
+    public static Texture obtain(String fileName, boolean useMipMaps, TextureFilter minFilter,
+      TextureFilter magFilter)
+    {
+
+        /*
+        The function returns the texture for the passed file and settings, loading it when not cached.
+        Each call adds a reference to the texture, which should get handed back with release.
+        */
+
+        CachedTexture cached; // Cache entry for the file and settings.
+        String key; // Key identifying the file and settings.
+
+        // Build key identifying the file and settings.
+        key = fileName + '|' + useMipMaps + '|' + minFilter + '|' + magFilter;
+
+        cached = byKey.get( key );
+
+        // If texture not cached, then...
+        if (cached == null)
+        {
+
+            // Texture not cached.  Load image to buffer and set its filter type.
+            cached = new CachedTexture();
+            cached.key = key;
+            cached.useMipMaps = useMipMaps;
+            cached.texture = new Texture( Gdx.files.internal(fileName), useMipMaps );
+            cached.texture.setFilter( minFilter, magFilter );
+
+            byKey.put( key, cached );
+            byTexture.put( cached.texture, cached );
+
+        }
+
+        // Add a reference to the texture.
+        cached.refCount++;
+
+        return cached.texture;
+
+    }
+
+    // animation = Animation whose frames came from cached textures (such as one returned by GameUtils).
+    public static void release(Animation animation)
+    {
+
+        /*
+        The function hands back one reference for each texture used by the frames of the passed
+        animation -- matching the references taken by the GameUtils functions that build animations
+        from sprite sheets (one texture) and image files (one texture per frame).
+        */
+
+        TextureRegion[] frames = animation.getKeyFrames(); // Frames in the animation.
+        boolean seen; // Whether an earlier frame uses the same texture as the current one.
+
+        // Loop through frames in animation.
+        for (int i = 0; i < frames.length; i++)
+        {
+
+            seen = false;
+
+            // Check whether an earlier frame uses the same texture.
+            for (int j = 0; j < i && !seen; j++)
+                seen = frames[j].getTexture() == frames[i].getTexture();
+
+            // If first frame using the texture, then release it.
+            if (!seen)
+                release( frames[i].getTexture() );
+
+        }
+
+    }
+
+    // texture = Texture returned by obtain.
+    public static void release(Texture texture)
+    {
+
+        /*
+        The function hands back a reference to the passed texture.  Releasing the last reference disposes
+        the texture and removes it (and its regions) from the cache.  Textures not in the cache get
+        ignored.
+        */
+
+        CachedTexture cached = byTexture.get( texture ); // Cache entry for the texture.
+
+        // If texture not in the cache, then exit.
+        if (cached == null)
+            return;
+
+        cached.refCount--;
+
+        // If last reference released, then dispose texture and remove it from the cache.
+        if (cached.refCount <= 0)
+        {
+            byKey.remove( cached.key );
+            byTexture.remove( texture );
+            texture.dispose();
+        }
+
+    }
+
+    // texture = Texture to divide.
+    // tileWidth = Width of each tile, in pixels.
+    // tileHeight = Height of each tile, in pixels.
+    public static TextureRegion[][] split(Texture texture, int tileWidth, int tileHeight)
+    {
+
+        /*
+        The function divides the passed texture into tiles of the passed size, returning the results in a
+        two-dimensional array of TextureRegion objects (like TextureRegion.split).  For cached textures,
+        later calls with the same size return the same regions, which callers should not change.
+        */
+
+        CachedTexture cached = byTexture.get( texture ); // Cache entry for the texture.
+        TextureRegion[][] regions; // Two-dimensional array of TextureRegion objects with the tiles.
+        long sizeKey; // Key identifying the tile size.
+
+        // If texture not in the cache, then return new regions.
+        if (cached == null)
+            return TextureRegion.split( texture, tileWidth, tileHeight );
+
+        // Build key identifying the tile size.
+        sizeKey = ((long)tileWidth << 32) | (tileHeight & 0xffffffffL);
+
+        // If regions for the tile size not stored yet, then...
+        if (cached.regions == null)
+            cached.regions = new LongMap<>();
+
+        regions = cached.regions.get( sizeKey );
+
+        if (regions == null)
+        {
+            // Regions for the tile size not stored yet.  Divide the texture and store the results.
+            regions = TextureRegion.split( texture, tileWidth, tileHeight );
+            cached.regions.put( sizeKey, regions );
+        }
+
+        return regions;
+
+    }
+
+    // format = Pixel format of a texture.
+    private static int bytesPerPixel(Format format)
+    {
+
+        // The function returns the number of bytes used by each pixel of the passed format.  Assumes
+        // four bytes when the format is unknown.
+
+        if (format == null)
+            return 4;
+
+        switch (format)
+        {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+
+    }
+
+    private static class CachedTexture
+    {
+
+        // The class stores a cached texture, along with its settings, reference count, and regions.
+
+        String key; // Key identifying the file and settings.
+        Texture texture; // Cached texture.
+        boolean useMipMaps; // Whether the texture has mipmaps.
+        int refCount; // Number of references held on the texture.
+        LongMap<TextureRegion[][]> regions; // Regions made by splitting the texture, by tile size.
+
+    }
+
+}
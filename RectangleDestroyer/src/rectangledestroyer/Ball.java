@@ -1,10 +1,12 @@
 package rectangledestroyer;
 
+import core.CollisionResult;
 import core.PhysicsActor;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Rectangle;
+import java.util.ArrayList;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -44,7 +46,8 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
     getBottom:  Returns bottom of bounding circle.
     getBottomLeft:  Returns a vector with the bottom left position of the passed rectangle.
     getBottomRight:  Returns a vector with the bottom right position of the passed rectangle.
-    getCircle:  Returns the bounding circle for the Ball Actor.
+    getCircle:  Returns the bounding circle for the Ball Actor, or stores it in the passed circle.
+    getCollisionResult:  Returns the penetration depth and normal from the last overlap check.
     getLeft:  Returns leftmost edge of bounding circle.
     getRight:  Returns rightmost edge of bounding circle.
     getTop:  Returns top of bounding circle.
@@ -53,18 +56,43 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
     multVelocityX:  Multiplies the x component of the velocity vector by the passed parameter.
     multVelocityY:  Multiplies the y component of the velocity vector by the passed parameter.
     overlaps:  Handles the interesection of the Paddle and the Brick or Paddle, depending on function.
+    overlapsRectangle:  Returns whether the bounding circle of the Ball overlaps the passed rectangle.
+    sweep:  Moves the Ball from its previous position, bouncing off the bricks hit along the way, in time order.
     */
     
-    private Circle prevCircle; // Previous boundary circle of Ball.
-    private Circle currCircle; // Current boundary circle of Ball.
+    private static final int MAX_SWEEP_HITS = 8; // Maximum number of bricks hit by the Ball in a single frame.
+    
+    private final Circle prevCircle; // Previous boundary circle of Ball.
+    private final Circle currCircle; // Current boundary circle of Ball.
+    private final Circle circle; // Boundary circle of Ball used during overlap checks.
+    private final CollisionResult hit; // Result of overlap checks -- reused for each check.
+    private final ArrayList<Brick> sweepCandidates; // Bricks in the cells crossed by the Ball -- reused for each sweep.
+    
+    // Points reused during the side checks in the overlap function, to avoid creating vectors.
+    private final Vector2 ballStart; // Edge of the Ball before updating.
+    private final Vector2 ballEnd; // Edge of the Ball after updating.
+    private final Vector2 sideStart; // First corner of the Brick side being checked.
+    private final Vector2 sideEnd; // Second corner of the Brick side being checked.
     
     public Ball()
     {
 
-        // The constructor of the class calls the constructor of the parent (PhysicsActor).
+        // The constructor of the class calls the constructor of the parent (PhysicsActor) and
+        // creates the objects reused during overlap checks.
 
         // Call the constructor for the PhysicsActor (parent / super) class.
         super();
+        
+        // Create the objects reused during overlap checks.
+        prevCircle = new Circle();
+        currCircle = new Circle();
+        circle = new Circle();
+        hit = new CollisionResult();
+        sweepCandidates = new ArrayList<>();
+        ballStart = new Vector2();
+        ballEnd = new Vector2();
+        sideStart = new Vector2();
+        sideEnd = new Vector2();
 
     }
     
@@ -78,35 +106,38 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
         // The function calls the parent act function in order to perform a time based positional update.
         
         // Store boundary circle of the Ball before updating.
-        prevCircle = getCircle();
+        getCircle(prevCircle);
         
         // Call parent act function in order to perform time based positional update.
         super.act(dt);
         
         // Store boundary circle of the Ball after updating.
-        currCircle = getCircle();
+        getCircle(currCircle);
     
     }
     
     // c = Bounding circle from which to get bottom.
-    public Vector2 getBottom(Circle c)
+    // out = Vector in which to store the result.
+    public Vector2 getBottom(Circle c, Vector2 out)
     {
-        // The function returns a vector with the bottom of the passed bounding circle.
-        return new Vector2(c.x, c.y - c.radius);
+        // The function stores the bottom of the passed bounding circle in the passed vector.
+        return out.set(c.x, c.y - c.radius);
     }
     
     // r = Rectangle from which to get bottom left position.
-    public Vector2 getBottomLeft(Rectangle r)
+    // out = Vector in which to store the result.
+    public Vector2 getBottomLeft(Rectangle r, Vector2 out)
     {
-        // The function returns a vector with the bottom left position of the passed rectangle.
-        return new Vector2( r.getX(), r.getY() ); 
+        // The function stores the bottom left position of the passed rectangle in the passed vector.
+        return out.set(r.getX(), r.getY());
     }
     
     // r = Rectangle from which to get bottom right position.
-    public Vector2 getBottomRight(Rectangle r)
+    // out = Vector in which to store the result.
+    public Vector2 getBottomRight(Rectangle r, Vector2 out)
     {
-        // The function returns a vector with the bottom right position of the passed rectangle.
-        return new Vector2( r.getX() + r.getWidth(), r.getY() );
+        // The function stores the bottom right position of the passed rectangle in the passed vector.
+        return out.set(r.getX() + r.getWidth(), r.getY());
     }
     
     public Circle getCircle()
@@ -115,43 +146,68 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
         // The function returns the bounding circle for the Ball Actor.
         
         // Return the bounding circle for the Ball Actor.
-        return new Circle( getX() + getWidth()/2, getY() + getHeight()/2, getWidth()/2 );
+        return getCircle( new Circle() );
+    
+    }
+    
+    // out = Circle in which to store the bounding circle.
+    public Circle getCircle(Circle out)
+    {
+        
+        // The function stores the bounding circle for the Ball Actor in the passed circle, without
+        // creating any objects.  The function returns the passed circle.
+        
+        // Store and return the bounding circle for the Ball Actor.
+        out.set( getX() + getWidth()/2, getY() + getHeight()/2, getWidth()/2 );
+        return out;
     
     }
     
     // c = Bounding circle from which to get leftmost edge.
-    public Vector2 getLeft(Circle c)
+    // out = Vector in which to store the result.
+    public Vector2 getLeft(Circle c, Vector2 out)
     {
-        // The function returns a vector with the leftmost edge of the passed bounding circle.
-        return new Vector2(c.x - c.radius, c.y);
+        // The function stores the leftmost edge of the passed bounding circle in the passed vector.
+        return out.set(c.x - c.radius, c.y);
     }
     
     // c = Bounding circle from which to get rightmost edge.
-    public Vector2 getRight(Circle c)
+    // out = Vector in which to store the result.
+    public Vector2 getRight(Circle c, Vector2 out)
     {
-        // The function returns a vector with the rightmost edge of the passed bounding circle.
-        return new Vector2(c.x + c.radius, c.y);
+        // The function stores the rightmost edge of the passed bounding circle in the passed vector.
+        return out.set(c.x + c.radius, c.y);
     }
     
     // c = Bounding circle from which to get top.
-    public Vector2 getTop(Circle c)
+    // out = Vector in which to store the result.
+    public Vector2 getTop(Circle c, Vector2 out)
     {
-        // The function returns a vector with the top of the passed bounding circle.
-        return new Vector2(c.x, c.y + c.radius);
+        // The function stores the top of the passed bounding circle in the passed vector.
+        return out.set(c.x, c.y + c.radius);
     }
     
     // r = Rectangle from which to get top left position.
-    public Vector2 getTopLeft(Rectangle r)
+    // out = Vector in which to store the result.
+    public Vector2 getTopLeft(Rectangle r, Vector2 out)
     {
-        // The function returns a vector with the top left position of the passed rectangle.
-        return new Vector2( r.getX(), r.getY() + r.getHeight() );
+        // The function stores the top left position of the passed rectangle in the passed vector.
+        return out.set(r.getX(), r.getY() + r.getHeight());
     }
     
     // r = Rectangle from which to get top right position.
-    public Vector2 getTopRight(Rectangle r)
+    // out = Vector in which to store the result.
+    public Vector2 getTopRight(Rectangle r, Vector2 out)
     {
-        // The function returns a vector with the top right position of the passed rectangle.
-        return new Vector2( r.getX() + r.getWidth(), r.getY() + r.getHeight() );
+        // The function stores the top right position of the passed rectangle in the passed vector.
+        return out.set(r.getX() + r.getWidth(), r.getY() + r.getHeight());
+    }
+    
+    public CollisionResult getCollisionResult()
+    {
+        // The function returns the penetration depth and normal (pointing toward the Ball) from the
+        // last overlap check.  The object gets overwritten by the next check.
+        return hit;
     }
     
     // m = Factor by which to multiple x component of velocity.
@@ -190,7 +246,7 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
         Rectangle rect; // Bounding rectangle for passed Brick.
         
         // If Ball DOES NOT overlap Brick, then...
-        if ( !Intersector.overlaps( this.getCircle(), brick.getRectangle() ) )
+        if ( !overlapsRectangle( brick.getRectangle() ) )
             
             // Ball DOES NOT overlap Paddle.
             return false;
@@ -214,8 +270,8 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
             // ... Checking whether line segment connecting rightmost points of current and previous circles
             // ... intersects left edge of rectangle.
             if (velocity.x > 0 && Intersector.intersectSegments(
-            getRight(prevCircle), getRight(currCircle),
-            getTopLeft(rect), getBottomLeft(rect), null) )
+            getRight(prevCircle, ballStart), getRight(currCircle, ballEnd),
+            getTopLeft(rect, sideStart), getBottomLeft(rect, sideEnd), null) )
             
                 {
                 // Ball moving and right edge of circle intersects left edge of brick.
@@ -231,8 +287,8 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
             // ... Checking whether line segment connecting leftmost points of current and previous circles
             // ... intersects right edge of rectangle.
             else if (velocity.x < 0 && Intersector.intersectSegments(
-            getLeft(prevCircle), getLeft(currCircle),
-            getTopRight(rect), getBottomRight(rect), null) )
+            getLeft(prevCircle, ballStart), getLeft(currCircle, ballEnd),
+            getTopRight(rect, sideStart), getBottomRight(rect, sideEnd), null) )
             
                 {
                 // Ball moving and left edge of circle intersects right edge of brick.
@@ -248,8 +304,8 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
             // ... Checking whether line segment connecting topmost points of current and previous circles 
             // ... intersects bottom edge of rectangle.
             if (velocity.y > 0 && Intersector.intersectSegments(
-            getTop(prevCircle), getTop(currCircle),
-            getBottomLeft(rect), getBottomRight(rect), null) )
+            getTop(prevCircle, ballStart), getTop(currCircle, ballEnd),
+            getBottomLeft(rect, sideStart), getBottomRight(rect, sideEnd), null) )
             
                 {
                 // Ball moving and top edge of circle intersects bottom edge of brick.
@@ -265,8 +321,8 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
             // ... Checking whether line segment connecting bottommost points of current and previous circles 
             // ... intersects top edge of rectangle.
             else if (velocity.y < 0 && Intersector.intersectSegments(
-            getBottom(prevCircle), getBottom(currCircle),
-            getTopLeft(rect), getTopRight(rect), null) )
+            getBottom(prevCircle, ballStart), getBottom(currCircle, ballEnd),
+            getTopLeft(rect, sideStart), getTopRight(rect, sideEnd), null) )
             
                 {
                 // Ball moving and bottom edge of circle intersects top edge of brick.
@@ -297,6 +353,23 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
         
     }
     
+    // r = Rectangle to check for overlap with the bounding circle of the Ball.
+    private boolean overlapsRectangle(Rectangle r)
+    {
+        
+        // The function returns whether the bounding circle of the Ball overlaps the passed rectangle.
+        // The penetration depth and normal get stored in the reused collision result, so no objects
+        // get created.
+        
+        // Store current bounding circle of the Ball.
+        getCircle(circle);
+        
+        // Return whether circle overlaps rectangle.
+        return CollisionResult.overlapCircleRectangle( circle.x, circle.y, circle.radius,
+            r.x, r.y, r.width, r.height, hit );
+        
+    }
+    
     // paddle = Reference to the Paddle actor to check for overlap.
     // bounceOff = Determines whether the velocity of the ball should be adjusted to simulate bouncing 
     // off the paddle.
@@ -313,7 +386,7 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
         float percent; // Position of ball along paddle (left to right), expressed as a percentage.
         
         // If Ball DOES NOT overlap Paddle, then...
-        if ( !Intersector.overlaps( this.getCircle(), paddle.getRectangle() ) )
+        if ( !overlapsRectangle( paddle.getRectangle() ) )
             
             // Ball DOES NOT overlap Paddle.
             return false;
@@ -344,5 +417,132 @@ public class Ball extends PhysicsActor { // Extends the PhysicsActor class.
         return true;
         
     }
+        
+    // grid = Grid of bricks through which the Ball moves.
+    // hits = List to fill with the bricks hit, in the order hit.  Cleared first.
+    public int sweep(BrickGrid grid, ArrayList<Brick> hits)
+    {
+        
+        /*
+        The function moves the Ball in a straight line from its previous position (before the last act call)
+        to its current position, bouncing off any bricks hit along the way (continuous collision detection).
+        Unlike overlaps, fast balls cannot pass through bricks between frames.
+        
+        Only the bricks in the cells crossed by the Ball get tested (see BrickGrid.collect).  The earliest
+        brick hit gets handled first -- the Ball moves to the point of contact, the velocity and remaining
+        movement reflect off the surface hit, the brick leaves the grid, and the test repeats for the rest of
+        the movement.  Hits therefore get handled in time order, and one frame may hit several bricks.
+        
+        The function updates the position of the Ball when any brick gets hit and returns the number of
+        bricks hit.  The caller handles the bricks hit (destroy, score, ...).  No objects get created.
+        */
+        
+        float startX; // X-coordinate of the center of the Ball at the start of the remaining movement.
+        float startY; // Y-coordinate of the center of the Ball at the start of the remaining movement.
+        float moveX; // Horizontal component of the remaining movement.
+        float moveY; // Vertical component of the remaining movement.
+        float radius; // Radius of the Ball.
+        float bestTime; // Time of impact (fraction of the remaining movement) for the earliest brick hit.
+        float bestNormalX; // Horizontal component of the normal for the earliest brick hit.
+        float bestNormalY; // Vertical component of the normal for the earliest brick hit.
+        float dot; // Dot product of a vector with the normal, used when reflecting.
+        Brick best; // Earliest brick hit.
+        Brick brick; // Current brick found in the cells crossed.
+        Rectangle rect; // Bounding rectangle for the current brick.
+        
+        // Clear list of bricks hit.
+        hits.clear();
+        
+        // Store current bounding circle of the Ball (includes any adjustments made since act -- such as
+        // bouncing off the walls).
+        getCircle(circle);
+        
+        // Store start and movement for the frame.
+        startX = prevCircle.x;
+        startY = prevCircle.y;
+        moveX = circle.x - startX;
+        moveY = circle.y - startY;
+        radius = circle.radius;
+        
+        // Loop until no more bricks hit or reaching the limit for the frame.
+        while (hits.size() < MAX_SWEEP_HITS)
+        {
+            
+            // Set defaults.
+            best = null;
+            bestTime = 2;
+            bestNormalX = 0;
+            bestNormalY = 0;
+            
+            // Find bricks in the cells crossed by the remaining movement.
+            grid.collect( startX, startY, startX + moveX, startY + moveY, radius, sweepCandidates );
+            
+            // Loop through bricks found.  Uses an index rather than an iterator, so no objects get created.
+            for (int i = 0; i < sweepCandidates.size(); i++)
+            {
+                
+                // Store current brick.
+                brick = sweepCandidates.get( i );
+                
+                // Store bounding rectangle for brick.
+                rect = brick.getRectangle();
+                
+                // If Ball hits brick earlier than any brick so far, then...
+                if ( CollisionResult.sweepCircleRectangle( startX, startY, radius, moveX, moveY,
+                    rect.x, rect.y, rect.width, rect.height, hit ) && hit.time < bestTime )
+                {
+                    // Ball hits brick earlier than any brick so far.  Store brick, time, and normal.
+                    best = brick;
+                    bestTime = hit.time;
+                    bestNormalX = hit.normal.x;
+                    bestNormalY = hit.normal.y;
+                }
+                
+            }
+            
+            // If no brick hit, then...
+            if (best == null)
+                // No brick hit.  Exit loop.
+                break;
+            
+            // Move Ball to point of contact.
+            startX += moveX * bestTime;
+            startY += moveY * bestTime;
+            moveX *= 1 - bestTime;
+            moveY *= 1 - bestTime;
+            
+            // Reflect velocity off the surface hit (v - 2(v.n)n).
+            // Hitting a side reverses the matching component, while hitting a corner bounces at an angle.
+            dot = velocity.x * bestNormalX + velocity.y * bestNormalY;
+            if (dot < 0)
+                velocity.sub( 2 * dot * bestNormalX, 2 * dot * bestNormalY );
+            
+            // Reflect remaining movement the same way.
+            dot = moveX * bestNormalX + moveY * bestNormalY;
+            if (dot < 0)
+            {
+                moveX -= 2 * dot * bestNormalX;
+                moveY -= 2 * dot * bestNormalY;
+            }
+            
+            // Remove brick from the grid, so the rest of the movement ignores it, and add to list of hits.
+            grid.remove(best);
+            hits.add(best);
+            
+        }
+        
+        // If any brick hit, then...
+        if (!hits.isEmpty())
+        {
+            // Brick hit.  Move Ball to end of the reflected movement.
+            setPosition( startX + moveX - getWidth() / 2, startY + moveY - getHeight() / 2 );
+            getCircle(currCircle);
+        }
+        
+        // Return number of bricks hit.
+        return hits.size();
+        
+    }
     
+
 }
@@ -0,0 +1,320 @@
+package rectangledestroyer;
+
+import core.ActorBag;
+import core.ActorPool;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import java.util.ArrayList;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+class BallCollisions {
+    
+    /*
+    The class runs the collision step of the game screen -- bouncing the ball off the screen edges and
+    paddle, sweeping the ball through the brick grid (destroying the bricks hit and occasionally spawning
+    a power-up in their place), and checking the power-ups against the paddle.  The game screen moves the
+    paddle before each step.
+    
+    The power-ups get spawned from the actor pool, and the step runs the power-up checks within a removal
+    phase of the power-up bag, so the loop can destroy power-ups directly.  No objects get created once
+    the bag, pool, and list of bricks hit have grown to the needed size.
+    
+    The class needs no graphics, so tests can run the same step the game screen runs.
+    
+    Methods include:
+    
+    bounceBallOffEdges:  Bounces the ball off the screen edges, aligning it to any edge it passed.
+    getBrickHitCount:  Returns the number of bricks hit by the ball during the last step.
+    getPowerupCatchCount:  Returns the number of power-ups caught by the paddle during the last step.
+    update:  Bounces the ball, sweeps it through the bricks, and checks the power-ups against the paddle.
+    */
+    
+    private final float mapWidth; // Game world width.
+    private final float mapHeight; // Game world height.
+    private final Paddle paddle; // BaseActor that will act as the paddle.
+    private final Ball ball; // PhysicsActor that will act as the ball.
+    private final BrickGrid brickGrid; // Bricks indexed by (row, column).
+    private final ArrayList<Brick> hitList; // Bricks hit by the ball during the current step.
+    private final ActorPool actorPool; // Free copies of template actors -- source of the power-ups.
+    private final Powerup basePowerup; // PhysicsActor that will act as the base powerup.
+    private final ActorBag<Powerup> powerupList; // PhysicsActor bag that will act as the powerups.
+    private final Group powerupParent; // Group (root of the main stage) to which to add the power-ups.
+    private int powerupCatchCount; // Number of power-ups caught by the paddle during the last step.
+    
+    // mapWidth = Game world width.
+    // mapHeight = Game world height.
+    // paddle = BaseActor that will act as the paddle.
+    // ball = PhysicsActor that will act as the ball.
+    // brickGrid = Bricks indexed by (row, column).
+    // actorPool = Actor pool from which to obtain the power-ups.
+    // basePowerup = PhysicsActor that will act as the base powerup.
+    // powerupList = PhysicsActor bag that will act as the powerups.
+    // powerupParent = Group (root of the main stage) to which to add the power-ups.
+    BallCollisions(float mapWidth, float mapHeight, Paddle paddle, Ball ball, BrickGrid brickGrid,
+      ActorPool actorPool, Powerup basePowerup, ActorBag<Powerup> powerupList, Group powerupParent)
+    {
+        
+        // The constructor of the class stores the passed objects and creates the list of bricks hit.
+        
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.paddle = paddle;
+        this.ball = ball;
+        this.brickGrid = brickGrid;
+        this.actorPool = actorPool;
+        this.basePowerup = basePowerup;
+        this.powerupList = powerupList;
+        this.powerupParent = powerupParent;
+        
+        // Initialize list of bricks hit by the ball during the current step.
+        hitList = new ArrayList<>();
+        
+    }
+    
+    int getBrickHitCount()
+    {
+        // The function returns the number of bricks hit by the ball during the last step.
+        return hitList.size();
+    }
+    
+    int getPowerupCatchCount()
+    {
+        // The function returns the number of power-ups caught by the paddle during the last step.
+        return powerupCatchCount;
+    }
+    
+    void update()
+    {
+        
+        /*
+        The function runs the collision step:
+        
+        1.  Bounce ball off screen edges.
+        2.  Bounce ball off paddle.
+        3.  Check whether ball hit any of the bricks and handle as necessary (bouncing the ball off the
+            screen edges again when the bricks hit moved it).
+        4.  Check whether any of the power-ups have collided with the paddle and handle as necessary.
+        5.  Ends the removal phase of the power-up bag, removing the power-ups destroyed during step 4.
+        
+        The results get stored for getBrickHitCount and getPowerupCatchCount.
+        */
+        
+        Brick br; // Current brick hit.
+        Powerup pow; // Power-up to spawn.
+        Powerup pow2; // Current power-up in bag.
+        String powName; // Name of power-up overlapping paddle.
+        
+        // Set defaults.
+        powerupCatchCount = 0;
+        
+        // Next, as necessary, bounce the ball off the screen edges.
+        bounceBallOffEdges();
+        
+        // Bounce ball off paddle.
+        ball.overlaps(paddle, true);
+        
+        // Check whether ball hit any of the bricks and handle as necessary.
+        
+        // Any brick hitting the ball gets destroyed -- activating its fade-out effect.
+        // When the ball hits a brick, a twenty percent chance exists for a random power-up to appear.
+        // If the power-up spawns, an action will use an animated scaling effect.  The effect will
+        // cause the power-up to appear to grow from a single pixel to its full size over the course of
+        // half a second.
+        
+        // Sweep ball through brick grid -- bouncing off (and removing from the grid) any bricks hit along
+        // the way, in time order.  Only the grid cells crossed by the ball get checked, and fast balls
+        // cannot pass through bricks between frames.
+        ball.sweep(brickGrid, hitList);
+        
+        // If ball hit any bricks, then bounce ball off screen edges again -- the reflected movement may have
+        // carried the ball past an edge.
+        if (!hitList.isEmpty())
+            bounceBallOffEdges();
+        
+        // Loop through bricks hit.  The loops go by index, since an iterator per loop would create garbage
+        // each frame.
+        for (int i = 0; i < hitList.size(); i++)
+            
+            {
+            // Ball hit brick.
+            br = hitList.get(i);
+            
+            // Calling the sweep function caused the ball to bounce off the affected brick.
+            
+            // Remove the brick (fading out) from the screen.  Ball.sweep already removed it from the grid.
+            br.destroy();
+            
+            // If random number within range (20% chance of power-up), then...
+            if (Math.random() < 0.20)
+                {  
+                // Random number within range (20% chance of power-up).
+                
+                // Get a copy of the base power-up actor (reused from the actor pool when available).
+                pow = actorPool.obtain(basePowerup);
+                
+                // Randomly select one of the stored animations to use as the power-up.
+                pow.randomize();
+                
+                // Center power-up within center of brick.
+                pow.moveToOrigin(br);
+                
+                // Set initial scale to 0, 0 (effectively, a size of 0).
+                pow.setScale(0,0);
+                
+                // Add action to scale to full size within 0.50 seconds.
+                pow.addAction( Actions.scaleTo(1,1, 0.5f) );
+                
+                // Add power-up actor to bag (BaseActor.destroy removes it).
+                powerupList.add(pow);
+                
+                // Add power-up actor to scene graph.
+                powerupParent.addActor(pow);
+                }
+
+            }
+        
+        // Check whether any of the power-ups have collided with the paddle and handle as necessary.
+        // If a power-up collided with the paddle, determine the name of the animation and carry out 
+        // the associated effect.  The only powerup effects involve changing the size of the paddle.
+        // Reasonable constraints will be set on the maximum and minimum size the paddle can attain. 
+        // Animate the change in size using an Action.
+        
+        // Start removal phase for power-ups -- destroyed power-ups stay in the bag until the end of the
+        // loop, so the loop can destroy power-ups directly.
+        powerupList.begin();
+        
+        // Loop through power-ups in bag.
+        for (int i = 0; i < powerupList.size(); i++)
+            
+            {
+            
+            pow2 = powerupList.get(i);
+            
+            // If power-up overlaps paddle, then...
+            if ( pow2.overlaps(paddle) )
+                
+                {
+                // Power-up overlaps paddle.
+                powerupCatchCount++;
+                
+                // Store name of power-up overlapping paddle.
+                powName = pow2.getAnimationName();
+                
+                // If power-up is "paddle-expand" and paddle less than maximum, then...
+                if ( powName.equals("paddle-expand") && paddle.getWidth() < 256)
+                    
+                    {
+                    // Power-up is "paddle-expand" and paddle less than maximum.
+                        
+                    // Add action to paddle to increase width by 32 pixels over the course of 0.50 seconds.
+                    paddle.addAction( Actions.sizeBy(32, 0, 0.5f) );
+                    }
+                
+                // Otherwise, if power-up is "paddle-shrink" and paddle greater than minimum, then...
+                else if ( powName.equals("paddle-shrink") && paddle.getWidth() > 64)
+                    
+                    {
+                    // Power-up is "paddle-shrink" and paddle greater than minimum.
+                        
+                    // Add action to paddle to decrease width by 32 pixels over the course of 0.50 seconds.
+                    paddle.addAction( Actions.sizeBy(-32, 0, 0.5f) );
+                    }
+                
+                // Remove power-up from screen.
+                pow2.destroy();
+                }
+            
+            }
+        
+        // End removal phase -- remove destroyed power-ups from the bag.
+        powerupList.end();
+        
+    }
+    
+    void bounceBallOffEdges()
+    {
+        
+        // The function bounces the ball off the screen edges -- aligning the ball to any edge it passed
+        // and reversing the matching component of its velocity.
+        
+        // If ball outside left edge of screen, then...
+        if (ball.getX() < 0)
+            
+            {
+            // Ball outside left edge of screen.
+            
+            // Align ball to left edge of screen.
+            ball.setX(0);
+            
+            // Multiply horizontal component of velocity by -1 to reverse x direction of ball.
+            ball.multVelocityX(-1);
+            }
+        
+        // If ball outside right edge of screen, then...
+        if (ball.getX() + ball.getWidth() > mapWidth)
+            
+            {
+            // Ball outside right edge of screen.
+                
+            // Align ball to right edge of screen.
+            ball.setX( mapWidth - ball.getWidth() );
+            
+            // Multiply horizontal component of velocity by -1 to reverse x direction of ball.
+            ball.multVelocityX(-1);
+            }
+        
+        // If ball outside bottom edge of screen, then...
+        if (ball.getY() < 0)
+            
+            {
+            // Ball outside bottom edge of screen.
+                
+            // Align ball to bottom edge of screen.
+            ball.setY(0);
+            
+            // Multiply vertical component of velocity by -1 to reverse y direction of ball.
+            ball.multVelocityY(-1);
+            }
+        
+        // If ball outside top edge of screen, then...
+        if (ball.getY() + ball.getHeight() > mapHeight)
+            
+            {
+            // Ball outside top edge of screen.
+                
+            // Align ball to top edge of screen.
+            ball.setY( mapHeight - ball.getHeight() );
+            
+            // Multiply vertical component of velocity by -1 to reverse y direction of ball.
+            ball.multVelocityY(-1);
+            }
+        
+    }
+
+}
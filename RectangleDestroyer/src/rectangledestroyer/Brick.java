@@ -77,14 +77,13 @@ public class Brick extends BaseActor { // Extends the BaseActor class.
     public void destroy()
     {
     
-        // The function removes the Brick Actor from the screen and array, parentList.
+        // The function removes the Brick Actor from the screen and its parent list / bag.
         
         // Set up action to remove the Brick Actor from the screen after 0.5 secnods, using a fade out effect.
         addAction( Actions.sequence( Actions.fadeOut(0.5f), Actions.removeActor() ) );
         
-        // If BaseActor array exists, then...
-        if (parentList != null)
-        parentList.remove(this); // BaseActor array exists.  Remove Brick BaseActor from array.
+        // Remove Brick BaseActor from parent list / bag.
+        removeFromParentList();
         
     }
     
@@ -93,8 +92,8 @@ public class Brick extends BaseActor { // Extends the BaseActor class.
 
         // The function returns the bounding rectange for the brick Actor.
 
-        // Return bounding rectangle for the Actor.
-        return new Rectangle( getX(), getY(), getWidth(), getHeight() );
+        // Return bounding rectangle for the Actor -- reused for each call, rather than created.
+        return getBoundingRectangle();
         
     }
     
@@ -0,0 +1,282 @@
+package rectangledestroyer;
+
+import java.util.ArrayList;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class BrickGrid
+{
+
+    /*
+    The class indexes the Brick Actors by (row, column) within the regular layout set up in
+    GameScreen.create, so collision checks only look at the cells crossed by the ball rather than every
+    brick in the list.
+
+    Each cell holds at most one brick.  Cells get counted from the bottom left of the layout -- row 0
+    holds the lowest bricks and column 0 the leftmost.  A brick gets placed in the cell containing its
+    center, so bricks smaller than the cell (leaving gaps between them) work as expected.
+
+    Bricks leave the grid when hit (remove), while the fade out effect still plays on screen.
+
+    Methods include:
+
+    add:  Places the passed brick in the cell containing its center.
+    clear:  Removes all bricks from the grid.
+    collect:  Adds the bricks in the cells crossed by a moving circle to the passed list.
+    get:  Returns the brick in the passed cell, or null.
+    getCount:  Returns the number of bricks in the grid.
+    remove:  Removes the passed brick from the grid.
+    */
+
+    private final float left; // X-coordinate of the left edge of column 0.
+    private final float bottom; // Y-coordinate of the bottom edge of row 0.
+    private final float cellWidth; // Width of each cell (horizontal distance between bricks).
+    private final float cellHeight; // Height of each cell (vertical distance between bricks).
+    private final int columns; // Number of columns in the grid.
+    private final int rows; // Number of rows in the grid.
+    private final Brick[] cells; // Brick in each cell, stored row by row.  Null for empty cells.
+    private int count; // Number of bricks in the grid.
+
+    // left = X-coordinate of the left edge of column 0.
+    // bottom = Y-coordinate of the bottom edge of row 0.
+    // cellWidth = Width of each cell (horizontal distance between bricks).
+    // cellHeight = Height of each cell (vertical distance between bricks).
+    // columns = Number of columns in the grid.
+    // rows = Number of rows in the grid.
+    public BrickGrid(float left, float bottom, float cellWidth, float cellHeight, int columns, int rows)
+    {
+
+        // The constructor of the class stores the layout and creates the (empty) cells.
+
+        this.left = left;
+        this.bottom = bottom;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.columns = columns;
+        this.rows = rows;
+        cells = new Brick[columns * rows];
+        count = 0;
+
+    }
+
+    // brick = Brick to place in the grid.
+    public void add(Brick brick)
+    {
+
+        // The function places the passed brick in the cell containing its center.
+        // Bricks outside the grid get ignored.
+
+        int index; // Index of the cell containing the center of the brick.
+
+        // Find cell containing the center of the brick.
+        index = cellIndex(brick);
+
+        // If brick outside the grid, then...
+        if (index < 0)
+            // Brick outside the grid.  Ignore.
+            return;
+
+        // If cell empty, then count the new brick.
+        if (cells[index] == null)
+            count++;
+
+        // Place brick in cell.
+        cells[index] = brick;
+
+    }
+
+    // brick = Brick for which to find the cell.
+    private int cellIndex(Brick brick)
+    {
+
+        // The function returns the index of the cell containing the center of the passed brick,
+        // or -1 when outside the grid.
+
+        int column; // Column containing the center of the brick.
+        int row; // Row containing the center of the brick.
+
+        column = (int)Math.floor( (brick.getX() + brick.getWidth() / 2 - left) / cellWidth );
+        row = (int)Math.floor( (brick.getY() + brick.getHeight() / 2 - bottom) / cellHeight );
+
+        // If center outside the grid, then...
+        if (column < 0 || column >= columns || row < 0 || row >= rows)
+            // Center outside the grid.
+            return -1;
+
+        // Return index of cell.
+        return row * columns + column;
+
+    }
+
+    public void clear()
+    {
+        // The function removes all bricks from the grid.
+        for (int i = 0; i < cells.length; i++)
+            cells[i] = null;
+        count = 0;
+    }
+
+    // x0 = X-coordinate of the center of the circle at the start of the movement.
+    // y0 = Y-coordinate of the center of the circle at the start of the movement.
+    // x1 = X-coordinate of the center of the circle at the end of the movement.
+    // y1 = Y-coordinate of the center of the circle at the end of the movement.
+    // radius = Radius of the circle.
+    // results = List to fill with the bricks found.  Cleared first.
+    public ArrayList<Brick> collect(float x0, float y0, float x1, float y1, float radius, ArrayList<Brick> results)
+    {
+
+        /*
+        The function fills the passed list with the bricks in the cells crossed by a circle moving in a
+        straight line -- candidates for an exact (swept) collision test.
+
+        For each row within reach of the movement, the function clips the path of the center to the band
+        of the row (grown by the radius) and only visits the columns spanned by that part of the path.
+        A long diagonal movement therefore visits a thin staircase of cells rather than the full bounding box.
+        Each brick gets added at most once.  The function returns the passed list.
+        */
+
+        float dx; // Horizontal movement of the circle.
+        float dy; // Vertical movement of the circle.
+        float bandLow; // Bottom of the current row, grown by the radius.
+        float bandHigh; // Top of the current row, grown by the radius.
+        float tStart; // Fraction of the movement at which the center enters the band.
+        float tEnd; // Fraction of the movement at which the center leaves the band.
+        float swap; // Temporary used when swapping fractions.
+        float xStart; // X-coordinate of the center on entering the band.
+        float xEnd; // X-coordinate of the center on leaving the band.
+        int rowFirst; // First row within reach of the movement.
+        int rowLast; // Last row within reach of the movement.
+        int columnFirst; // First column within reach for the current row.
+        int columnLast; // Last column within reach for the current row.
+        Brick brick; // Brick in the current cell.
+
+        // Clear results.
+        results.clear();
+
+        dx = x1 - x0;
+        dy = y1 - y0;
+
+        // Find rows within reach of the movement (clamped to the grid).
+        rowFirst = Math.max( 0, (int)Math.floor( (Math.min(y0, y1) - radius - bottom) / cellHeight ) );
+        rowLast = Math.min( rows - 1, (int)Math.floor( (Math.max(y0, y1) + radius - bottom) / cellHeight ) );
+
+        // Loop through rows within reach.
+        for (int row = rowFirst; row <= rowLast; row++)
+        {
+
+            // Store band for the row, grown by the radius.
+            bandLow = bottom + row * cellHeight - radius;
+            bandHigh = bandLow + cellHeight + 2 * radius;
+
+            // If no vertical movement, then...
+            if (dy == 0)
+            {
+                // No vertical movement.  The whole path lies within the band (or none of it).
+                if (y0 < bandLow || y0 > bandHigh)
+                    continue;
+                tStart = 0;
+                tEnd = 1;
+            }
+            else
+            {
+                // Clip the path to the band.
+                tStart = (bandLow - y0) / dy;
+                tEnd = (bandHigh - y0) / dy;
+                if (tStart > tEnd) { swap = tStart; tStart = tEnd; tEnd = swap; }
+                tStart = Math.max(tStart, 0);
+                tEnd = Math.min(tEnd, 1);
+                if (tStart > tEnd)
+                    continue;
+            }
+
+            // Find columns spanned by the clipped path (clamped to the grid).
+            xStart = x0 + dx * tStart;
+            xEnd = x0 + dx * tEnd;
+            columnFirst = Math.max( 0, (int)Math.floor( (Math.min(xStart, xEnd) - radius - left) / cellWidth ) );
+            columnLast = Math.min( columns - 1, (int)Math.floor( (Math.max(xStart, xEnd) + radius - left) / cellWidth ) );
+
+            // Add bricks in the columns spanned.
+            for (int column = columnFirst; column <= columnLast; column++)
+            {
+                brick = cells[row * columns + column];
+                if (brick != null)
+                    results.add(brick);
+            }
+
+        }
+
+        // Return the list of bricks found.
+        return results;
+
+    }
+
+    // row = Row of the cell (0 = bottom).
+    // column = Column of the cell (0 = left).
+    public Brick get(int row, int column)
+    {
+
+        // The function returns the brick in the passed cell, or null when empty or outside the grid.
+
+        // If cell outside the grid, then...
+        if (column < 0 || column >= columns || row < 0 || row >= rows)
+            // Cell outside the grid.
+            return null;
+
+        // Return brick in the cell.
+        return cells[row * columns + column];
+
+    }
+
+    public int getCount()
+    {
+        // The function returns the number of bricks in the grid.
+        return count;
+    }
+
+    // brick = Brick to remove from the grid.
+    public void remove(Brick brick)
+    {
+
+        // The function removes the passed brick from the grid.  Bricks not in the grid get ignored.
+
+        int index; // Index of the cell containing the center of the brick.
+
+        // Find cell containing the center of the brick.
+        index = cellIndex(brick);
+
+        // If brick in the grid, then...
+        if (index >= 0 && cells[index] == brick)
+        {
+            // Brick in the grid.  Empty the cell.
+            cells[index] = null;
+            count--;
+        }
+
+    }
+
+}
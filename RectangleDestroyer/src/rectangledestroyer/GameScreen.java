@@ -2,14 +2,12 @@ package rectangledestroyer;
 
 import core.BaseGame;
 import core.BaseScreen;
-import core.BaseActor;
+import core.ActorBag;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
-import com.badlogic.gdx.scenes.scene2d.actions.Actions;
-import java.util.ArrayList;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -51,15 +49,20 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
     // keyDown:  The function gets called when the user presses a key.  Pauses the game when pressing the
     //           P key.  Resets the game when pressing the R key.
     // update:  Occurs during the update phase (render method) and contains code related to game logic.
+    
+    The collision step (ball against the screen edges, paddle, and bricks, and power-ups against the
+    paddle) lives in BallCollisions, so tests can run it without graphics.
     */
     
     private Paddle paddle; // BaseActor that will act as the paddle.
     private Ball ball; // PhysicsActor that will act as the ball.
     private Brick baseBrick; // BaseActor that will act as the base brick (cloned).
-    private ArrayList<Brick> brickList; // PhysicsActor array that will act as the bricks.
+    private BrickGrid brickGrid; // Bricks indexed by (row, column) -- the only brick container.  Collision
+    // checks against the ball go through the grid, and Ball.sweep removes the bricks hit.
     private Powerup basePowerup; // PhysicsActor that will act as the base powerup (cloned).
-    private ArrayList<Powerup> powerupList; // PhysicsActor array that will act as the powerups.
-    private ArrayList<BaseActor> removeList; // List of actors to remove.
+    private ActorBag<Powerup> powerupList; // PhysicsActor bag that will act as the powerups.
+    private BallCollisions ballCollisions; // Runs the collision step -- ball against the screen edges,
+    // paddle, and bricks, and power-ups against the paddle.
     
     // Game world dimensions.
     private final int mapWidth; // = 800;
@@ -99,6 +102,7 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
         4.  Sets up ball object.
         5.  Sets up base power-up object.
         6.  Sets up bricks.
+        7.  Sets up collision step.
         */
         
         Brick brick; // Current Brick in loop.
@@ -131,9 +135,9 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
         
         // baseBrick.setColor(Color.BLUE);
         
-        // Instantiate array to hold bricks.
-        // brickList = new ArrayList<Brick>();
-        brickList = new ArrayList<>();
+        // Set up grid matching the brick layout below -- 10 columns, 80 pixels apart, and 6 rows, 40 pixels
+        // apart, with the lowest row starting at 300 (500 - 40 x 5).
+        brickGrid = new BrickGrid( 8, 500 - (24 + 16) * 5, 80, 24 + 16, 10, 6 );
         
         // Create the ball object.
         ball = new Ball();
@@ -160,13 +164,9 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
           new Texture(Gdx.files.internal("assets/paddle-shrink.png")) );
         basePowerup.setOriginCenter(); // Set origin of actor to the center of associated image -- for rotation.
         
-        // Instantiate array to hold powerups.
+        // Instantiate bag to hold powerups.
         // powerupList = new ArrayList<Powerup>();
-        powerupList = new ArrayList<>();
-        
-        // Instantiate array to hold actors to remove.
-        // removeList = new ArrayList<BaseActor>();
-        removeList = new ArrayList<>();
+        powerupList = new ActorBag<>();
         
         // Store array of colors to use for bricks.
         colorArray = new Color[] { Color.RED, Color.ORANGE, Color.YELLOW,
@@ -191,11 +191,8 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
                 // Set the color of the brick.
                 brick.setColor( colorArray[j] );
                 
-                // Add brick to array.
-                brickList.add( brick );
-                
-                // Set reference of (brick) actor to ArrayList.
-                brick.setParentList( brickList );
+                // Add brick to grid.
+                brickGrid.add( brick );
                 
                 // Add brick (actor) to scene graph.
                 mainStage.addActor( brick );
@@ -203,6 +200,10 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
             
             }
         
+        // Set up collision step.  Power-ups get added to the main stage.
+        ballCollisions = new BallCollisions( mapWidth, mapHeight, paddle, ball, brickGrid, actorPool,
+          basePowerup, powerupList, mainStage.getRoot() );
+        
     }
     
     // dt = Time span between the current and last frame in seconds.  Passed / populated automatically.
@@ -215,16 +216,11 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
         
         1.  Adjusts horizontal position of center of paddle to x coordinate of mouse.
         2.  Adjust paddle to remain inside left and right edges of screen.
-        3.  Bounce ball off screen edges.
-        4.  Bounce ball off paddle.
-        5.  Check whether ball hit any of the bricks and handle as necessary.
-        6.  Check whether any of the power-ups have collided with the paddle and handle as necessary.
-        7.  Clears actors in removal list.
+        3.  Runs the collision step (BallCollisions) -- bounces the ball off the screen edges, paddle, and
+            bricks (destroying the bricks hit and occasionally spawning power-ups), and handles power-ups
+            colliding with the paddle.
         */
         
-        Powerup pow; // Power-up to spawn.
-        String powName; // Name of power-up overlapping paddle.
-        
         // First, the horizontal position of the paddle must be continuously adjusted to center on the 
         // x coordinate of the mouse.  Also, the paddle object should be bound to the screen.
         
@@ -243,180 +239,12 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
             // Align to right edge of screen.
             paddle.setX(mapWidth - paddle.getWidth());
         
-        // Next, as necessary, bounce the ball off the screen edges.
-        
-        // If ball outside left edge of screen, then...
-        if (ball.getX() < 0)
-            
-            {
-            // Ball outside left edge of screen.
-            
-            // Align ball to left edge of screen.
-            ball.setX(0);
-            
-            // Multiply horizontal component of velocity by -1 to reverse x direction of ball.
-            ball.multVelocityX(-1);
-            }
-        
-        // If ball outside right edge of screen, then...
-        if (ball.getX() + ball.getWidth() > mapWidth)
-            
-            {
-            // Ball outside right edge of screen.
-                
-            // Align ball to right edge of screen.
-            ball.setX( mapWidth - ball.getWidth() );
-            
-            // Multiply horizontal component of velocity by -1 to reverse x direction of ball.
-            ball.multVelocityX(-1);
-            }
-        
-        // If ball outside bottom edge of screen, then...
-        if (ball.getY() < 0)
-            
-            {
-            // Ball outside bottom edge of screen.
-                
-            // Align ball to bottom edge of screen.
-            ball.setY(0);
-            
-            // Multiply vertical component of velocity by -1 to reverse y direction of ball.
-            ball.multVelocityY(-1);
-            }
-        
-        // If ball outside top edge of screen, then...
-        if (ball.getY() + ball.getHeight() > mapHeight)
-            
-            {
-            // Ball outside top edge of screen.
-                
-            // Align ball to top edge of screen.
-            ball.setY( mapHeight - ball.getHeight() );
-            
-            // Multiply vertical component of velocity by -1 to reverse y direction of ball.
-            ball.multVelocityY(-1);
-            }
-        
-        // Bounce ball off paddle.
-        ball.overlaps(paddle, true);
-        
-        // Check whether ball hit any of the bricks and handle as necessary.
-        
-        // Any brick hitting the ball gets added to the removeList array, which later calls the destroy
-        // method -- activating its fade-out effect.
-        // When the ball hits a brick, a twenty percent chance exists for a random power-up to appear.
-        // If the power-up spawns, an action will use an animated scaling effect.  The effect will
-        // cause the power-up to appear to grow from a single pixel to its full size over the course of
-        // half a second.
-        
-        // Clear contents of Actor removal list.
-        removeList.clear();
-        
-        // Loop through bricks.
-        for (Brick br : brickList)
-            
-            {
-            // If ball overlaps brick, then...
-            if ( ball.overlaps(br, true) ) 
-                {
-                // Ball overlaps brick.
-                
-                // Calling the overlaps function causes the ball to bounce off the affected brick.
-                
-                // Add the brick to the removal list.
-                removeList.add(br);
-                
-                // If random number within range (20% chance of power-up), then...
-                if (Math.random() < 0.20)
-                    {  
-                    // Random number within range (20% chance of power-up).
-                    
-                    // Clone a power-up actor.
-                    pow = basePowerup.clone();
-                    
-                    // Randomly select one of the stored animations to use as the power-up.
-                    pow.randomize();
-                    
-                    // Center power-up within center of brick.
-                    pow.moveToOrigin(br);
-                    
-                    // Set initial scale to 0, 0 (effectively, a size of 0).
-                    pow.setScale(0,0);
-                    
-                    // Add action to scale to full size within 0.50 seconds.
-                    pow.addAction( Actions.scaleTo(1,1, 0.5f) );
-                    
-                    // Add power-up actor to array.
-                    powerupList.add(pow);
-                    
-                    // Set reference of (power-up) actor to ArrayList.
-                    pow.setParentList(powerupList);
-                    
-                    // Add power-up actor to scene graph.
-                    mainStage.addActor(pow);
-                    }
-                
-                }
-            
-            }
-        
-        // Check whether any of the power-ups have collided with the paddle and handle as necessary.
-        // If a power-up collided with the paddle, determine the name of the animation and carry out 
-        // the associated effect.  The only powerup effects involve changing the size of the paddle.
-        // Reasonable constraints will be set on the maximum and minimum size the paddle can attain. 
-        // Animate the change in size using an Action.
-        
-        // Loop through power-ups in array.
-        for (Powerup pow2 : powerupList)
-            
-            {
-            
-            // If power-up overlaps paddle, then...
-            if ( pow2.overlaps(paddle) )
-                
-                {
-                // Power-up overlaps paddle.
-                
-                // Store name of power-up overlapping paddle.
-                powName = pow2.getAnimationName();
-                
-                // If power-up is "paddle-expand" and paddle less than maximum, then...
-                if ( powName.equals("paddle-expand") && paddle.getWidth() < 256)
-                    
-                    {
-                    // Power-up is "paddle-expand" and paddle less than maximum.
-                        
-                    // Add action to paddle to increase width by 32 pixels over the course of 0.50 seconds.
-                    paddle.addAction( Actions.sizeBy(32, 0, 0.5f) );
-                    }
-                
-                // Otherwise, if power-up is "paddle-shrink" and paddle greater than minimum, then...
-                else if ( powName.equals("paddle-shrink") && paddle.getWidth() > 64)
-                    
-                    {
-                    // Power-up is "paddle-shrink" and paddle greater than minimum.
-                        
-                    // Add action to paddle to decrease width by 32 pixels over the course of 0.50 seconds.
-                    paddle.addAction( Actions.sizeBy(-32, 0, 0.5f) );
-                    }
-                
-                // Add power-up to removal list.
-                removeList.add(pow2);
-                }
-            
-            }
-        
-        // Destroy actors in removal list -- clear them from the stage.
-        
-        // Loop through actors in removal list.
-        for (BaseActor ba : removeList)
-        {
-            // Remove actor from the stage.
-            ba.destroy();
-        }
+        // Run the collision step -- ball against the screen edges, paddle, and bricks, and power-ups against
+        // the paddle.
+        ballCollisions.update();
         
     }
-
+    
     // keycode = Code for key pressed.
     @Override
     public boolean keyDown(int keycode)
@@ -55,8 +55,8 @@ public class Paddle extends BaseActor { // Extends the BaseActor class.
 
         // The function returns the bounding rectange for the paddle Actor.
 
-        // Return bounding rectangle for the Actor.
-        return new Rectangle( getX(), getY(), getWidth(), getHeight() );
+        // Return bounding rectangle for the Actor -- reused for each call, rather than created.
+        return getBoundingRectangle();
         
     }
     
@@ -4,7 +4,6 @@ import core.PhysicsActor;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Intersector;
-import java.util.ArrayList;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -51,6 +50,9 @@ public class Powerup extends PhysicsActor { // Extends the PhysicsActor class.
     randomize:  Randomly selects one of the stored animations to use as the powerup.
     */
     
+    private String[] animationNames; // Keys of the stored animations -- built on the first call to
+    // randomize and kept (including through reuse by an actor pool), since every powerup stores the same ones.
+    
     public Powerup()
     {
         
@@ -86,8 +88,8 @@ public class Powerup extends PhysicsActor { // Extends the PhysicsActor class.
 
         // The function returns the bounding rectange for the powerup Actor.
 
-        // Return bounding rectangle for the Actor.
-        return new Rectangle( getX(), getY(), getWidth(), getHeight() );
+        // Return bounding rectangle for the Actor -- reused for each call, rather than created.
+        return getBoundingRectangle();
         
     }
     
@@ -103,18 +105,17 @@ public class Powerup extends PhysicsActor { // Extends the PhysicsActor class.
         
         // The function randomly selects one of the stored animations to use as the powerup.
         
-        ArrayList<String> names; // Array with keys of animations.
         int n; // Random number between 0 and number of animations (-1).
         
-        // Store array list with animation keys (from hash map).
-        // names = new ArrayList<String>( animationStorage.keySet() );
-        names = new ArrayList<>( animationStorage.keySet() );
+        // If keys of animations not stored yet (or changed), then store them as an array.
+        if (animationNames == null || animationNames.length != animationStorage.size())
+            animationNames = animationStorage.keySet().toArray( new String[0] );
         
         // Generate random number between 0 and the number of animations (-1).
-        n = MathUtils.random( names.size() - 1 );
+        n = MathUtils.random( animationNames.length - 1 );
         
         // Set the active Animation (key and object) using the passed key.
-        setActiveAnimation( names.get(n) );
+        setActiveAnimation( animationNames[n] );
         
     }
     
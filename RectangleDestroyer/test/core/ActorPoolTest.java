@@ -0,0 +1,340 @@
+package core;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import java.lang.reflect.Proxy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import rectangledestroyer.Brick;
+import rectangledestroyer.Powerup;
+
+public class ActorPoolTest
+{
+
+    /*
+    The class tests the ActorPool together with ActorBag, using the spawn template of the game -- the
+    power-up, set up and spawned as in the game screen (a random animation, growing from a scale of zero).
+    In particular, actors destroyed during a removal phase of their bag (begin / end) must not get handed
+    out again until the bag lets go of them, and a power-up caught while still growing must come back from
+    the pool like a new one.
+
+    No window gets opened.  Gdx.gl and Gdx.app get stand-ins answering with defaults, so the power-up
+    animations can use textures created from small pixmaps (only the native library gets loaded).  The
+    power-ups get added to a Group rather than a Stage.
+    */
+
+    private static final float FRAME_TIME = 1 / 60f; // Time in seconds between frames.
+    private static final int SPAWNS_PER_FRAME = 50; // Power-ups spawned (and destroyed) each stress frame.
+    private static final int STRESS_FRAMES = 5000; // Frames measured by the stress benchmark.
+    private static final int WARMUP_FRAMES = 5000; // Frames run before measuring.
+
+    private Texture expandTex; // Texture for the paddle expander power-up.
+    private Texture shrinkTex; // Texture for the paddle shrinker power-up.
+    private Powerup basePowerup; // Template (base) power-up copied by the pool.
+    private Brick brick; // Brick in which to spawn the power-ups.
+    private ActorPool pool; // Pool under test.
+    private Group parent; // Parent (in place of a Stage) of the power-ups spawned.
+    private ActorBag<Powerup> firstBag; // Bag holding the power-ups spawned first.
+    private ActorBag<Powerup> secondBag; // Bag holding the power-ups spawned during the removal phase.
+
+    @BeforeClass
+    public static void setUpGdx()
+    {
+
+        // The function loads the native library and sets up stand-ins for the GL and application interfaces,
+        // so the template can use textures created from small pixmaps.
+
+        GdxNativesLoader.load();
+
+        Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance( GL20.class.getClassLoader(),
+            new Class<?>[] { GL20.class }, (proxy, method, args) -> defaultValue( method.getReturnType() ) );
+
+        Gdx.app = (Application)Proxy.newProxyInstance( Application.class.getClassLoader(),
+            new Class<?>[] { Application.class }, (proxy, method, args) ->
+            {
+                if (method.getName().equals( "getType" ))
+                    return Application.ApplicationType.Desktop;
+                if (method.getName().equals( "equals" ))
+                    return proxy == args[0];
+                if (method.getName().equals( "hashCode" ))
+                    return 1;
+                return defaultValue( method.getReturnType() );
+            } );
+
+    }
+
+    // type = Return type of the method called on a stand-in.
+    private static Object defaultValue(Class<?> type)
+    {
+        // The function returns the value a stand-in answers for the passed return type.
+        if (type == int.class)
+            return 1;
+        if (type == float.class)
+            return 1f;
+        if (type == long.class)
+            return 0L;
+        if (type == boolean.class)
+            return false;
+        return null;
+    }
+
+    @Before
+    public void setUp()
+    {
+
+        // The function creates the base power-up (set up as in the game screen), a brick, pool, parent, and
+        // bags used by each test.
+
+        expandTex = new Texture( new Pixmap( 32, 16, Pixmap.Format.RGBA8888 ) );
+        shrinkTex = new Texture( new Pixmap( 32, 16, Pixmap.Format.RGBA8888 ) );
+
+        basePowerup = new Powerup();
+        basePowerup.setVelocityXY( 0, -100 );
+        basePowerup.storeAnimation( "paddle-expand", expandTex );
+        basePowerup.storeAnimation( "paddle-shrink", shrinkTex );
+        basePowerup.setOriginCenter();
+
+        brick = new Brick();
+        brick.setSize( 64, 24 );
+        brick.setOriginCenter();
+        brick.setPosition( 400, 300 );
+
+        pool = new ActorPool();
+        parent = new Group();
+        firstBag = new ActorBag<>();
+        secondBag = new ActorBag<>();
+
+    }
+
+    @After
+    public void tearDown()
+    {
+        // The function releases the textures.
+        expandTex.dispose();
+        shrinkTex.dispose();
+    }
+
+    // bag = Bag to which to add the power-up.
+    private Powerup spawn(ActorBag<Powerup> bag)
+    {
+
+        // The function spawns a power-up as the game screen does when the ball hits a brick -- obtains it from
+        // the pool, selects a random animation, centers it within the brick, grows it from a scale of zero,
+        // and adds it to the parent and passed bag.
+
+        Powerup pow = pool.obtain( basePowerup ); // Power-up spawned.
+
+        pow.randomize();
+        pow.moveToOrigin( brick );
+        pow.setScale( 0, 0 );
+        pow.addAction( Actions.scaleTo( 1, 1, 0.5f ) );
+        bag.add( pow );
+        parent.addActor( pow );
+
+        return pow;
+
+    }
+
+    @Test
+    public void spawnAndDestroyStressKeepsHeapFlat()
+    {
+
+        /*
+        Stress benchmark -- spawns and destroys SPAWNS_PER_FRAME power-ups each frame for STRESS_FRAMES
+        frames, destroying through a removal phase like the game loops do.  After the warmup frames, the pool
+        must hand out only reused power-ups (no new clones), and the frames must allocate nothing --
+        including the random animations and the scaling actions, which return to their pool when the
+        power-ups get reused -- so the heap stays flat however long the game runs.  Uses AllocationMonitor (skipped where unsupported).
+
+        The allocation check works on the total over all frames (under one byte per frame), since the
+        virtual machine itself occasionally allocates a few bytes on the thread (compiling code).  Any
+        garbage created per spawn adds up to far more.
+        */
+
+        AllocationMonitor monitor = new AllocationMonitor(); // Measures bytes allocated per frame.
+        long createdAfterWarmup; // Power-ups cloned by the pool once warmed up.
+        long totalBytes = 0; // Bytes allocated over the measured frames.
+
+        // Warm up -- fill the pool and let the virtual machine compile the loop.
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++)
+            runStressFrame();
+
+        createdAfterWarmup = pool.getCreatedCount();
+
+        monitor.setEnabled( true );
+
+        // Measure the frames.
+        for (int frame = 0; frame < STRESS_FRAMES; frame++)
+        {
+            monitor.beginFrame();
+            runStressFrame();
+            monitor.endFrame();
+            totalBytes += monitor.getLastBytes( AllocationMonitor.TOTAL );
+        }
+
+        // Pool stopped cloning -- every power-up since the warmup got reused.
+        assertEquals( SPAWNS_PER_FRAME, createdAfterWarmup );
+        assertEquals( createdAfterWarmup, pool.getCreatedCount() );
+        assertEquals( (long)(WARMUP_FRAMES + STRESS_FRAMES) * SPAWNS_PER_FRAME, pool.getObtainedCount() );
+
+        // Frames allocated nothing (when the virtual machine reports allocations).
+        if (AllocationMonitor.isSupported())
+            assertTrue( monitor.getReport(), totalBytes < STRESS_FRAMES );
+
+    }
+
+    private void runStressFrame()
+    {
+
+        // The function spawns SPAWNS_PER_FRAME power-ups, moves them, and then destroys all of them during a
+        // removal phase.
+
+        for (int i = 0; i < SPAWNS_PER_FRAME; i++)
+            spawn( firstBag );
+
+        parent.act( FRAME_TIME );
+
+        firstBag.begin();
+
+        for (int i = 0; i < firstBag.size(); i++)
+            firstBag.get( i ).destroy();
+
+        firstBag.end();
+
+    }
+
+    @Test
+    public void caughtPowerupComesBackLikeNewOne()
+    {
+
+        /*
+        A power-up caught by the paddle while still growing gets destroyed partway through its scaling
+        action.  Spawned again from the pool, the same power-up must come back growing from a scale of zero
+        (with only the new scaling action), falling at the speed of the template, and showing one of the
+        animations of the template.
+        */
+
+        Powerup pow = spawn( firstBag ); // Power-up caught while growing.
+        float y; // Vertical position of the power-up spawned again, before moving it.
+
+        // Let the power-up grow for a fifth of a second, then destroy it as the game screen does.
+        for (int frame = 0; frame < 12; frame++)
+            parent.act( FRAME_TIME );
+
+        assertTrue( pow.getScaleX() > 0 && pow.getScaleX() < 1 );
+        pow.destroy();
+
+        // Spawn again -- same power-up, reset to match the template.
+        assertSame( pow, spawn( firstBag ) );
+        assertEquals( 0, pow.getScaleX(), 0 );
+        assertEquals( 1, pow.getActions().size );
+        assertEquals( 100, pow.getSpeed(), 1e-3f );
+        assertTrue( pow.getAnimationName().equals( "paddle-expand" ) ||
+            pow.getAnimationName().equals( "paddle-shrink" ) );
+
+        // Power-up falls at the speed of the template (100 pixels per second).
+        y = pow.getY();
+        parent.act( FRAME_TIME );
+        assertEquals( -100 * FRAME_TIME, pow.getY() - y, 1e-3f );
+
+    }
+
+    @Test
+    public void freeOutsideRemovalPhaseReturnsActorAtOnce()
+    {
+
+        Powerup pow = spawn( firstBag ); // Power-up to destroy.
+
+        pow.destroy();
+
+        assertEquals( 0, firstBag.size() );
+        assertEquals( 1, pool.getFreeCount( basePowerup ) );
+        assertSame( pow, pool.obtain( basePowerup ) );
+
+    }
+
+    @Test
+    public void freeDuringRemovalPhaseWaitsForEnd()
+    {
+
+        /*
+        Mirrors the power-up loop of the game screen -- a power-up gets destroyed inside the removal phase of
+        its bag, and a power-up spawned in the same frame goes into another bag.  The destroyed power-up must
+        not come back from obtain before the first bag ends its phase.
+        */
+
+        Powerup destroyed = spawn( firstBag ); // Power-up destroyed during the removal phase.
+        Powerup spawned; // Power-up spawned during the removal phase.
+
+        firstBag.begin();
+
+        destroyed.destroy();
+
+        // Power-up left the parent, but stays in the bag (flagged) and out of the free actors.
+        assertFalse( parent.getChildren().contains( destroyed, true ) );
+        assertTrue( firstBag.isRemovalPending( destroyed ) );
+        assertEquals( 0, pool.getFreeCount( basePowerup ) );
+
+        // Spawn during the phase -- gets a new power-up, and adding it to another bag works.
+        spawned = spawn( secondBag );
+        assertNotSame( destroyed, spawned );
+
+        firstBag.end();
+
+        // Power-up left the bag and returned to the pool.
+        assertEquals( 0, firstBag.size() );
+        assertEquals( 1, pool.getFreeCount( basePowerup ) );
+
+        // Next spawn reuses the power-up, which can join the second bag.
+        assertSame( destroyed, spawn( secondBag ) );
+        assertEquals( 2, secondBag.size() );
+
+    }
+
+    @Test
+    public void destroyTwiceDuringRemovalPhaseReturnsActorOnce()
+    {
+
+        Powerup pow = spawn( firstBag ); // Power-up destroyed twice.
+
+        firstBag.begin();
+        pow.destroy();
+        pow.destroy();
+        firstBag.end();
+
+        assertEquals( 1, pool.getFreeCount( basePowerup ) );
+
+    }
+
+    @Test
+    public void clearDuringRemovalPhaseReturnsFreedActors()
+    {
+
+        Powerup pow = spawn( firstBag ); // Power-up destroyed before the bag gets cleared.
+
+        spawn( firstBag );
+
+        firstBag.begin();
+        pow.destroy();
+        firstBag.clear();
+        firstBag.end();
+
+        assertEquals( 1, pool.getFreeCount( basePowerup ) );
+        assertSame( pow, pool.obtain( basePowerup ) );
+
+    }
+
+}
@@ -0,0 +1,239 @@
+package rectangledestroyer;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import core.ActorBag;
+import core.ActorPool;
+import core.AllocationMonitor;
+import java.lang.reflect.Proxy;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class CollisionAllocationTest
+{
+
+    /*
+    The class runs the collision step of the game screen (BallCollisions.update) for thousands of frames
+    -- the ball bouncing off the screen edges and paddle and sweeping through the brick grid, bricks
+    destroyed and power-ups spawned from the actor pool, and power-ups checked against the paddle -- and
+    checks that the frames allocate nothing once warmed up.
+
+    No window gets opened.  Gdx.gl and Gdx.app get stand-ins answering with defaults, so the power-up
+    animations can use textures created from small pixmaps (only the native library gets loaded).  The
+    other actors get sized directly, and a Group stands in for the root of the main stage.  The paddle
+    follows the ball (in place of the mouse), bricks return once faded out, and power-ups missing
+    the paddle get removed below the screen, so the collisions keep happening.
+
+    The allocation check works on the total over all frames (under one byte per frame), since the
+    virtual machine itself occasionally allocates a few bytes on the thread (compiling code).  Any
+    object created per collision check adds up to far more.
+    */
+
+    private static final int BRICK_COLUMNS = 10; // Number of columns of bricks.
+    private static final int BRICK_ROWS = 6; // Number of rows of bricks.
+    private static final float FRAME_TIME = 1 / 60f; // Time in seconds between frames.
+    private static final float MAP_HEIGHT = 600; // Height of the game world.
+    private static final float MAP_WIDTH = 800; // Width of the game world.
+    private static final int MEASURED_FRAMES = 5000; // Frames measured.
+    private static final int WARMUP_FRAMES = 5000; // Frames run before measuring.
+
+    private Texture expandTex; // Texture for the paddle expander power-up.
+    private Texture shrinkTex; // Texture for the paddle shrinker power-up.
+    private Ball ball; // Ball moving through the bricks.
+    private BrickGrid brickGrid; // Bricks indexed by (row, column), as in the game screen.
+    private Brick[] bricks; // All bricks -- placed in the grid again once faded out.
+    private Paddle paddle; // Paddle following the ball.
+    private ActorBag<Powerup> powerupList; // Bag of power-ups.
+    private Group root; // Stands in for the root of the main stage.
+    private BallCollisions ballCollisions; // Collision step under test.
+    private long hitCount; // Bricks hit so far.
+    private long catchCount; // Power-ups caught by the paddle so far.
+
+    @BeforeClass
+    public static void setUpGdx()
+    {
+
+        // The function loads the native library and sets up stand-ins for the GL and application interfaces.
+
+        GdxNativesLoader.load();
+
+        Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance( GL20.class.getClassLoader(),
+            new Class<?>[] { GL20.class }, (proxy, method, args) -> defaultValue( method.getReturnType() ) );
+
+        Gdx.app = (Application)Proxy.newProxyInstance( Application.class.getClassLoader(),
+            new Class<?>[] { Application.class }, (proxy, method, args) ->
+            {
+                if (method.getName().equals( "getType" ))
+                    return Application.ApplicationType.Desktop;
+                if (method.getName().equals( "equals" ))
+                    return proxy == args[0];
+                if (method.getName().equals( "hashCode" ))
+                    return 1;
+                return defaultValue( method.getReturnType() );
+            } );
+
+    }
+
+    // type = Return type of the method called on a stand-in.
+    private static Object defaultValue(Class<?> type)
+    {
+        // The function returns the value a stand-in answers for the passed return type.
+        if (type == int.class)
+            return 1;
+        if (type == float.class)
+            return 1f;
+        if (type == long.class)
+            return 0L;
+        if (type == boolean.class)
+            return false;
+        return null;
+    }
+
+    @Before
+    public void setUp()
+    {
+
+        // The function creates the bricks, grid, ball, paddle, base power-up, and collision step, laid out
+        // as in the game screen.
+
+        Brick brick; // Brick to add to the grid.
+        Powerup basePowerup; // Template for the power-ups.
+
+        root = new Group();
+        brickGrid = new BrickGrid( 8, 500 - (24 + 16) * 5, 80, 24 + 16, BRICK_COLUMNS, BRICK_ROWS );
+        bricks = new Brick[BRICK_COLUMNS * BRICK_ROWS];
+
+        for (int j = 0; j < BRICK_ROWS; j++)
+            for (int i = 0; i < BRICK_COLUMNS; i++)
+            {
+                brick = new Brick();
+                brick.setSize( 64, 24 );
+                brick.setOriginCenter();
+                brick.setPosition( 8 + 80 * i, 500 - (24 + 16) * j );
+                bricks[j * BRICK_COLUMNS + i] = brick;
+                brickGrid.add( brick );
+                root.addActor( brick );
+            }
+
+        ball = new Ball();
+        ball.setSize( 16, 16 );
+        ball.setPosition( 400, 200 );
+        ball.setVelocityAS( 30, 600 );
+        root.addActor( ball );
+
+        paddle = new Paddle();
+        paddle.setSize( 64, 16 );
+        paddle.setPosition( 368, 32 );
+        paddle.setRectangleBoundary();
+        root.addActor( paddle );
+
+        expandTex = new Texture( new Pixmap( 32, 16, Pixmap.Format.RGBA8888 ) );
+        shrinkTex = new Texture( new Pixmap( 32, 16, Pixmap.Format.RGBA8888 ) );
+
+        basePowerup = new Powerup();
+        basePowerup.setVelocityXY( 0, -100 );
+        basePowerup.storeAnimation( "paddle-expand", expandTex );
+        basePowerup.storeAnimation( "paddle-shrink", shrinkTex );
+        basePowerup.setOriginCenter();
+
+        powerupList = new ActorBag<>();
+
+        ballCollisions = new BallCollisions( MAP_WIDTH, MAP_HEIGHT, paddle, ball, brickGrid, new ActorPool(),
+          basePowerup, powerupList, root );
+
+    }
+
+    @After
+    public void tearDown()
+    {
+        // The function releases the textures.
+        expandTex.dispose();
+        shrinkTex.dispose();
+    }
+
+    @Test
+    public void collisionStepAllocatesNothingPerFrame()
+    {
+
+        AllocationMonitor monitor; // Measures bytes allocated per frame.
+        long totalBytes = 0; // Bytes allocated over the measured frames.
+
+        assumeTrue( AllocationMonitor.isSupported() );
+
+        monitor = new AllocationMonitor();
+
+        // Warm up -- let the virtual machine compile the step, and let the pool fill up.
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++)
+            runFrame();
+
+        monitor.setEnabled( true );
+
+        // Measure the frames.
+        for (int frame = 0; frame < MEASURED_FRAMES; frame++)
+        {
+            monitor.beginFrame();
+            runFrame();
+            monitor.endFrame();
+            totalBytes += monitor.getLastBytes( AllocationMonitor.TOTAL );
+        }
+
+        // Step destroyed bricks and caught power-ups.
+        assertTrue( hitCount > 0 );
+        assertTrue( catchCount > 0 );
+
+        // Frames allocated nothing.
+        assertTrue( monitor.getReport(), totalBytes < MEASURED_FRAMES );
+
+    }
+
+    private void runFrame()
+    {
+
+        // The function runs one frame -- the actors act (as with the main stage), the paddle follows the ball,
+        // and the collision step runs.  Bricks return once faded out, and power-ups below the screen get
+        // removed.
+
+        // Move actors and run their actions (brick fade outs, power-up scaling, paddle resizing).
+        root.act( FRAME_TIME );
+
+        // Keep paddle under the ball, within the screen (in place of following the mouse).
+        paddle.setX( Math.max( 0, Math.min( MAP_WIDTH - paddle.getWidth(),
+            ball.getX() + ball.getWidth() / 2 - paddle.getWidth() / 2 ) ) );
+
+        // Run the collision step of the game screen.
+        ballCollisions.update();
+
+        hitCount += ballCollisions.getBrickHitCount();
+        catchCount += ballCollisions.getPowerupCatchCount();
+
+        // Remove power-ups that missed the paddle.
+        powerupList.begin();
+
+        for (int i = 0; i < powerupList.size(); i++)
+            if (powerupList.get( i ).getY() + powerupList.get( i ).getHeight() < 0)
+                powerupList.get( i ).destroy();
+
+        powerupList.end();
+
+        // Place bricks that finished fading out (left the scene graph) in the grid and scene graph again.
+        // Returning each brick on its own keeps the ball from bouncing forever through an emptied column.
+        for (Brick brick : bricks)
+            if (!brick.hasParent())
+            {
+                brick.getColor().a = 1;
+                brickGrid.add( brick );
+                root.addActor( brick );
+            }
+
+    }
+
+}
@@ -1,14 +1,15 @@
 package core;
 
 import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Intersector;
 import java.util.ArrayList;
 
 /*
@@ -50,14 +51,28 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     //       Actor (parent / super) class.  Updates Actor position based on time.
     // cloneActor:  Returns a BaseActor with the same properties as the current.
     // copy:  Copies properties from the passed to the current BaseActor.
-    // destroy:  Removes the BaseActor from its Stage and parent list (as necessary).
-    // draw:  Sets the tinting color of and draws the Actor.
-    // getBoundingPolygon:  Sets the position and rotation of the bounding polygon to that of the Actor.
+    // destroy:  Removes the BaseActor from its Stage parent list, and bag (as necessary).
+    // detach:  Removes the BaseActor from its Stage, parent list, and bag, when returning to an actor pool.
+    // draw:  Sets the tinting color of and draws the Actor (and its children, when present).
+    // getBlendDstFunc:  Returns the destination blend function used to draw the Actor.
+    // getBlendSrcFunc:  Returns the source blend function used to draw the Actor.
+    // getBoundingPolygon:  Sets the position, rotation, scale, and origin of the bounding polygon to those of the Actor (when changed).
     // getBoundingRectangle:  Sets the properties of the bounding rectangle related to the texture region.
+    // getLocalVertices:  Returns the local (untransformed) vertices of the bounding polygon.
+    // getPolygonBounds:  Returns the cached axis-aligned rectangle enclosing the transformed bounding polygon.
+    // getPolygonCacheHits:  Returns the number of bounding polygon queries served from the cache.
+    // getPolygonCacheMisses:  Returns the number of bounding polygon queries requiring a new transform.
+    // getCollisionRectangle:  Returns the axis-aligned rectangle enclosing the bounding polygon in world coordinates.
+    // getRenderLayer:  Returns the layer of the Actor when drawn through a render queue.
     // getTintColor:  Gets the tint color of the Actor.
+    // invalidatePolygonCache:  Forces the bounding polygon transform to get recalculated on the next query.
     // moveToOrigin:  Centers a small within a larger rectangle, using the borders of the current and target BaseActor objects.
     // overlaps:  Determines whether the bounding polygon for the passed Actor intersects (significantly)
     //            with that of the current.  Moves current Actor minimum amount to avoid intersection.
+    // remove:  Removes the BaseActor from its parent.  Actors from an ActorPool return to the pool.
+    // resetForReuse:  Resets the properties a new Actor starts with, before reuse by an actor pool.
+    // resetPolygonCacheCounters:  Resets the bounding polygon cache hit and miss counters.
+    // reuse:  Resets the BaseActor to match a new clone of the passed template (actor pool).
     // setActorName:  Sets the Actor name to the passed value.
     // setAdditionalDetails:  Performs additional operations for the constructor that would cause
     //                        overridable method call errors.
@@ -66,11 +81,13 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     //                      the drivers for the width and height.
     // setOriginCenter:  Sets the origin of BaseActor to center of associated image, in order for rotations to appear correctly.
     // setParentList:  Sets reference to an ArrayList to which the Actor has been added.
+    // setBlendFunction:  Sets the blend functions used to draw the Actor.
     // setRandomTintColor:  Sets the tint color of the Actor to a random color.
     // setRectangleBoundary:  Sets the properties of the bounding polygon related to the texture region.
     //                        The polygon uses a rectangle with the dimensions of the texture region as
     //                        the bounding polygon shape.
     // setTexture:  Sets the properties of a texture.
+    // setRenderLayer:  Sets the layer of the Actor when drawn through a render queue.
     // setTintColor:  Sets the tint color of the Actor.
     // setActorName:  Sets the Actor name to the passed value.
     // setTintColorToDefault:  Sets the tint color of the Actor to the default.
@@ -79,23 +96,84 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     private String actorName; // Name of actor.
 
     private ArrayList<? extends BaseActor> parentList; // Stores a reference to an ArrayList to which the Actor has been added.
+    ActorBag<?> bag; // Bag to which the Actor has been added (set by ActorBag).
+    int bagIndex; // Slot of the Actor within its bag (set by ActorBag).
+    boolean bagRemovalPending; // Whether the Actor waits for removal from its bag at the end of a removal phase.
+
+    // Actor pool data (set by ActorPool).
+    ActorPool pool; // Pool from which the Actor came (null when created directly).
+    BaseActor poolTemplate; // Template (base) actor the pool copied to set up the Actor.
+    boolean inPool; // Whether the Actor waits in the pool for reuse.
     TextureRegion region; // Stores image (similar to a buffer from Direct-X).  Includes more
     // functionality than a Texture.  Supports storage of multiple images or animation frames.
     // Stores coordinates (u, v), that determine which rectangular subarea of the Texture to use.
+    boolean regionShared; // Whether the texture region belongs to an archetype or animation (and must not change).
+    ActorArchetype<?> archetype; // Archetype holding the data shared with other Actors of the type (or null).
     private Polygon boundingPolygon; // Encapsulates a 2D polygon defined by its vertices.
     // A polygon can be translated and rotated.
     private Rectangle boundingRectangle; // Encapsulates a 2D rectangle defined by its corner point in the
     // bottom left and its extents in x (width) and y (height).  The object will contain the X and Y
-    // coordinates and height and width of the texture region.
+    // coordinates and height and width of the texture region.  Created when first needed.
     private Color tintColor; // Color to tint the Actor.
-    private final ColorWorks colorEngine; // Contains color related functionality.
+
+    // Bounding polygon transform cache...
+    // The transformed vertices and enclosing rectangle of the bounding polygon only get recalculated when
+    // the position, rotation, scale, or origin of the Actor changes since the last query.
+    private boolean polygonCached; // Whether the cached transform of the bounding polygon is valid.
+    private float cachedX; // X-coordinate of the Actor when last transforming the bounding polygon.
+    private float cachedY; // Y-coordinate of the Actor when last transforming the bounding polygon.
+    private float cachedRotation; // Rotation of the Actor when last transforming the bounding polygon.
+    private float cachedScaleX; // Horizontal scale of the Actor when last transforming the bounding polygon.
+    private float cachedScaleY; // Vertical scale of the Actor when last transforming the bounding polygon.
+    private float cachedOriginX; // X-coordinate of the origin when last transforming the bounding polygon.
+    private float cachedOriginY; // Y-coordinate of the origin when last transforming the bounding polygon.
+    private final Rectangle polygonBounds; // Cached rectangle enclosing the transformed bounding polygon.
+    private static long polygonCacheHits; // Number of bounding polygon queries served from the cache (all Actors).
+    private static long polygonCacheMisses; // Number of bounding polygon queries requiring a new transform (all Actors).
+    private ColorWorks colorEngine; // Contains color related functionality (created when first needed).
+
+    // Render queue data...
+    private int renderLayer; // Layer of the Actor when drawn through a render queue (higher draws on top).
+    private int blendSrcFunc; // Source blend function used to draw the Actor.
+    private int blendDstFunc; // Destination blend function used to draw the Actor.
+
+    // Unit ellipse (cosine and sine values) used to build ellipse bounding polygons -- calculated once.
+    private static final int ELLIPSE_VERTICES = 12; // Number of vertices in ellipse bounding polygons.
+    private static final float[] ellipseCos = new float[ELLIPSE_VERTICES]; // Cosine of each vertex angle.
+    private static final float[] ellipseSin = new float[ELLIPSE_VERTICES]; // Sine of each vertex angle.
+
+    static
+    {
+
+        // Generate n equally spaced values for t in the interval [0, 6.28], and store their cosine and
+        // sine for use by setEllipseBoundary.
+
+        float t; // Values ranging from 0 to 6.28 (pi x 2), used to generate vertices in ellipse.
+
+        for (int i = 0; i < ELLIPSE_VERTICES; i++)
+        {
+            t = 6.28f * i / ELLIPSE_VERTICES;
+            ellipseCos[i] = MathUtils.cos(t);
+            ellipseSin[i] = MathUtils.sin(t);
+        }
+
+    }
 
     public BaseActor()
+    {
+
+        // The constructor of the class creates an Actor with its own texture region.
+        this( null );
+
+    }
+
+    // archetype = Archetype holding the data shared with other Actors of the type (or null).
+    BaseActor(ActorArchetype<?> archetype)
     {
 
         // The constructor of the class calls the constructor of the parent (Actor),
-        // creates texture region and polygon objects, initializes the color engine,
-        // and sets the tint color to the default.
+        // creates texture region and polygon objects, and sets the tint color to the default.
+        // Actors created for an archetype share its image, rather than creating a texture region.
 
         /*
         Java notes:
@@ -107,14 +185,40 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         */
 
         super(); // Call the constructor for the Actor (parent / super) class.
-        region = new TextureRegion(); // Create a TextureRegion object.
+        this.archetype = archetype;
+
+        // If archetype holds an image, then share it.  Otherwise, create a TextureRegion object.
+        if (archetype != null && archetype.region != null)
+        {
+            region = archetype.region;
+            regionShared = true;
+        }
+        else
+        {
+            region = new TextureRegion();
+            regionShared = false;
+        }
+
         boundingPolygon = null; // Initialize an empty bounding polygon.
-        boundingRectangle = new Rectangle(); // Create a 2D rectangle to reflect position and borders of image.
+        boundingRectangle = null; // Create the 2D rectangle reflecting position and borders of image when first needed.
+        polygonBounds = new Rectangle(); // Create a 2D rectangle to cache the borders of the transformed polygon.
+        polygonCached = false; // Flag bounding polygon transform as not cached.
         //noinspection MoveFieldAssignmentToInitializer
         parentList = null; // Initialize an empty list of references to ArrayList containing Actor.
+        bag = null; // Initialize as not belonging to a bag.
+        bagIndex = -1;
+        bagRemovalPending = false;
+        pool = null; // Flag Actor as not from an actor pool.
+        poolTemplate = null;
+        inPool = false;
+
+        // Create color engine object when first needed.
+        colorEngine = null;
 
-        // Initialize color engine object.
-        colorEngine = new ColorWorks();
+        // Draw in the default layer, with standard alpha blending.
+        renderLayer = 0;
+        blendSrcFunc = GL20.GL_SRC_ALPHA;
+        blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
 
         // Set additional defaults.
         setAdditionalDefaults();
@@ -141,7 +245,7 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     public void destroy()
     {
 
-        // The function removes the BaseActor from its Stage and parent list (as necessary).
+        // The function removes the BaseActor from its Stage, parent list, and bag (as necessary).
 
         // Remove Actor from Stage.
         remove();
@@ -152,6 +256,91 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             // Remove current BaseActor from parent list.
             parentList.remove(this);
 
+        // If bag exists, then...
+        if (bag != null)
+            // Bag exists.
+            // Remove current BaseActor from bag (deferred during a removal phase).
+            bag.remove(this);
+
+    }
+
+    void detach()
+    {
+
+        // The function removes the BaseActor from its Stage, parent list, and bag, when returning
+        // to an actor pool.  The reference to the parent list gets cleared, since the next use may differ.
+
+        // If Actor in a Stage / Group, then remove it (directly, to avoid returning to the pool again).
+        if (getParent() != null)
+            getParent().removeActor(this);
+
+        // If parent list exists, then remove current BaseActor from it and clear the reference.
+        if (parentList != null)
+        {
+            parentList.remove(this);
+            parentList = null;
+        }
+
+        // If bag exists, then remove current BaseActor from it.
+        if (bag != null)
+            bag.remove(this);
+
+    }
+
+    @Override
+    public boolean remove()
+    {
+
+        // The function removes the BaseActor from its parent (Stage / Group).  Actors obtained from an
+        // ActorPool return to the pool, which covers both destroy and Actions.removeActor.
+        // The function returns whether the BaseActor had a parent.
+
+        boolean removed; // Whether the BaseActor had a parent.
+
+        // Remove Actor from its parent.
+        removed = super.remove();
+
+        // If Actor came from an actor pool, then return it to the pool.
+        if (pool != null)
+            pool.free(this);
+
+        return removed;
+
+    }
+
+    void resetForReuse()
+    {
+
+        // The function resets the properties a new Actor starts with, but copy leaves alone -- actions,
+        // listeners, children, rotation, scale, color, touchable status, and name.  Called before an
+        // actor pool reuses the Actor.
+
+        // Remove actions, listeners, and children.
+        clear();
+
+        // Reset rotation, scale, color, touchable status, and name.
+        setRotation( 0 );
+        setScale( 1 );
+        getColor().set( Color.WHITE );
+        setTouchable( Touchable.enabled );
+        setName( null );
+
+    }
+
+    // template = Template (base) actor to match.
+    void reuse(BaseActor template)
+    {
+
+        // The function resets the BaseActor to match a new clone of the passed template.  Called by
+        // ActorPool when handing out a free actor.  Subclasses with their own copy method override the
+        // function.
+
+        // Reset the properties a new Actor starts with.
+        resetForReuse();
+
+        // Copy properties of the template.
+        copy( template );
+
     }
 
     public void setOriginCenter()
@@ -207,6 +396,14 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         h = t.getHeight(); // Get the height of the passed texture.
         setWidth( w ); // Set the width of the texture region to that of the passed texture.
         setHeight( h ); // Set the height of the texture region to that of the passed texture.
+
+        // If texture region shared (archetype or animation frame), then create one for the Actor.
+        if (regionShared)
+        {
+            region = new TextureRegion();
+            regionShared = false;
+        }
+
         region.setRegion( t ); // Set the texture region and coordinates to the size of the specified texture.
 
         // Set default color the Actor will be tinted when drawn.
@@ -240,6 +437,9 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // Set the position of the top left corner of the polygon to that of the texture region.
         boundingPolygon.setOrigin( getOriginX(), getOriginY() );
 
+        // Flag bounding polygon transform as not cached.
+        polygonCached = false;
+
     }
 
     public void setEllipseBoundary()
@@ -256,12 +456,11 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // shape.  As the method uses larger values for n, the generated shape gets smoother.
 
         float h; // Height of the Actor.
-        float t; // Values ranging from 0 to 6.28 (pi x 2), used to generate vertices in ellipse.
         float[] vertices; // Array of vertices related to the bounding polygon.
         float w; // Width of the Actor.
         final int n; // Number of vertices.
 
-        n = 12; // Set number of vertices.
+        n = ELLIPSE_VERTICES; // Set number of vertices.
         w = getWidth(); // Store width of the Actor.
         h = getHeight(); // Store height of the Actor.
         vertices = new float[n * 2]; // Initialize the array of vertices.
@@ -274,15 +473,13 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             // where t ranges from 0 to pi x 2 (about 6.28).
             // x = w/2 * cos(t) + w/2
             // y = h/2 * sin(t) + h/2
-
-            // Store next driver value for ellipse.
-            t = 6.28f * i / n;
+            // The cosine and sine for each value of t get calculated once, for all Actors.
 
             // Generate X-coordinate for current vertex in ellipse.
-            vertices[i * 2] = w / 2 * MathUtils.cos(t) + w / 2;
+            vertices[i * 2] = w / 2 * ellipseCos[i] + w / 2;
 
             // Generate Y-coordinate for current vertex in ellipse.
-            vertices[i * 2 + 1] = h / 2 * MathUtils.sin(t) + h / 2;
+            vertices[i * 2 + 1] = h / 2 * ellipseSin[i] + h / 2;
 
         }
 
@@ -292,26 +489,111 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // Set the position of the top left corner of the polygon to that of the texture region.
         boundingPolygon.setOrigin( getOriginX(), getOriginY() );
 
+        // Flag bounding polygon transform as not cached.
+        polygonCached = false;
+
     }
 
     private Polygon getBoundingPolygon()
     {
 
-        // The function sets the position and rotation of the bounding polygon to that of the Actor.
+        // The function sets the position, rotation, scale, and origin of the bounding polygon to those of the
+        // Actor -- only when at least one changed since the last query.  Otherwise, the transformed vertices
+        // and enclosing rectangle from the last query get reused.
         // The function returns the bounding polygon.
 
-        // Set the position (x and y coordinates of the bottom left corner) of the bounding polygon to
-        // that of the Actor.
-        boundingPolygon.setPosition( getX(), getY() );
+        // If transform of bounding polygon cached and Actor unchanged since last query, then...
+        if ( polygonCached &&
+             cachedX == getX() && cachedY == getY() && cachedRotation == getRotation() &&
+             cachedScaleX == getScaleX() && cachedScaleY == getScaleY() &&
+             cachedOriginX == getOriginX() && cachedOriginY == getOriginY() )
+
+        {
+            // Transform of bounding polygon cached and Actor unchanged since last query.
+            // Count cache hit.
+            polygonCacheHits++;
+        }
 
-        // Set rotation of the bounding polygon to that of the Actor.
-        boundingPolygon.setRotation( getRotation() );
+        else
+
+        {
+
+            // Transform of bounding polygon NOT cached or Actor changed since last query.
+            // Count cache miss.
+            polygonCacheMisses++;
+
+            // Store transform properties of the Actor.
+            cachedX = getX();
+            cachedY = getY();
+            cachedRotation = getRotation();
+            cachedScaleX = getScaleX();
+            cachedScaleY = getScaleY();
+            cachedOriginX = getOriginX();
+            cachedOriginY = getOriginY();
+
+            // Set the position (x and y coordinates of the bottom left corner) of the bounding polygon to
+            // that of the Actor.
+            boundingPolygon.setPosition( cachedX, cachedY );
+
+            // Set rotation, scale, and origin of the bounding polygon to those of the Actor.
+            boundingPolygon.setRotation( cachedRotation );
+            boundingPolygon.setScale( cachedScaleX, cachedScaleY );
+            boundingPolygon.setOrigin( cachedOriginX, cachedOriginY );
+
+            // Calculate and store the rectangle enclosing the transformed bounding polygon.
+            // The polygon keeps its transformed vertices until the next change.
+            polygonBounds.set( boundingPolygon.getBoundingRectangle() );
+
+            // Flag bounding polygon transform as cached.
+            polygonCached = true;
+
+        }
 
         // Return the bounding polygon.
         return boundingPolygon;
 
     }
 
+    public Rectangle getPolygonBounds()
+    {
+
+        // The function returns the rectangle enclosing the transformed bounding polygon.
+        // Updates the cached transform first, when the Actor changed since the last query.
+
+        // Update the cached transform of the bounding polygon, as necessary.
+        getBoundingPolygon();
+
+        // Return the cached rectangle enclosing the transformed bounding polygon.
+        return polygonBounds;
+
+    }
+
+    public void invalidatePolygonCache()
+    {
+        // The function forces the transform of the bounding polygon to get recalculated on the next query.
+        // Only needed when modifying the vertices of the bounding polygon directly.
+        polygonCached = false;
+    }
+
+    public static long getPolygonCacheHits()
+    {
+        // The function returns the number of bounding polygon queries served from the cache (all Actors).
+        return polygonCacheHits;
+    }
+
+    public static long getPolygonCacheMisses()
+    {
+        // The function returns the number of bounding polygon queries requiring a new transform (all Actors).
+        return polygonCacheMisses;
+    }
+
+    public static void resetPolygonCacheCounters()
+    {
+        // The function resets the bounding polygon cache hit and miss counters.
+        polygonCacheHits = 0;
+        polygonCacheMisses = 0;
+    }
+
     public Rectangle getBoundingRectangle()
     {
 
@@ -320,6 +602,9 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
 
         // Set the properties of the bounding rectangle related to the texture region.
         // Use the properties of the texture region.
+        if (boundingRectangle == null)
+            boundingRectangle = new Rectangle();
+
         boundingRectangle.set( getX(), getY(), getWidth(), getHeight() );
 
         // Return the bounding rectangle.
@@ -327,6 +612,29 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
 
     }
 
+    public Rectangle getCollisionRectangle()
+    {
+
+        // The function returns the axis-aligned rectangle enclosing the bounding polygon, in world
+        // coordinates (taking into account position and rotation).  When no bounding polygon exists,
+        // the function falls back to the bounding rectangle.  Used by broad phase collision checks,
+        // such as the SpatialGrid class.
+
+        // If bounding polygon exists, then...
+        if (boundingPolygon != null)
+
+            // Bounding polygon exists.
+            // Return the (cached) rectangle enclosing the transformed bounding polygon.
+            return getPolygonBounds();
+
+        else
+
+            // Bounding polygon does NOT exist.
+            // Return the rectangle based on position, width, and height.
+            return getBoundingRectangle();
+
+    }
+
     // other = Other Actor to check for collision detection.
     // resolve = Whether to move the other Actor along the minimum translation vector to prevent overlap.
     public boolean overlaps(BaseActor other, @SuppressWarnings("SameParameterValue") boolean resolve)
@@ -335,13 +643,29 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // The function determines whether the bounding polygon for the passed Actor intersects (significantly)
         // with that of the current.  Moves current Actor minimum amount to avoid intersection.
         // The function returns whether a significant overlap occurs.
+        // Uses the scratch CollisionResult of the current thread, so no objects get created.
+
+        // Return whether a significant overlap occurs.
+        return overlaps( other, resolve, CollisionResult.getScratch() );
+
+    }
+
+    // other = Other Actor to check for collision detection.
+    // resolve = Whether to move the other Actor along the minimum translation vector to prevent overlap.
+    // result = Object in which to store the penetration depth and normal (when polygons intersect).
+    public boolean overlaps(BaseActor other, boolean resolve, CollisionResult result)
+    {
+
+        // The function determines whether the bounding polygon for the passed Actor intersects (significantly)
+        // with that of the current.  Moves current Actor minimum amount to avoid intersection.
+        // Stores the penetration depth and normal in the passed result, without creating any objects.
+        // The function returns whether a significant overlap occurs.
 
         boolean polyOverlap; // Whether Actors overlap.
         final float significant; // Minimum significant penetration depth -- length of the minimum translation
         // vector (MTV), which is the smallest vector along which an intersecting shape can get moved to
         // be separate from the other shape.
 
-        Intersector.MinimumTranslationVector mtv;
         Polygon poly1; // Reference to bounding polygon for current Actor.
         Polygon poly2; // Reference to bounding polygon for passed Actor.
 
@@ -352,8 +676,8 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         poly1 = this.getBoundingPolygon();
         poly2 = other.getBoundingPolygon();
 
-        // If polygons are intersecting, then...
-        if (poly1.getBoundingRectangle().overlaps(poly2.getBoundingRectangle()))
+        // If rectangles enclosing the polygons (cached during the calls above) are intersecting, then...
+        if (this.polygonBounds.overlaps(other.polygonBounds))
 
         {
             /*
@@ -365,15 +689,12 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             Minimum Translation Vector indicates the minimum magnitude vector required
             to push the polygon defined by verts1 out of the collision with the polygon
             defined by verts2.
-            Instantiate a minimum transaction vector object.
             */
 
-            mtv = new Intersector.MinimumTranslationVector();
-
             // Obtain a minimum translation vector indicating the minimum magnitude vector
             // required to push the current Actor (polygon) out of the collision with the
-            // other.
-            polyOverlap = Intersector.overlapConvexPolygons(poly1, poly2, mtv);
+            // other.  Stored in the passed result.
+            polyOverlap = CollisionResult.overlapPolygons(poly1, poly2, result);
 
             // If polygons intersect and resolve parameter flagged, then...
             if (polyOverlap && resolve)
@@ -384,7 +705,7 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
                 // Moves current Actor (adds X and Y to current position) based on minimum
                 // translation vector -- to resolve and avoid intersection with the minimum
                 // necessary movement.
-                this.moveBy( mtv.normal.x * mtv.depth, mtv.normal.y * mtv.depth );
+                this.moveBy( result.normal.x * result.depth, result.normal.y * result.depth );
             }
 
             // Compare penetration depth to minimum significant value.
@@ -394,13 +715,14 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
 
             // If polygon intersection more than minimum significant value, then return polygons as
             // intersecting.  Otherwise, return polygons as not intersecting.
-            polyOverlap = (polyOverlap && (mtv.depth > significant));
+            polyOverlap = (polyOverlap && (result.depth > significant));
         }
 
         else
 
         {
             // Polygons are not intersecting.
+            result.clear();
             polyOverlap = false;
         }
 
@@ -432,7 +754,15 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     public void draw(Batch batch, float parentAlpha)
     {
 
-        // The function sets the tinting color of and draws the Actor (when visible).
+        /*
+        The function sets the tinting color of and draws the Actor (when visible), followed by its
+        children (such as the fire attached to a spaceship).
+
+        Drawing a Group applies its transform to the batch and resets it afterwards, and each change to
+        the transform matrix flushes the batch -- an extra draw call for every Actor.  Actors without
+        children (most rocks, lasers, coins) skip the Group version and draw straight into the batch, so
+        sprites sharing a texture go out in one draw call.
+        */
 
         // System.out.println("\nActor:  " + actorName);
 
@@ -443,6 +773,10 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // Batch object to equal those of the tintColor class variable.
         batch.setColor(tintColor.r, tintColor.g, tintColor.b, tintColor.a);
 
+        // If blend functions of the batch differ from those of the Actor, then set them (flushes the batch).
+        if (batch.getBlendSrcFunc() != blendSrcFunc || batch.getBlendDstFunc() != blendDstFunc)
+            batch.setBlendFunction( blendSrcFunc, blendDstFunc );
+
         // If the Actor is visible, then...
         if ( isVisible() )
 
@@ -453,8 +787,10 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             batch.draw( region, getX(), getY(), getOriginX(), getOriginY(),
                     getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation() );
 
-        // Call the constructor of the parent class to redraw the group.
-        super.draw(batch, parentAlpha);
+        // If Actor has children, then call the draw method of the parent class to draw them (applying
+        // the transform of the group).
+        if ( hasChildren() )
+            super.draw(batch, parentAlpha);
 
     }
 
@@ -465,6 +801,53 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         this.actorName = actorName;
     }
 
+    // Render queue related methods...
+
+    public int getBlendDstFunc()
+    {
+        // The function returns the destination blend function used to draw the Actor.
+        return blendDstFunc;
+    }
+
+    public int getBlendSrcFunc()
+    {
+        // The function returns the source blend function used to draw the Actor.
+        return blendSrcFunc;
+    }
+
+    public int getRenderLayer()
+    {
+        // The function returns the layer of the Actor when drawn through a render queue.
+        return renderLayer;
+    }
+
+    // srcFunc = Source blend function.  Example:  GL20.GL_SRC_ALPHA
+    // dstFunc = Destination blend function.  Example:  GL20.GL_ONE (additive, for glowing effects)
+    public void setBlendFunction(int srcFunc, int dstFunc)
+    {
+
+        // The function sets the blend functions used to draw the Actor.  The default, GL_SRC_ALPHA and
+        // GL_ONE_MINUS_SRC_ALPHA, draws with standard alpha blending.  A render queue groups Actors with
+        // the same blend functions, since changing them flushes the batch.
+
+        blendSrcFunc = srcFunc;
+        blendDstFunc = dstFunc;
+
+    }
+
+    // renderLayer = Layer of the Actor (-512 to 511).  Higher layers draw on top.
+    public void setRenderLayer(int renderLayer)
+    {
+
+        // The function sets the layer of the Actor when drawn through a render queue (RenderQueue).
+        // Actors in higher layers draw after (on top of) those in lower layers.  Within a layer, the queue
+        // draws Actors grouped by texture, so Actors that must appear on top of others need a higher
+        // layer.  Defaults to 0.  Drawing the stage directly ignores the layer.
+
+        this.renderLayer = renderLayer;
+
+    }
+
     // Color related methods...
 
     private Color getTintColor()
@@ -501,6 +884,11 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     public void setRandomTintColor()
     {
         // The function sets a random tint Color for the Actor.
+
+        // If color engine not created yet, then create it.
+        if (colorEngine == null)
+            colorEngine = new ColorWorks();
+
         this.tintColor = colorEngine.getRandomColor();
     }
 
@@ -513,37 +901,100 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // The function copies properties from the passed to the current BaseActor.
         // Properties include:  image texture (buffer), bounding polygon, position, origin, width,
         // height, tint color, and visibility status.
+        // When the passed Actor belongs to an archetype, the current Actor shares the image and bounding
+        // polygon vertices of the archetype and takes its size and origin from the archetype.  Otherwise,
+        // the current Actor gets its own copy of the bounding polygon vertices.
+
+        ActorArchetype<?> type = original.archetype; // Archetype of the passed Actor (or null).
+        ActorArchetype<?> previousType = this.archetype; // Archetype of the current Actor before the copy
+          // (or null).
+        float[] vertices; // Local vertices of the bounding polygon to use.
+
+        // Link current Actor to the archetype of the passed Actor (or none).
+        this.archetype = type;
+
+        // If archetype holds an image, then...
+        if (type != null && type.region != null)
+        {
+            // Archetype holds an image.
+            // Share the image of the archetype.
+            this.region = type.region;
+            this.regionShared = true;
+        }
 
-        // If image texture (buffer) exists in passed Actor, then...
-        if (original.region.getTexture() != null )
+        // Otherwise, if image texture (buffer) exists in passed Actor, then...
+        else if (original.region.getTexture() != null )
+        {
 
             // Image texture (buffer) exists in passed Actor.
 
+            // If texture region shared (archetype or animation frame), then create one for the Actor.
+            if (this.regionShared)
+            {
+                this.region = new TextureRegion();
+                this.regionShared = false;
+            }
+
             // Copy image texture (buffer) from passed to current Actor.
-            this.region = new TextureRegion( original.region );
+            this.region.setRegion( original.region );
+
+        }
+
+        // Get local vertices of the bounding polygon from the archetype (shared) or passed Actor (copied).
+        vertices = (type != null) ? type.vertices : copyVertices( original.getLocalVertices(), previousType );
 
         // If bounding polygon exists in passed Actor, then...
-        if (original.boundingPolygon != null)
+        if (vertices != null)
         {
             // Bounding polygon exists in passed Actor.
 
-            // Create bounding polygon in current with vertices in bounding polygon of passed Actor.
-            this.boundingPolygon = new Polygon( original.boundingPolygon.getVertices() );
+            // If current Actor has no bounding polygon, then...
+            if (this.boundingPolygon == null)
+                // Current Actor has no bounding polygon.
+                // Create bounding polygon in current with vertices in bounding polygon of passed Actor.
+                this.boundingPolygon = new Polygon( vertices );
+
+            else
+            {
+                // Current Actor has a bounding polygon (reused from an actor pool).
+                // Reuse the polygon with the vertices in bounding polygon of passed Actor.
+                this.boundingPolygon.setVertices( vertices );
+                this.boundingPolygon.setPosition( 0, 0 );
+                this.boundingPolygon.setRotation( 0 );
+                this.boundingPolygon.setScale( 1, 1 );
+            }
 
-            // Set origin of bounding polygon to that of passed Actor.
-            this.boundingPolygon.setOrigin( original.getOriginX(), original.getOriginY() );
+            // Flag bounding polygon transform as not cached.
+            this.polygonCached = false;
         }
 
         // Set position of current to that of passed Actor (based on bottom left corner).
         this.setPosition( original.getX(), original.getY() );
 
-        // Copy properties indicating top left corner of passed to current Actor.
-        this.setOriginX( original.getOriginX() );
-        this.setOriginY( original.getOriginY() );
+        // If archetype exists, then...
+        if (type != null)
+        {
+            // Archetype exists.
+            // Copy origin, width, and height from archetype to current Actor.
+            this.setOrigin( type.originX, type.originY );
+            this.setSize( type.width, type.height );
+        }
+
+        else
+        {
+            // No archetype.
+            // Copy properties indicating top left corner of passed to current Actor.
+            this.setOriginX( original.getOriginX() );
+            this.setOriginY( original.getOriginY() );
+
+            // Copy width and height from passed to current Actor.
+            this.setWidth( original.getWidth() );
+            this.setHeight( original.getHeight() );
+        }
 
-        // Copy width and height from passed to current Actor.
-        this.setWidth( original.getWidth() );
-        this.setHeight( original.getHeight() );
+        // Set origin of bounding polygon to that of current Actor.
+        if (this.boundingPolygon != null && vertices != null)
+            this.boundingPolygon.setOrigin( this.getOriginX(), this.getOriginY() );
 
         // Copy visibility flag from passed to current Actor.
         this.setVisible( original.isVisible() );
@@ -556,6 +1007,48 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         //this.tintColor.a = original.getColor().a;
         this.setTintColor( original.getTintColor() );
 
+        // Copy render layer and blend functions from passed to current Actor.
+        this.renderLayer = original.renderLayer;
+        this.blendSrcFunc = original.blendSrcFunc;
+        this.blendDstFunc = original.blendDstFunc;
+
+    }
+
+    // source = Local vertices of the bounding polygon of the passed Actor (or null).
+    // previousType = Archetype of the current Actor before the copy (or null).
+    private float[] copyVertices(float[] source, ActorArchetype<?> previousType)
+    {
+
+        // The function returns a copy of the passed vertices, or null when none passed.  When the current
+        // Actor (reused from an actor pool) already holds a vertex array of the same length that belongs to
+        // it alone -- not to its former archetype -- the vertices get written into that array instead.
+
+        float[] own = getLocalVertices(); // Vertices of the bounding polygon of the current Actor (or null).
+
+        // If no vertices passed, then return none.
+        if (source == null)
+            return null;
+
+        // If current Actor holds no reusable vertex array, then return a new copy.
+        if (own == null || own == source || own.length != source.length ||
+          (previousType != null && own == previousType.vertices))
+            return source.clone();
+
+        // Copy the passed vertices into the array of the current Actor.
+        System.arraycopy( source, 0, own, 0, source.length );
+
+        return own;
+
+    }
+
+    float[] getLocalVertices()
+    {
+
+        // The function returns the local (untransformed) vertices of the bounding polygon, or null when
+        // no bounding polygon exists.  Used when copying the Actor and building archetypes.
+
+        return boundingPolygon == null ? null : boundingPolygon.getVertices();
+
     }
 
     @SuppressWarnings({"MethodDoesntCallSuperMethod", "CloneDoesntCallSuperClone"})
@@ -567,8 +1060,8 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
 
         BaseActor newbie; // BaseActor to which to copy properties.
 
-        // Instantiate new BaseActor object.
-        newbie = new BaseActor();
+        // Instantiate new BaseActor object (sharing the image of the archetype, when one exists).
+        newbie = new BaseActor( archetype );
 
         // Copy properties of current (class-level) to new BaseActor object.
         newbie.copy( this );
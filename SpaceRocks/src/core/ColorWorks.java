@@ -42,12 +42,12 @@ public class ColorWorks {
     // setColor:  Sets the current Color.
 
     private Color theColor; // A color.
-    private final Color[] colorSet; // Set of colors.
+    private static final Color[] colorSet; // Set of colors (shared by all color engines).
 
-    ColorWorks()
+    static
     {
 
-        // The constructor of the class populates the array of commonly used colors.
+        // The static initializer populates the array of commonly used colors, once for all color engines.
 
         // Allocate memory for 17 Colors.
         colorSet = new Color[18];
@@ -74,6 +74,13 @@ public class ColorWorks {
 
     }
 
+    ColorWorks()
+    {
+        // The constructor of the class starts without a current Color.  The array of commonly used colors
+        // gets shared by all color engines.
+        theColor = null;
+    }
+
     Color getRandomColor()
     {
 
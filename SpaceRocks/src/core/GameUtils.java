@@ -1,6 +1,5 @@
 package core;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Animation;
@@ -41,6 +40,12 @@ public class GameUtils
     /*
     The GameUtils class servers the purpose of providing extra reusable functionality.
 
+    Texture lifetime:  The parse functions load their images through TextureCache, taking one reference for
+    each texture used by the returned Animation.  The references last for the lifetime of the level, like
+    the textures the screens load directly with new Texture.  A screen that gets replaced while the game
+    keeps running hands the references back with TextureCache.release( animation ) in its dispose method,
+    once for each Animation it built.
+
     // Methods include:
 
     parseSpriteSheet:  Contains logic for processing a sprite sheet with images in x by y columns and rows and
@@ -77,18 +82,17 @@ public class GameUtils
         int frameHeight; // Height of each sprite in the sheet -- assumes equal size.
         int index; // Used to loop through frames in animation / sprites in sheet.
 
-        // Load image for sprite sheet to buffer.
-        t = new Texture(Gdx.files.internal(fileName), true);
-
-        // Set filter type -- controlling how pixel colors are interpolated when image is rotated or stretched.
-        t.setFilter(TextureFilter.Linear, TextureFilter.Linear);
+        // Load image for sprite sheet to buffer, with mipmaps and linear filtering (controlling how pixel
+        // colors are interpolated when image is rotated or stretched).  Shares the texture with earlier loads.
+        t = TextureCache.obtain(fileName, true, TextureFilter.Linear, TextureFilter.Linear);
 
         // Get and store width and height of each sprite in sheet.
         frameWidth = t.getWidth() / frameCols;
         frameHeight = t.getHeight() / frameRows;
 
         // Divide image into rectangular sections, based on calculated (and equal) width and height of each sprite in sheet.
-        temp = TextureRegion.split(t, frameWidth, frameHeight);
+        // Reuses the sections from earlier calls with the same sheet and size.
+        temp = TextureCache.split(t, frameWidth, frameHeight);
         frames = new TextureRegion[frameCols * frameRows];
 
         // Set initial frame number.
@@ -66,6 +66,7 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
     // clone:  Returns a PhysicsActor with the same properties as the current.
     // getMotionAngle:  Returns the angle related to the velocity (speed) vector.
     // getSpeed:  Returns the velocity (speed).
+    // reuse:  Resets the PhysicsActor to match a new clone of the passed template (actor pool).
     // setAccelerationAS:  Sets the acceleration vector using the passed angle and speed.
     // setAccelerationXY:  Sets the acceleration vector using the passed x and y values.
     // setAutoAngle:  Sets flag indicating whether to rotate image to match velocity (speed) to passed value.
@@ -86,6 +87,15 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
     private boolean autoAngle; // Whether to rotate image to match velocity.
 
     public PhysicsActor()
+    {
+
+        // The constructor of the class creates a PhysicsActor with its own hash map of animations.
+        this( null );
+
+    }
+
+    // archetype = Archetype holding the data shared with other Actors of the type (or null).
+    PhysicsActor(ActorArchetype<?> archetype)
     {
 
         // The constructor of the class:
@@ -95,6 +105,7 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
         // 3.  Sets the deceleration rate to zero.
         // 4.  Sets the image to NOT rotate to match velocity.
 
+        super( archetype ); // Call the constructor for the AnimatedActor (parent / super) class.
         velocity = new Vector2(); // Initialize velocity vector.
         acceleration = new Vector2(); // Initialize acceleration vector.
         maxSpeed = 9999; // Set default maximum speed.
@@ -380,8 +391,8 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
         super.copy(original);
 
         // Copy velocity, acceleration, maximum speed, deceleration, and auto angle flag.
-        this.velocity     = new Vector2(original.velocity);
-        this.acceleration = new Vector2(original.acceleration);
+        this.velocity.set(original.velocity);
+        this.acceleration.set(original.acceleration);
         this.maxSpeed     = original.maxSpeed;
         this.deceleration = original.deceleration;
         this.autoAngle    = original.autoAngle;
@@ -398,7 +409,7 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
         PhysicsActor newbie; // PhysicsActor to which to copy properties.
 
         // Instantiate new PhysicsActor object.
-        newbie = new PhysicsActor();
+        newbie = new PhysicsActor( archetype );
 
         // Copy properties of current (class-level) to new PhysicsActor object.
         newbie.copy( this );
@@ -408,4 +419,20 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
 
     }
 
+    // template = Template (base) actor to match.
+    @Override
+    void reuse(BaseActor template)
+    {
+
+        // The function resets the PhysicsActor to match a new clone of the passed template.  Called by
+        // ActorPool when handing out a free actor.
+
+        // Reset the properties a new PhysicsActor starts with.
+        resetForReuse();
+
+        // Copy properties of the template.
+        copy( (PhysicsActor)template );
+
+    }
+
 }
\ No newline at end of file
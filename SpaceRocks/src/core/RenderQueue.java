@@ -0,0 +1,484 @@
+package core;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.SnapshotArray;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class RenderQueue
+{
+
+    /*
+    The class draws the Actors of a stage grouped by layer, and within each layer by blend state and
+    texture, so the batch flushes once per group instead of once per texture change in scene order.
+
+    A stage draws its Actors in the order they got added (background, spaceship, rocks, explosions,
+    lasers, ...).  The batch sends its sprites to the GPU (flushes) each time the texture or blend state
+    changes, so Actors with different textures mixed together cost a draw call each.  With the queue
+    enabled, BaseScreen draws the main stage through:
+
+    renderQueue.draw( mainStage );
+
+    which collects a draw command for each visible Actor in the stage, sorts the commands, and then draws
+    the Actors in sorted order into the batch of the stage.  The sort key, from most to least important:
+
+    1.  Layer (BaseActor.setRenderLayer) -- lower layers draw first, so Actors in higher layers always
+        appear on top.
+    2.  Blend state (BaseActor.setBlendFunction).
+    3.  Texture -- in the order each texture first appears in the stage, so textures appearing earlier
+        (such as the background) still draw first.
+    4.  Scene order -- Actors sharing a layer, blend state, and texture keep their order.
+
+    Sorting changes which Actor appears on top when Actors with different textures in the same layer
+    overlap.  Put Actors that must stay above others (explosions over rocks) in a higher layer.
+
+    The queue works on the Actors added to the stage directly.  An Actor with children (a Group, such as
+    the spaceship with its rocket fire) counts as one command, sorted by its own texture, and draws its
+    children as usual.  The queue assumes the root of the stage has no transform (the default), and
+    skips the debug lines of the stage.
+
+    The queue starts disabled, drawing the stage as usual.  Enable it with setEnabled or with the
+    following option on the java command line, which applies to every screen:
+
+    -Drender.queue=true
+
+    Either way, the queue counts (for the last frame) the flushes of the batch, so the saving can get
+    measured.  When enabled, the queue also counts the texture changes between the commands and the
+    number of commands (sprites) drawn -- both read zero while disabled, since the stage then draws
+    without any commands getting collected.  The sorting reuses its storage, so drawing through the
+    queue creates no garbage.
+
+    Methods include:
+
+    draw:  Draws the passed stage, through the queue when enabled.
+    getFlushCount:  Returns the number of batch flushes (draw calls) made drawing the stage last frame.
+    getSpriteCount:  Returns the number of commands (Actors) drawn last frame (zero while disabled).
+    getTextureBindCount:  Returns the number of texture changes between the commands drawn last frame
+      (zero while disabled).
+    isEnabled:  Returns whether the queue sorts the Actors before drawing.
+    setEnabled:  Sets whether the queue sorts the Actors before drawing.
+    */
+
+    // Sort key layout (bits, from highest):  layer (10), blend state (4), texture (12), scene order (20).
+    private static final int LAYER_SHIFT = 36; // Position of the layer in the sort key.
+    private static final int BLEND_SHIFT = 32; // Position of the blend state in the sort key.
+    private static final int TEXTURE_SHIFT = 20; // Position of the texture in the sort key.
+    private static final int LAYER_OFFSET = 512; // Offset making layers (-512 to 511) positive.
+    private static final int MAX_LAYER = 1023; // Largest layer (after the offset) fitting in the key.
+    private static final int MAX_BLEND = 15; // Largest blend state number fitting in the key.
+    private static final int MAX_TEXTURE = 4095; // Largest texture number fitting in the key.
+    private static final int MAX_COMMANDS = 1 << 20; // Number of commands fitting in the key.
+    private static final long ORDER_MASK = MAX_COMMANDS - 1; // Bits of the sort key with the scene order.
+
+    private boolean enabled; // Whether the queue sorts the Actors before drawing.
+    private Actor[] commands; // Actors to draw during the current frame, in scene order.
+    private long[] keys; // Sort keys of the commands.
+    private int size; // Number of commands during the current frame.
+    private final ObjectIntMap<Texture> textureNumbers; // Number of each texture (in order of first
+      // appearance) during the current frame.
+    private final int[] blendFuncs; // Source and destination blend functions of each blend state number
+      // during the current frame (pairs).
+    private int blendCount; // Number of blend states during the current frame.
+    private int flushCount; // Number of batch flushes (draw calls) made drawing the stage last frame.
+    private int textureBindCount; // Number of texture changes between the commands drawn last frame.
+    private int spriteCount; // Number of commands (Actors) drawn last frame.
+
+    public RenderQueue()
+    {
+
+        // The constructor of the class creates the storage for the commands, and enables the queue when
+        // requested on the java command line (-Drender.queue=true).
+
+        commands = new Actor[256];
+        keys = new long[256];
+        size = 0;
+        textureNumbers = new ObjectIntMap<>();
+        blendFuncs = new int[(MAX_BLEND + 1) * 2];
+        blendCount = 0;
+        enabled = Boolean.getBoolean( "render.queue" );
+
+    }
+
+    // stage = Stage to draw.
+    public void draw(Stage stage)
+    {
+
+        /*
+        The function draws the passed stage.  With the queue enabled, the function collects a command for
+        and draws the Actors in sorted order, counting the texture changes along the way.  Otherwise,
+        the stage draws itself as usual, without collecting any commands.  Either way, the flush count
+        gets updated for the frame.
+        */
+
+        Batch batch = stage.getBatch(); // Batch used to draw the stage.
+        Group root = stage.getRoot(); // Root of the scene graph of the stage.
+        Camera camera = stage.getCamera(); // Camera of the stage.
+        Actor actor; // Actor for the current command.
+        Texture texture; // Texture of the current command.
+        Texture lastTexture = null; // Texture of the previous command.
+        float parentAlpha; // Alpha (transparency) of the root, passed to each Actor.
+
+        textureBindCount = 0;
+
+        // If queue disabled, then draw the stage as usual, count the flushes, and exit.
+        if (!enabled)
+        {
+            spriteCount = 0;
+            stage.draw();
+            flushCount = getRenderCalls( batch );
+            return;
+        }
+
+        // Collect a command for each visible Actor, in scene order (counting the sprites).
+        collect( root );
+
+        // Sort the commands.
+        sort( keys, size );
+
+        // Rearrange the commands to match the sorted keys, so the counting and drawing follow the order.
+        reorder();
+
+        // Draw the Actors in sorted order (as Stage.draw does for the root).
+        camera.update();
+
+        if (root.isVisible())
+        {
+
+            batch.setProjectionMatrix( camera.combined );
+            batch.begin();
+
+            parentAlpha = root.getColor().a;
+
+            // Loop through commands in sorted order, counting texture changes as the Actors draw.
+            for (int i = 0; i < size; i++)
+            {
+
+                actor = commands[i];
+                texture = getTexture( actor );
+
+                if (texture != null && texture != lastTexture)
+                {
+                    textureBindCount++;
+                    lastTexture = texture;
+                }
+
+                actor.draw( batch, parentAlpha );
+
+            }
+
+            batch.end();
+
+        }
+
+        flushCount = getRenderCalls( batch );
+
+        // Clear the commands (releasing the Actors).
+        for (int i = 0; i < size; i++)
+            commands[i] = null;
+
+        size = 0;
+
+    }
+
+    public int getFlushCount()
+    {
+        // The function returns the number of batch flushes (draw calls) made drawing the stage last frame.
+        return flushCount;
+    }
+
+    public int getSpriteCount()
+    {
+        // The function returns the number of commands (Actors) drawn last frame.
+        return spriteCount;
+    }
+
+    public int getTextureBindCount()
+    {
+        // The function returns the number of texture changes between the commands drawn last frame.
+        return textureBindCount;
+    }
+
+    public boolean isEnabled()
+    {
+        // The function returns whether the queue sorts the Actors before drawing.
+        return enabled;
+    }
+
+    // enabled = Whether the queue sorts the Actors before drawing.
+    public void setEnabled(boolean enabled)
+    {
+        // The function sets whether the queue sorts the Actors before drawing.
+        this.enabled = enabled;
+    }
+
+    // root = Root of the scene graph of the stage.
+    private void collect(Group root)
+    {
+
+        // The function stores a command (Actor and sort key) for each visible Actor added to the passed
+        // root, in scene order, and counts the commands as the sprites for the frame.
+
+        SnapshotArray<Actor> children = root.getChildren(); // Actors added to the root.
+        Actor[] actors = children.begin(); // Snapshot of the Actors (safe if drawing changes the list).
+        int count = Math.min( children.size, MAX_COMMANDS ); // Number of Actors to consider.
+        Actor actor; // Current Actor.
+
+        textureNumbers.clear();
+        blendCount = 0;
+        size = 0;
+
+        // Make room for a command for each Actor.
+        if (commands.length < count)
+        {
+            commands = new Actor[Math.max( count, commands.length * 2 )];
+            keys = new long[commands.length];
+        }
+
+        // Loop through Actors added to the root.
+        for (int i = 0; i < count; i++)
+        {
+
+            actor = actors[i];
+
+            // If Actor visible, then store a command for it.
+            if (actor.isVisible())
+            {
+                commands[size] = actor;
+                keys[size] = getKey( actor, size );
+                size++;
+            }
+
+        }
+
+        children.end();
+
+        spriteCount = size;
+
+    }
+
+    // actor = Actor for the command.
+    // order = Position of the command in scene order.
+    private long getKey(Actor actor, int order)
+    {
+
+        // The function returns the sort key for the passed Actor -- layer, blend state, texture, and
+        // scene order.  Actors other than BaseActor objects use layer 0, the default blend state, and no
+        // texture.
+
+        BaseActor baseActor; // Actor, as a BaseActor.
+        Texture texture; // Texture of the Actor.
+        int layer = LAYER_OFFSET; // Layer of the Actor (after the offset).
+        int blend = 0; // Number of the blend state of the Actor.
+        int textureNumber = 0; // Number of the texture of the Actor (0 for none).
+
+        if (actor instanceof BaseActor)
+        {
+
+            baseActor = (BaseActor)actor;
+
+            layer = Math.max( 0, Math.min( baseActor.getRenderLayer() + LAYER_OFFSET, MAX_LAYER ) );
+            blend = getBlendNumber( baseActor.getBlendSrcFunc(), baseActor.getBlendDstFunc() );
+
+            texture = baseActor.region.getTexture();
+
+            // If Actor has a texture, then get its number -- assigning the next one when first seen.
+            if (texture != null)
+            {
+
+                textureNumber = textureNumbers.get( texture, 0 );
+
+                if (textureNumber == 0)
+                {
+                    textureNumber = Math.min( textureNumbers.size + 1, MAX_TEXTURE );
+                    textureNumbers.put( texture, textureNumber );
+                }
+
+            }
+
+        }
+
+        return ((long)layer << LAYER_SHIFT) | ((long)blend << BLEND_SHIFT) |
+          ((long)textureNumber << TEXTURE_SHIFT) | order;
+
+    }
+
+    // srcFunc = Source blend function.
+    // dstFunc = Destination blend function.
+    private int getBlendNumber(int srcFunc, int dstFunc)
+    {
+
+        // The function returns the number of the passed blend state during the current frame, assigning
+        // the next one when first seen.
+
+        // Loop through blend states seen during the current frame.
+        for (int i = 0; i < blendCount; i++)
+        {
+            if (blendFuncs[i * 2] == srcFunc && blendFuncs[i * 2 + 1] == dstFunc)
+                return i;
+        }
+
+        // If no room for another blend state, then share the last number.
+        if (blendCount > MAX_BLEND)
+            return MAX_BLEND;
+
+        blendFuncs[blendCount * 2] = srcFunc;
+        blendFuncs[blendCount * 2 + 1] = dstFunc;
+
+        return blendCount++;
+
+    }
+
+    // batch = Batch used to draw the stage.
+    private static int getRenderCalls(Batch batch)
+    {
+        // The function returns the number of flushes (draw calls) the passed batch made since its last
+        // begin, or 0 for batches other than SpriteBatch.
+        return batch instanceof SpriteBatch ? ((SpriteBatch)batch).renderCalls : 0;
+    }
+
+    // actor = Actor for a command.
+    private static Texture getTexture(Actor actor)
+    {
+        // The function returns the texture of the passed Actor, or null for Actors other than BaseActor.
+        return actor instanceof BaseActor ? ((BaseActor)actor).region.getTexture() : null;
+    }
+
+    private void reorder()
+    {
+
+        /*
+        The function rearranges the commands to match the sorted keys.  Each key holds the position of its
+        command in scene order, so the commands get moved by following the cycles of the permutation --
+        in place, without extra storage.  The keys get set to the new positions as the commands move.
+        */
+
+        Actor actor; // Actor moving along the current cycle.
+        int from; // Position (scene order) of the command belonging in the current slot.
+        int slot; // Current slot.
+
+        // Loop through slots.
+        for (int start = 0; start < size; start++)
+        {
+
+            // If command already in place (or moved as part of an earlier cycle), then skip.
+            if ((int)(keys[start] & ORDER_MASK) == start)
+                continue;
+
+            // Follow the cycle starting at the slot, moving each command into place.
+            actor = commands[start];
+            slot = start;
+
+            while (true)
+            {
+
+                from = (int)(keys[slot] & ORDER_MASK);
+                keys[slot] = (keys[slot] & ~ORDER_MASK) | slot;
+
+                if (from == start)
+                {
+                    commands[slot] = actor;
+                    break;
+                }
+
+                commands[slot] = commands[from];
+                slot = from;
+
+            }
+
+        }
+
+    }
+
+    // keys = Sort keys.
+    // count = Number of keys to sort.
+    private static void sort(long[] keys, int count)
+    {
+
+        /*
+        The function sorts the passed keys (ascending) with a heap sort -- in place, so no garbage gets
+        created, and in n log n time regardless of the starting order.  The keys are unique (each holds
+        its scene order), so the result matches a stable sort.
+        */
+
+        long temp; // Key being swapped.
+
+        // Build a heap with the largest key at the top.
+        for (int i = count / 2 - 1; i >= 0; i--)
+            siftDown( keys, i, count );
+
+        // Repeatedly move the largest key to the end and restore the heap for the rest.
+        for (int end = count - 1; end > 0; end--)
+        {
+            temp = keys[0];
+            keys[0] = keys[end];
+            keys[end] = temp;
+            siftDown( keys, 0, end );
+        }
+
+    }
+
+    // keys = Sort keys, arranged as a heap.
+    // index = Position of the key to move down.
+    // count = Number of keys in the heap.
+    private static void siftDown(long[] keys, int index, int count)
+    {
+
+        // The function moves the key at the passed position down the heap until it is no smaller than
+        // its children.
+
+        long key = keys[index]; // Key being moved.
+        int child; // Position of the larger child.
+
+        while ((child = index * 2 + 1) < count)
+        {
+
+            // Choose the larger child.
+            if (child + 1 < count && keys[child + 1] > keys[child])
+                child++;
+
+            // If key no smaller than the larger child, then stop.
+            if (key >= keys[child])
+                break;
+
+            keys[index] = keys[child];
+            index = child;
+
+        }
+
+        keys[index] = key;
+
+    }
+
+}
@@ -0,0 +1,420 @@
+package core;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+@SuppressWarnings("unused")
+public class SpatialGrid
+{
+
+    /*
+    The class provides a uniform grid (spatial hash) used as a broad phase for BaseActor collision checks.
+
+    Instead of testing every Actor in one list against every Actor in another (O(n x m) polygon tests),
+    the grid divides the world into square cells.  Each frame, the Actors in the registered lists get
+    placed in every cell overlapped by their collision rectangle.  Queries then return only the Actors
+    sharing at least one cell with the passed Actor -- the candidates.  The narrow phase (BaseActor.overlaps,
+    which uses Intersector.overlapConvexPolygons) then only runs against nearby Actors.
+
+    The grid optionally treats the world as a torus, to match games using wraparound logic.  With wrapping
+    enabled, cell coordinates get reduced modulo the number of columns and rows, so Actors partially past
+    an edge (for example, x between -width and 0) land in the cells on the opposite side and no Actor falls
+    outside the grid.
+
+    Cell contents get stored in flat arrays (singly linked lists of entries per cell), so rebuilding the grid
+    and running queries does not allocate once the arrays have grown to the needed size.
+
+    Methods include:
+
+    findPairs:  Stores candidate pairs between two registered lists in the passed ArrayList.
+    getCandidateCount:  Returns the number of candidates returned by the last query.
+    query:  Stores Actors from a registered list sharing a cell with the passed Actor in the passed ArrayList.
+    rebuild:  Clears the grid and inserts the Actors of every registered list.
+    registerList:  Adds a list (ArrayList or ActorBag) of BaseActor objects to the grid and returns its identifier.
+    */
+
+    private final boolean wrap; // Whether to treat the world as a torus (wraparound).
+    private final float cellSize; // Width and height of each (square) cell, in pixels.
+    private final int cols; // Number of columns in the grid.
+    private final int rows; // Number of rows in the grid.
+    private final int[] cellHead; // Index of the first entry in each cell, or -1 when cell empty.
+
+    private int entryCount; // Number of entries in use.
+    private int[] entryNext; // Index of the next entry in the same cell, or -1 at end of list.
+    private int[] entrySlot; // Slot (Actor index in slotActor) referenced by each entry.
+    private int slotCount; // Number of Actors inserted during the last rebuild.
+    private BaseActor[] slotActor; // Actors inserted during the last rebuild.
+    private int[] slotList; // Identifier of the registered list containing each inserted Actor.
+    private int[] slotStamp; // Query stamp last assigned to each inserted Actor -- prevents duplicate candidates.
+    private int stamp; // Current query stamp.
+    private int candidateCount; // Number of candidates returned by the last query.
+
+    private final ArrayList<List<? extends BaseActor>> lists; // Registered lists (ArrayList or ActorBag) of Actors.
+
+    // worldWidth = Width of the game world, in pixels.
+    // worldHeight = Height of the game world, in pixels.
+    // cellSize = Width and height of each cell, in pixels.  Works best at about the size of the larger Actors.
+    // wrap = Whether to treat the world as a torus (wraparound).
+    public SpatialGrid(float worldWidth, float worldHeight, float cellSize, boolean wrap)
+    {
+
+        // The constructor of the class calculates the grid dimensions and allocates the cell and entry storage.
+
+        int initialCapacity; // Starting number of entries and slots.
+
+        // Set defaults.
+        initialCapacity = 64;
+
+        // Store grid properties.
+        this.wrap = wrap;
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, MathUtils.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, MathUtils.ceil(worldHeight / cellSize));
+
+        // Allocate cell storage and mark all cells as empty.
+        cellHead = new int[cols * rows];
+        Arrays.fill(cellHead, -1);
+
+        // Allocate entry and slot storage.
+        entryNext = new int[initialCapacity];
+        entrySlot = new int[initialCapacity];
+        slotActor = new BaseActor[initialCapacity];
+        slotList = new int[initialCapacity];
+        slotStamp = new int[initialCapacity];
+
+        // Initialize list of registered lists.
+        lists = new ArrayList<>();
+
+    }
+
+    // list = List (ArrayList or ActorBag) of BaseActor objects to add to the grid during each rebuild.
+    public int registerList(List<? extends BaseActor> list)
+    {
+
+        // The function adds a list (ArrayList or ActorBag) of BaseActor objects to the grid.
+        // The grid reads the current contents of the list during each rebuild, so Actors added to or
+        // removed from the list (for example, through BaseActor.destroy) get picked up automatically.
+        // The function returns the identifier to use for the list in queries.
+
+        // Add list to registered lists.
+        lists.add(list);
+
+        // Return identifier for list.
+        return lists.size() - 1;
+
+    }
+
+    public void rebuild()
+    {
+
+        // The function clears the grid and inserts the Actors of every registered list.
+        // Call once per frame, after Actors move (and wrap) and before running queries.
+
+        List<? extends BaseActor> list; // Current registered list.
+
+        // Clear cells.
+        Arrays.fill(cellHead, -1);
+
+        // Clear entries and slots -- releasing references to Actors from the previous rebuild.
+        Arrays.fill(slotActor, 0, slotCount, null);
+        entryCount = 0;
+        slotCount = 0;
+
+        // Loop through registered lists.
+        for (int listID = 0; listID < lists.size(); listID++)
+        {
+
+            // Store current registered list.
+            list = lists.get(listID);
+
+            // Loop through Actors in list.
+            for (int i = 0; i < list.size(); i++)
+            {
+                // Insert Actor in grid.
+                insert(list.get(i), listID);
+            }
+
+        }
+
+    }
+
+    // actor = Actor to insert in grid.
+    // listID = Identifier of registered list containing Actor.
+    private void insert(BaseActor actor, int listID)
+    {
+
+        // The function stores the Actor in a slot and adds an entry to every cell overlapped by its
+        // collision rectangle.
+
+        int slot; // Slot in which to store Actor.
+
+        // Ensure space exists for a new slot.
+        if (slotCount == slotActor.length)
+            growSlots();
+
+        // Store Actor in next slot.
+        slot = slotCount++;
+        slotActor[slot] = actor;
+        slotList[slot] = listID;
+        slotStamp[slot] = 0;
+
+        // Add an entry for the slot to each cell overlapped by the collision rectangle of the Actor.
+        visitCells(actor.getCollisionRectangle(), slot, -1, null);
+
+    }
+
+    // rect = Collision rectangle of an Actor.
+    // slot = Slot of Actor to insert, or -1 to gather candidates instead.
+    // listID = Identifier of registered list to gather candidates from (when slot is -1).
+    // results = ArrayList in which to store candidates (when slot is -1).
+    private void visitCells(Rectangle rect, int slot, int listID, ArrayList<BaseActor> results)
+    {
+
+        // The function loops through the cells overlapped by the passed rectangle.  When a slot gets
+        // passed, the function adds an entry for the slot to each cell.  Otherwise, the function adds
+        // the Actors from the specified list stored in each cell to the results, skipping duplicates.
+
+        int cell; // Index of current cell.
+        int col; // Current column, after wrapping or clamping.
+        int colFirst; // First column overlapped by rectangle.
+        int colLast; // Last column overlapped by rectangle.
+        int entry; // Index of current entry.
+        int other; // Slot referenced by current entry.
+        int row; // Current row, after wrapping or clamping.
+        int rowFirst; // First row overlapped by rectangle.
+        int rowLast; // Last row overlapped by rectangle.
+
+        // Determine range of columns and rows overlapped by rectangle.
+        colFirst = MathUtils.floor(rect.x / cellSize);
+        colLast = MathUtils.floor((rect.x + rect.width) / cellSize);
+        rowFirst = MathUtils.floor(rect.y / cellSize);
+        rowLast = MathUtils.floor((rect.y + rect.height) / cellSize);
+
+        // If wrapping, then...
+        if (wrap)
+        {
+            // Wrapping.
+            // Limit range to a single pass around the torus, so no cell gets visited twice.
+            colLast = Math.min(colLast, colFirst + cols - 1);
+            rowLast = Math.min(rowLast, rowFirst + rows - 1);
+        }
+
+        else
+        {
+            // Not wrapping.
+            // Clamp range to grid -- Actors past the edges get stored in the border cells.
+            colFirst = MathUtils.clamp(colFirst, 0, cols - 1);
+            colLast = MathUtils.clamp(colLast, 0, cols - 1);
+            rowFirst = MathUtils.clamp(rowFirst, 0, rows - 1);
+            rowLast = MathUtils.clamp(rowLast, 0, rows - 1);
+        }
+
+        // Loop through rows overlapped by rectangle.
+        for (int r = rowFirst; r <= rowLast; r++)
+        {
+
+            // Store row, reduced to the grid when wrapping.
+            row = wrap ? Math.floorMod(r, rows) : r;
+
+            // Loop through columns overlapped by rectangle.
+            for (int c = colFirst; c <= colLast; c++)
+            {
+
+                // Store column and cell, reduced to the grid when wrapping.
+                col = wrap ? Math.floorMod(c, cols) : c;
+                cell = row * cols + col;
+
+                // If inserting, then...
+                if (slot >= 0)
+                {
+                    // Inserting.
+                    // Add entry for slot to front of cell list.
+                    addEntry(cell, slot);
+                }
+
+                else
+                {
+
+                    // Gathering candidates.
+                    // Loop through entries in cell.
+                    for (entry = cellHead[cell]; entry >= 0; entry = entryNext[entry])
+                    {
+
+                        // Store slot for entry.
+                        other = entrySlot[entry];
+
+                        // If Actor belongs to requested list and not already returned, then...
+                        if (slotList[other] == listID && slotStamp[other] != stamp)
+                        {
+                            // Actor belongs to requested list and not already returned.
+                            // Mark and store Actor as candidate.
+                            slotStamp[other] = stamp;
+                            results.add(slotActor[other]);
+                            candidateCount++;
+                        }
+
+                    }
+
+                }
+
+            }
+
+        }
+
+    }
+
+    // cell = Index of cell to which to add entry.
+    // slot = Slot referenced by entry.
+    private void addEntry(int cell, int slot)
+    {
+
+        // The function adds an entry for the passed slot to the front of the list for the passed cell.
+
+        // Ensure space exists for a new entry.
+        if (entryCount == entryNext.length)
+        {
+            entryNext = Arrays.copyOf(entryNext, entryNext.length * 2);
+            entrySlot = Arrays.copyOf(entrySlot, entrySlot.length * 2);
+        }
+
+        // Link entry at front of cell list.
+        entrySlot[entryCount] = slot;
+        entryNext[entryCount] = cellHead[cell];
+        cellHead[cell] = entryCount;
+        entryCount++;
+
+    }
+
+    private void growSlots()
+    {
+
+        // The function doubles the capacity of the slot arrays.
+
+        slotActor = Arrays.copyOf(slotActor, slotActor.length * 2);
+        slotList = Arrays.copyOf(slotList, slotList.length * 2);
+        slotStamp = Arrays.copyOf(slotStamp, slotStamp.length * 2);
+
+    }
+
+    // actor = Actor for which to find candidates.  Does not need to belong to a registered list.
+    // listID = Identifier of registered list from which to return candidates.
+    // results = ArrayList in which to store candidates.  Cleared before use.
+    public void query(BaseActor actor, int listID, ArrayList<BaseActor> results)
+    {
+
+        // The function stores the Actors from the specified registered list sharing at least one cell
+        // with the passed Actor in the results.  Each candidate appears only once, and the passed Actor
+        // never gets returned as its own candidate.  Reflects positions as of the last rebuild of the grid.
+
+        // Clear results.
+        results.clear();
+        candidateCount = 0;
+
+        // Advance query stamp.
+        nextStamp();
+
+        // Gather candidates from cells overlapped by Actor.
+        visitCells(actor.getCollisionRectangle(), -1, listID, results);
+
+        // If Actor returned as its own candidate (when querying the list containing the Actor), then...
+        if (results.remove(actor))
+            // Actor returned as its own candidate.
+            // Adjust candidate count.
+            candidateCount--;
+
+    }
+
+    // listA = Identifier of first registered list.
+    // listB = Identifier of second registered list.
+    // pairs = ArrayList in which to store candidate pairs -- Actor from list A followed by Actor from list B.
+    //         Cleared before use.
+    // scratch = ArrayList used to gather candidates for each Actor in list A.
+    public void findPairs(int listA, int listB, ArrayList<BaseActor> pairs, ArrayList<BaseActor> scratch)
+    {
+
+        // The function stores every candidate pair between the two registered lists in the passed ArrayList,
+        // as consecutive elements (even index = Actor from list A, odd index = Actor from list B).
+
+        List<? extends BaseActor> list; // First registered list.
+
+        // Clear pairs.
+        pairs.clear();
+
+        // Store first registered list.
+        list = lists.get(listA);
+
+        // Loop through Actors in first list.
+        for (int i = 0; i < list.size(); i++)
+        {
+
+            // Gather candidates from second list.
+            query(list.get(i), listB, scratch);
+
+            // Loop through candidates.
+            for (int j = 0; j < scratch.size(); j++)
+            {
+                // Store pair.
+                pairs.add(list.get(i));
+                pairs.add(scratch.get(j));
+            }
+
+        }
+
+    }
+
+    private void nextStamp()
+    {
+
+        // The function advances the query stamp, resetting the slot stamps on overflow.
+
+        // Increment stamp.
+        stamp++;
+
+        // If stamp overflowed, then...
+        if (stamp == Integer.MAX_VALUE)
+        {
+            // Stamp overflowed.
+            // Reset stamps.
+            Arrays.fill(slotStamp, 0);
+            stamp = 1;
+        }
+
+    }
+
+    public int getCandidateCount()
+    {
+        // The function returns the number of candidates returned by the last query.
+        return candidateCount;
+    }
+
+}
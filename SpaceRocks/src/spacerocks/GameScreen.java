@@ -10,14 +10,16 @@ import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.assets.AssetManager;
+import core.ActorArchetype;
+import core.ActorBag;
 import core.AnimatedActor;
 import core.BaseActor;
 import core.BaseGame;
 import core.BaseScreen;
 import core.PhysicsActor;
 import core.GameUtils;
+import core.NumberLabel;
 import java.util.ArrayList;
 
 /*
@@ -64,7 +66,9 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
 
     create:  The method occurs during the startup / create phase and contains initialization logic.
     update:  The method occurs during the update phase (render method) and contains code related to game logic.
-    wraparound:  Allows for implementing a world without boundaries -- adjusts position of actor to opposite side of screen when passing edge.
+
+    The collision step (wraparound, broad phase, and laser / spaceship checks against the rocks) lives in
+    RockCollisions, so tests can run it without graphics.
     */
 
     // Constants...
@@ -95,9 +99,11 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
     private PhysicsActor baseRocketfire; // PhysicsActor that will act as the (base) rocket fire.
     private PhysicsActor baseShip; // PhysicsActor that will act as the (base) spaceship.
 
-    private ArrayList<PhysicsActor> laserList; // Array of laser beam PhysicsActor objects.
-    private ArrayList<PhysicsActor> rockList; // Array of rock PhysicsActor objects.
-    private ArrayList<BaseActor> removeList; // Array of BaseActor objects to remove from screen.
+    private ActorBag<PhysicsActor> laserList; // Bag of laser beam PhysicsActor objects.
+    private ActorBag<PhysicsActor> rockList; // Bag of rock PhysicsActor objects.
+
+    private RockCollisions rockCollisions; // Runs the collision step -- wraparound and laser / spaceship checks
+    // against the rocks, with a uniform grid as broad phase.
 
     @SuppressWarnings("FieldCanBeLocal")
     private Music arcadeFunk; // Background music -- loops constantly.
@@ -111,10 +117,10 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
     private Sound shipThruster; // Sound associated with spaceship thruster.
 
     // UI Elements...
-    private Label scoreLabel; // LibGDX Label object that will display score text.
-    private Label shipLabel; // LibGDX Label object that will display ships remaining text.
-    private Label timeLabel; // LibGDX Label object that will display elapsed time text.
-    // Note:  A Label is an extension of an Actor.
+    private NumberLabel scoreLabel; // NumberLabel object that will display score text.
+    private NumberLabel shipLabel; // NumberLabel object that will display ships remaining text.
+    private NumberLabel timeLabel; // NumberLabel object that will display elapsed time text.
+    // Note:  A NumberLabel is an extension of a Label, which is an extension of an Actor.
 
     // g = Screen object for game window (mouse, cheese, floor, win text, and elapsed time text).
     GameScreen(BaseGame g)
@@ -152,22 +158,26 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         4.  Loads (the image) and configures the base laser.
         5.  Loads (the image), configures, and adds the rocks to the stage.
         6.  Loads (the image) and configures the base explosion.
-        7.  Initializes the BaseActor removal list.
-        8.  Loads and configures the audio objects.
-        9.  Builds uiTable with score, ship count, time elapsed label, and "You Win!" graphic.
+        7.  Loads and configures the audio objects.
+        8.  Builds uiTable with score, ship count, time elapsed label, and "You Win!" graphic.
+        9.  Configures the collision grid.
+        10.  Enables the render queue for the main stage.
         */
 
         final int numRocks; // Number of rocks.
+        final int numRockTypes; // Number of rock variations (images).
 
         float speedUp; // Velocity factor (0 to 1) of current rock.
         int randomCorner; // Random corner in which to place rock.  1 = Upper Left, 2 = Upper Right, 3 = Lower Left, 4 = Lower Right.
         String fileName; // Filename for current rock image.  Examples:  rock0.png, rock1.png, ...
         // String text; // Text to display related to elapsed time.
-        String text; // Text to display related to elapsed time, score, or ships remaining.
+        String text; // Text to display related to elapsed time (before the first update).
 
         Animation explosionAnim; // Animation object associated with explosion.
         BaseActor background; // BaseActor that will act as background.
         PhysicsActor rock; // PhysicsActor that will act as a rock.
+        ArrayList<ActorArchetype<PhysicsActor>> rockTypes; // Archetypes (shared image and bounding polygon) for
+          // the rock variations.
         Texture fireTex; // Texture used for the rocket fire.
         Texture laserTex; // Texture used for the lasers.
         Texture rockTex; // Texture used for a rock.
@@ -181,6 +191,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         timeElapsed = 0;
         text = "Time: --";
         numRocks = 6;
+        numRockTypes = 4;
 
         // Initialize asset manager.
         manager = new AssetManager();
@@ -191,6 +202,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         // Set the properties for the background and add to the scene graph.
         background.setTexture( new Texture(Gdx.files.internal("assets/images/space.png")) ); // Load image to buffer.
         background.setPosition( 0, 0 ); // Place image at (0, 0) -- relative to bottom left corner -- within window (stage).
+        background.setRenderLayer( -1 ); // Draw behind all other actors (render queue).
         mainStage.addActor(background); // Add background Actor to the scene graph.
 
         // 2.  Configure spaceship and rocket fire.
@@ -272,25 +284,29 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         // Set laser to rotate image to match velocity (speed).
         baseLaser.setAutoAngle(true);
 
-        // Create array of laser PhysicsActor objects.
+        // Create bag of laser PhysicsActor objects.
         //laserList = new ArrayList<PhysicsActor>();
-        laserList = new ArrayList<>();
+        laserList = new ActorBag<>();
 
         // 5.  Configure rocks...
 
-        // Create array of rock PhysicsActor objects.
+        // Create bag of rock PhysicsActor objects.
         //rockList = new ArrayList<PhysicsActor>();
-        rockList = new ArrayList<>();
+        rockList = new ActorBag<>();
 
-        // Loop through rocks.
-        for (int n = 0; n < numRocks; n++)
+        // Create archetype for each rock variation, so rocks using the same image share it (and their
+        // bounding polygon vertices) rather than loading their own.
+        rockTypes = new ArrayList<>();
+
+        // Loop through rock variations.
+        for (int n = 0; n < numRockTypes; n++)
         {
 
-            // Create new PhysicsActor for a rock.
+            // Create new PhysicsActor for the rock variation (copy for rocks).
             rock = new PhysicsActor();
 
             // Set filename for current rock (variation).  Examples:  rock0.png, rock1.png, ...
-            fileName = "assets/images/rock" + (n%4) + ".png";
+            fileName = "assets/images/rock" + n + ".png";
 
             // Load image to buffer.
             rockTex = new Texture(Gdx.files.internal(fileName));
@@ -301,6 +317,27 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // Add Animation object to hash map for rock.
             rock.storeAnimation( "default", rockTex );
 
+            // Set rock origin coordinates to center of image, to handle rotations.
+            rock.setOriginCenter();
+
+            // Set collision polygon for rock as ellipse.
+            rock.setEllipseBoundary();
+
+            // Set rock to rotate image to match velocity (speed).
+            rock.setAutoAngle(false);
+
+            // Store archetype for the rock variation.
+            rockTypes.add( new ActorArchetype<>( rock ) );
+
+        }
+
+        // Loop through rocks.
+        for (int n = 0; n < numRocks; n++)
+        {
+
+            // Spawn new PhysicsActor for a rock, using the archetype for the current rock variation.
+            rock = rockTypes.get( n % numRockTypes ).spawn();
+
             // Pick a corner...
             randomCorner = MathUtils.random(1, 4);
 
@@ -336,15 +373,6 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // Randomly set position of rock in screen.
             //rock.setPosition(800 * MathUtils.random(), 600 * MathUtils.random() );
 
-            // Set rock origin coordinates to center of image, to handle rotations.
-            rock.setOriginCenter();
-
-            // Set collision polygon for rock as ellipse.
-            rock.setEllipseBoundary();
-
-            // Set rock to rotate image to match velocity (speed).
-            rock.setAutoAngle(false);
-
             // Store velocity factor -- random number from zero to one -- for current rock.
             speedUp = MathUtils.random(0.0f, 1.0f);
 
@@ -358,9 +386,8 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // Add current rock Actor to the scene graph.
             mainStage.addActor(rock);
 
-            // Add current rock to lists / arrays.
+            // Add current rock to bag (BaseActor.destroy removes it).
             rockList.add(rock);
-            rock.setParentList(rockList);
 
         }
 
@@ -384,11 +411,10 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         // Set explosion origin coordinates to center of image, to handle rotations.
         baseExplosion.setOriginCenter();
 
-        // 7.  Initialize BaseActor removal list.
-        //removeList = new ArrayList<BaseActor>();
-        removeList = new ArrayList<>();
+        // Draw explosions on top of the rocks, spaceship, and lasers (render queue).
+        baseExplosion.setRenderLayer( 1 );
 
-        // 8.  Load and configure the audio objects.
+        // 7.  Load and configure the audio objects.
 
         // Load audio objects.
         manager.load(arcadeFunkFile, Music.class);
@@ -406,22 +432,19 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         arcadeFunk.setVolume(audioVolume); // Set volume for instrumental music.
         arcadeFunk.play(); // Play instrumental music.
 
-        // 9.  Set up user interface.
+        // 8.  Set up user interface.
 
         // Add Label showing time elapsed.  Apply Skin property of uiLabelStyle.
-        timeLabel = new Label( text, game.skin, "uiLabelStyle_Small" );
-
-        // Update text to reflect score.
-        text = "Score: " + score;
+        timeLabel = new NumberLabel( "Time: ", "", game.skin, "uiLabelStyle_Small" );
+        timeLabel.setText( text );
 
         // Add Label showing score.  Apply Skin property of uiLabelStyle.
-        scoreLabel = new Label( text, game.skin, "uiLabelStyle_Small" );
-
-        // Update text to reflect ships remaining.
-        text = "Ships: " + shipCount;
+        scoreLabel = new NumberLabel( "Score: ", "", game.skin, "uiLabelStyle_Small" );
+        scoreLabel.setValue( score );
 
         // Add Label showing ships remaining.  Apply Skin property of uiLabelStyle.
-        shipLabel = new Label( text, game.skin, "uiLabelStyle_Small" );
+        shipLabel = new NumberLabel( "Ships: ", "", game.skin, "uiLabelStyle_Small" );
+        shipLabel.setValue( shipCount );
 
         // Set up Table object with user-interface layout.
         uiTable.pad(10); // Set padding, in pixels, for Table (on all sides).
@@ -435,6 +458,15 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         uiTable.add().colspan(3).expandY(); // Add a cell that encompasses both columns, extending the remaining
         // vertical length of the screen.
 
+        // 9.  Configure collision step -- creates the collision grid and registers the rock list with it.
+        // Explosions get added to the main stage.
+        rockCollisions = new RockCollisions( mapWidth, mapHeight, laserList, rockList, actorPool, baseExplosion,
+          mainStage.getRoot() );
+
+        // 10.  Draw the main stage through the render queue, grouping the actors by texture (the background,
+        // four rock images, lasers, and explosions would otherwise flush the batch at each change).
+        renderQueue.setEnabled( true );
+
     }
 
     // dt = Time span between the current and last frame in seconds.  Passed / populated automatically.
@@ -462,14 +494,6 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
                    Suited for irregularly occurring actions. > Jumping.
         */
 
-        int overlapRockCounter; // Counter for laser beams overlapping rocks.
-
-        AnimatedActor explosion; // AnimatedActor that will act as the explosion.
-        AnimatedActor explosion2; // AnimatedActor that will act as the second explosion.
-
-        // Set defaults.
-        overlapRockCounter = 0;
-
         manager.finishLoading();
 
         // 1.  Process input.
@@ -523,76 +547,22 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
 
         }
 
-        // 2.  Wrap objects within screen.
-        wraparound( spaceship );
+        // 2 and 3.  Wrap objects within screen, and check lasers and spaceship for overlapping rocks --
+        // removing colliding objects and spawning explosions.
+        rockCollisions.update( spaceship );
 
-        // Loop through visible rocks.
-        for ( PhysicsActor rock : rockList )
+        // If any lasers overlapped rocks, then...
+        if (rockCollisions.getRockHitCount() > 0)
         {
-            // Wrap rock within screen.
-            wraparound( rock );
-        }
-
-        // Clear BaseActor removal list.
-        removeList.clear();
-
-        // 3. Check lasers for overlapping rocks and remove colliding objects.
-
-        // Loop through lasers.
-        for ( PhysicsActor laser : laserList )
-        {
-
-            // wraparound( laser );
-
-            // If laser NOT visible, then...
-            if ( !laser.isVisible() )
+            // Add to score.
+            score += 100 * rockCollisions.getRockHitCount();
 
-                // Laser NOT visible.  Add to removal list.
-                removeList.add( laser );
-
-            // Loop through rocks.
-            for ( PhysicsActor rock : rockList )
-            {
-
-                // If laser overlaps rock, then...
-                if ( laser.overlaps(rock, false) )
-                {
-
-                    // Laser overlaps rock.
-
-                    // Increment overlap counter.
-                    overlapRockCounter++;
-
-                    // Add laser and rock to removal list.
-                    removeList.add( laser );
-                    removeList.add( rock );
-
-                    // Create a copy of the explosion AnimatedActor.
-                    explosion = baseExplosion.clone();
-
-                    // Center explosion within rock.
-                    explosion.moveToOrigin(rock);
-
-                    // Add explosion AnimatedActor to the scene graph.
-                    mainStage.addActor(explosion);
-
-                    // Add an Action to the explosion to remove the AnimatedActor after 1.08 seconds.
-                    explosion.addAction( Actions.sequence(Actions.delay(1.08f), Actions.removeActor()) );
-
-                    // Add to score.
-                    score += 100;
-
-                    // Update score label.
-                    scoreLabel.setText( "Score: " + score );
-
-                } // End ... If laser overlaps rock.
-
-            } // Loop through rocks.
-
-        } // Loop through lasers.
+            // Update score label.
+            scoreLabel.setValue( score );
+        }
 
         // If first overlap in current update, then...
-        if (overlapRockCounter == 1)
+        if (rockCollisions.getRockHitCount() == 1)
 
         {
             // First overlap in current update.
@@ -601,62 +571,24 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             rockExplosion.play(audioVolume);
         }
 
-        // Loop through remaining rocks.
-        for ( PhysicsActor rock : rockList )
+        // If rock overlapped ship, then...
+        if (rockCollisions.isShipHit())
         {
 
-            // If rock overlaps ship, then...
-            if ( rock.overlaps(spaceship, false) )
-            {
-
-                // Rock overlaps ship.
-
-                // Play ship explosion sound.
-                shipExplosion = manager.get(shipExplosionFile);
-                shipExplosion.play(audioVolume);
-
-                // Add laser and rock to removal list.
-                removeList.add( spaceship );
-                removeList.add( rock );
-
-                // Create copies of the explosion AnimatedActor.
-                explosion = baseExplosion.clone();
-                explosion2 = baseExplosion.clone();
-
-                // Center explosion within spaceship.
-                explosion.moveToOrigin(spaceship);
+            // Rock overlapped ship.
 
-                // Center second explosion within rock.
-                explosion2.moveToOrigin(rock);
+            // Play ship explosion sound.
+            shipExplosion = manager.get(shipExplosionFile);
+            shipExplosion.play(audioVolume);
 
-                // Add explosion AnimatedActor objects to the scene graph.
-                mainStage.addActor(explosion);
-                mainStage.addActor(explosion2);
+            // Reduce ship count.
+            shipCount -= 1;
 
-                // Add an Action to the explosion to remove the AnimatedActor objects after 1.08 seconds.
-                explosion.addAction( Actions.sequence(Actions.delay(1.08f), Actions.removeActor()) );
-                explosion2.addAction( Actions.sequence(Actions.delay(1.08f), Actions.removeActor()) );
-
-                // Reduce ship count.
-                shipCount -= 1;
-
-                // Update ships remaining label.
-                shipLabel.setText( "Ships: " + shipCount );
-
-                // Exit loop.
-                break;
-
-            } // End ... If rock overlaps ship.
+            // Update ships remaining label.
+            shipLabel.setValue( shipCount );
 
         }
 
-        // Loop through BaseActor objects in removal list.
-        for (BaseActor ba : removeList)
-        {
-            // Remove the BaseActor from its Stage and parent list.
-            ba.destroy();
-        }
-
         // If win conditions not satisfied, then...
         if (!win)
         {
@@ -665,8 +597,8 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // Increment timer by elapsed time.
             timeElapsed += dt;
 
-            // Update elapsed time label.
-            timeLabel.setText( "Time: " + (int)timeElapsed );
+            // Update elapsed time label (only changes the text once per second).
+            timeLabel.setValue( (int)timeElapsed );
         }
 
     }
@@ -717,8 +649,8 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             laserFire = manager.get(laserFireFile);
             laserFire.play(audioVolume);
 
-            // Make a copy of the base laser PhysicsActor object.
-            laser = baseLaser.clone();
+            // Get a copy of the base laser PhysicsActor object (reused from the actor pool when available).
+            laser = actorPool.obtain(baseLaser);
 
             // Center laser within spaceship.
             laser.moveToOrigin( spaceship );
@@ -726,9 +658,8 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // Set velocity of laser based on spaceship rotation and using a speed of 400.
             laser.setVelocityAS( spaceship.getRotation(), 400 );
 
-            // Add laser to both lists.
+            // Add laser to bag (BaseActor.destroy removes it).
             laserList.add(laser);
-            laser.setParentList(laserList);
 
             // Add laser PhysicsActor to the scene graph.
             mainStage.addActor(laser);
@@ -753,44 +684,4 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
 
     }
 
-    // ba = BaseActor to check whether past edges of the screen (Stage).
-    private void wraparound(BaseActor ba)
-    {
-
-        /*
-        The function allows for implementing a world with no “boundaries”: an object traveling past the right edge of
-        the screen reappears on the left (and vice versa), and similarly for the bottom and top edges. This behavior is
-        called wraparound.
-        */
-
-        // If base actor past left edge of screen, then...
-        if ( ba.getX() + ba.getWidth() < 0 )
-
-            // Base actor past left edge of screen.
-            // Move necessary portion of actor to right edge of screen.
-            ba.setX( mapWidth );
-
-        // If base actor past right edge of screen, then...
-        if ( ba.getX() > mapWidth )
-
-            // Base actor past right edge of screen.
-            // Move necessary portion of actor to left edge of screen.
-            ba.setX( -ba.getWidth() );
-
-        // If base actor past top edge of screen, then...
-        if ( ba.getY() + ba.getHeight() < 0 )
-
-            // Base actor past top edge of screen.
-            // Move necessary portion of actor to bottom edge of screen.
-            ba.setY( mapHeight );
-
-        // If base actor past bottom edge of screen, then...
-        if ( ba.getY() > mapHeight )
-
-            // Base actor past bottom edge of screen.
-            // Move necessary portion of actor to top of screen.
-            ba.setY( -ba.getHeight() );
-
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,312 @@
+package spacerocks;
+
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import core.ActorBag;
+import core.ActorPool;
+import core.AnimatedActor;
+import core.BaseActor;
+import core.PhysicsActor;
+import core.SpatialGrid;
+import java.util.ArrayList;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+class RockCollisions
+{
+
+    /*
+    The class runs the collision step of the game screen -- wrapping the spaceship and rocks within the
+    game world, then checking the lasers and the spaceship against the rocks.  Colliding actors get
+    destroyed and explosions get spawned (from the actor pool) in their place.  The game screen handles
+    the rest (score, labels, and sounds), based on the results of the last step.
+
+    The rocks get placed in a uniform grid (SpatialGrid), which serves as the broad phase.  The lasers and
+    the spaceship only query the grid (they never get placed in it), so no laser or spaceship pairs come
+    out of it.  The step runs within a removal phase of the laser and rock bags, so the loops can destroy
+    actors directly.  No objects get created once the grid, bags, and pool have grown to the needed size.
+
+    The class needs no graphics, so tests can run the same step the game screen runs.
+
+    Methods include:
+
+    getRockHitCount:  Returns the number of laser / rock overlaps during the last step.
+    isShipHit:  Returns whether a rock hit the spaceship during the last step.
+    update:  Wraps the spaceship and rocks and checks the lasers and spaceship against the rocks.
+    wraparound:  Adjusts position of actor to opposite side of game world when passing edge.
+    */
+
+    private final float mapWidth; // Game world width.
+    private final float mapHeight; // Game world height.
+    private final ActorBag<PhysicsActor> laserList; // Bag of laser beam PhysicsActor objects.
+    private final ActorBag<PhysicsActor> rockList; // Bag of rock PhysicsActor objects.
+    private final ActorPool actorPool; // Free copies of template actors -- source of the explosions.
+    private final AnimatedActor baseExplosion; // AnimatedActor that will act as the (base) explosion.
+    private final Group explosionParent; // Group (root of the main stage) to which to add the explosions.
+    private final SpatialGrid collisionGrid; // Uniform grid used as broad phase for laser and spaceship collisions.
+    private final int rockGridID; // Identifier of rock list in collision grid.
+    private final ArrayList<BaseActor> candidateList; // Array of BaseActor objects returned by collision grid queries.
+    private int rockHitCount; // Number of laser / rock overlaps during the last step.
+    private boolean shipHit; // Whether a rock hit the spaceship during the last step.
+
+    // mapWidth = Game world width.
+    // mapHeight = Game world height.
+    // laserList = Bag of laser beam PhysicsActor objects.
+    // rockList = Bag of rock PhysicsActor objects.
+    // actorPool = Actor pool from which to obtain the explosions.
+    // baseExplosion = AnimatedActor that will act as the (base) explosion.
+    // explosionParent = Group (root of the main stage) to which to add the explosions.
+    RockCollisions(float mapWidth, float mapHeight, ActorBag<PhysicsActor> laserList,
+      ActorBag<PhysicsActor> rockList, ActorPool actorPool, AnimatedActor baseExplosion, Group explosionParent)
+    {
+
+        // The constructor of the class stores the passed objects, creates the collision grid, and registers
+        // the rock list with the grid.
+
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.laserList = laserList;
+        this.rockList = rockList;
+        this.actorPool = actorPool;
+        this.baseExplosion = baseExplosion;
+        this.explosionParent = explosionParent;
+
+        // Create uniform grid covering the game world, with wraparound matching the wraparound function.
+        // Each cell covers 100 x 100 pixels -- about the size of the rocks.
+        collisionGrid = new SpatialGrid(mapWidth, mapHeight, 100, true);
+
+        // Register rock list with the collision grid.  Lasers and the spaceship query the grid directly.
+        rockGridID = collisionGrid.registerList(rockList);
+
+        // Initialize list of candidates returned by collision grid queries.
+        candidateList = new ArrayList<>();
+
+    }
+
+    int getRockHitCount()
+    {
+        // The function returns the number of laser / rock overlaps during the last step.
+        return rockHitCount;
+    }
+
+    boolean isShipHit()
+    {
+        // The function returns whether a rock hit the spaceship during the last step.
+        return shipHit;
+    }
+
+    // spaceship = PhysicsActor acting as the spaceship.
+    void update(PhysicsActor spaceship)
+    {
+
+        /*
+        The function runs the collision step:
+
+        1.  Wraps the spaceship and rocks within the game world.
+        2.  Places the rocks in the collision grid.
+        3.  Checks lasers for overlapping rocks -- destroying both and spawning an explosion.
+        4.  Checks the rocks near the spaceship -- on a hit, destroying both and spawning two explosions.
+
+        The results get stored for getRockHitCount and isShipHit.
+        */
+
+        AnimatedActor explosion; // AnimatedActor that will act as the explosion.
+        AnimatedActor explosion2; // AnimatedActor that will act as the second explosion.
+        PhysicsActor laser; // Current laser.
+        BaseActor rock; // Current rock.
+
+        // Set defaults.
+        rockHitCount = 0;
+        shipHit = false;
+
+        // 1.  Wrap objects within game world.
+        wraparound( spaceship );
+
+        // Loop through visible rocks.  The loops below go by index, since an iterator per loop would
+        // create garbage each frame.
+        for ( int i = 0; i < rockList.size(); i++ )
+        {
+            // Wrap rock within game world.
+            wraparound( rockList.get(i) );
+        }
+
+        // Start removal phase for lasers and rocks -- destroyed actors stay in their bags until the end
+        // of the collision checks, so loops can destroy actors directly.
+        laserList.begin();
+        rockList.begin();
+
+        // 2.  Place rocks in collision grid, using positions after wrapping.  Lasers and the spaceship only
+        // query the grid (they never get placed in it), so no laser or spaceship pairs come out of it.
+        collisionGrid.rebuild();
+
+        // 3.  Check lasers for overlapping rocks and remove colliding objects.
+
+        // Loop through lasers.
+        for ( int i = 0; i < laserList.size(); i++ )
+        {
+
+            laser = laserList.get(i);
+
+            // If laser NOT visible, then...
+            if ( !laser.isVisible() )
+
+                // Laser NOT visible.  Remove from screen.
+                laser.destroy();
+
+            // Find rocks near laser.
+            collisionGrid.query( laser, rockGridID, candidateList );
+
+            // Loop through nearby rocks.
+            for ( int j = 0; j < candidateList.size(); j++ )
+            {
+
+                rock = candidateList.get(j);
+
+                // If laser overlaps rock, then...
+                if ( laser.overlaps(rock, false) )
+                {
+
+                    // Laser overlaps rock.
+
+                    // Increment overlap counter.
+                    rockHitCount++;
+
+                    // Remove laser and rock from screen.
+                    laser.destroy();
+                    rock.destroy();
+
+                    // Get a copy of the explosion AnimatedActor (reused from the actor pool when available).
+                    explosion = actorPool.obtain(baseExplosion);
+
+                    // Center explosion within rock.
+                    explosion.moveToOrigin(rock);
+
+                    // Add explosion AnimatedActor to the scene graph.
+                    explosionParent.addActor(explosion);
+
+                    // Add an Action to the explosion to remove the AnimatedActor after 1.08 seconds.
+                    explosion.addAction( Actions.sequence(Actions.delay(1.08f), Actions.removeActor()) );
+
+                } // End ... If laser overlaps rock.
+
+            } // Loop through nearby rocks.
+
+        } // Loop through lasers.
+
+        // 4.  Find rocks near spaceship.
+        collisionGrid.query( spaceship, rockGridID, candidateList );
+
+        // Loop through nearby rocks.
+        for ( int j = 0; j < candidateList.size(); j++ )
+        {
+
+            rock = candidateList.get(j);
+
+            // If rock overlaps ship, then...
+            if ( rock.overlaps(spaceship, false) )
+            {
+
+                // Rock overlaps ship.
+                shipHit = true;
+
+                // Remove spaceship and rock from screen.
+                spaceship.destroy();
+                rock.destroy();
+
+                // Get copies of the explosion AnimatedActor (reused from the actor pool when available).
+                explosion = actorPool.obtain(baseExplosion);
+                explosion2 = actorPool.obtain(baseExplosion);
+
+                // Center explosion within spaceship.
+                explosion.moveToOrigin(spaceship);
+
+                // Center second explosion within rock.
+                explosion2.moveToOrigin(rock);
+
+                // Add explosion AnimatedActor objects to the scene graph.
+                explosionParent.addActor(explosion);
+                explosionParent.addActor(explosion2);
+
+                // Add an Action to the explosion to remove the AnimatedActor objects after 1.08 seconds.
+                explosion.addAction( Actions.sequence(Actions.delay(1.08f), Actions.removeActor()) );
+                explosion2.addAction( Actions.sequence(Actions.delay(1.08f), Actions.removeActor()) );
+
+                // Exit loop.
+                break;
+
+            } // End ... If rock overlaps ship.
+
+        }
+
+        // End removal phase -- remove destroyed lasers and rocks from their bags.
+        laserList.end();
+        rockList.end();
+
+    }
+
+    // ba = BaseActor to check whether past edges of the screen (Stage).
+    void wraparound(BaseActor ba)
+    {
+
+        /*
+        The function allows for implementing a world with no “boundaries”: an object traveling past the right edge of
+        the screen reappears on the left (and vice versa), and similarly for the bottom and top edges. This behavior is
+        called wraparound.
+        */
+
+        // If base actor past left edge of screen, then...
+        if ( ba.getX() + ba.getWidth() < 0 )
+
+            // Base actor past left edge of screen.
+            // Move necessary portion of actor to right edge of screen.
+            ba.setX( mapWidth );
+
+        // If base actor past right edge of screen, then...
+        if ( ba.getX() > mapWidth )
+
+            // Base actor past right edge of screen.
+            // Move necessary portion of actor to left edge of screen.
+            ba.setX( -ba.getWidth() );
+
+        // If base actor past top edge of screen, then...
+        if ( ba.getY() + ba.getHeight() < 0 )
+
+            // Base actor past top edge of screen.
+            // Move necessary portion of actor to bottom edge of screen.
+            ba.setY( mapHeight );
+
+        // If base actor past bottom edge of screen, then...
+        if ( ba.getY() > mapHeight )
+
+            // Base actor past bottom edge of screen.
+            // Move necessary portion of actor to top of screen.
+            ba.setY( -ba.getHeight() );
+
+    }
+
+}
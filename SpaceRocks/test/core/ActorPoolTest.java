@@ -0,0 +1,327 @@
+package core;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import java.lang.reflect.Proxy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ActorPoolTest
+{
+
+    /*
+    The class tests the ActorPool together with ActorBag, using the spawn template of the game -- the
+    laser, set up and fired as in the game screen (faded out and hidden after two seconds).  In particular,
+    actors destroyed during a removal phase of their bag (begin / end) must not get handed out again until
+    the bag lets go of them, and a laser that faded out must come back from the pool like a new one.
+
+    No window gets opened.  Gdx.gl and Gdx.app get stand-ins answering with defaults, so the laser can use a
+    texture created from a small pixmap (only the native library gets loaded).  The lasers get added to a
+    Group rather than a Stage.
+    */
+
+    private static final float FRAME_TIME = 1 / 60f; // Time in seconds between frames.
+    private static final int SPAWNS_PER_FRAME = 50; // Lasers fired (and destroyed) each stress frame.
+    private static final int STRESS_FRAMES = 5000; // Frames measured by the stress benchmark.
+    private static final int WARMUP_FRAMES = 5000; // Frames run before measuring.
+
+    private Texture laserTex; // Texture for the laser.
+    private PhysicsActor baseLaser; // Template (base) laser copied by the pool.
+    private ActorPool pool; // Pool under test.
+    private Group parent; // Parent (in place of a Stage) of the lasers fired.
+    private ActorBag<PhysicsActor> firstBag; // Bag holding the lasers fired first.
+    private ActorBag<PhysicsActor> secondBag; // Bag holding the lasers fired during the removal phase.
+
+    @BeforeClass
+    public static void setUpGdx()
+    {
+
+        // The function loads the native library and sets up stand-ins for the GL and application interfaces,
+        // so the template can use a texture created from a small pixmap.
+
+        GdxNativesLoader.load();
+
+        Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance( GL20.class.getClassLoader(),
+            new Class<?>[] { GL20.class }, (proxy, method, args) -> defaultValue( method.getReturnType() ) );
+
+        Gdx.app = (Application)Proxy.newProxyInstance( Application.class.getClassLoader(),
+            new Class<?>[] { Application.class }, (proxy, method, args) ->
+            {
+                if (method.getName().equals( "getType" ))
+                    return Application.ApplicationType.Desktop;
+                if (method.getName().equals( "equals" ))
+                    return proxy == args[0];
+                if (method.getName().equals( "hashCode" ))
+                    return 1;
+                return defaultValue( method.getReturnType() );
+            } );
+
+    }
+
+    // type = Return type of the method called on a stand-in.
+    private static Object defaultValue(Class<?> type)
+    {
+        // The function returns the value a stand-in answers for the passed return type.
+        if (type == int.class)
+            return 1;
+        if (type == float.class)
+            return 1f;
+        if (type == long.class)
+            return 0L;
+        if (type == boolean.class)
+            return false;
+        return null;
+    }
+
+    @Before
+    public void setUp()
+    {
+
+        // The function creates the base laser (set up as in the game screen), pool, parent, and bags used by
+        // each test.
+
+        laserTex = new Texture( new Pixmap( 16, 8, Pixmap.Format.RGBA8888 ) );
+
+        baseLaser = new PhysicsActor();
+        baseLaser.storeAnimation( "default", laserTex );
+        baseLaser.setMaxSpeed( 400 );
+        baseLaser.setDeceleration( 0 );
+        baseLaser.setEllipseBoundary();
+        baseLaser.setOriginCenter();
+        baseLaser.setAutoAngle( true );
+
+        pool = new ActorPool();
+        parent = new Group();
+        firstBag = new ActorBag<>();
+        secondBag = new ActorBag<>();
+
+    }
+
+    @After
+    public void tearDown()
+    {
+        // The function releases the texture.
+        laserTex.dispose();
+    }
+
+    // bag = Bag to which to add the laser.
+    // angle = Direction in which to fire the laser, in degrees.
+    private PhysicsActor fire(ActorBag<PhysicsActor> bag, float angle)
+    {
+
+        // The function fires a laser as the game screen does when pressing SPACE -- obtains it from the pool,
+        // sets its velocity, adds it to the parent and passed bag, and fades it out after two seconds.
+
+        PhysicsActor laser = pool.obtain( baseLaser ); // Laser fired.
+
+        laser.setVelocityAS( angle, 400 );
+        bag.add( laser );
+        parent.addActor( laser );
+        laser.addAction( Actions.sequence( Actions.delay( 2 ), Actions.fadeOut( 0.5f ), Actions.visible( false ) ) );
+
+        return laser;
+
+    }
+
+    @Test
+    public void spawnAndDestroyStressKeepsHeapFlat()
+    {
+
+        /*
+        Stress benchmark -- fires and destroys SPAWNS_PER_FRAME lasers each frame for STRESS_FRAMES frames,
+        destroying through a removal phase like the game loops do.  After the warmup frames, the pool must
+        hand out only reused lasers (no new clones), and the frames must allocate nothing -- including the
+        fade out actions, which return to their pools when the lasers get reused -- so the heap stays flat
+        however long the game runs.  Uses AllocationMonitor (skipped where unsupported).
+
+        The allocation check works on the total over all frames (under one byte per frame), since the
+        virtual machine itself occasionally allocates a few bytes on the thread (compiling code).  Any
+        garbage created per spawn adds up to far more.
+        */
+
+        AllocationMonitor monitor = new AllocationMonitor(); // Measures bytes allocated per frame.
+        long createdAfterWarmup; // Lasers cloned by the pool once warmed up.
+        long totalBytes = 0; // Bytes allocated over the measured frames.
+
+        // Warm up -- fill the pool and let the virtual machine compile the loop.
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++)
+            runStressFrame();
+
+        createdAfterWarmup = pool.getCreatedCount();
+
+        monitor.setEnabled( true );
+
+        // Measure the frames.
+        for (int frame = 0; frame < STRESS_FRAMES; frame++)
+        {
+            monitor.beginFrame();
+            runStressFrame();
+            monitor.endFrame();
+            totalBytes += monitor.getLastBytes( AllocationMonitor.TOTAL );
+        }
+
+        // Pool stopped cloning -- every laser since the warmup got reused.
+        assertEquals( SPAWNS_PER_FRAME, createdAfterWarmup );
+        assertEquals( createdAfterWarmup, pool.getCreatedCount() );
+        assertEquals( (long)(WARMUP_FRAMES + STRESS_FRAMES) * SPAWNS_PER_FRAME, pool.getObtainedCount() );
+
+        // Frames allocated nothing (when the virtual machine reports allocations).
+        if (AllocationMonitor.isSupported())
+            assertTrue( monitor.getReport(), totalBytes < STRESS_FRAMES );
+
+    }
+
+    private void runStressFrame()
+    {
+
+        // The function fires SPAWNS_PER_FRAME lasers in a circle, moves them, and then destroys all of them
+        // during a removal phase.
+
+        for (int i = 0; i < SPAWNS_PER_FRAME; i++)
+            fire( firstBag, 360f * i / SPAWNS_PER_FRAME );
+
+        parent.act( FRAME_TIME );
+
+        firstBag.begin();
+
+        for (int i = 0; i < firstBag.size(); i++)
+            firstBag.get( i ).destroy();
+
+        firstBag.end();
+
+    }
+
+    @Test
+    public void fadedLaserComesBackLikeNewOne()
+    {
+
+        /*
+        A laser left alone fades out and gets hidden, and the game screen then destroys it.  Fired again
+        from the pool, the same laser must come back visible, opaque, at full speed, and with only the new
+        fade out action.
+        */
+
+        PhysicsActor laser = fire( firstBag, 90 ); // Laser left to fade out.
+        float x; // Horizontal position of the laser fired again, before moving it.
+
+        // Let the laser fade out (2.5 seconds), then destroy it as the game screen does.
+        for (int frame = 0; frame < 160; frame++)
+            parent.act( FRAME_TIME );
+
+        assertFalse( laser.isVisible() );
+        laser.destroy();
+
+        // Fire again -- same laser, reset to match the template.
+        assertSame( laser, fire( firstBag, 0 ) );
+        assertTrue( laser.isVisible() );
+        assertEquals( 1, laser.getColor().a, 0 );
+        assertEquals( 1, laser.getActions().size );
+        assertEquals( baseLaser.getAnimationHandle(), laser.getAnimationHandle() );
+
+        // Laser moves at full speed (400 pixels per second), facing its direction.
+        x = laser.getX();
+        parent.act( FRAME_TIME );
+        assertEquals( 400 * FRAME_TIME, laser.getX() - x, 1e-3f );
+        assertEquals( 0, laser.getRotation(), 1e-3f );
+
+    }
+
+    @Test
+    public void freeOutsideRemovalPhaseReturnsActorAtOnce()
+    {
+
+        PhysicsActor laser = fire( firstBag, 0 ); // Laser to destroy.
+
+        laser.destroy();
+
+        assertEquals( 0, firstBag.size() );
+        assertEquals( 1, pool.getFreeCount( baseLaser ) );
+        assertSame( laser, pool.obtain( baseLaser ) );
+
+    }
+
+    @Test
+    public void freeDuringRemovalPhaseWaitsForEnd()
+    {
+
+        /*
+        Mirrors the laser loop of the game screen -- a laser gets destroyed inside the removal phase of its
+        bag, and a laser fired in the same frame goes into another bag.  The destroyed laser must not come
+        back from obtain before the first bag ends its phase.
+        */
+
+        PhysicsActor destroyed = fire( firstBag, 0 ); // Laser destroyed during the removal phase.
+        PhysicsActor spawned; // Laser fired during the removal phase.
+
+        firstBag.begin();
+
+        destroyed.destroy();
+
+        // Laser left the parent, but stays in the bag (flagged) and out of the free actors.
+        assertFalse( parent.getChildren().contains( destroyed, true ) );
+        assertTrue( firstBag.isRemovalPending( destroyed ) );
+        assertEquals( 0, pool.getFreeCount( baseLaser ) );
+
+        // Fire during the phase -- gets a new laser, and adding it to another bag works.
+        spawned = fire( secondBag, 0 );
+        assertNotSame( destroyed, spawned );
+
+        firstBag.end();
+
+        // Laser left the bag and returned to the pool.
+        assertEquals( 0, firstBag.size() );
+        assertEquals( 1, pool.getFreeCount( baseLaser ) );
+
+        // Next shot reuses the laser, which can join the second bag.
+        assertSame( destroyed, fire( secondBag, 0 ) );
+        assertEquals( 2, secondBag.size() );
+
+    }
+
+    @Test
+    public void destroyTwiceDuringRemovalPhaseReturnsActorOnce()
+    {
+
+        PhysicsActor laser = fire( firstBag, 0 ); // Laser destroyed twice.
+
+        firstBag.begin();
+        laser.destroy();
+        laser.destroy();
+        firstBag.end();
+
+        assertEquals( 1, pool.getFreeCount( baseLaser ) );
+
+    }
+
+    @Test
+    public void clearDuringRemovalPhaseReturnsFreedActors()
+    {
+
+        PhysicsActor laser = fire( firstBag, 0 ); // Laser destroyed before the bag gets cleared.
+
+        fire( firstBag, 0 );
+
+        firstBag.begin();
+        laser.destroy();
+        firstBag.clear();
+        firstBag.end();
+
+        assertEquals( 1, pool.getFreeCount( baseLaser ) );
+        assertSame( laser, pool.obtain( baseLaser ) );
+
+    }
+
+}
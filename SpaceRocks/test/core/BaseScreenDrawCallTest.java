@@ -0,0 +1,219 @@
+package core;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import static org.junit.Assert.assertEquals;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class BaseScreenDrawCallTest
+{
+
+    /*
+    The class renders a BaseScreen headlessly and checks the number of draw calls it reports
+    (getDrawCalls) against the glDrawElements / glDrawArrays calls reaching a mocked GL20.
+
+    No window gets opened.  Gdx.gl answers every call with a default (shaders always compile and link)
+    and counts the draw calls.  Gdx.graphics, Gdx.input, and Gdx.app get similar stand-ins.  Textures
+    get created from small pixmaps, so only the native library gets loaded.
+    */
+
+    private static final int ROCK_COUNT = 500; // Number of leaf actors (rocks) on the main stage.
+
+    private static int glDrawCount; // Draw calls received by the mocked GL20.
+
+    private Texture rockTexture; // Texture shared by the rocks.
+    private Texture laserTexture; // Second texture, for mixing textures.
+    private BaseScreen screen; // Screen under test.
+
+    @BeforeClass
+    public static void setUpGdx()
+    {
+
+        // The function loads the native library and sets up stand-ins for the graphics, GL, input, and
+        // application interfaces.
+
+        GdxNativesLoader.load();
+        ShaderProgram.pedantic = false;
+
+        Gdx.graphics = (Graphics)Proxy.newProxyInstance( Graphics.class.getClassLoader(),
+            new Class<?>[] { Graphics.class }, (proxy, method, args) -> defaultValue( method.getReturnType() ) );
+
+        Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance( GL20.class.getClassLoader(),
+            new Class<?>[] { GL20.class }, (proxy, method, args) ->
+            {
+                String name = method.getName(); // Name of the GL function called.
+
+                // Count draw calls.
+                if (name.equals( "glDrawElements" ) || name.equals( "glDrawArrays" ))
+                    glDrawCount++;
+
+                // Report a reasonable limit (such as the number of texture units) when asked.
+                if (name.equals( "glGetIntegerv" ))
+                    ((IntBuffer)args[1]).put( 0, 16 );
+
+                // Report shaders as compiled and programs as linked.
+                if (name.equals( "glGetShaderiv" ) || name.equals( "glGetProgramiv" ))
+                    ((IntBuffer)args[2]).put( 0, ((Integer)args[1] == GL20.GL_COMPILE_STATUS ||
+                        (Integer)args[1] == GL20.GL_LINK_STATUS) ? 1 : 0 );
+
+                if (method.getReturnType() == String.class)
+                    return "";
+
+                return defaultValue( method.getReturnType() );
+            } );
+
+        Gdx.input = (Input)Proxy.newProxyInstance( Input.class.getClassLoader(),
+            new Class<?>[] { Input.class }, (proxy, method, args) -> defaultValue( method.getReturnType() ) );
+
+        Gdx.app = (Application)Proxy.newProxyInstance( Application.class.getClassLoader(),
+            new Class<?>[] { Application.class }, (proxy, method, args) ->
+            {
+                if (method.getName().equals( "getType" ))
+                    return Application.ApplicationType.Desktop;
+                if (method.getName().equals( "equals" ))
+                    return proxy == args[0];
+                if (method.getName().equals( "hashCode" ))
+                    return 1;
+                return defaultValue( method.getReturnType() );
+            } );
+
+    }
+
+    // type = Return type of the method called on a stand-in.
+    private static Object defaultValue(Class<?> type)
+    {
+        // The function returns the value a stand-in answers for the passed return type.
+        if (type == int.class)
+            return 1;
+        if (type == float.class)
+            return 1f;
+        if (type == long.class)
+            return 0L;
+        if (type == boolean.class)
+            return false;
+        return null;
+    }
+
+    @Before
+    public void setUp()
+    {
+
+        // The function creates the textures and a screen without any game logic.
+
+        rockTexture = new Texture( new Pixmap( 16, 16, Pixmap.Format.RGBA8888 ) );
+        laserTexture = new Texture( new Pixmap( 8, 8, Pixmap.Format.RGBA8888 ) );
+
+        screen = new BaseScreen( null, 800, 600 )
+        {
+            @Override
+            public void update(float dt)
+            {
+            }
+        };
+
+    }
+
+    @After
+    public void tearDown()
+    {
+        // The function releases the textures and the main stage (BaseScreen.dispose also releases the game).
+        screen.mainStage.dispose();
+        rockTexture.dispose();
+        laserTexture.dispose();
+    }
+
+    // texture = Texture to assign to the actor.
+    // x = X-coordinate of the actor.
+    // y = Y-coordinate of the actor.
+    private BaseActor addActor(Texture texture, float x, float y)
+    {
+        // The function creates an actor with the passed texture and position and adds it to the main stage.
+        BaseActor actor = new BaseActor(); // Actor to add.
+        actor.setTexture( texture );
+        actor.setPosition( x, y );
+        screen.mainStage.addActor( actor );
+        return actor;
+    }
+
+    private int renderFrame()
+    {
+        // The function renders one frame of the screen and returns the draw calls received by the mocked GL20.
+        glDrawCount = 0;
+        screen.render( 1 / 60f );
+        return glDrawCount;
+    }
+
+    @Test
+    public void leafActorsShareOneDrawCall()
+    {
+
+        // Actors without children (rocks) go straight into the batch -- one draw call for all of them.
+
+        for (int i = 0; i < ROCK_COUNT; i++)
+            addActor( rockTexture, i % 50 * 16, i / 50 * 16 );
+
+        assertEquals( 1, renderFrame() );
+        assertEquals( 1, screen.getDrawCalls() );
+
+    }
+
+    @Test
+    public void actorWithChildrenFlushesForItsTransform()
+    {
+
+        /*
+        An actor with children (the spaceship carrying its rocket fire) draws through the group transform,
+        which flushes the batch once when applied and once when reset -- the rocks before it and the ship
+        with its child each take one draw call.
+        */
+
+        BaseActor ship; // Actor carrying a child.
+        BaseActor fire; // Child of the ship.
+
+        for (int i = 0; i < ROCK_COUNT; i++)
+            addActor( rockTexture, i % 50 * 16, i / 50 * 16 );
+
+        ship = addActor( rockTexture, 400, 300 );
+        fire = new BaseActor();
+        fire.setTexture( rockTexture );
+        ship.addActor( fire );
+
+        assertEquals( 2, renderFrame() );
+        assertEquals( 2, screen.getDrawCalls() );
+
+    }
+
+    @Test
+    public void renderQueueGroupsMixedTextures()
+    {
+
+        // Alternating textures flush the batch for every actor in scene order, and once per texture with
+        // the render queue enabled.
+
+        for (int i = 0; i < ROCK_COUNT; i++)
+            addActor( i % 2 == 0 ? rockTexture : laserTexture, i % 50 * 16, i / 50 * 16 );
+
+        assertEquals( ROCK_COUNT, renderFrame() );
+        assertEquals( ROCK_COUNT, screen.getDrawCalls() );
+
+        screen.renderQueue.setEnabled( true );
+
+        assertEquals( 2, renderFrame() );
+        assertEquals( 2, screen.getDrawCalls() );
+        assertEquals( ROCK_COUNT, screen.renderQueue.getSpriteCount() );
+
+    }
+
+}
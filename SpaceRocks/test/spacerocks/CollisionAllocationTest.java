@@ -0,0 +1,203 @@
+package spacerocks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import core.ActorBag;
+import core.ActorPool;
+import core.AllocationMonitor;
+import core.AnimatedActor;
+import core.PhysicsActor;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CollisionAllocationTest
+{
+
+    /*
+    The class runs the collision step of the game screen (RockCollisions.update) for thousands of frames
+    -- lasers and the spaceship checked against the rocks, destroying colliding actors and spawning
+    explosions from the actor pool -- and checks that the frames allocate nothing once warmed up.
+
+    No graphics get used -- the actors get sized directly rather than from textures, and a Group stands in
+    for the root of the main stage.  Destroyed rocks get replaced and lasers get fired from the actor pool,
+    and the spaceship returns after each hit, so the collisions keep happening.
+
+    The allocation check works on the total over all frames (under one byte per frame), since the
+    virtual machine itself occasionally allocates a few bytes on the thread (compiling code).  Any
+    object created per collision check adds up to far more.
+    */
+
+    private static final int FIRE_INTERVAL = 6; // Frames between laser shots.
+    private static final float FRAME_TIME = 1 / 60f; // Time in seconds between frames.
+    private static final float MAP_HEIGHT = 600; // Height of the game world.
+    private static final float MAP_WIDTH = 800; // Width of the game world.
+    private static final int MEASURED_FRAMES = 5000; // Frames measured.
+    private static final int ROCK_COUNT = 200; // Number of rocks kept in the game world.
+    private static final int WARMUP_FRAMES = 5000; // Frames run before measuring.
+
+    private ActorBag<PhysicsActor> laserList; // Bag of lasers.
+    private ActorBag<PhysicsActor> rockList; // Bag of rocks.
+    private ActorPool actorPool; // Source of the rocks, lasers, and explosions.
+    private PhysicsActor baseLaser; // Template for the lasers.
+    private PhysicsActor baseRock; // Template for the rocks.
+    private Group root; // Stands in for the root of the main stage.
+    private PhysicsActor spaceship; // Spaceship turning and firing in the middle of the rocks.
+    private RockCollisions rockCollisions; // Collision step under test.
+    private int frameCount; // Frames run so far.
+    private long laserHitCount; // Laser / rock overlaps so far.
+    private long shipHitCount; // Rock / spaceship overlaps so far.
+
+    @Before
+    public void setUp()
+    {
+
+        // The function creates the templates, bags, spaceship, and collision step, with fixed random values.
+
+        AnimatedActor baseExplosion; // Template for the explosions.
+
+        MathUtils.random.setSeed( 42 );
+
+        baseLaser = new PhysicsActor();
+        baseLaser.setSize( 8, 8 );
+        baseLaser.setMaxSpeed( 400 );
+        baseLaser.setDeceleration( 0 );
+        baseLaser.setEllipseBoundary();
+        baseLaser.setOriginCenter();
+
+        baseRock = new PhysicsActor();
+        baseRock.setSize( 64, 64 );
+        baseRock.setOriginCenter();
+        baseRock.setEllipseBoundary();
+
+        baseExplosion = new AnimatedActor();
+        baseExplosion.setSize( 96, 96 );
+        baseExplosion.setOriginCenter();
+
+        actorPool = new ActorPool();
+        laserList = new ActorBag<>();
+        rockList = new ActorBag<>();
+        root = new Group();
+
+        spaceship = new PhysicsActor();
+        spaceship.setSize( 48, 48 );
+        spaceship.setOriginCenter();
+        spaceship.setEllipseBoundary();
+        spaceship.setPosition( MAP_WIDTH / 2, MAP_HEIGHT / 2 );
+        root.addActor( spaceship );
+
+        rockCollisions = new RockCollisions( MAP_WIDTH, MAP_HEIGHT, laserList, rockList, actorPool, baseExplosion,
+          root );
+
+        spawnRocks();
+
+    }
+
+    @Test
+    public void collisionStepAllocatesNothingPerFrame()
+    {
+
+        AllocationMonitor monitor; // Measures bytes allocated per frame.
+        long totalBytes = 0; // Bytes allocated over the measured frames.
+
+        assumeTrue( AllocationMonitor.isSupported() );
+
+        monitor = new AllocationMonitor();
+
+        // Warm up -- let the virtual machine compile the step, and let the pool fill up.
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++)
+            runFrame();
+
+        monitor.setEnabled( true );
+
+        // Measure the frames.
+        for (int frame = 0; frame < MEASURED_FRAMES; frame++)
+        {
+            monitor.beginFrame();
+            runFrame();
+            monitor.endFrame();
+            totalBytes += monitor.getLastBytes( AllocationMonitor.TOTAL );
+        }
+
+        // Step destroyed lasers, rocks, and the spaceship.
+        assertTrue( laserHitCount > 0 );
+        assertTrue( shipHitCount > 0 );
+
+        // Frames allocated nothing.
+        assertTrue( monitor.getReport(), totalBytes < MEASURED_FRAMES );
+
+    }
+
+    private void runFrame()
+    {
+
+        // The function runs one frame -- the actors act (as with the main stage), the collision step runs,
+        // and destroyed rocks and the spaceship get replaced.  A laser gets fired every few frames.
+
+        frameCount++;
+
+        // Turn spaceship, and fire a laser every few frames.
+        spaceship.rotateBy( 3 );
+
+        if (frameCount % FIRE_INTERVAL == 0)
+            fireLaser();
+
+        // Move actors and run their actions (including the removal of explosions).
+        root.act( FRAME_TIME );
+
+        // Run the collision step of the game screen.
+        rockCollisions.update( spaceship );
+
+        laserHitCount += rockCollisions.getRockHitCount();
+
+        // Return spaceship to the middle of the game world after a hit.
+        if (rockCollisions.isShipHit())
+        {
+            shipHitCount++;
+            spaceship.setPosition( MAP_WIDTH / 2, MAP_HEIGHT / 2 );
+            root.addActor( spaceship );
+        }
+
+        // Replace destroyed rocks.
+        spawnRocks();
+
+    }
+
+    private void fireLaser()
+    {
+
+        // The function fires a laser from the spaceship, as the game screen does when pressing SPACE.
+
+        PhysicsActor laser = actorPool.obtain( baseLaser ); // Laser to fire.
+
+        laser.moveToOrigin( spaceship );
+        laser.setVelocityAS( spaceship.getRotation(), 400 );
+        laserList.add( laser );
+        root.addActor( laser );
+        laser.addAction( Actions.sequence( Actions.delay( 2 ), Actions.fadeOut( 0.5f ), Actions.visible( false ) ) );
+
+    }
+
+    private void spawnRocks()
+    {
+
+        // The function adds rocks (from the actor pool) at random positions along the left edge of the game
+        // world until the game world holds ROCK_COUNT rocks.
+
+        PhysicsActor rock; // Rock to add.
+
+        while (rockList.size() < ROCK_COUNT)
+        {
+            rock = actorPool.obtain( baseRock );
+            rock.setPosition( -rock.getWidth() / 2, MAP_HEIGHT * MathUtils.random() );
+            rock.setVelocityAS( 360 * MathUtils.random(), MathUtils.random( 75, 125 ) );
+            rock.addAction( Actions.forever( Actions.rotateBy( 360, MathUtils.random( 1f, 2f ) ) ) );
+            rockList.add( rock );
+            root.addActor( rock );
+        }
+
+    }
+
+}
@@ -0,0 +1,588 @@
+package core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class AllocationMonitor
+{
+
+    /*
+    The class measures the memory (bytes) allocated by the render thread during each frame, split into
+    the phases of the render method of BaseScreen:
+
+    act:  The act methods of the stages.
+    update:  The update method of the screen (game logic).
+    draw:  Clearing the screen and drawing the stages.
+
+    Objects created each frame (vectors, iterators, strings, lambda expressions, ...) become garbage, and
+    enough garbage eventually causes a collection pause -- visible as stutter.  The monitor shows which
+    screen and phase creates the garbage, well before the pauses become noticeable.
+
+    The measurements come from the allocated bytes counter of the thread (com.sun.management.ThreadMXBean),
+    which the Oracle and OpenJDK virtual machines support.  The class looks up the counter by name, so it
+    loads on other virtual machines (such as Android), which leave the monitor inactive.
+
+    The monitor keeps the results for the most recent frames (the window -- 600 frames, or ten seconds at
+    60 frames per second), including a histogram of the bytes allocated per frame.
+
+    A budget (bytes per frame) can get set.  Frames allocating more than the budget get counted and, in
+    test mode (failOnBudget), cause an IllegalStateException -- turning any screen into a regression
+    check.  Test mode only applies when the monitor got enabled explicitly (setEnabled or
+    -Dallocation.monitor=true), so a budget set for reporting never stops the game.  The first frames
+    (warmup) skip the budget check, since loading and first time setup normally allocate.
+
+    The monitor starts inactive, so it costs nothing in normal play.  Enable it with setEnabled or with
+    the following options on the java command line, which apply to every screen:
+
+    -Dallocation.monitor=true  Enables the monitor.
+    -Dallocation.budget=1024  Enables the monitor with a budget of 1024 bytes per frame.
+    -Dallocation.failOnBudget=true  Throws an exception when a frame exceeds the budget (requires
+      -Dallocation.monitor=true).
+    -Dallocation.warmup=60  Sets the number of frames skipped by the budget check.
+
+    Methods include:
+
+    beginFrame:  Starts measuring a frame.
+    endFrame:  Finishes measuring a frame, storing its results and checking the budget.
+    getAverageBytes:  Returns the average bytes allocated per frame (total or in a phase) over the window.
+    getBucketCount:  Returns the number of frames in the window that fall in the passed histogram bucket.
+    getBucketLimit:  Returns the largest number of bytes per frame counted in the passed histogram bucket.
+    getBudget:  Returns the budget, in bytes per frame (-1 when none).
+    getFrameCount:  Returns the number of frames measured.
+    getLastBytes:  Returns the bytes allocated (total or in a phase) during the last frame.
+    getOverBudgetCount:  Returns the number of frames that exceeded the budget.
+    getPeakBytes:  Returns the most bytes allocated in a frame (total or in a phase) over the window.
+    getReport:  Returns a text summary of the results.
+    isEnabled:  Returns whether the monitor measures frames.
+    isSupported:  Returns whether the virtual machine supports the allocated bytes counter.
+    mark:  Adds the bytes allocated since the last mark to the passed phase.
+    reset:  Discards all results.
+    setBudget:  Sets the budget, in bytes per frame.
+    setEnabled:  Sets whether the monitor measures frames.
+    setFailOnBudget:  Sets whether frames that exceed the budget throw an exception.
+    setWarmupFrames:  Sets the number of frames skipped by the budget check.
+    */
+
+    // Phases of the render method.
+    public static final int ACT = 0; // act methods of the stages.
+    public static final int UPDATE = 1; // update method of the screen.
+    public static final int DRAW = 2; // Clearing the screen and drawing the stages.
+    public static final int TOTAL = 3; // Entire frame -- for use with the get methods.
+
+    public static final int DEFAULT_WARMUP_FRAMES = 60; // Default number of frames skipped by the budget check.
+    public static final int WINDOW_SIZE = 600; // Number of recent frames kept.
+
+    private static final String[] PHASE_NAMES = { "act", "update", "draw", "total" }; // Names of phases.
+
+    // Largest number of bytes per frame counted in each bucket of the histogram.
+    private static final long[] BUCKET_LIMITS = { 0, 1024, 4096, 16384, 65536, 262144, 1048576,
+      Long.MAX_VALUE };
+
+    private static final MethodHandle ALLOCATED_BYTES; // getThreadAllocatedBytes(long) of the thread bean
+      // (com.sun.management.ThreadMXBean), bound to the bean, or null when not supported.
+    private static final long READ_OVERHEAD; // Bytes allocated by reading the counter itself (some
+      // virtual machines create arrays with each read), subtracted from each measurement.
+
+    static
+    {
+
+        /*
+        Get the allocated bytes counter, when supported, and measure the overhead of reading it.
+
+        The management classes get looked up by name, inside the try block, rather than referenced
+        directly.  Virtual machines without them (such as Android) then load the class with the monitor
+        unsupported, instead of failing with a NoClassDefFoundError.  The counter gets read through a
+        method handle with the exact (long) signature, so reading it boxes nothing.
+        */
+
+        Object bean; // Thread bean holding the allocated bytes counter.
+        Class<?> beanType; // Interface of the thread bean (com.sun.management.ThreadMXBean).
+        MethodHandle allocatedBytes; // Method returning the allocated bytes counter of a thread.
+        long overhead = 0; // Bytes allocated by reading the counter.
+        long id; // ID of the current thread.
+        long before; // First reading of the counter.
+
+        try
+        {
+
+            bean = Class.forName( "java.lang.management.ManagementFactory" ).getMethod( "getThreadMXBean" )
+              .invoke( null );
+            beanType = Class.forName( "com.sun.management.ThreadMXBean" );
+
+            // If the virtual machine supports the counter, then...
+            if (beanType.isInstance( bean ) &&
+              (Boolean) beanType.getMethod( "isThreadAllocatedMemorySupported" ).invoke( bean ))
+            {
+
+                // Turn on the counter (off by default on some virtual machines).
+                if (!(Boolean) beanType.getMethod( "isThreadAllocatedMemoryEnabled" ).invoke( bean ))
+                    beanType.getMethod( "setThreadAllocatedMemoryEnabled", boolean.class ).invoke( bean, true );
+
+                // If counter on, then get the method reading it, bound to the bean.
+                if ((Boolean) beanType.getMethod( "isThreadAllocatedMemoryEnabled" ).invoke( bean ))
+                    allocatedBytes = MethodHandles.publicLookup().findVirtual( beanType,
+                      "getThreadAllocatedBytes", MethodType.methodType( long.class, long.class ) )
+                      .bindTo( bean );
+                else
+                    allocatedBytes = null;
+
+            }
+
+            else
+                allocatedBytes = null;
+
+            // If counter available, then measure the overhead of reading it -- the smallest difference
+            // between two readings in a row.  The reads also warm up the method handle:  the virtual
+            // machine specializes a handle (creating objects) after it has been called a hundred times or
+            // so, which would otherwise show up as an allocation in some early frame.
+            if (allocatedBytes != null)
+            {
+
+                id = Thread.currentThread().getId();
+                overhead = Long.MAX_VALUE;
+
+                for (int i = 0; i < 256; i++)
+                {
+                    before = (long) allocatedBytes.invokeExact( id );
+                    overhead = Math.min( overhead, (long) allocatedBytes.invokeExact( id ) - before );
+                }
+
+            }
+
+        }
+
+        catch (Throwable e)
+        {
+            // Counter not available (classes missing, access denied, unsupported, ...).
+            allocatedBytes = null;
+            overhead = 0;
+        }
+
+        ALLOCATED_BYTES = allocatedBytes;
+        READ_OVERHEAD = Math.max( overhead, 0 );
+
+    }
+
+    private boolean enabled; // Whether the monitor measures frames.
+    private boolean explicitlyEnabled; // Whether the monitor got enabled explicitly (setEnabled or
+      // allocation.monitor), rather than by a budget alone -- required for test mode.
+    private long budget; // Largest number of bytes allowed per frame (-1 for no budget).
+    private boolean failOnBudget; // Whether frames that exceed the budget throw an exception.
+    private int warmupFrames; // Number of frames skipped by the budget check.
+
+    private boolean inFrame; // Whether beginFrame has been called for the current frame.
+    private long threadId; // ID of the thread measured (the thread calling beginFrame).
+    private long lastReading; // Allocated bytes counter at the last mark (or beginFrame).
+    private final long[] frameBytes; // Bytes allocated in each phase during the current frame.
+
+    private final long[] lastBytes; // Bytes allocated in each phase (and total) during the last frame.
+    private final long[][] history; // Bytes allocated in each phase (and total) during recent frames.
+    private final long[] historySums; // Sum of each row of history, for averages.
+    private final int[] bucketCounts; // Number of frames in the window in each histogram bucket.
+    private long frameCount; // Number of frames measured.
+    private long overBudgetCount; // Number of frames that exceeded the budget.
+
+    public AllocationMonitor()
+    {
+
+        // The constructor of the class creates the storage for the results and applies the options from
+        // the java command line (allocation.monitor, allocation.budget, allocation.failOnBudget, and
+        // allocation.warmup).
+
+        frameBytes = new long[TOTAL];
+        lastBytes = new long[TOTAL + 1];
+        history = new long[TOTAL + 1][WINDOW_SIZE];
+        historySums = new long[TOTAL + 1];
+        bucketCounts = new int[BUCKET_LIMITS.length];
+
+        budget = Long.getLong( "allocation.budget", -1 );
+        failOnBudget = Boolean.getBoolean( "allocation.failOnBudget" );
+        warmupFrames = Integer.getInteger( "allocation.warmup", DEFAULT_WARMUP_FRAMES );
+        explicitlyEnabled = isSupported() && Boolean.getBoolean( "allocation.monitor" );
+        enabled = explicitlyEnabled || (isSupported() && budget >= 0);
+
+        reset();
+
+    }
+
+    public void beginFrame()
+    {
+
+        // The function starts measuring a frame.  Gets called at the start of the render method.
+
+        // If monitor inactive, then exit.
+        if (!enabled)
+            return;
+
+        threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < TOTAL; i++)
+            frameBytes[i] = 0;
+
+        inFrame = true;
+        lastReading = readCounter();
+
+    }
+
+    public void endFrame()
+    {
+
+        /*
+        The function finishes measuring a frame, adding the bytes allocated since the last mark to the
+        draw phase.  Stores the results in the window and histogram, then checks the budget.  Gets called
+        at the end of the render method.
+        */
+
+        int slot; // Position in the window for the results of the frame.
+        long total; // Bytes allocated during the frame.
+
+        // If monitor inactive or frame not started, then exit.
+        if (!enabled || !inFrame)
+            return;
+
+        mark( DRAW );
+        inFrame = false;
+
+        // Determine position in the window, replacing the oldest frame once the window fills.
+        slot = (int)(frameCount % WINDOW_SIZE);
+
+        // If window full, then remove oldest frame from the histogram.
+        if (frameCount >= WINDOW_SIZE)
+            bucketCounts[ bucketOf( history[TOTAL][slot] ) ]--;
+
+        // Store bytes allocated in each phase.
+        total = 0;
+
+        for (int i = 0; i < TOTAL; i++)
+        {
+            store( i, slot, frameBytes[i] );
+            total += frameBytes[i];
+        }
+
+        store( TOTAL, slot, total );
+        bucketCounts[ bucketOf( total ) ]++;
+        frameCount++;
+
+        // If frame exceeds the budget (after the warmup), then...
+        if (budget >= 0 && total > budget && frameCount > warmupFrames)
+        {
+
+            overBudgetCount++;
+
+            // If in test mode (and monitor enabled explicitly), then fail.
+            if (failOnBudget && explicitlyEnabled)
+                throw new IllegalStateException( "Frame " + frameCount + " allocated " + total +
+                  " bytes (budget " + budget + "): act " + frameBytes[ACT] + ", update " +
+                  frameBytes[UPDATE] + ", draw " + frameBytes[DRAW] + "." );
+
+        }
+
+    }
+
+    // phase = ACT, UPDATE, DRAW, or TOTAL.
+    public long getAverageBytes(int phase)
+    {
+
+        // The function returns the average bytes allocated per frame (in the passed phase or total) over
+        // the frames in the window.
+
+        int frames = (int)Math.min( frameCount, WINDOW_SIZE ); // Number of frames in the window.
+
+        return frames == 0 ? 0 : historySums[phase] / frames;
+
+    }
+
+    // bucket = Index of bucket in histogram (0 to getBucketCount() - 1).
+    public int getBucketCount(int bucket)
+    {
+        // The function returns the number of frames in the window that fall in the passed histogram bucket.
+        return bucketCounts[bucket];
+    }
+
+    public int getBucketCount()
+    {
+        // The function returns the number of buckets in the histogram.
+        return bucketCounts.length;
+    }
+
+    // bucket = Index of bucket in histogram (0 to getBucketCount() - 1).
+    public long getBucketLimit(int bucket)
+    {
+
+        // The function returns the largest number of bytes per frame counted in the passed histogram
+        // bucket.  Each bucket counts frames above the limit of the bucket before it.
+
+        return BUCKET_LIMITS[bucket];
+
+    }
+
+    public long getBudget()
+    {
+        // The function returns the budget, in bytes per frame (-1 when none).
+        return budget;
+    }
+
+    public long getFrameCount()
+    {
+        // The function returns the number of frames measured.
+        return frameCount;
+    }
+
+    // phase = ACT, UPDATE, DRAW, or TOTAL.
+    public long getLastBytes(int phase)
+    {
+        // The function returns the bytes allocated (in the passed phase or total) during the last frame.
+        return lastBytes[phase];
+    }
+
+    public long getOverBudgetCount()
+    {
+        // The function returns the number of frames that exceeded the budget (after the warmup).
+        return overBudgetCount;
+    }
+
+    // phase = ACT, UPDATE, DRAW, or TOTAL.
+    public long getPeakBytes(int phase)
+    {
+
+        // The function returns the most bytes allocated in a frame (in the passed phase or total) over the
+        // frames in the window.
+
+        int frames = (int)Math.min( frameCount, WINDOW_SIZE ); // Number of frames in the window.
+        long peak = 0; // Most bytes allocated in a frame.
+
+        for (int i = 0; i < frames; i++)
+            peak = Math.max( peak, history[phase][i] );
+
+        return peak;
+
+    }
+
+    public String getReport()
+    {
+
+        /*
+        The function returns a text summary of the results -- the last, average, and peak bytes per frame
+        for each phase, followed by the histogram.  Creates objects, so call it occasionally (such as when
+        leaving a screen), not each frame.
+
+        Example:
+
+        Allocation (bytes per frame) over 600 of 1800 frames:
+          act:  last 0, average 24, peak 4096
+          ...
+          0 bytes:  570 frames
+          up to 1024 bytes:  30 frames
+        */
+
+        StringBuilder report = new StringBuilder(); // Text summary.
+        int frames = (int)Math.min( frameCount, WINDOW_SIZE ); // Number of frames in the window.
+
+        // If monitor inactive, then return note.
+        if (!enabled)
+            return "Allocation monitor inactive.";
+
+        report.append( "Allocation (bytes per frame) over " ).append( frames ).append( " of " )
+          .append( frameCount ).append( " frames:\n" );
+
+        // Add results for each phase.
+        for (int i = 0; i <= TOTAL; i++)
+            report.append( "  " ).append( PHASE_NAMES[i] ).append( ":  last " ).append( lastBytes[i] )
+              .append( ", average " ).append( getAverageBytes(i) ).append( ", peak " )
+              .append( getPeakBytes(i) ).append( '\n' );
+
+        // Add budget results.
+        if (budget >= 0)
+            report.append( "  over budget (" ).append( budget ).append( "):  " ).append( overBudgetCount )
+              .append( " frames\n" );
+
+        // Add histogram, skipping empty buckets.
+        for (int i = 0; i < BUCKET_LIMITS.length; i++)
+        {
+
+            if (bucketCounts[i] == 0)
+                continue;
+
+            if (i == 0)
+                report.append( "  0 bytes:  " );
+            else if (i == BUCKET_LIMITS.length - 1)
+                report.append( "  over " ).append( BUCKET_LIMITS[i - 1] ).append( " bytes:  " );
+            else
+                report.append( "  up to " ).append( BUCKET_LIMITS[i] ).append( " bytes:  " );
+
+            report.append( bucketCounts[i] ).append( " frames\n" );
+
+        }
+
+        return report.toString();
+
+    }
+
+    public boolean isEnabled()
+    {
+        // The function returns whether the monitor measures frames.
+        return enabled;
+    }
+
+    public static boolean isSupported()
+    {
+        // The function returns whether the virtual machine supports the allocated bytes counter.
+        return ALLOCATED_BYTES != null;
+    }
+
+    // phase = Phase to which to add the bytes (ACT, UPDATE, or DRAW).
+    public void mark(int phase)
+    {
+
+        // The function adds the bytes allocated since the last mark (or beginFrame) to the passed phase.
+        // Gets called after the code for the phase in the render method.
+
+        long reading; // Current value of the allocated bytes counter.
+
+        // If monitor inactive or frame not started, then exit.
+        if (!enabled || !inFrame)
+            return;
+
+        reading = readCounter();
+        frameBytes[phase] += Math.max( reading - lastReading - READ_OVERHEAD, 0 );
+        lastReading = reading;
+
+    }
+
+    public void reset()
+    {
+
+        // The function discards all results (such as when starting a new level).
+
+        for (int i = 0; i <= TOTAL; i++)
+        {
+            lastBytes[i] = 0;
+            historySums[i] = 0;
+
+            for (int j = 0; j < WINDOW_SIZE; j++)
+                history[i][j] = 0;
+        }
+
+        for (int i = 0; i < bucketCounts.length; i++)
+            bucketCounts[i] = 0;
+
+        frameCount = 0;
+        overBudgetCount = 0;
+        inFrame = false;
+
+    }
+
+    // budget = Largest number of bytes allowed per frame (-1 for no budget).
+    public void setBudget(long budget)
+    {
+        // The function sets the budget, in bytes per frame.  Pass -1 to remove the budget.
+        this.budget = budget;
+    }
+
+    // enabled = Whether the monitor measures frames.
+    public void setEnabled(boolean enabled)
+    {
+
+        // The function sets whether the monitor measures frames.  Stays inactive when the virtual machine
+        // does not support the allocated bytes counter.
+
+        this.enabled = enabled && isSupported();
+        explicitlyEnabled = this.enabled;
+        inFrame = false;
+
+    }
+
+    // failOnBudget = Whether frames that exceed the budget throw an IllegalStateException.
+    public void setFailOnBudget(boolean failOnBudget)
+    {
+
+        // The function sets whether frames that exceed the budget throw an exception (test mode).  Only
+        // applies while the monitor is enabled explicitly (setEnabled or -Dallocation.monitor=true).
+
+        this.failOnBudget = failOnBudget;
+
+    }
+
+    // warmupFrames = Number of frames skipped by the budget check.
+    public void setWarmupFrames(int warmupFrames)
+    {
+        // The function sets the number of frames (from the start or last reset) skipped by the budget check.
+        this.warmupFrames = warmupFrames;
+    }
+
+    // bytes = Bytes allocated during a frame.
+    private static int bucketOf(long bytes)
+    {
+
+        // The function returns the index of the histogram bucket counting frames with the passed bytes.
+
+        int bucket = 0; // Index of bucket.
+
+        while (bytes > BUCKET_LIMITS[bucket])
+            bucket++;
+
+        return bucket;
+
+    }
+
+    private long readCounter()
+    {
+
+        // The function returns the allocated bytes counter of the thread measured, or the last reading
+        // when the counter cannot get read.
+
+        try
+        {
+            return (long) ALLOCATED_BYTES.invokeExact( threadId );
+        }
+
+        catch (Throwable e)
+        {
+            return lastReading;
+        }
+
+    }
+
+    // phase = ACT, UPDATE, DRAW, or TOTAL.
+    // slot = Position in the window.
+    // bytes = Bytes allocated during the frame.
+    private void store(int phase, int slot, long bytes)
+    {
+
+        // The function stores the bytes allocated during the frame, replacing the oldest frame in the window.
+
+        historySums[phase] += bytes - history[phase][slot];
+        history[phase][slot] = bytes;
+        lastBytes[phase] = bytes;
+
+    }
+
+}
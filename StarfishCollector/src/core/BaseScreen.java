@@ -121,6 +121,9 @@ public abstract class BaseScreen implements Screen, InputProcessor
     public int viewWidth; // Window width.
     public int viewHeight; // Window height.
     
+    public AllocationMonitor allocationMonitor; // Measures bytes allocated during each phase of render
+    // (act, update, draw).  Enable with allocationMonitor.setEnabled(true) or -Dallocation.monitor=true.
+
     private boolean paused; // Whether game paused.
     
     // g = Screen object for current window.
@@ -142,6 +145,7 @@ public abstract class BaseScreen implements Screen, InputProcessor
         this.viewWidth = 800;
         this.viewHeight = 600;
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
         
         // Store Screen object for current window.
         this.game = g;
@@ -195,12 +199,17 @@ public abstract class BaseScreen implements Screen, InputProcessor
         1.  Adjusts Actor positions and other properties in the UI stage.
         2.  If game not paused, adjusts Actor positions and other properties in the non-UI stage and processes player input.
         3.  Draws the graphics.
+        4.  Measures the memory allocated during each of the steps (when the allocation monitor is enabled).
         */
         
+        // Start measuring the memory allocated during the frame.
+        allocationMonitor.beginFrame();
+
         // Call the Actor.act(float) method on each actor in the UI stage.
         // Typically called each frame.  The method also fires enter and exit events.
         // Updates the position of each Actor based on time.
         uiStage.act(dt);
+        allocationMonitor.mark( AllocationMonitor.ACT );
         
         // Only pause gameplay events, not UI events.
         
@@ -214,9 +223,11 @@ public abstract class BaseScreen implements Screen, InputProcessor
             // Typically called each frame.  The method also fires enter and exit events.
             // Updates the position of each Actor based on time.
             mainStage.act(dt);
+            allocationMonitor.mark( AllocationMonitor.ACT );
             
             // Handle game logic -- allow processing based on player actions / input.
             update(dt);
+            allocationMonitor.mark( AllocationMonitor.UPDATE );
         }
         
         // Draw graphics.
@@ -230,6 +241,8 @@ public abstract class BaseScreen implements Screen, InputProcessor
         // Draw the stages -- containing the Actors.
         mainStage.draw();
         uiStage.draw();
+                // Finish measuring the memory allocated during the frame (drawing) and check the budget.
+        allocationMonitor.endFrame();
         
     }
     
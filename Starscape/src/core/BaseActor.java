@@ -50,7 +50,7 @@ public class BaseActor extends Group
     // clone:  Returns a BaseActor with the same properties as the current.
     // copy:  Copies properties from the passed to the current BaseActor.
     // destroy:  Removes the BaseActor from its Stage and parent list (as necessary).
-    // draw:  Sets the tinting color of and draws the Actor.
+    // draw:  Sets the tinting color of and draws the Actor (and its children, when present).
     // getBoundingPolygon:  Sets the position and rotation of the bounding polygon to that of the Actor.
     // getBoundingRectangle:  Sets the properties of the bounding rectangle related to the texture region.
     // getTintColor:  Gets the tint color of the Actor.
@@ -433,7 +433,15 @@ public class BaseActor extends Group
     public void draw(Batch batch, float parentAlpha)
     {
 
-        // The function sets the tinting color of and draws the Actor (when visible).
+        /*
+        The function sets the tinting color of and draws the Actor (when visible), followed by its
+        children (such as the fire attached to a spaceship).
+
+        Drawing a Group applies its transform to the batch and resets it afterwards, and each change to
+        the transform matrix flushes the batch -- an extra draw call for every Actor.  Actors without
+        children (most rocks, lasers, coins) skip the Group version and draw straight into the batch, so
+        sprites sharing a texture go out in one draw call.
+        */
 
         // System.out.println("\nActor:  " + actorName);
 
@@ -454,8 +462,10 @@ public class BaseActor extends Group
             batch.draw( region, getX(), getY(), getOriginX(), getOriginY(),
                     getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation() );
 
-        // Call the constructor of the parent class to redraw the group.
-        super.draw(batch, parentAlpha);
+        // If Actor has children, then call the draw method of the parent class to draw them (applying
+        // the transform of the group).
+        if ( hasChildren() )
+            super.draw(batch, parentAlpha);
 
     }
     
@@ -1,6 +1,5 @@
 package core;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Animation;
@@ -43,6 +42,12 @@ public class GameUtils
 
     Texture:  Contains entire image loaded into GPU.
     TextureRegion:  Contains portion (or all) of image.  Drawing usually occurs using TextureRegion objects.
+
+    Texture lifetime:  The parse functions load their images through TextureCache, taking one reference for
+    each texture used by the returned Animation.  The references last for the lifetime of the level, like
+    the textures the screens load directly with new Texture.  A screen that gets replaced while the game
+    keeps running hands the references back with TextureCache.release( animation ) in its dispose method,
+    once for each Animation it built.
     
     // Methods include:
 
@@ -99,11 +104,9 @@ public class GameUtils
             // Determine current file in loop, based on counter and passed directory, prefix, and suffix.
             fileName = fullFilePrefix + Integer.toString(n) + fullFileSuffix;
             
-            // Load current file image into buffer.
-            tex = new Texture(Gdx.files.internal(fileName));
-            
-            // Set filter type -- controlling how pixel colors are interpolated when image is rotated or stretched.
-            tex.setFilter(TextureFilter.Linear, TextureFilter.Linear);
+            // Load current file image into buffer, with linear filtering (controlling how pixel colors are
+            // interpolated when image is rotated or stretched).  Shares the texture with earlier loads.
+            tex = TextureCache.obtain(fileName, false, TextureFilter.Linear, TextureFilter.Linear);
             
             // Store the texture region object in the current animation frame.
             frames[n] = new TextureRegion( tex );
@@ -153,18 +156,17 @@ public class GameUtils
         int frameHeight; // Height of each sprite in the sheet -- assumes equal size.
         int index; // Used to loop through frames in animation / sprites in sheet.
 
-        // Load image for sprite sheet to buffer.
-        t = new Texture(Gdx.files.internal(fileName), true);
-
-        // Set filter type -- controlling how pixel colors are interpolated when image is rotated or stretched.
-        t.setFilter(TextureFilter.Linear, TextureFilter.Linear);
+        // Load image for sprite sheet to buffer, with mipmaps and linear filtering (controlling how pixel
+        // colors are interpolated when image is rotated or stretched).  Shares the texture with earlier loads.
+        t = TextureCache.obtain(fileName, true, TextureFilter.Linear, TextureFilter.Linear);
 
         // Get and store width and height of each sprite in sheet.
         frameWidth = t.getWidth() / frameCols;
         frameHeight = t.getHeight() / frameRows;
 
         // Divide image into rectangular sections, based on calculated (and equal) width and height of each sprite in sheet.
-        temp = TextureRegion.split(t, frameWidth, frameHeight);
+        // Reuses the sections from earlier calls with the same sheet and size.
+        temp = TextureCache.split(t, frameWidth, frameHeight);
         frames = new TextureRegion[frameCols * frameRows];
 
         // Set initial frame number.
@@ -51,13 +51,18 @@ public class ParticleActor extends Actor { // Extends the Actor class.
     isRunning:  Returns whether the particle effect is still running.
     setPosition:  Sets the position of the particle effect.
     act:  Performs time based positional updates of the actor and particle effect.  Removes the particle effect upon completion when NOT continues.
+          Effects from a ParticlePool return to the pool instead of getting disposed.
     draw:  Draws the particle effect.
     clone:  Returns a ParticleActor with the same properties as the current.
 
     The class extends the basic functionality of a Game class.
     */
     
-    private ParticleEffect pe; // ParticleEffect object.
+    ParticleEffect pe; // ParticleEffect object.  A pooled copy (PooledEffect) when obtained from a ParticlePool.
+
+    // Particle pool data (set by ParticlePool).
+    ParticlePool pool; // Pool from which the Actor came (null when created directly).
+    boolean inPool; // Whether the Actor waits in the pool for reuse.
     
     public ParticleActor()
     {
@@ -72,8 +77,29 @@ public class ParticleActor extends Actor { // Extends the Actor class.
         
         // Create new ParticleEffect object.
         pe = new ParticleEffect();
+
+        // Flag Actor as not from a particle pool.
+        pool = null;
+        inPool = false;
         
     }
+
+    // pe = Particle effect to show (null for a free actor waiting in a particle pool).
+    ParticleActor(ParticleEffect pe)
+    {
+
+        // The constructor of the class calls the constructor for the Actor (parent / super) class and stores
+        // the passed particle effect, rather than creating one to replace right away (clone, ParticlePool).
+
+        super();
+
+        this.pe = pe;
+
+        // Flag Actor as not from a particle pool.
+        pool = null;
+        inPool = false;
+
+    }
         
     // pfxFile = Path to pfx file, containing particle effect attributes.
     // imageDirectory = Path to image to use with particle effect.
@@ -94,8 +120,18 @@ public class ParticleActor extends Actor { // Extends the Actor class.
         
         // The function starts the particle effect.
         
-        // Start the particle effect.
-        pe.start();
+        // If Actor came from a particle pool, then...
+        if (pool != null)
+            // Actor came from a particle pool.
+            // Reset (and start) the particle effect.  The pool already reset the effect, which includes
+            // starting it.  Starting again would stretch the duration of the effect (each start of an
+            // emitter subtracts its duration from the timer), while another reset stays equivalent to one start.
+            pe.reset();
+
+        else
+            // Actor NOT from a particle pool.
+            // Start the particle effect.
+            pe.start();
         
     }
 
@@ -155,12 +191,23 @@ public class ParticleActor extends Actor { // Extends the Actor class.
         if ( pe.isComplete() && !pe.getEmitters().first().isContinuous() )
             {
             // Particle effect complete and emitters NOT continuous.
-                
-            // Dispose of the texture for each sprite for each ParticleEmitter.
-            pe.dispose();
-            
-            // Remove the actor from its parent.
-            this.remove();
+
+            // If Actor came from a particle pool, then...
+            if (pool != null)
+                // Actor came from a particle pool.
+                // Remove the actor from its parent and return it (with its effect) to the pool.
+                pool.free(this);
+
+            else
+                {
+                // Actor NOT from a particle pool.
+
+                // Dispose of the texture for each sprite for each ParticleEmitter.
+                pe.dispose();
+
+                // Remove the actor from its parent.
+                this.remove();
+                }
             }
         
     }
@@ -186,11 +233,8 @@ public class ParticleActor extends Actor { // Extends the Actor class.
         
         ParticleActor newbie; // ParticleActor to which to copy properties.
         
-        // Instantiate new ParticleActor object.
-        newbie = new ParticleActor();
-        
-        // Copy properties of current (class-level) to new ParticleActor object.
-        newbie.pe = new ParticleEffect(this.pe);
+        // Instantiate new ParticleActor object, showing a copy of the particle effect of the current.
+        newbie = new ParticleActor( new ParticleEffect(this.pe) );
         
         // Return the new ParticleActor object.
         return newbie;
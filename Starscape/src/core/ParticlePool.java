@@ -0,0 +1,337 @@
+package core;
+
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class ParticlePool
+{
+
+    /*
+    The class keeps particle effects (and the actors showing them) that finished playing, grouped by the
+    template (base) ParticleActor they came from, so later spawns can reuse them instead of copying the
+    template again.
+
+    Games often spawn copies of a template particle actor many times (sparkles, explosions) with:
+
+    sparkle = baseSparkle.clone();
+
+    Each clone copies every emitter of the effect (new ParticleEffect), and the copy gets disposed once
+    the effect completes.  With a pool:
+
+    sparkle = particlePool.obtain( baseSparkle );
+
+    Each template gets its own LibGDX ParticleEffectPool (one pool per effect type).  Effects obtained
+    from the pool return to it automatically when completing (in ParticleActor.act), instead of getting
+    disposed.  The actors showing the effects get reused as well.
+
+    Pools can get filled ahead of time (prewarm), so that the first spawns during play avoid copying the
+    effect.  The pool counts hits (obtain served by a free effect) and misses (obtain requiring a new copy
+    of the effect) for each template and overall.
+
+    Methods include:
+
+    clear:  Discards all free effects and actors.
+    free:  Returns a particle actor and its effect to the pool (removing the actor from its stage).
+    getFreeCount:  Returns the number of free effects waiting for reuse for the passed template.
+    getHitCount:  Returns the number of obtain calls served by a free effect (overall or for a template).
+    getMissCount:  Returns the number of obtain calls requiring a new copy of an effect (overall or for a template).
+    getPeakFreeCount:  Returns the highest number of free effects held at once for the passed template.
+    obtain:  Returns a particle actor showing a started copy of the effect of the passed template.
+    prewarm:  Fills the pool for the passed template with the passed number of free effects.
+    */
+
+    // Default number of free effects kept for each template.
+    public static final int DEFAULT_MAX_FREE_PER_EFFECT = 64;
+
+    private final ObjectMap<ParticleActor, EffectPool> effectPools; // Pools of free effects, by template.
+    private final Array<ParticleActor> freeActors; // Free actors (without effects) for reuse with any template.
+    private final int maxFreePerEffect; // Maximum number of free effects kept for each template.
+    private long hitCount; // Number of obtain calls served by a free effect (all templates).
+    private long missCount; // Number of obtain calls requiring a new copy of an effect (all templates).
+
+    public ParticlePool()
+    {
+        // The constructor of the class creates a pool with the default maximum number of free effects
+        // kept for each template.
+        this( DEFAULT_MAX_FREE_PER_EFFECT );
+    }
+
+    // maxFreePerEffect = Maximum number of free effects kept for each template.
+    public ParticlePool(int maxFreePerEffect)
+    {
+
+        // The constructor of the class stores the maximum number of free effects kept for each template
+        // and creates the storage for the free effects and actors.
+
+        this.maxFreePerEffect = maxFreePerEffect;
+        effectPools = new ObjectMap<>();
+        freeActors = new Array<>( false, 16 );
+        hitCount = 0;
+        missCount = 0;
+
+    }
+
+    public void clear()
+    {
+
+        // The function discards all free effects and actors (such as when leaving a screen).
+
+        // Loop through pools of free effects, discarding the contents of each.
+        for (EffectPool effects : effectPools.values())
+            effects.clear();
+
+        // Discard free actors.
+        for (int i = 0; i < freeActors.size; i++)
+            freeActors.get(i).pool = null;
+
+        freeActors.clear();
+
+    }
+
+    // actor = Particle actor to return to the pool.
+    public void free(ParticleActor actor)
+    {
+
+        /*
+        The function returns the passed actor and its effect to the pool, removing the actor from its stage.
+        Actors not obtained from the current pool, or already free, get ignored.
+        */
+
+        // If actor not obtained from the current pool or already free, then exit.
+        if (actor.pool != this || actor.inPool)
+            return;
+
+        // Flag actor as free, then remove it from its stage, along with its actions and listeners.
+        actor.inPool = true;
+        actor.remove();
+        actor.clear();
+
+        // Return effect to the pool for its template (ParticleEffectPool).
+        ((PooledEffect)actor.pe).free();
+        actor.pe = null;
+
+        // If room remains, then keep the actor.  Otherwise, discard it.
+        if (freeActors.size < maxFreePerEffect)
+            freeActors.add( actor );
+        else
+            actor.pool = null;
+
+    }
+
+    // template = Template (base) particle actor.
+    private EffectPool getEffectPool(ParticleActor template)
+    {
+
+        // The function returns the pool of free effects for the passed template, creating it when needed.
+
+        EffectPool effects = effectPools.get( template ); // Pool of free effects for the template.
+
+        // If no pool exists for the template, then create one.
+        if (effects == null)
+        {
+            effects = new EffectPool( template.pe, maxFreePerEffect );
+            effectPools.put( template, effects );
+        }
+
+        // Return the pool of free effects for the template.
+        return effects;
+
+    }
+
+    // template = Template (base) particle actor.
+    public int getFreeCount(ParticleActor template)
+    {
+
+        // The function returns the number of free effects waiting for reuse for the passed template.
+
+        EffectPool effects = effectPools.get( template ); // Pool of free effects for the template.
+
+        return effects == null ? 0 : effects.getFree();
+
+    }
+
+    public long getHitCount()
+    {
+        // The function returns the number of obtain calls served by a free effect (all templates).
+        return hitCount;
+    }
+
+    // template = Template (base) particle actor.
+    public long getHitCount(ParticleActor template)
+    {
+
+        // The function returns the number of obtain calls served by a free effect for the passed template.
+
+        EffectPool effects = effectPools.get( template ); // Pool of free effects for the template.
+
+        return effects == null ? 0 : effects.hitCount;
+
+    }
+
+    public long getMissCount()
+    {
+        // The function returns the number of obtain calls requiring a new copy of an effect (all templates).
+        return missCount;
+    }
+
+    // template = Template (base) particle actor.
+    public long getMissCount(ParticleActor template)
+    {
+
+        // The function returns the number of obtain calls requiring a new copy of the effect for the passed
+        // template.
+
+        EffectPool effects = effectPools.get( template ); // Pool of free effects for the template.
+
+        return effects == null ? 0 : effects.missCount;
+
+    }
+
+    // template = Template (base) particle actor.
+    public int getPeakFreeCount(ParticleActor template)
+    {
+
+        // The function returns the highest number of free effects held at once for the passed template.
+
+        EffectPool effects = effectPools.get( template ); // Pool of free effects for the template.
+
+        return effects == null ? 0 : effects.peak;
+
+    }
+
+    // template = Template (base) particle actor to copy.  Must have its effect loaded.
+    public ParticleActor obtain(ParticleActor template)
+    {
+
+        /*
+        The function returns a particle actor showing a started copy of the effect of the passed template --
+        a free effect when one exists, or a new copy otherwise.  The actor still needs positioning and adding
+        to a stage like any clone.
+        */
+
+        EffectPool effects = getEffectPool( template ); // Pool of free effects for the template.
+        PooledEffect effect; // Effect (reset and started) from the pool for the template.
+        ParticleActor actor; // Actor to return.
+
+        // If free effect exists for the template, then count a hit.  Otherwise, count a miss.
+        if (effects.getFree() > 0)
+        {
+            effects.hitCount++;
+            hitCount++;
+        }
+
+        else
+        {
+            effects.missCount++;
+            missCount++;
+        }
+
+        // Get a (reset and started) effect from the pool for the template.
+        effect = effects.obtain();
+
+        // Attach effect to a free actor when one exists.  Otherwise, create an actor showing the effect.
+        if (freeActors.size > 0)
+        {
+            actor = freeActors.pop();
+            actor.pe = effect;
+        }
+
+        else
+            actor = new ParticleActor( effect );
+
+        // Link actor to the pool.
+        actor.pool = this;
+        actor.inPool = false;
+
+        // Return the actor.
+        return actor;
+
+    }
+
+    // template = Template (base) particle actor.  Must have its effect loaded.
+    // count = Number of free effects (and actors) to hold ready for the template.
+    public void prewarm(ParticleActor template, int count)
+    {
+
+        // The function fills the pool for the passed template with the passed number of free effects (up to
+        // the maximum kept), along with enough free actors to show them.  Called while loading a screen, so
+        // that the first spawns during play avoid copying the effect.
+
+        ParticleActor actor; // Free actor to add.
+
+        // Fill pool of free effects for the template.
+        getEffectPool( template ).fill( count );
+
+        // Add free actors up to the passed number.
+        while (freeActors.size < Math.min( count, maxFreePerEffect ))
+        {
+            actor = new ParticleActor( null );
+            actor.pool = this;
+            actor.inPool = true;
+            freeActors.add( actor );
+        }
+
+    }
+
+    private static class EffectPool extends ParticleEffectPool
+    {
+
+        // The class extends the LibGDX ParticleEffectPool (pool of copies of one effect) with hit and
+        // miss counters and a fill method.
+
+        long hitCount; // Number of obtain calls served by a free effect.
+        long missCount; // Number of obtain calls requiring a new copy of the effect.
+
+        // effect = Effect to copy for the pool.
+        // max = Maximum number of free effects kept.
+        EffectPool(ParticleEffect effect, int max)
+        {
+            // The constructor of the class creates an empty pool of copies of the passed effect.
+            super( effect, 4, max );
+        }
+
+        // count = Number of free effects to hold ready.
+        void fill(int count)
+        {
+
+            // The function adds new copies of the effect until the passed number wait in the pool (up to
+            // the maximum kept).
+
+            while (getFree() < Math.min( count, max ))
+                free( newObject() );
+
+        }
+
+    }
+
+}
@@ -3,6 +3,7 @@ package starscape;
 import core.BaseGame;
 import core.BaseScreen;
 import core.ParticleActor;
+import core.ParticlePool;
 import core.PhysicsActor;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Keys;
@@ -61,6 +62,7 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
     private PhysicsActor spaceship; // PhysicsActor that will act as the spaceship.
     private ParticleActor thruster; // ParticleActor that will act as the truster.
     private ParticleActor baseExplosion; // ParticleActor that will act as the (base) explosion.
+    private ParticlePool particlePool; // Pool of explosion effects, reused instead of copying the base explosion.
     
     // g = Screen object for game window (mouse, cheese, floor, win text, and elapsed time text).
     public GameScreen(BaseGame g)
@@ -153,6 +155,10 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
         // 4.  Create new ParticleActor for the explosion.
         baseExplosion = new ParticleActor();
         baseExplosion.load("assets/explosion.pfx", "assets/"); // Load pfx (attributes) file for the explosion particle effect.
+
+        // Create pool for explosions and fill with enough effects for several explosions at once.
+        particlePool = new ParticlePool();
+        particlePool.prewarm(baseExplosion, 8);
     
     }
     
@@ -261,8 +267,8 @@ public class GameScreen extends BaseScreen { // Extends the BaseScreen class.
             
             // The user pressed the SPACE key.
             
-            // Make a copy of the base explosion ParticleActor object.
-            explosion = baseExplosion.clone();
+            // Get a copy of the base explosion ParticleActor object (reused from the particle pool when available).
+            explosion = particlePool.obtain(baseExplosion);
             
             // Randomly place the explosion.
             explosion.setPosition( MathUtils.random(800), MathUtils.random(600) );
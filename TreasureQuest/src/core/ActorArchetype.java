@@ -0,0 +1,187 @@
+package core;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+public class ActorArchetype<T extends BaseActor>
+{
+
+    /*
+    The class holds the data shared by every Actor of one type (flyweight) -- image, bounding polygon
+    vertices, animations, default size, and origin -- so each spawned Actor only stores its own state
+    (position, rotation, scale, tint, velocity, and elapsed animation time).
+
+    Games often configure a template actor once and clone it many times (rocks, coins, balloons) with:
+
+    coin = baseCoin.clone();
+
+    Each clone gets its own texture region and copies the template at the time of cloning.  With an
+    archetype:
+
+    coinType = new ActorArchetype<>( baseCoin );
+    coin = coinType.spawn();
+
+    the archetype takes a snapshot of the configured template, and spawned Actors point at the shared
+    image (or current animation frame), bounding polygon vertices, and animations instead of holding
+    their own.  Cloning the template (or obtaining it from an ActorPool) after creating the archetype
+    produces the same lightweight Actors.
+
+    The shared data must not change after creating the archetype.  Spawned Actors calling setTexture or
+    storeAnimation get their own copy first, leaving the archetype and other Actors alone.
+
+    Methods include:
+
+    getHeight:  Returns the default height of spawned Actors.
+    getOriginX:  Returns the default x-coordinate of the origin of spawned Actors.
+    getOriginY:  Returns the default y-coordinate of the origin of spawned Actors.
+    getSpawnCount:  Returns the number of Actors spawned from the archetype.
+    getTemplate:  Returns the template actor.
+    getWidth:  Returns the default width of spawned Actors.
+    spawn:  Returns a new Actor sharing the data of the archetype.
+    */
+
+    private final T template; // Template (base) actor spawned Actors copy their starting state from.
+    final TextureRegion region; // Shared image (first key frame of the default animation for animated Actors).
+    final float[] vertices; // Shared local vertices of the bounding polygon (null when none).
+    final Animation[] animations; // Shared animations, by handle (null for Actors without animations).
+    final int defaultAnimation; // Handle (AnimationRegistry) of the animation spawned Actors start with.
+    final float width; // Default width of spawned Actors.
+    final float height; // Default height of spawned Actors.
+    final float originX; // Default x-coordinate of the origin of spawned Actors.
+    final float originY; // Default y-coordinate of the origin of spawned Actors.
+    private int spawnCount; // Number of Actors spawned from the archetype.
+
+    // template = Configured template (base) actor.  Its class must override clone (as the core classes do).
+    public ActorArchetype(T template)
+    {
+
+        /*
+        The constructor of the class takes a snapshot of the shared data of the passed template -- image,
+        bounding polygon vertices, animations, size, and origin -- and links the template to the
+        archetype, so later clones of it share the data.
+        */
+
+        AnimatedActor animated; // Template, as an AnimatedActor.
+        float[] templateVertices; // Local vertices of the bounding polygon of the template.
+
+        this.template = template;
+
+        // Store size and origin of template.
+        width = template.getWidth();
+        height = template.getHeight();
+        originX = template.getOriginX();
+        originY = template.getOriginY();
+
+        // Store a copy of the bounding polygon vertices of the template (when set).
+        templateVertices = template.getLocalVertices();
+        vertices = templateVertices == null ? null : templateVertices.clone();
+
+        // If template has animations, then...
+        if (template instanceof AnimatedActor &&
+          ((AnimatedActor)template).getAnimationHandle() != AnimationRegistry.NONE)
+        {
+
+            // Template has animations.  Store a copy of the array and use the first key frame of the
+            // active animation as the image.
+            animated = (AnimatedActor)template;
+            animations = animated.getAnimationStorage().clone();
+            defaultAnimation = animated.getAnimationHandle();
+            region = animations[defaultAnimation].getKeyFrame(0);
+
+        }
+
+        else
+        {
+
+            // Template has no animations.  Store a copy of its image (when set).
+            animations = null;
+            defaultAnimation = AnimationRegistry.NONE;
+            region = template.region.getTexture() == null ? null : new TextureRegion( template.region );
+
+        }
+
+        spawnCount = 0;
+
+        // Link template to the archetype.
+        template.archetype = this;
+
+    }
+
+    public float getHeight()
+    {
+        // The function returns the default height of spawned Actors.
+        return height;
+    }
+
+    public float getOriginX()
+    {
+        // The function returns the default x-coordinate of the origin of spawned Actors.
+        return originX;
+    }
+
+    public float getOriginY()
+    {
+        // The function returns the default y-coordinate of the origin of spawned Actors.
+        return originY;
+    }
+
+    public int getSpawnCount()
+    {
+        // The function returns the number of Actors spawned from the archetype.
+        return spawnCount;
+    }
+
+    public T getTemplate()
+    {
+        // The function returns the template actor.
+        return template;
+    }
+
+    public float getWidth()
+    {
+        // The function returns the default width of spawned Actors.
+        return width;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T spawn()
+    {
+
+        // The function returns a new Actor sharing the data of the archetype, with the remaining
+        // properties (position, visibility, tint, velocity, ...) copied from the template.  The Actor
+        // still needs adding to a stage (and parent list).
+
+        spawnCount++;
+
+        return (T) template.clone();
+
+    }
+
+}
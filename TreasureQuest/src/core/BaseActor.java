@@ -50,14 +50,24 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
           Actor (parent / super) class.  Updates Actor position based on time.
     cloneActor:  Returns a BaseActor with the same properties as the current.
     copy:  Copies properties from the passed to the current BaseActor.
-    destroy:  Removes the BaseActor from its Stage and parent list (as necessary).
-    draw:  Sets the tinting color of and draws the Actor.
-    getBoundingPolygon:  Sets the position and rotation of the bounding polygon to that of the Actor.
+    destroy:  Removes the BaseActor from its Stage, parent list, bag, and collision world (as necessary).
+    draw:  Sets the tinting color of and draws the Actor (and its children, when present), unless culled.
+    getBoundingPolygon:  Sets the position, rotation, scale, and origin of the bounding polygon to those of the Actor (when changed).
     getBoundingRectangle:  Sets the properties of the bounding rectangle related to the texture region.
+    getLocalVertices:  Returns the local (untransformed) vertices of the bounding polygon.
+    getPolygonBounds:  Returns the cached axis-aligned rectangle enclosing the transformed bounding polygon.
+    getPolygonCacheHits:  Returns the number of bounding polygon queries served from the cache.
+    getPolygonCacheMisses:  Returns the number of bounding polygon queries requiring a new transform.
     getTintColor:  Gets the tint color of the Actor.
+    getViewBounds:  Returns the cached axis-aligned rectangle enclosing the drawn (transformed) image.
+    isActSkipped:  Returns whether the act method should skip its updates (culled and not acting while culled).
+    isCulled:  Returns whether the Actor lay outside the camera view when last checked by BaseScreen.
+    invalidatePolygonCache:  Forces the bounding polygon transform to get recalculated on the next query.
     moveToOrigin:  Centers a small within a larger rectangle, using the borders of the current and target BaseActor objects.
     overlaps:  Determines whether the bounding polygon for the passed Actor intersects (significantly)
                with that of the current.  Moves current Actor minimum amount to avoid intersection.
+    resetPolygonCacheCounters:  Resets the bounding polygon cache hit and miss counters.
+    setActWhileCulled:  Sets whether the Actor keeps acting while outside the camera view.
     setActorName:  Sets the Actor name to the passed value.
     setAdditionalDetails:  Performs additional operations for the constructor that would cause
                            overridable method call errors.
@@ -79,25 +89,95 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     private String actorName; // Name of actor.
 
     private ArrayList<? extends BaseActor> parentList; // Stores a reference to an ArrayList to which the Actor has been added.
+    ActorBag<?> bag; // Bag to which the Actor has been added (set by ActorBag).
+    int bagIndex; // Slot of the Actor within its bag (set by ActorBag).
+    boolean bagRemovalPending; // Whether the Actor waits for removal from its bag at the end of a removal phase.
+    CollisionWorld collisionWorld; // Collision world to which the Actor has been added (set by CollisionWorld).
+    int collisionIndex; // Slot of the Actor within its collision world (set by CollisionWorld).
     TextureRegion region; // Stores image (similar to a buffer from Direct-X).  Includes more
     // functionality than a Texture.  Supports storage of multiple images or animation frames.
     // Stores coordinates (u, v), that determine which rectangular subarea of the Texture to use.
+    boolean regionShared; // Whether the texture region belongs to an archetype or animation (and must not change).
+    ActorArchetype<?> archetype; // Archetype holding the data shared with other Actors of the type (or null).
     private Polygon boundingPolygon; // Encapsulates a 2D polygon defined by its vertices.
     // A polygon can be translated and rotated.
-    @SuppressWarnings("FieldMayBeFinal")
     private Rectangle boundingRectangle; // Encapsulates a 2D rectangle defined by its corner point in the
     // bottom left and its extents in x (width) and y (height).  The object will contain the X and Y
-    // coordinates and height and width of the texture region.
+    // coordinates and height and width of the texture region.  Created when first needed.
     private Color tintColor; // Color to tint the Actor.
-    private final ColorWorks colorEngine; // Contains color related functionality.
+
+    // Bounding polygon transform cache...
+    // The transformed vertices and enclosing rectangle of the bounding polygon only get recalculated when
+    // the position, rotation, scale, or origin of the Actor changes since the last query.
+    private boolean polygonCached; // Whether the cached transform of the bounding polygon is valid.
+    private float cachedX; // X-coordinate of the Actor when last transforming the bounding polygon.
+    private float cachedY; // Y-coordinate of the Actor when last transforming the bounding polygon.
+    private float cachedRotation; // Rotation of the Actor when last transforming the bounding polygon.
+    private float cachedScaleX; // Horizontal scale of the Actor when last transforming the bounding polygon.
+    private float cachedScaleY; // Vertical scale of the Actor when last transforming the bounding polygon.
+    private float cachedOriginX; // X-coordinate of the origin when last transforming the bounding polygon.
+    private float cachedOriginY; // Y-coordinate of the origin when last transforming the bounding polygon.
+    private final Rectangle polygonBounds; // Cached rectangle enclosing the transformed bounding polygon.
+    private static long polygonCacheHits; // Number of bounding polygon queries served from the cache (all Actors).
+    private static long polygonCacheMisses; // Number of bounding polygon queries requiring a new transform (all Actors).
+    private ColorWorks colorEngine; // Contains color related functionality (created when first needed).
+
+    // View culling...
+    // BaseScreen compares the rectangle enclosing the drawn image against the camera view each frame and
+    // flags Actors outside it as culled, which skips their drawing (and, when requested, their acting).
+    // The rectangle only gets recalculated when the position, size, rotation, scale, or origin changes.
+    boolean culled; // Whether the Actor lay outside the camera view when last checked (set by BaseScreen).
+    private boolean actWhileCulled; // Whether the Actor keeps acting while outside the camera view.
+    private boolean viewCached; // Whether the cached rectangle enclosing the drawn image is valid.
+    private float viewX; // X-coordinate of the Actor when last calculating the view rectangle.
+    private float viewY; // Y-coordinate of the Actor when last calculating the view rectangle.
+    private float viewWidth; // Width of the Actor when last calculating the view rectangle.
+    private float viewHeight; // Height of the Actor when last calculating the view rectangle.
+    private float viewRotation; // Rotation of the Actor when last calculating the view rectangle.
+    private float viewScaleX; // Horizontal scale of the Actor when last calculating the view rectangle.
+    private float viewScaleY; // Vertical scale of the Actor when last calculating the view rectangle.
+    private float viewOriginX; // X-coordinate of the origin when last calculating the view rectangle.
+    private float viewOriginY; // Y-coordinate of the origin when last calculating the view rectangle.
+    private Rectangle viewBounds; // Cached rectangle enclosing the drawn image (created when first needed).
+
+    // Unit ellipse (cosine and sine values) used to build ellipse bounding polygons -- calculated once.
+    private static final int ELLIPSE_VERTICES = 12; // Number of vertices in ellipse bounding polygons.
+    private static final float[] ellipseCos = new float[ELLIPSE_VERTICES]; // Cosine of each vertex angle.
+    private static final float[] ellipseSin = new float[ELLIPSE_VERTICES]; // Sine of each vertex angle.
+
+    static
+    {
+
+        // Generate n equally spaced values for t in the interval [0, 6.28], and store their cosine and
+        // sine for use by setEllipseBoundary.
+
+        float t; // Values ranging from 0 to 6.28 (pi x 2), used to generate vertices in ellipse.
+
+        for (int i = 0; i < ELLIPSE_VERTICES; i++)
+        {
+            t = 6.28f * i / ELLIPSE_VERTICES;
+            ellipseCos[i] = MathUtils.cos(t);
+            ellipseSin[i] = MathUtils.sin(t);
+        }
+
+    }
 
     public BaseActor()
+    {
+
+        // The constructor of the class creates an Actor with its own texture region.
+        this( null );
+
+    }
+
+    // archetype = Archetype holding the data shared with other Actors of the type (or null).
+    BaseActor(ActorArchetype<?> archetype)
     {
 
         /*
         The constructor of the class calls the constructor of the parent (Actor),
-        creates texture region and polygon objects, initializes the color engine,
-        and sets the tint color to the default.
+        creates texture region and polygon objects, and sets the tint color to the default.
+        Actors created for an archetype share its image, rather than creating a texture region.
 
         Java notes:
 
@@ -108,14 +188,37 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         */
 
         super(); // Call the constructor for the Actor (parent / super) class.
-        region = new TextureRegion(); // Create a TextureRegion object.
+        this.archetype = archetype;
+
+        // If archetype holds an image, then share it.  Otherwise, create a TextureRegion object.
+        if (archetype != null && archetype.region != null)
+        {
+            region = archetype.region;
+            regionShared = true;
+        }
+        else
+        {
+            region = new TextureRegion();
+            regionShared = false;
+        }
+
         boundingPolygon = null; // Initialize an empty bounding polygon.
-        boundingRectangle = new Rectangle(); // Create a 2D rectangle to reflect position and borders of image.
+        boundingRectangle = null; // Create the 2D rectangle reflecting position and borders of image when first needed.
+        polygonBounds = new Rectangle(); // Create a 2D rectangle to cache the borders of the transformed polygon.
+        polygonCached = false; // Flag bounding polygon transform as not cached.
         //noinspection MoveFieldAssignmentToInitializer
         parentList = null; // Initialize an empty list of references to ArrayList containing Actor.
-
-        // Initialize color engine object.
-        colorEngine = new ColorWorks();
+        bag = null; // Initialize as not belonging to a bag.
+        bagIndex = -1;
+        bagRemovalPending = false;
+        collisionWorld = null; // Initialize as not belonging to a collision world.
+        collisionIndex = -1;
+        culled = false; // Initialize as inside the camera view, acting whether or not culled.
+        actWhileCulled = true;
+        viewCached = false;
+
+        // Create color engine object when first needed.
+        colorEngine = null;
 
         // Set additional defaults.
         setAdditionalDefaults();
@@ -142,7 +245,7 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     public void destroy()
     {
 
-        // The function removes the BaseActor from its Stage and parent list (as necessary).
+        // The function removes the BaseActor from its Stage, parent list, bag, and collision world (as necessary).
 
         // Remove Actor from Stage.
         remove();
@@ -153,6 +256,18 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             // Remove current BaseActor from parent list.
             parentList.remove(this);
 
+        // If bag exists, then...
+        if (bag != null)
+            // Bag exists.
+            // Remove current BaseActor from bag (deferred during a removal phase).
+            bag.remove(this);
+
+        // If collision world exists, then...
+        if (collisionWorld != null)
+            // Collision world exists.
+            // Remove current BaseActor from collision world.
+            collisionWorld.unregister(this);
+
     }
 
     public void setOriginCenter()
@@ -208,6 +323,14 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         h = t.getHeight(); // Get the height of the passed texture.
         setWidth( w ); // Set the width of the texture region to that of the passed texture.
         setHeight( h ); // Set the height of the texture region to that of the passed texture.
+
+        // If texture region shared (archetype or animation frame), then create one for the Actor.
+        if (regionShared)
+        {
+            region = new TextureRegion();
+            regionShared = false;
+        }
+
         region.setRegion( t ); // Set the texture region and coordinates to the size of the specified texture.
 
         // Set default color the Actor will be tinted when drawn.
@@ -241,6 +364,9 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // Set the position of the top left corner of the polygon to that of the texture region.
         boundingPolygon.setOrigin( getOriginX(), getOriginY() );
 
+        // Flag bounding polygon transform as not cached.
+        polygonCached = false;
+
     }
 
     public void setEllipseBoundary()
@@ -257,12 +383,11 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // shape.  As the method uses larger values for n, the generated shape gets smoother.
 
         float h; // Height of the Actor.
-        float t; // Values ranging from 0 to 6.28 (pi x 2), used to generate vertices in ellipse.
         float[] vertices; // Array of vertices related to the bounding polygon.
         float w; // Width of the Actor.
         final int n; // Number of vertices.
 
-        n = 12; // Set number of vertices.
+        n = ELLIPSE_VERTICES; // Set number of vertices.
         w = getWidth(); // Store width of the Actor.
         h = getHeight(); // Store height of the Actor.
         vertices = new float[n * 2]; // Initialize the array of vertices.
@@ -275,15 +400,13 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             // where t ranges from 0 to pi x 2 (about 6.28).
             // x = w/2 * cos(t) + w/2
             // y = h/2 * sin(t) + h/2
-
-            // Store next driver value for ellipse.
-            t = 6.28f * i / n;
+            // The cosine and sine for each value of t get calculated once, for all Actors.
 
             // Generate X-coordinate for current vertex in ellipse.
-            vertices[i * 2] = w / 2 * MathUtils.cos(t) + w / 2;
+            vertices[i * 2] = w / 2 * ellipseCos[i] + w / 2;
 
             // Generate Y-coordinate for current vertex in ellipse.
-            vertices[i * 2 + 1] = h / 2 * MathUtils.sin(t) + h / 2;
+            vertices[i * 2 + 1] = h / 2 * ellipseSin[i] + h / 2;
 
         }
 
@@ -293,26 +416,224 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // Set the position of the top left corner of the polygon to that of the texture region.
         boundingPolygon.setOrigin( getOriginX(), getOriginY() );
 
+        // Flag bounding polygon transform as not cached.
+        polygonCached = false;
+
     }
 
     public Polygon getBoundingPolygon()
     {
 
-        // The function sets the position and rotation of the bounding polygon to that of the Actor.
+        // The function sets the position, rotation, scale, and origin of the bounding polygon to those of the
+        // Actor -- only when at least one changed since the last query.  Otherwise, the transformed vertices
+        // and enclosing rectangle from the last query get reused.
         // The function returns the bounding polygon.
 
-        // Set the position (x and y coordinates of the bottom left corner) of the bounding polygon to
-        // that of the Actor.
-        boundingPolygon.setPosition( getX(), getY() );
+        // If transform of bounding polygon cached and Actor unchanged since last query, then...
+        if ( polygonCached &&
+             cachedX == getX() && cachedY == getY() && cachedRotation == getRotation() &&
+             cachedScaleX == getScaleX() && cachedScaleY == getScaleY() &&
+             cachedOriginX == getOriginX() && cachedOriginY == getOriginY() )
 
-        // Set rotation of the bounding polygon to that of the Actor.
-        boundingPolygon.setRotation( getRotation() );
+        {
+            // Transform of bounding polygon cached and Actor unchanged since last query.
+            // Count cache hit.
+            polygonCacheHits++;
+        }
+
+        else
+
+        {
+
+            // Transform of bounding polygon NOT cached or Actor changed since last query.
+            // Count cache miss.
+            polygonCacheMisses++;
+
+            // Store transform properties of the Actor.
+            cachedX = getX();
+            cachedY = getY();
+            cachedRotation = getRotation();
+            cachedScaleX = getScaleX();
+            cachedScaleY = getScaleY();
+            cachedOriginX = getOriginX();
+            cachedOriginY = getOriginY();
+
+            // Set the position (x and y coordinates of the bottom left corner) of the bounding polygon to
+            // that of the Actor.
+            boundingPolygon.setPosition( cachedX, cachedY );
+
+            // Set rotation, scale, and origin of the bounding polygon to those of the Actor.
+            boundingPolygon.setRotation( cachedRotation );
+            boundingPolygon.setScale( cachedScaleX, cachedScaleY );
+            boundingPolygon.setOrigin( cachedOriginX, cachedOriginY );
+
+            // Calculate and store the rectangle enclosing the transformed bounding polygon.
+            // The polygon keeps its transformed vertices until the next change.
+            polygonBounds.set( boundingPolygon.getBoundingRectangle() );
+
+            // Flag bounding polygon transform as cached.
+            polygonCached = true;
+
+        }
 
         // Return the bounding polygon.
         return boundingPolygon;
 
     }
 
+    public Rectangle getPolygonBounds()
+    {
+
+        // The function returns the rectangle enclosing the transformed bounding polygon.
+        // Updates the cached transform first, when the Actor changed since the last query.
+
+        // Update the cached transform of the bounding polygon, as necessary.
+        getBoundingPolygon();
+
+        // Return the cached rectangle enclosing the transformed bounding polygon.
+        return polygonBounds;
+
+    }
+
+    public void invalidatePolygonCache()
+    {
+        // The function forces the transform of the bounding polygon to get recalculated on the next query.
+        // Only needed when modifying the vertices of the bounding polygon directly.
+        polygonCached = false;
+    }
+
+    public static long getPolygonCacheHits()
+    {
+        // The function returns the number of bounding polygon queries served from the cache (all Actors).
+        return polygonCacheHits;
+    }
+
+    public static long getPolygonCacheMisses()
+    {
+        // The function returns the number of bounding polygon queries requiring a new transform (all Actors).
+        return polygonCacheMisses;
+    }
+
+    public static void resetPolygonCacheCounters()
+    {
+        // The function resets the bounding polygon cache hit and miss counters.
+        polygonCacheHits = 0;
+        polygonCacheMisses = 0;
+    }
+
+    public Rectangle getViewBounds()
+    {
+
+        /*
+        The function returns the axis-aligned rectangle enclosing the image of the Actor as drawn --
+        taking into account its position, size, rotation, scale, and origin.  The rectangle only gets
+        recalculated when at least one of those changed since the last query.  Used by BaseScreen to
+        check whether the Actor lies within the camera view.
+        */
+
+        float cos; // Cosine of the rotation angle.
+        float sin; // Sine of the rotation angle.
+        float x1, y1, x2, y2; // Corners of the scaled image, relative to the origin.
+        float ax, ay, bx, by; // Rotated offsets of the image edges.
+        float minX, minY, maxX, maxY; // Borders of the rectangle enclosing the drawn image.
+
+        // If rectangle cached and Actor unchanged since last query, then return cached rectangle.
+        if ( viewCached &&
+             viewX == getX() && viewY == getY() && viewWidth == getWidth() && viewHeight == getHeight() &&
+             viewRotation == getRotation() && viewScaleX == getScaleX() && viewScaleY == getScaleY() &&
+             viewOriginX == getOriginX() && viewOriginY == getOriginY() )
+            return viewBounds;
+
+        // Store transform properties of the Actor.
+        viewX = getX();
+        viewY = getY();
+        viewWidth = getWidth();
+        viewHeight = getHeight();
+        viewRotation = getRotation();
+        viewScaleX = getScaleX();
+        viewScaleY = getScaleY();
+        viewOriginX = getOriginX();
+        viewOriginY = getOriginY();
+
+        // Calculate corners of the scaled image, relative to the origin.
+        x1 = -viewOriginX * viewScaleX;
+        y1 = -viewOriginY * viewScaleY;
+        x2 = (viewWidth - viewOriginX) * viewScaleX;
+        y2 = (viewHeight - viewOriginY) * viewScaleY;
+
+        // If Actor rotated, then...
+        if (viewRotation != 0)
+        {
+
+            // Actor rotated.  Rotate the corners around the origin and enclose the results.
+            cos = MathUtils.cosDeg( viewRotation );
+            sin = MathUtils.sinDeg( viewRotation );
+
+            ax = cos * x1;
+            ay = sin * x1;
+            bx = cos * x2;
+            by = sin * x2;
+
+            minX = Math.min( ax, bx ) - Math.max( sin * y1, sin * y2 );
+            maxX = Math.max( ax, bx ) - Math.min( sin * y1, sin * y2 );
+            minY = Math.min( ay, by ) + Math.min( cos * y1, cos * y2 );
+            maxY = Math.max( ay, by ) + Math.max( cos * y1, cos * y2 );
+
+        }
+
+        else
+        {
+            // Actor NOT rotated.  Use the corners as they are.
+            minX = Math.min( x1, x2 );
+            maxX = Math.max( x1, x2 );
+            minY = Math.min( y1, y2 );
+            maxY = Math.max( y1, y2 );
+        }
+
+        // Create the rectangle when first needed.
+        if (viewBounds == null)
+            viewBounds = new Rectangle();
+
+        // Store the rectangle, moving it from the origin to the position of the Actor.
+        viewBounds.set( viewX + viewOriginX + minX, viewY + viewOriginY + minY, maxX - minX, maxY - minY );
+
+        // Flag rectangle as cached.
+        viewCached = true;
+
+        // Return the rectangle enclosing the drawn image.
+        return viewBounds;
+
+    }
+
+    public boolean isCulled()
+    {
+        // The function returns whether the Actor lay outside the camera view when last checked by
+        // BaseScreen (false when view culling is off).
+        return culled;
+    }
+
+    public boolean isActSkipped()
+    {
+        // The function returns whether the act method should skip its updates -- when the Actor lies
+        // outside the camera view and does not act while culled.  Subclasses overriding act check it first.
+        return culled && !actWhileCulled;
+    }
+
+    // b = Whether the Actor keeps acting while outside the camera view.
+    public void setActWhileCulled(boolean b)
+    {
+
+        /*
+        The function sets whether the Actor keeps acting (running actions, animating, moving) while
+        outside the camera view.  Defaults to true.  Actors with nothing to do off-screen (such as coins
+        waiting for pickup) can turn it off to save the work.  Actors that stop acting also stop moving,
+        so they only resume once something else (such as the camera) brings them back into view.
+        */
+
+        actWhileCulled = b;
+
+    }
+
     public Rectangle getBoundingRectangle()
     {
 
@@ -321,6 +642,9 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
 
         // Set the properties of the bounding rectangle related to the texture region.
         // Use the properties of the texture region.
+        if (boundingRectangle == null)
+            boundingRectangle = new Rectangle();
+
         boundingRectangle.set( getX(), getY(), getWidth(), getHeight() );
 
         // Return the bounding rectangle.
@@ -354,8 +678,8 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         poly1 = this.getBoundingPolygon();
         poly2 = other.getBoundingPolygon();
 
-        // If polygons are intersecting, then...
-        if (poly1.getBoundingRectangle().overlaps(poly2.getBoundingRectangle()))
+        // If rectangles enclosing the polygons (cached during the calls above) are intersecting, then...
+        if (this.polygonBounds.overlaps(other.polygonBounds))
 
         {
             /*
@@ -417,7 +741,12 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     {
 
         // The function calls the act method of the Actor, which performs
-        // a time based positional update.
+        // a time based positional update.  Skipped while outside the camera view, when the Actor does
+        // not act while culled.
+
+        // If Actor outside the camera view and does not act while culled, then exit.
+        if ( isActSkipped() )
+            return;
 
         // Calls the act method of the Actor (parent / super) class.
         // Updates the actor based on time.
@@ -434,7 +763,21 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     public void draw(Batch batch, float parentAlpha)
     {
 
-        // The function sets the tinting color of and draws the Actor (when visible).
+        /*
+        The function sets the tinting color of and draws the Actor (when visible), followed by its
+        children (such as the fire attached to a spaceship).
+
+        Drawing a Group applies its transform to the batch and resets it afterwards, and each change to
+        the transform matrix flushes the batch -- an extra draw call for every Actor.  Actors without
+        children (most rocks, lasers, coins) skip the Group version and draw straight into the batch, so
+        sprites sharing a texture go out in one draw call.
+
+        Actors flagged as culled by BaseScreen (outside the camera view) get skipped entirely.
+        */
+
+        // If Actor outside the camera view, then exit.
+        if (culled)
+            return;
 
         // System.out.println("\nActor:  " + actorName);
 
@@ -455,8 +798,10 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
             batch.draw( region, getX(), getY(), getOriginX(), getOriginY(),
                     getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation() );
 
-        // Call the constructor of the parent class to redraw the group.
-        super.draw(batch, parentAlpha);
+        // If Actor has children, then call the draw method of the parent class to draw them (applying
+        // the transform of the group).
+        if ( hasChildren() )
+            super.draw(batch, parentAlpha);
 
     }
 
@@ -503,6 +848,11 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
     public void setRandomTintColor()
     {
         // The function sets a random tint Color for the Actor.
+
+        // If color engine not created yet, then create it.
+        if (colorEngine == null)
+            colorEngine = new ColorWorks();
+
         this.tintColor = colorEngine.getRandomColor();
     }
 
@@ -515,41 +865,88 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
         // The function copies properties from the passed to the current BaseActor.
         // Properties include:  image texture (buffer), bounding polygon, position, origin, width,
         // height, tint color, and visibility status.
+        // When the passed Actor belongs to an archetype, the current Actor shares the image and bounding
+        // polygon vertices of the archetype and takes its size and origin from the archetype.  Otherwise,
+        // the current Actor gets its own copy of the bounding polygon vertices.
+
+        ActorArchetype<?> type = original.archetype; // Archetype of the passed Actor (or null).
+        float[] vertices; // Local vertices of the bounding polygon to use.
 
-        // If image texture (buffer) exists in passed Actor, then...
-        if (original.region.getTexture() != null )
+        // Link current Actor to the archetype of the passed Actor (or none).
+        this.archetype = type;
 
+        // If archetype holds an image, then...
+        if (type != null && type.region != null)
+        {
+            // Archetype holds an image.
+            // Share the image of the archetype.
+            this.region = type.region;
+            this.regionShared = true;
+        }
+
+        // Otherwise, if image texture (buffer) exists in passed Actor, then...
+        else if (original.region.getTexture() != null )
+        {
             // Image texture (buffer) exists in passed Actor.
 
             // Copy image texture (buffer) from passed to current Actor.
             this.region = new TextureRegion( original.region );
+            this.regionShared = false;
+        }
+
+        // Get local vertices of the bounding polygon from the archetype (shared) or passed Actor (copied).
+        vertices = (type != null) ? type.vertices : original.getLocalVertices();
+
+        if (type == null && vertices != null)
+            vertices = vertices.clone();
 
         // If bounding polygon exists in passed Actor, then...
-        if (original.boundingPolygon != null)
+        if (vertices != null)
         {
             // Bounding polygon exists in passed Actor.
 
-            // Create bounding polygon in current with vertices in bounding polygon of passed Actor.
-            this.boundingPolygon = new Polygon( original.boundingPolygon.getVertices() );
+            // Create bounding polygon in current with vertices in bounding polygon of passed Actor
+            // (shared with the archetype, when one exists).
+            this.boundingPolygon = new Polygon( vertices );
 
-            // Set origin of bounding polygon to that of passed Actor.
-            this.boundingPolygon.setOrigin( original.getOriginX(), original.getOriginY() );
+            // Flag bounding polygon transform as not cached.
+            this.polygonCached = false;
         }
 
         // Set position of current to that of passed Actor (based on bottom left corner).
         this.setPosition( original.getX(), original.getY() );
 
-        // Copy properties indicating top left corner of passed to current Actor.
-        this.setOriginX( original.getOriginX() );
-        this.setOriginY( original.getOriginY() );
+        // If archetype exists, then...
+        if (type != null)
+        {
+            // Archetype exists.
+            // Copy origin, width, and height from archetype to current Actor.
+            this.setOrigin( type.originX, type.originY );
+            this.setSize( type.width, type.height );
+        }
+
+        else
+        {
+            // No archetype.
+            // Copy properties indicating top left corner of passed to current Actor.
+            this.setOriginX( original.getOriginX() );
+            this.setOriginY( original.getOriginY() );
+
+            // Copy width and height from passed to current Actor.
+            this.setWidth( original.getWidth() );
+            this.setHeight( original.getHeight() );
+        }
 
-        // Copy width and height from passed to current Actor.
-        this.setWidth( original.getWidth() );
-        this.setHeight( original.getHeight() );
+        // Set origin of bounding polygon to that of current Actor.
+        if (vertices != null)
+            this.boundingPolygon.setOrigin( this.getOriginX(), this.getOriginY() );
 
         // Copy visibility flag from passed to current Actor.
         this.setVisible( original.isVisible() );
 
+        // Copy whether to act while outside the camera view from passed to current Actor.
+        this.actWhileCulled = original.actWhileCulled;
+
         // Copy tinting color from passed to current Actor.
         //this.tintColor = new Color();
         //this.tintColor.r = original.getColor().r;
@@ -560,6 +957,16 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
 
     }
 
+    float[] getLocalVertices()
+    {
+
+        // The function returns the local (untransformed) vertices of the bounding polygon, or null when
+        // no bounding polygon exists.  Used when copying the Actor and building archetypes.
+
+        return boundingPolygon == null ? null : boundingPolygon.getVertices();
+
+    }
+
     @SuppressWarnings({"MethodDoesntCallSuperMethod", "CloneDoesntCallSuperClone", "CloneDeclaresCloneNotSupported"})
     @Override
     public BaseActor clone()
@@ -569,8 +976,8 @@ public class BaseActor extends Group // Extends the Group class from LibGDX.
 
         BaseActor newbie; // BaseActor to which to copy properties.
 
-        // Instantiate new BaseActor object.
-        newbie = new BaseActor();
+        // Instantiate new BaseActor object (sharing the image of the archetype, when one exists).
+        newbie = new BaseActor( archetype );
 
         // Copy properties of current (class-level) to new BaseActor object.
         newbie.copy( this );
@@ -3,14 +3,20 @@ package core;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.controllers.*;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.SnapshotArray;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import java.awt.Point;
 
@@ -136,8 +142,13 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     Custom methods include:
 
     centerLabelUI:  Centers the label in the specified stage.
+    getCulledCount:  Returns the number of main stage Actors skipped (outside the camera view) during the last frame.
+    getDrawCalls:  Returns the number of draw calls made drawing the stages during the last frame.
+    getVisibleCount:  Returns the number of main stage Actors drawn (inside the camera view) during the last frame.
+    isViewCulling:  Returns whether main stage Actors outside the camera view get skipped.
     isPaused:  Returns the pause state of the game (true or false).
     setPaused:  Sets the pause state of the game to the passed value.
+    setViewCulling:  Sets whether main stage Actors outside the camera view get skipped.
     togglePaused:  Reverses the pause state of the game (true to false, false to true).
     update:  The abstract method (defined in the subclasses) occurs during the update phase (render method)
              and contains code related to game logic.
@@ -158,6 +169,9 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
     public Stage uiStage; // Stores a 2D scene graph containing UI actors.  Includes win text / labels.
 
+    public CollisionWorld collisionWorld; // Actors in the main stage taking part in collision checks, by layer.
+    // Replaces hand-written loops over lists of actors with one call per pair of layers (collectPairs).
+
     // A Table consists of Cell objects, laid out in rows and columns, each Cell containing an Actor.
     Table uiTable; // Table containing main menu elements.
 
@@ -166,6 +180,15 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     private int viewWidthMain; // Window width for the main stage.
     private int viewWidthUI; // Window width for the ui stage.
 
+    public AllocationMonitor allocationMonitor; // Measures bytes allocated during each phase of render
+    // (act, update, draw).  Enable with allocationMonitor.setEnabled(true) or -Dallocation.monitor=true.
+
+    private int drawCalls; // Number of draw calls (batch flushes) made drawing the stages during the last frame.
+
+    private boolean viewCulling; // Whether to skip main stage Actors outside the camera view (default true).
+    private int visibleCount; // Number of main stage Actors drawn (inside the camera view) during the last frame.
+    private int culledCount; // Number of main stage Actors skipped (outside the camera view) during the last frame.
+
     private boolean paused; // Whether game paused.
 
     // g = Screen object for current window.
@@ -189,6 +212,8 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Set defaults.
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
+        this.viewCulling = true;
 
         // Set window size values, based on parameters.
         this.viewWidthMain = windowWidth;
@@ -204,6 +229,9 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         mainStage = new Stage( new FitViewport(windowWidth, WindowHeight) );
         uiStage   = new Stage( new FitViewport(windowWidth, WindowHeight) );
 
+        // Create collision world for the actors in the main stage.
+        collisionWorld = new CollisionWorld();
+
         // An InputMultiplexer object is itself an InputProcessor that contains a list of other InputProcessors.
 
         // Set up input multiplexer to receive all input data and pass the information along to
@@ -240,6 +268,8 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Set defaults.
         this.paused = false;
+        this.allocationMonitor = new AllocationMonitor();
+        this.viewCulling = true;
 
         // Set window size values, based on parameters.
         this.viewWidthMain = mainWidth;
@@ -255,6 +285,9 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         mainStage = new Stage( new FitViewport(mainWidth, mainHeight) );
         uiStage   = new Stage( new FitViewport(uiWidth, uiHeight) );
 
+        // Create collision world for the actors in the main stage.
+        collisionWorld = new CollisionWorld();
+
         // An InputMultiplexer object is itself an InputProcessor that contains a list of other InputProcessors.
 
         // Set up input multiplexer to receive all input data and pass the information along to
@@ -291,13 +324,19 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         1.  Adjusts Actor positions and other properties in the UI stage.
         2.  If game not paused, adjusts Actor positions and other properties in the main stage and processes player input.
-        3.  Draws the graphics.
+        3.  Flags the main stage Actors outside the camera view, so drawing skips them (view culling).
+        4.  Draws the graphics.
+        5.  Measures the memory allocated during each of the steps (when the allocation monitor is enabled).
         */
 
+        // Start measuring the memory allocated during the frame.
+        allocationMonitor.beginFrame();
+
         // Call the Actor.act(float) method on each actor in the UI stage.
         // Typically called each frame.  The method also fires enter and exit events.
         // Updates the position of each Actor based on time.
         uiStage.act(dt);
+        allocationMonitor.mark( AllocationMonitor.ACT );
 
         // Only pause gameplay events, not UI events.
 
@@ -311,9 +350,11 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
             // Typically called each frame.  The method also fires enter and exit events.
             // Updates the position of each Actor based on time.
             mainStage.act(dt);
+            allocationMonitor.mark( AllocationMonitor.ACT );
 
             // Handle game logic -- allow processing based on player actions / input.
             update(dt);
+            allocationMonitor.mark( AllocationMonitor.UPDATE );
         }
 
         // Draw graphics.
@@ -329,14 +370,156 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         // Reposition rendering location of the main stage.
         Gdx.gl.glViewport(0, viewHeightUI - viewHeightMain, viewWidthMain, viewHeightMain );
 
+        // Flag the main stage Actors outside the camera view -- after update positioned the camera.
+        if (viewCulling)
+            cullActors();
+
         // Draw the main stage.
         mainStage.draw();
+        drawCalls = getRenderCalls( mainStage );
 
         // Reposition rendering location of the UI stage.
         Gdx.gl.glViewport(0,0, viewWidthUI, viewHeightUI);
 
         // Draw the UI stage.
         uiStage.draw();
+        drawCalls += getRenderCalls( uiStage );
+
+        // Finish measuring the memory allocated during the frame (drawing) and check the budget.
+        allocationMonitor.endFrame();
+
+    }
+
+    private void cullActors()
+    {
+
+        /*
+        The function compares the rectangle enclosing the drawn image of each BaseActor in the main stage
+        against the view of the main stage camera, flagging those outside as culled.  Culled Actors skip
+        their draw method (and, when set not to act while culled, their act method the next frame).
+
+        Only the Actors added directly to the main stage get checked.  Actors with children (such as a
+        ship with attached fire) always get drawn, since their children may extend beyond their image.
+        Other Actors (not BaseActor) always get drawn and count as visible.
+        */
+
+        Camera camera = mainStage.getCamera(); // Camera used to draw the main stage.
+        SnapshotArray<Actor> actors = mainStage.getRoot().getChildren(); // Actors in the main stage.
+        Actor actor; // Current Actor (in loop).
+        BaseActor baseActor; // Current Actor (in loop), as a BaseActor.
+        Rectangle bounds; // Rectangle enclosing the drawn image of the current Actor.
+
+        // Recalculate the view (frustum) of the camera, in case update moved it.
+        camera.update();
+
+        visibleCount = 0;
+        culledCount = 0;
+
+        // Loop through Actors in the main stage.
+        for (int i = 0; i < actors.size; i++)
+        {
+
+            actor = actors.get(i);
+
+            // If Actor a BaseActor without children, then...
+            if (actor instanceof BaseActor && !((BaseActor)actor).hasChildren())
+            {
+
+                // Actor a BaseActor without children.
+                // Flag Actor as culled when its image lies completely outside the camera view.
+                baseActor = (BaseActor)actor;
+                bounds = baseActor.getViewBounds();
+                baseActor.culled = !camera.frustum.boundsInFrustum( bounds.x + bounds.width / 2,
+                  bounds.y + bounds.height / 2, 0, bounds.width / 2, bounds.height / 2, 0 );
+
+            }
+
+            else if (actor instanceof BaseActor)
+
+                // Actor has children.  Always draw it.
+                ((BaseActor)actor).culled = false;
+
+            // Count Actor as culled or visible.
+            if (actor instanceof BaseActor && ((BaseActor)actor).culled)
+                culledCount++;
+            else
+                visibleCount++;
+
+        }
+
+    }
+
+    public int getCulledCount()
+    {
+        // The function returns the number of main stage Actors skipped (outside the camera view) during
+        // the last frame.  Returns 0 when view culling is off.
+        return culledCount;
+    }
+
+    public int getVisibleCount()
+    {
+        // The function returns the number of main stage Actors drawn (inside the camera view) during the
+        // last frame.  Returns 0 when view culling is off.
+        return visibleCount;
+    }
+
+    public boolean isViewCulling()
+    {
+        // The function returns whether main stage Actors outside the camera view get skipped.
+        return viewCulling;
+    }
+
+    // b = Whether to skip main stage Actors outside the camera view.
+    public void setViewCulling(boolean b)
+    {
+
+        // The function sets whether main stage Actors outside the camera view get skipped (drawing and,
+        // when requested by the Actor, acting).  Turning culling off flags all Actors as visible again.
+
+        SnapshotArray<Actor> actors = mainStage.getRoot().getChildren(); // Actors in the main stage.
+
+        viewCulling = b;
+
+        // If culling turned off, then flag all Actors as visible and clear the counts.
+        if (!b)
+        {
+
+            for (int i = 0; i < actors.size; i++)
+                if (actors.get(i) instanceof BaseActor)
+                    ((BaseActor)actors.get(i)).culled = false;
+
+            visibleCount = 0;
+            culledCount = 0;
+
+        }
+
+    }
+
+    public int getDrawCalls()
+    {
+
+        /*
+        The function returns the number of draw calls made drawing the stages during the last frame --
+        one for each time the batch of a stage flushed its sprites to the GPU.  Changing the texture,
+        blending, shader, or transform matrix (such as drawing a Group with children) flushes the batch.
+        GLProfiler (com.badlogic.gdx.graphics.profiling) counts the same calls at the OpenGL level.
+        */
+
+        return drawCalls;
+
+    }
+
+    // stage = Stage drawn during the current frame.
+    private static int getRenderCalls(Stage stage)
+    {
+
+        // The function returns the number of draw calls made by the batch of the passed stage since
+        // its last call to begin (the last draw of the stage).  Returns 0 for batches other than
+        // SpriteBatch, which do not count their draw calls.
+
+        Batch batch = stage.getBatch(); // Batch used to draw the stage.
+
+        return batch instanceof SpriteBatch ? ((SpriteBatch)batch).renderCalls : 0;
 
     }
 
@@ -86,6 +86,15 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
     private boolean autoAngle; // Whether to rotate image to match velocity.
 
     public PhysicsActor()
+    {
+
+        // The constructor of the class creates a PhysicsActor with its own hash map of animations.
+        this( null );
+
+    }
+
+    // archetype = Archetype holding the data shared with other Actors of the type (or null).
+    PhysicsActor(ActorArchetype<?> archetype)
     {
 
         // The constructor of the class:
@@ -95,6 +104,7 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
         // 3.  Sets the deceleration rate to zero.
         // 4.  Sets the image to NOT rotate to match velocity.
 
+        super( archetype ); // Call the constructor for the AnimatedActor (parent / super) class.
         velocity = new Vector2(); // Initialize velocity vector.
         acceleration = new Vector2(); // Initialize acceleration vector.
         maxSpeed = 9999; // Set default maximum speed.
@@ -308,6 +318,10 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
 
         float decelerateAmount; // Amount by which to decelerate.
 
+        // If Actor outside the camera view and does not act while culled, then exit.
+        if ( isActSkipped() )
+            return;
+
         // Call the act method of the Actor, which performs a time based positional update.
         super.act(dt);
 
@@ -398,7 +412,7 @@ public class PhysicsActor extends AnimatedActor { // Extends the AnimatedActor c
         PhysicsActor newbie; // PhysicsActor to which to copy properties.
 
         // Instantiate new PhysicsActor object.
-        newbie = new PhysicsActor();
+        newbie = new PhysicsActor( archetype );
 
         // Copy properties of current (class-level) to new PhysicsActor object.
         newbie.copy( this );
@@ -0,0 +1,315 @@
+package core;
+
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapObjects;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/*
+Interface (implements) vs Sub-Class (extends)...
+
+The distinction is that implements means that you're using the elements of a Java Interface in your
+class, and extends means that you are creating a subclass of the class you are extending. You can
+only extend one class in your new class, but you can implement as many interfaces as you would like.
+
+Interface:  A Java interface is a bit like a class, except a Java interface can only contain method
+signatures and fields. An Java interface cannot contain an implementation of the methods, only the
+signature (name, parameters and exceptions) of the method. You can use interfaces in Java as a way
+to achieve polymorphism.
+
+Abstract:  Abstract classes are similar to interfaces.  You cannot instantiate them, and they may
+contain a mix of methods declared with or without an implementation. However, with abstract classes,
+you can declare fields that are not static and final, and define public, protected, and private
+concrete methods.
+
+Subclass: A Java subclass is a class which inherits a method or methods from a Java superclass.
+A Java class may be either a subclass, a superclass, both, or neither!
+
+Polymorphism:  Polymorphism is the ability of an object to take on many forms. The most common use
+of polymorphism in OOP occurs when a parent class reference is used to refer to a child class object.
+Any Java object that can pass more than one IS-A test is considered to be polymorphic.
+
+ArrayList supports dynamic arrays that can grow as needed.
+*/
+
+@SuppressWarnings("unused")
+public class StaticCollisionIndex
+{
+
+    /*
+    The class provides a static collision structure for solids that never move, such as the wall segments
+    defined in an object layer of a Tiled map.
+
+    The index divides the map into a tile-aligned grid (one cell per tile by default).  The solids get added
+    once, after which the index gets built -- each cell stores the indices of the solids overlapping it in
+    one flat array (compressed rows:  cellStart[c] through cellStart[c + 1] - 1 in cellItems).  Queries only
+    visit the cells covered by the rectangle enclosing the moving Actor, so the cost depends on the size of
+    the Actor and the number of nearby solids, rather than on the total number of solids in the map.
+
+    Solids still get stored as BaseActor objects with rectangular bounding polygons, so collisions resolve
+    with the same minimum translation vector pushes as before (BaseActor.overlaps).
+
+    Methods include:
+
+    add:  Adds a solid BaseActor to the index.
+    addLayer:  Creates and adds a solid for each rectangle in the passed Tiled object layer.
+    build:  Builds the per-cell lists of solids.  Called automatically by the first query after changes.
+    getSolidCount:  Returns the number of solids in the index.
+    getSolids:  Returns the list of solids in the index.
+    query:  Stores the solids whose cells overlap the passed rectangle in the passed ArrayList.
+    resolve:  Pushes the passed Actor out of every overlapping solid and returns the number of overlaps.
+    */
+
+    private final float cellSize; // Width and height of each (square) cell, in pixels.
+    private final int cols; // Number of columns in the grid.
+    private final int rows; // Number of rows in the grid.
+    private final ArrayList<BaseActor> solids; // Solids in the index.
+    private final ArrayList<BaseActor> candidates; // Solids returned by the query in the resolve function.
+
+    private boolean built; // Whether the per-cell lists reflect every solid in the index.
+    private int[] cellStart; // Index in cellItems of the first solid for each cell (one extra entry at the end).
+    private int[] cellItems; // Indices of the solids overlapping each cell, stored cell by cell.
+    private int[] solidStamp; // Query stamp last assigned to each solid -- prevents duplicate results.
+    private int stamp; // Current query stamp.
+
+    // mapWidth = Width of the map, in pixels.
+    // mapHeight = Height of the map, in pixels.
+    // cellSize = Width and height of each cell, in pixels.  Typically the tile size of the map.
+    public StaticCollisionIndex(float mapWidth, float mapHeight, float cellSize)
+    {
+
+        // The constructor of the class calculates the grid dimensions and initializes the list of solids.
+
+        // Store grid properties.
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, MathUtils.ceil(mapWidth / cellSize));
+        this.rows = Math.max(1, MathUtils.ceil(mapHeight / cellSize));
+
+        // Initialize lists.
+        solids = new ArrayList<>();
+        candidates = new ArrayList<>();
+
+        // Flag per-cell lists as needing a build.
+        built = false;
+
+    }
+
+    // solid = Solid (non-moving) BaseActor to add to the index.  Must have a bounding polygon.
+    public void add(BaseActor solid)
+    {
+
+        // The function adds a solid BaseActor to the index.
+        // The per-cell lists get rebuilt by the next query.
+
+        // Add solid to list.
+        solids.add(solid);
+
+        // Flag per-cell lists as needing a build.
+        built = false;
+
+    }
+
+    // objects = Collection of objects from a Tiled object layer (such as "PhysicsData").
+    public void addLayer(MapObjects objects)
+    {
+
+        // The function creates a solid BaseActor with a rectangular bounding polygon for each rectangle in
+        // the passed Tiled object layer and adds it to the index.
+
+        Rectangle r; // Rectangle associated with current object.
+        BaseActor solid; // Properties of a wall segment.
+
+        // Loop through objects.
+        for (MapObject object : objects)
+        {
+
+            // If object is NOT a rectangle, then...
+            if ( !(object instanceof RectangleMapObject) )
+            {
+                // Object is NOT a rectangle.
+                System.err.println( "Unsupported collision object: " + object.getName() ); // Display error message.
+                continue;
+            }
+
+            // Get rectangle associated with current object.
+            r = ((RectangleMapObject)object).getRectangle();
+
+            // Store properties of a wall segment.
+            solid = new BaseActor(); // Create a BaseActor for the current wall segment.
+            solid.setPosition( r.x, r.y ); // Set position of current wall segment.
+            solid.setSize( r.width, r.height ); // Set size of current wall segment.
+            solid.setRectangleBoundary(); // Set properties of rectangle bounding polygon related to the wall.
+
+            // Add current wall segment to index.
+            add(solid);
+
+        }
+
+    }
+
+    public void build()
+    {
+
+        // The function builds the per-cell lists of solids, using two passes over the solids:
+        // 1.  Counts the solids overlapping each cell and converts the counts to starting positions.
+        // 2.  Stores the index of each solid in the cells it overlaps.
+
+        int[] fill; // Next free position in cellItems for each cell during the second pass.
+        Rectangle r; // Rectangle enclosing the bounding polygon of the current solid.
+
+        // Allocate cell starting positions.
+        cellStart = new int[cols * rows + 1];
+
+        // 1.  Count the solids overlapping each cell (stored one position ahead, to prepare the running total).
+        for (BaseActor solid : solids)
+        {
+            r = solid.getPolygonBounds();
+            for (int row = rowOf(r.y); row <= rowOf(r.y + r.height); row++)
+                for (int col = colOf(r.x); col <= colOf(r.x + r.width); col++)
+                    cellStart[row * cols + col + 1]++;
+        }
+
+        // Convert counts to starting positions (running total).
+        for (int c = 0; c < cols * rows; c++)
+            cellStart[c + 1] += cellStart[c];
+
+        // 2.  Store the index of each solid in the cells it overlaps.
+        cellItems = new int[cellStart[cols * rows]];
+        fill = Arrays.copyOf(cellStart, cols * rows);
+
+        for (int i = 0; i < solids.size(); i++)
+        {
+            r = solids.get(i).getPolygonBounds();
+            for (int row = rowOf(r.y); row <= rowOf(r.y + r.height); row++)
+                for (int col = colOf(r.x); col <= colOf(r.x + r.width); col++)
+                    cellItems[fill[row * cols + col]++] = i;
+        }
+
+        // Reset query stamps.
+        solidStamp = new int[solids.size()];
+        stamp = 0;
+
+        // Flag per-cell lists as built.
+        built = true;
+
+    }
+
+    // x = X-coordinate, in pixels.
+    private int colOf(float x)
+    {
+        // The function returns the column containing the passed x-coordinate, clamped to the grid.
+        return MathUtils.clamp( MathUtils.floor(x / cellSize), 0, cols - 1 );
+    }
+
+    // y = Y-coordinate, in pixels.
+    private int rowOf(float y)
+    {
+        // The function returns the row containing the passed y-coordinate, clamped to the grid.
+        return MathUtils.clamp( MathUtils.floor(y / cellSize), 0, rows - 1 );
+    }
+
+    // area = Rectangle to check against the solids, such as the collision rectangle of a moving Actor.
+    // results = ArrayList in which to store the solids.  Cleared before use.
+    public void query(Rectangle area, ArrayList<BaseActor> results)
+    {
+
+        // The function stores the solids sharing at least one cell with the passed rectangle in the
+        // results.  Each solid appears only once.  No objects get created once the index is built.
+
+        int cell; // Index of current cell.
+        int solid; // Index of current solid.
+
+        // Clear results.
+        results.clear();
+
+        // If per-cell lists out of date, then...
+        if (!built)
+            // Per-cell lists out of date.
+            // Build per-cell lists.
+            build();
+
+        // Advance query stamp, resetting the solid stamps on overflow.
+        stamp++;
+        if (stamp == Integer.MAX_VALUE)
+        {
+            Arrays.fill(solidStamp, 0);
+            stamp = 1;
+        }
+
+        // Loop through cells covered by rectangle.
+        for (int row = rowOf(area.y); row <= rowOf(area.y + area.height); row++)
+        {
+            for (int col = colOf(area.x); col <= colOf(area.x + area.width); col++)
+            {
+
+                // Store index of current cell.
+                cell = row * cols + col;
+
+                // Loop through solids overlapping cell.
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++)
+                {
+
+                    // Store index of current solid.
+                    solid = cellItems[i];
+
+                    // If solid not already returned, then...
+                    if (solidStamp[solid] != stamp)
+                    {
+                        // Solid not already returned.
+                        // Mark and store solid.
+                        solidStamp[solid] = stamp;
+                        results.add(solids.get(solid));
+                    }
+
+                }
+
+            }
+        }
+
+    }
+
+    // mover = Actor to push out of the solids.
+    public int resolve(BaseActor mover)
+    {
+
+        // The function pushes the passed Actor out of every nearby solid it overlaps, using the minimum
+        // translation vector (BaseActor.overlaps with resolve set).
+        // The function returns the number of solids overlapped significantly.
+
+        int count; // Number of solids overlapped significantly.
+
+        // Set defaults.
+        count = 0;
+
+        // Find solids near Actor.
+        query(mover.getPolygonBounds(), candidates);
+
+        // Loop through nearby solids.
+        for (int i = 0; i < candidates.size(); i++)
+        {
+            // If Actor overlaps solid, adjust minimum distance to avoid intersection.
+            if (mover.overlaps(candidates.get(i), true))
+                count++;
+        }
+
+        // Return number of solids overlapped significantly.
+        return count;
+
+    }
+
+    public ArrayList<BaseActor> getSolids()
+    {
+        // The function returns the list of solids in the index.
+        return solids;
+    }
+
+    public int getSolidCount()
+    {
+        // The function returns the number of solids in the index.
+        return solids.size();
+    }
+
+}
@@ -16,7 +16,6 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.graphics.GL20;
 import core.*;
-import java.util.ArrayList;
 import routines.*;
 
 /*
@@ -65,22 +64,31 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
       analogous to the role of the Camera object that belongs to each Stage.
     */
     
+    // Collision layers (one bit per layer) for the collision world.
+    private static final int LAYER_PLAYER = 1; // Layer for the player.
+    private static final int LAYER_COIN = 2; // Layer for the coins.
+    
     // Declare object variables.
     private BaseActor baseCoin; // BaseActor object that will act as the base coin (cloned).
-    private ArrayList<BaseActor> coinList; // BaseActor array that will act as the coins.
+    private ActorArchetype<BaseActor> coinType; // Archetype holding the image and bounding polygon shared by the coins.
+    private ActorBag<BaseActor> coinList; // BaseActor bag that will act as the coins.
     private BaseActor door; // BaseActor object that will act as the door.
     private BaseActor key; // BaseActor object that will act as the key.
     private PhysicsActor player; // PhysicsActor object that will act as the player.
-    private ArrayList<BaseActor> removeList; // List of actors to remove.
+    private CollisionPairs pairList; // Overlapping pairs found by the collision world -- reused each frame.
     private OrthographicCamera tiledCamera; // Camera to use with Tiled map.
     private TiledMap tiledMap; // Map, in Tiled format.
     private OrthogonalTiledMapRenderer tiledMapRenderer; // Renderer to use with Tiled map.
-    private ArrayList<BaseActor> wallList; // BaseActor array that will act as the walls.
+    private StaticCollisionIndex wallIndex; // Static collision index holding the walls (built once from the map).
     
     // Declare regular variables.
     private final int[] backgroundLayers = new int[2]; // Indices of the tilemap layers to be rendered before the main stage.
     private final int[] foregroundLayers = new int[1]; // Indices of the tilemap layers to be rendered after the main stage.
     private boolean hasKey; // Whether player owns key.
+    private int downHandle; // Handle (AnimationRegistry) of the animation of the player moving down.
+    private int leftHandle; // Handle (AnimationRegistry) of the animation of the player moving left.
+    private int rightHandle; // Handle (AnimationRegistry) of the animation of the player moving right.
+    private int upHandle; // Handle (AnimationRegistry) of the animation of the player moving up.
     private final int tileCountHeight; // Number of tiles in map -- vertically.
     private final int tileCountWidth; // Number of tiles in map -- horizontally.
     private final int tileSize; // Size of tiles in map, in pixels.
@@ -149,17 +157,10 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         Texture playerTex; // Texture (image) to use for player.
         Rectangle r; // Rectangle object used when iterating through items in layers.
         RectangleMapObject rectangleObject; // Rectangle shaped map object used when iterating through items in layers.
-        BaseActor solid; // Properties of a wall segment.
-        
-        // Initialize empty array lists.
-        coinList = new ArrayList<>(); // Initialize array to hold coins.
-        wallList = new ArrayList<>(); // Initialize array to hold walls.
-        removeList = new ArrayList<>(); // Initialize array to hold actors to remove.
         
-        // Alternative code:
-        // coinList = new ArrayList<BaseActor>();
-        // wallList = new ArrayList<BaseActor>();
-        // removeList = new ArrayList<BaseActor>();
+        // Initialize empty bag and pair buffer.
+        coinList = new ActorBag<>(); // Initialize bag to hold coins.
+        pairList = new CollisionPairs(); // Initialize buffer to hold overlapping pairs.
         
         // Initialize the player, key, door, and a base coin instance -- other than the positions.
         // Also, initialize the lists.
@@ -182,9 +183,16 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         player.storeAnimation( "up", GameUtils.parseSpriteSheet( "assets/general-48.png", 3, 4,
           new int[] {9, 10, 11}, t, PlayMode.LOOP_PINGPONG ));
         
+        // Look up the animation handles once, so key polling switches animations without string lookups.
+        downHandle = AnimationRegistry.find( "down" );
+        leftHandle = AnimationRegistry.find( "left" );
+        rightHandle = AnimationRegistry.find( "right" );
+        upHandle = AnimationRegistry.find( "up" );
+        
         player.setSize( 48, 48 ); // Set width and height of image.
         player.setEllipseBoundary(); // Set properties of ellipse bounding polygon related to the texture.
         mainStage.addActor( player ); // Add (player) actor to scene graph.
+        collisionWorld.register( player, LAYER_PLAYER, LAYER_COIN ); // Collide with coins.
         
         // Create the key object.
         key = new BaseActor();
@@ -210,6 +218,8 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         
         baseCoin.setTexture( new Texture(Gdx.files.internal("assets/coin.png")) ); // Load image to buffer.
         baseCoin.setEllipseBoundary(); // Set properties of ellipse bounding polygon related to the texture.
+        baseCoin.setActWhileCulled( false ); // Skip updates while off-screen (coins do not move).
+        coinType = new ActorArchetype<>( baseCoin ); // Share image and bounding polygon of base coin with the coins.
         
         // Set up tile map, renderer, and camera.
         tiledMap = new TmxMapLoader().load( "assets/game-map.tmx" ); // Load the TiledMap.
@@ -245,10 +255,11 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
                     player.setPosition( r.x, r.y ); // Set position of player actor.
                     break;
                 case "coin": // Looking at one of the coin objects...
-                    coin = baseCoin.clone(); // Copy the coin object.
+                    coin = coinType.spawn(); // Copy the coin object (sharing its image and bounding polygon).
                     coin.setPosition( r.x, r.y ); // Set position of current coin actor.
                     mainStage.addActor( coin ); // Add current coin actor to scene graph.
-                    coinList.add( coin ); // Add coin actor to ArrayList.
+                    coinList.add( coin ); // Add coin actor to bag (BaseActor.destroy removes it).
+                    collisionWorld.register( coin, LAYER_COIN, LAYER_PLAYER ); // Collide with player.
                     break;
                 case "door": // Looking at door object...
                     door.setPosition( r.x, r.y ); // Set position of door actor.
@@ -266,28 +277,15 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         // Set up wall layer in TiledMap.
         // Gather the geometric data that represents solid walls.
         
+        // Create static collision index covering the map, with one cell per tile.
+        wallIndex = new StaticCollisionIndex( mapWidth, mapHeight, tileSize );
+        
         // Store collection of wall objects across all layers in TiledMap.
         objects = tiledMap.getLayers().get("PhysicsData").getObjects();
         
-        // Loop through objects.
-        for (MapObject object : objects)
-        
-            {
-            // Since evaluating walls, not necessary to know name of current object in loop.
-                
-            // Cast current object to a RectangleMapObject to allow for getting position.
-            rectangleObject = (RectangleMapObject)object;
-            
-            // Get rectangle associated with current object.
-            r = rectangleObject.getRectangle();
-            
-            // Store properties of a wall segment.
-            solid = new BaseActor(); // Create a BaseActor for the current wall segment.
-            solid.setPosition( r.x, r.y ); // Set position of current wall segment.
-            solid.setSize( r.width, r.height ); // Set size of current wall segment.
-            solid.setRectangleBoundary(); // Set properties of rectangle bounding polygon related to the wall.
-            wallList.add(solid); // Add current wall segment to ArrayList.
-            }
+        // Create a wall segment (BaseActor with rectangular bounding polygon) for each object and add
+        // to the static collision index.
+        wallIndex.addLayer( objects );
         
     }
     
@@ -367,8 +365,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
         2.  Handles wall intersections.
         3.  Handles door intersections.
         4.  Handles coin intersections.
-        5.  Clears actors in removal list.
-        6.  Adjusts the Camera objects used to render graphics to center on player and stay within view bounds.
+        5.  Adjusts the Camera objects used to render graphics to center on player and stay within view bounds.
         */
         
         // Declare regular variables.
@@ -394,7 +391,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             player.setVelocityXY( -playerSpeed, 0 );
             
             // Switch to animation of player moving left.
-            player.setActiveAnimation( "left" );
+            player.setActiveAnimation( leftHandle );
         }
         
         
@@ -407,7 +404,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             player.setVelocityXY( playerSpeed, 0 );
             
             // Switch to animation of player moving right.
-            player.setActiveAnimation( "right" );
+            player.setActiveAnimation( rightHandle );
         }
         
         // If user pressed up arrow, then...
@@ -419,7 +416,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             player.setVelocityXY( 0, playerSpeed );
             
             // Switch to animation of player moving up.
-            player.setActiveAnimation( "up" );
+            player.setActiveAnimation( upHandle );
         }
         
         // If user pressed down arrow, then...
@@ -431,7 +428,7 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             player.setVelocityXY(0,-playerSpeed);
             
             // Switch to animation of player moving down.
-            player.setActiveAnimation( "down" );
+            player.setActiveAnimation( downHandle );
         }
         
         // If player speed less than one, then...
@@ -451,27 +448,16 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // Start animation.
             player.startAnimation();
         
-        /*
-        for (BaseActor wall : wallList)
-        {
+        // Loop through walls near player.
         // If player intersects wall, adjust minimum distance to avoid intersection.
-        player.overlaps(wall, true);
-        }
-        */
-        
-        // Loop through all walls in list.
-        wallList.forEach((wall) -> 
-            {
-            // If player intersects wall, adjust minimum distance to avoid intersection.
-            player.overlaps(wall, true);
-            });
+        wallIndex.resolve( player );
         
         // If player overlaps key and still exists in stage, then...
         if ( key.getStage() != null && player.overlaps(key, false) )
             {
             // Player overlaps key and still exists in stage.
             hasKey = true; // Flag player as owning key.
-            removeList.add(key); // Add key to list of actors to remove from stage.
+            key.destroy(); // Remove key from stage.
             }
         
         // If player overlaps door and still exists in stage, then...
@@ -482,41 +468,20 @@ public class GameScreen extends BaseScreen // Extends the BaseScreen class.
             // If player has key, then...
             if ( hasKey )
                 // Player has key.
-                // Add door to list of actors to remove from stage.
-                removeList.add( door );
+                // Remove door from stage.
+                door.destroy();
             }
         
-        /*
-        for (BaseActor coin : coinList)
-        {
-        // If player overlaps coin, then...
-        if ( player.overlaps( coin, false) )
-        // Player overlaps coin.
-        // Add coin to list of actors to remove from stage.
-        removeList.add(coin);
-        }
-         */
-        // Loop through coins.
-        // For each coin player overlaps, ...
-        coinList.stream().filter((coin) -> ( player.overlaps( coin, false) )).forEachOrdered((coin) -> 
-            {
-            // Player overlaps coin.
-            // Add coin to list of actors to remove from stage.
-            removeList.add(coin);
-            });
+        // Collect pairs where player overlaps coin.
+        collisionWorld.collectPairs( LAYER_PLAYER, LAYER_COIN, pairList );
         
-        /*
-        for (BaseActor ba : removeList)
-        {
-        ba.destroy();
-        }
-         */
-        // Loop through actors in removal list.
-        removeList.forEach((ba) -> 
+        // Loop through coins overlapped by player.
+        for (int i = 0; i < pairList.size(); i++)
             {
-            // Remove actor from the stage.
-            ba.destroy();
-            });
+            // Player overlaps coin.
+            // Remove coin from stage and bag.
+            pairList.getSecond(i).destroy();
+            }
         
         /*
         Adjust the Camera objects used to render the graphics.